@@ -26,6 +26,7 @@ import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
@@ -47,22 +48,25 @@ public class BenchmarkCRC {
     /** */
     static final int SIZE = 1024;
 
-    /** */
-    static final int BUF_LEN = 4096;
-
     /** */
     @State(Thread)
     public static class Context {
+        /** Buffer length, default and maximum page sizes. */
+        @Param({"4096", "16384"})
+        int bufLen;
+
         /** */
         final int[] results = new int[SIZE];
 
         /** */
-        final ByteBuffer bb = ByteBuffer.allocate(BUF_LEN);
+        ByteBuffer bb;
 
         /** */
         @Setup
         public void setup() {
-            new Random().ints(BUF_LEN, Byte.MIN_VALUE, Byte.MAX_VALUE).forEach(k -> bb.put((byte)k));
+            bb = ByteBuffer.allocate(bufLen);
+
+            new Random().ints(bufLen, Byte.MIN_VALUE, Byte.MAX_VALUE).forEach(k -> bb.put((byte)k));
         }
     }
 
@@ -72,7 +76,7 @@ public class BenchmarkCRC {
         for (int i = 0; i < SIZE; i++) {
             context.bb.rewind();
 
-            context.results[i] = PureJavaCrc32.calcCrc32(context.bb, BUF_LEN);
+            context.results[i] = PureJavaCrc32.calcCrc32(context.bb, context.bufLen);
         }
 
         return context.results;
@@ -84,7 +88,19 @@ public class BenchmarkCRC {
         for (int i = 0; i < SIZE; i++) {
             context.bb.rewind();
 
-            context.results[i] = FastCrc.calcCrc(context.bb, BUF_LEN);
+            context.results[i] = FastCrc.calcCrc(context.bb, context.bufLen);
+        }
+
+        return context.results;
+    }
+
+    /** */
+    @Benchmark
+    public int[] crc32c(Context context) {
+        for (int i = 0; i < SIZE; i++) {
+            context.bb.rewind();
+
+            context.results[i] = FastCrc.calcCrc32c(context.bb, context.bufLen);
         }
 
         return context.results;
@@ -0,0 +1,291 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.benchmarks.jmh.misc;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.configuration.PageReplacementMode;
+import org.apache.ignite.internal.benchmarks.jmh.runner.JmhIdeBenchmarkRunner;
+import org.apache.ignite.internal.mem.DirectMemoryProvider;
+import org.apache.ignite.internal.mem.DirectMemoryRegion;
+import org.apache.ignite.internal.mem.unsafe.UnsafeMemoryProvider;
+import org.apache.ignite.internal.processors.cache.persistence.pagemem.ClockPageReplacementFlags;
+import org.apache.ignite.internal.processors.cache.persistence.pagemem.SegmentedLruPageList;
+import org.apache.ignite.internal.processors.cache.persistence.pagemem.TinyLfuFrequencySketch;
+import org.apache.ignite.internal.processors.cache.persistence.pagemem.TinyLfuPageReplacementPolicy;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares page replacement algorithms on a workload mixing random accesses to a hot set of pages with a sequential
+ * scan of cold pages. Pages hits and misses are reported as auxiliary counters, so the hit rate of each algorithm can
+ * be compared along with the bookkeeping cost.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Threads(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+public class JmhPageReplacementPolicyBenchmark {
+    /** Count of pages that fit into memory. */
+    private static final int PAGES_CNT = 10_000;
+
+    /** Count of hot pages. */
+    private static final int HOT_PAGES_CNT = 8_000;
+
+    /** Total count of pages on disk. */
+    private static final int TOTAL_PAGES_CNT = 1_000_000;
+
+    /** Page replacement mode. */
+    @Param({"CLOCK", "SEGMENTED_LRU", "TINY_LFU"})
+    public PageReplacementMode mode;
+
+    /** Random numbers generator. */
+    private Random rnd;
+
+    /** Direct memory provider. */
+    private DirectMemoryProvider provider;
+
+    /** Clock hit flags. */
+    private ClockPageReplacementFlags flags;
+
+    /** Frequency sketch. */
+    private TinyLfuFrequencySketch sketch;
+
+    /** LRU list. */
+    private SegmentedLruPageList lruList;
+
+    /** Page ID to page index mapping, {@code -1} if page is not loaded. */
+    private int[] pageIdxs;
+
+    /** Page index to page ID mapping. */
+    private int[] pageIds;
+
+    /** Count of loaded pages. */
+    private int loadedCnt;
+
+    /** Next page of the sequential scan. */
+    private int scanPos;
+
+    /**
+     * Page hits and misses counters.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Counters {
+        /** Page hits. */
+        public long hits;
+
+        /** Page misses. */
+        public long misses;
+
+        /**
+         * Reset counters.
+         */
+        @Setup(Level.Iteration)
+        public void reset() {
+            hits = 0;
+            misses = 0;
+        }
+    }
+
+    /**
+     * Setup.
+     */
+    @Setup(Level.Iteration)
+    public void setup() {
+        rnd = new Random(0);
+
+        long flagsMem = ClockPageReplacementFlags.requiredMemory(PAGES_CNT);
+
+        long mem = mode == PageReplacementMode.SEGMENTED_LRU
+            ? SegmentedLruPageList.requiredMemory(PAGES_CNT)
+            : flagsMem + TinyLfuFrequencySketch.requiredMemory(PAGES_CNT);
+
+        provider = new UnsafeMemoryProvider(null);
+        provider.initialize(new long[] {mem});
+
+        DirectMemoryRegion region = provider.nextRegion();
+
+        if (mode == PageReplacementMode.SEGMENTED_LRU)
+            lruList = new SegmentedLruPageList(PAGES_CNT, region.address());
+        else {
+            flags = new ClockPageReplacementFlags(PAGES_CNT, region.address());
+            sketch = new TinyLfuFrequencySketch(PAGES_CNT, region.address() + flagsMem);
+        }
+
+        pageIdxs = new int[TOTAL_PAGES_CNT];
+        pageIds = new int[PAGES_CNT];
+
+        Arrays.fill(pageIdxs, -1);
+
+        loadedCnt = 0;
+        scanPos = HOT_PAGES_CNT;
+    }
+
+    /**
+     * Tear down.
+     */
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        provider.shutdown(true);
+    }
+
+    /**
+     * Benchmark page access: half of accesses go to random hot pages, another half are sequential scan of cold pages.
+     *
+     * @param cntrs Counters.
+     */
+    @Benchmark
+    public void access(Counters cntrs) {
+        int pageId;
+
+        if (rnd.nextBoolean())
+            pageId = rnd.nextInt(HOT_PAGES_CNT);
+        else {
+            pageId = scanPos++;
+
+            if (scanPos == TOTAL_PAGES_CNT)
+                scanPos = HOT_PAGES_CNT;
+        }
+
+        int pageIdx = pageIdxs[pageId];
+
+        if (pageIdx >= 0) {
+            cntrs.hits++;
+
+            onHit(pageId, pageIdx);
+        }
+        else {
+            cntrs.misses++;
+
+            if (loadedCnt < PAGES_CNT)
+                pageIdx = loadedCnt++;
+            else {
+                pageIdx = replace();
+
+                pageIdxs[pageIds[pageIdx]] = -1;
+            }
+
+            pageIdxs[pageId] = pageIdx;
+            pageIds[pageIdx] = pageId;
+
+            onMiss(pageId, pageIdx);
+        }
+    }
+
+    /**
+     * @param pageId Page ID.
+     * @param pageIdx Page index.
+     */
+    private void onHit(int pageId, int pageIdx) {
+        switch (mode) {
+            case SEGMENTED_LRU:
+                lruList.moveToTail(pageIdx);
+
+                break;
+            case TINY_LFU:
+                if (!flags.getFlag(pageIdx)) {
+                    flags.setFlag(pageIdx);
+
+                    sketch.increment(U.hash(pageId));
+                }
+
+                break;
+            default:
+                flags.setFlag(pageIdx);
+        }
+    }
+
+    /**
+     * @param pageId Page ID.
+     * @param pageIdx Page index.
+     */
+    private void onMiss(int pageId, int pageIdx) {
+        switch (mode) {
+            case SEGMENTED_LRU:
+                lruList.addToTail(pageIdx, false);
+
+                break;
+            case TINY_LFU:
+                if (sketch.resetRequired())
+                    sketch.reset();
+
+                sketch.increment(U.hash(pageId));
+
+                break;
+            default:
+                // No-op.
+        }
+    }
+
+    /**
+     * @return Index of page to replace.
+     */
+    private int replace() {
+        switch (mode) {
+            case SEGMENTED_LRU:
+                return lruList.poll();
+            case TINY_LFU:
+                int minIdx = -1;
+                int minFreq = Integer.MAX_VALUE;
+
+                for (int i = 0; i < TinyLfuPageReplacementPolicy.SAMPLE_SIZE; i++) {
+                    int idx = flags.poll();
+                    int freq = sketch.frequency(U.hash(pageIds[idx]));
+
+                    if (freq < minFreq) {
+                        minIdx = idx;
+                        minFreq = freq;
+                    }
+                }
+
+                return minIdx;
+            default:
+                return flags.poll();
+        }
+    }
+
+    /**
+     *
+     * @param args Args.
+     * @throws Exception Exception.
+     */
+    public static void main(String[] args) throws Exception {
+        JmhIdeBenchmarkRunner.create()
+            .benchmarks(JmhPageReplacementPolicyBenchmark.class.getSimpleName())
+            .run();
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.benchmarks.jmh.nio;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.internal.benchmarks.jmh.runner.JmhIdeBenchmarkRunner;
+import org.apache.ignite.internal.util.nio.GridBufferedParser;
+import org.apache.ignite.internal.util.nio.GridNioCodecFilter;
+import org.apache.ignite.internal.util.nio.GridNioServer;
+import org.apache.ignite.internal.util.nio.GridNioServerListenerAdapter;
+import org.apache.ignite.internal.util.nio.GridNioSession;
+import org.apache.ignite.logger.NullLogger;
+import org.jetbrains.annotations.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares round trip latency percentiles of {@link GridNioServer} with blocking and busy-polling selector threads.
+ * A client sends a length-prefixed message and waits for the server to echo it back. When {@link #replyFromPool}
+ * is set, the server replies from a separate thread, as Ignite does for messages processed in thread pools, so
+ * each reply has to hand the write over to the selector thread.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 3)
+public class JmhNioServerPingPongBenchmark {
+    /** Server port. */
+    private static final int PORT = 47_900;
+
+    /** Whether selector threads busy-poll. */
+    @Param({"false", "true"})
+    private boolean busyPoll;
+
+    /** Whether the server replies from a separate thread. */
+    @Param({"false", "true"})
+    private boolean replyFromPool;
+
+    /** Message payload size. */
+    @Param({"64", "4096"})
+    private int msgSize;
+
+    /** Server. */
+    private GridNioServer<byte[]> srv;
+
+    /** Reply pool. */
+    private ExecutorService replyPool;
+
+    /** Client channel. */
+    private SocketChannel ch;
+
+    /** Request buffer. */
+    private ByteBuffer req;
+
+    /** Response buffer. */
+    private ByteBuffer res;
+
+    /**
+     * Setup.
+     *
+     * @throws Exception If failed.
+     */
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        replyPool = Executors.newSingleThreadExecutor();
+
+        IgniteLogger log = new NullLogger();
+
+        srv = GridNioServer.<byte[]>builder()
+            .address(InetAddress.getLoopbackAddress())
+            .port(PORT)
+            .listener(new GridNioServerListenerAdapter<byte[]>() {
+                @Override public void onConnected(GridNioSession ses) {
+                    // No-op.
+                }
+
+                @Override public void onDisconnected(GridNioSession ses, @Nullable Exception e) {
+                    // No-op.
+                }
+
+                @Override public void onMessage(GridNioSession ses, byte[] msg) {
+                    if (replyFromPool)
+                        replyPool.execute(() -> ses.send(msg));
+                    else
+                        ses.send(msg);
+                }
+            })
+            .logger(log)
+            .selectorCount(1)
+            .igniteInstanceName("bench")
+            .serverName("ping-pong")
+            .tcpNoDelay(true)
+            .directBuffer(true)
+            .byteOrder(ByteOrder.BIG_ENDIAN)
+            .socketSendBufferSize(0)
+            .socketReceiveBufferSize(0)
+            .sendQueueLimit(0)
+            .busyPoll(busyPoll)
+            .filters(new GridNioCodecFilter(new GridBufferedParser(true, ByteOrder.BIG_ENDIAN), log, false))
+            .build();
+
+        srv.start();
+
+        ch = SocketChannel.open(new InetSocketAddress(InetAddress.getLoopbackAddress(), PORT));
+
+        ch.setOption(StandardSocketOptions.TCP_NODELAY, true);
+
+        req = ByteBuffer.allocateDirect(msgSize + 4);
+
+        req.putInt(msgSize);
+
+        while (req.hasRemaining())
+            req.put((byte)req.position());
+
+        res = ByteBuffer.allocateDirect(msgSize + 4);
+    }
+
+    /**
+     * Tear down.
+     *
+     * @throws Exception If failed.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        ch.close();
+
+        srv.stop();
+
+        replyPool.shutdownNow();
+    }
+
+    /**
+     * Sends one message and waits for the echo.
+     *
+     * @return Response buffer.
+     * @throws IOException If failed.
+     */
+    @Benchmark
+    public ByteBuffer pingPong() throws IOException {
+        req.clear();
+
+        while (req.hasRemaining())
+            ch.write(req);
+
+        res.clear();
+
+        while (res.hasRemaining()) {
+            if (ch.read(res) < 0)
+                throw new EOFException();
+        }
+
+        return res;
+    }
+
+    /**
+     * Run benchmarks.
+     *
+     * @param args Args.
+     * @throws Exception Exception.
+     */
+    public static void main(String[] args) throws Exception {
+        JmhIdeBenchmarkRunner.create()
+            .benchmarks(JmhNioServerPingPongBenchmark.class.getSimpleName())
+            .run();
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.benchmarks.jmh.sql;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.Ignition;
+import org.apache.ignite.cache.query.SqlFieldsQuery;
+import org.apache.ignite.calcite.CalciteQueryEngineConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.configuration.SqlConfiguration;
+import org.apache.ignite.internal.benchmarks.jmh.runner.JmhIdeBenchmarkRunner;
+import org.apache.ignite.spi.discovery.tcp.TcpDiscoverySpi;
+import org.apache.ignite.spi.discovery.tcp.ipfinder.vm.TcpDiscoveryVmIpFinder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_CALCITE_EXEC_SCAN_BATCH_SIZE;
+
+/**
+ * Benchmark of table scans aggregating a few columns of a wide table, with rows projected one by one or column by
+ * column in batches.
+ */
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@State(Scope.Benchmark)
+public class JmhSqlScanProjectionBenchmark {
+    /** Rows count. */
+    private static final int ROWS_CNT = 200_000;
+
+    /** Count of integer columns. */
+    private static final int COLS_CNT = 16;
+
+    /** Rows projected at once, {@code 1} projects rows one by one. */
+    @Param({"1", "64"})
+    private int scanBatchSize;
+
+    /** */
+    private Ignite ignite;
+
+    /** */
+    private IgniteCache<?, ?> cache;
+
+    /**
+     * Starts the node and fills the table.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        // Read once by the table scan class, each parameter value runs in its own fork.
+        System.setProperty(IGNITE_CALCITE_EXEC_SCAN_BATCH_SIZE, String.valueOf(scanBatchSize));
+
+        ignite = Ignition.start(new IgniteConfiguration()
+            .setIgniteInstanceName("server")
+            .setLocalHost("127.0.0.1")
+            .setDiscoverySpi(new TcpDiscoverySpi().setIpFinder(new TcpDiscoveryVmIpFinder(true)))
+            .setSqlConfiguration(new SqlConfiguration().setQueryEnginesConfiguration(
+                new CalciteQueryEngineConfiguration())));
+
+        cache = ignite.getOrCreateCache("DUMMY");
+
+        StringBuilder cols = new StringBuilder();
+        StringBuilder vals = new StringBuilder();
+
+        for (int i = 0; i < COLS_CNT; i++) {
+            cols.append(", c").append(i).append(" BIGINT");
+            vals.append(", x + ").append(i);
+        }
+
+        executeSql("CREATE TABLE wide(id BIGINT PRIMARY KEY" + cols + ", name VARCHAR)");
+
+        executeSql("INSERT INTO wide SELECT x" + vals + ", 'name_' || x FROM TABLE(SYSTEM_RANGE(1, " + ROWS_CNT + "))");
+    }
+
+    /**
+     * Stops the node.
+     */
+    @TearDown
+    public void tearDown() {
+        ignite.close();
+    }
+
+    /**
+     * Aggregates four columns of every row.
+     */
+    @Benchmark
+    public Object aggregateColumns() {
+        return executeSql("SELECT SUM(c0), SUM(c5), MAX(c10), MIN(c15) FROM wide");
+    }
+
+    /**
+     * Filters on one column and counts the rows.
+     */
+    @Benchmark
+    public Object filterColumn() {
+        return executeSql("SELECT COUNT(*) FROM wide WHERE c3 % 7 = 0");
+    }
+
+    /**
+     * Reads the first rows only.
+     */
+    @Benchmark
+    public Object limit() {
+        return executeSql("SELECT c0, c1 FROM wide LIMIT 10");
+    }
+
+    /** */
+    private List<List<?>> executeSql(String sql) {
+        return cache.query(new SqlFieldsQuery(sql)).getAll();
+    }
+
+    /**
+     * Run benchmarks.
+     *
+     * @param args Args.
+     * @throws Exception Exception.
+     */
+    public static void main(String[] args) throws Exception {
+        JmhIdeBenchmarkRunner.create()
+            .benchmarks(JmhSqlScanProjectionBenchmark.class.getSimpleName())
+            .run();
+    }
+}
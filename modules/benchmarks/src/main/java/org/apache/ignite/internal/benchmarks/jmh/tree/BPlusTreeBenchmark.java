@@ -20,6 +20,7 @@ package org.apache.ignite.internal.benchmarks.jmh.tree;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.configuration.DataRegionConfiguration;
 import org.apache.ignite.internal.benchmarks.jmh.JmhAbstractBenchmark;
@@ -44,6 +45,9 @@ import org.apache.ignite.internal.processors.cache.persistence.tree.reuse.ReuseL
 import org.apache.ignite.internal.processors.metric.impl.LongAdderMetric;
 import org.apache.ignite.logger.java.JavaLogger;
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -80,12 +84,22 @@ public class BPlusTreeBenchmark extends JmhAbstractBenchmark {
     /** */
     private static final int KEYS = 1_000_000;
 
+    /** Read inner pages without read locks on lookups. */
+    @Param({"false", "true"})
+    private boolean optimisticReads;
+
     /** */
     private TestTree tree;
 
     /** */
     private PageMemory pageMem;
 
+    /** Optimistic copies of inner pages attempted on lookups. */
+    private final LongAdder optimisticAttempts = new LongAdder();
+
+    /** Optimistic copies of inner pages which lookups used without falling back to the read lock. */
+    private final LongAdder optimisticHits = new LongAdder();
+
     /**
      * Fake reuse list.
      */
@@ -136,6 +150,8 @@ public class BPlusTreeBenchmark extends JmhAbstractBenchmark {
 
         tree = new TestTree(new FakeReuseList(), CACHE_ID, pageMem, allocateMetaPage().pageId());
 
+        tree.optimisticReads(optimisticReads);
+
         for (long l = 0; l < KEYS; l++)
             tree.put(l);
     }
@@ -145,6 +161,14 @@ public class BPlusTreeBenchmark extends JmhAbstractBenchmark {
      */
     @TearDown
     public void tearDown() throws Exception {
+        if (optimisticReads) {
+            long hits = optimisticHits.sum();
+            long attempts = optimisticAttempts.sum();
+
+            System.out.printf("%nOptimistic reads of inner pages: attempts=%d, hits=%d, hitRate=%.4f%n",
+                attempts, hits, attempts == 0 ? 0d : (double)hits / attempts);
+        }
+
         tree.destroy();
 
         pageMem.stop(true);
@@ -172,6 +196,35 @@ public class BPlusTreeBenchmark extends JmhAbstractBenchmark {
         return tree.put(key);
     }
 
+    /**
+     * Lookup running concurrently with {@link #mixedPut()}.
+     *
+     * @throws Exception If failed.
+     * @return Value.
+     */
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(3)
+    public Long mixedGet() throws Exception {
+        return get();
+    }
+
+    /**
+     * Update running concurrently with {@link #mixedGet()}, it modifies leaf pages and splits inner pages.
+     *
+     * @throws Exception If failed.
+     * @return Value.
+     */
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(1)
+    public Long mixedPut() throws Exception {
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+
+        // Keys out of the initial range make the tree grow, so inner pages are split too.
+        return tree.put(rnd.nextBoolean() ? rnd.nextLong(KEYS) : KEYS + rnd.nextLong(KEYS));
+    }
+
     /**
      * Test tree.
      */
@@ -254,7 +307,26 @@ public class BPlusTreeBenchmark extends JmhAbstractBenchmark {
             PAGE_SIZE,
             dataRegionConfiguration,
             dataRegionMetrics,
-            false);
+            false
+        ) {
+            /** {@inheritDoc} */
+            @Override public long optimisticCopy(int cacheId, long pageId, long page, long dstAddr) {
+                optimisticAttempts.increment();
+
+                return super.optimisticCopy(cacheId, pageId, page, dstAddr);
+            }
+
+            /** {@inheritDoc} */
+            @Override public boolean validateOptimisticRead(int cacheId, long pageId, long page, long stamp) {
+                // The copy is used if it is still valid after the lookup handler.
+                boolean valid = super.validateOptimisticRead(cacheId, pageId, page, stamp);
+
+                if (valid)
+                    optimisticHits.increment();
+
+                return valid;
+            }
+        };
 
         pageMem.start();
 
@@ -268,7 +340,9 @@ public class BPlusTreeBenchmark extends JmhAbstractBenchmark {
      * @throws Exception If failed.
      */
     public static void main(String[] args) throws Exception {
-        run(8);
+        // Compare lookups scaling with and without optimistic reads of inner pages.
+        for (int threads : new int[] {1, 4, 16, 64})
+            run(threads);
     }
 
     /**
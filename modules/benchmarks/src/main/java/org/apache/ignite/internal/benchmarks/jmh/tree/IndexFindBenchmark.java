@@ -21,6 +21,7 @@ import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteDataStreamer;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.Ignition;
 import org.apache.ignite.cache.query.annotations.QuerySqlField;
 import org.apache.ignite.configuration.CacheConfiguration;
@@ -41,6 +42,7 @@ import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -66,6 +68,10 @@ public class IndexFindBenchmark {
     /** Cache name. */
     private static final String CACHE_NAME = "cache";
 
+    /** Read inner pages of index trees without read locks on lookups. */
+    @Param({"false", "true"})
+    private boolean optimisticReads;
+
     /** Ignite. */
     private IgniteEx ignite;
 
@@ -139,6 +145,9 @@ public class IndexFindBenchmark {
      */
     @Setup(Level.Trial)
     public void setup() {
+        // Each parameter value is measured in a separate fork, so the property is set before the trees are loaded.
+        System.setProperty(IgniteSystemProperties.IGNITE_BPLUS_TREE_OPTIMISTIC_READS, String.valueOf(optimisticReads));
+
         ignite = (IgniteEx)Ignition.start(new IgniteConfiguration().setIgniteInstanceName("test"));
 
         CacheConfiguration<Integer, Person> cfg = new CacheConfiguration<>(CACHE_NAME);
@@ -176,9 +185,12 @@ public class IndexFindBenchmark {
      * @throws Exception Exception.
      */
     public static void main(String[] args) throws Exception {
-        JmhIdeBenchmarkRunner.create()
-            .benchmarks(IndexFindBenchmark.class.getSimpleName())
-            .run();
+        for (int threads : new int[] {1, 4, 16, 64}) {
+            JmhIdeBenchmarkRunner.create()
+                .threads(threads)
+                .benchmarks(IndexFindBenchmark.class.getSimpleName())
+                .run();
+        }
     }
 
     /** */
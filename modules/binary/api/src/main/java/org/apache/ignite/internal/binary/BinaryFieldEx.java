@@ -18,6 +18,7 @@
 package org.apache.ignite.internal.binary;
 
 import org.apache.ignite.binary.BinaryField;
+import org.apache.ignite.binary.BinaryObject;
 
 /**
  * Extended binary object field.
@@ -25,4 +26,14 @@ import org.apache.ignite.binary.BinaryField;
 public interface BinaryFieldEx extends BinaryField {
     /** Get field's enclosing type ID.  */
     public int enclosingTypeId();
+
+    /**
+     * Gets field values of a batch of objects. The field is looked up in the object schema once for all the
+     * consecutive objects sharing the schema, rather than once per object.
+     *
+     * @param objs Objects.
+     * @param cnt Count of objects.
+     * @param dst Field values, one per object.
+     */
+    public void values(BinaryObject[] objs, int cnt, Object[] dst);
 }
@@ -102,6 +102,26 @@ class BinaryFieldImpl implements BinaryFieldEx {
         return order != BinarySchema.ORDER_NOT_FOUND ? (T)obj0.fieldByOrder(order) : null;
     }
 
+    /** {@inheritDoc} */
+    @Override public void values(BinaryObject[] objs, int cnt, Object[] dst) {
+        int schemaId = 0;
+        int order = BinarySchema.ORDER_NOT_FOUND;
+
+        for (int i = 0; i < cnt; i++) {
+            BinaryObjectExImpl obj = (BinaryObjectExImpl)objs[i];
+
+            int schemaId0 = obj.schemaId();
+
+            // Objects without schema have no fields, which is what the initial order tells.
+            if (schemaId0 != schemaId || obj.typeId() != typeId) {
+                order = fieldOrder(obj);
+                schemaId = schemaId0;
+            }
+
+            dst[i] = order != BinarySchema.ORDER_NOT_FOUND ? obj.fieldByOrder(order) : null;
+        }
+    }
+
     /**
      * Get relative field offset.
      *
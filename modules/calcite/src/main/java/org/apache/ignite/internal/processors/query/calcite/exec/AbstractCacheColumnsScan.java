@@ -18,15 +18,26 @@
 package org.apache.ignite.internal.processors.query.calcite.exec;
 
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteSystemProperties;
+import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
 import org.apache.ignite.internal.processors.query.calcite.exec.RowHandler.RowFactory;
 import org.apache.ignite.internal.processors.query.calcite.schema.CacheTableDescriptor;
+import org.apache.ignite.internal.util.lang.GridIteratorAdapter;
 import org.jetbrains.annotations.Nullable;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_CALCITE_EXEC_SCAN_BATCH_SIZE;
+
 /** */
 public abstract class AbstractCacheColumnsScan<TableRow, Row> extends AbstractCacheScan<Row>
     implements TableRowIterable<TableRow, Row> {
+    /** Maximum count of cache rows projected to relational rows at once. */
+    protected static final int SCAN_BATCH_SIZE =
+        Math.max(1, IgniteSystemProperties.getInteger(IGNITE_CALCITE_EXEC_SCAN_BATCH_SIZE, 64));
+
     /** */
     protected final CacheTableDescriptor desc;
 
@@ -76,4 +87,77 @@ public abstract class AbstractCacheColumnsScan<TableRow, Row> extends AbstractCa
 
     /** Table row iterator.*/
     protected abstract Iterator<TableRow> createTableRowIterator();
+
+    /**
+     * Iterator projecting cache rows to relational rows in batches, column by column. The first batch holds a single
+     * row and each next one is twice as large up to {@link #SCAN_BATCH_SIZE}, so that a query needing a few rows
+     * neither waits for nor projects a whole batch.
+     */
+    protected class BatchIterator extends GridIteratorAdapter<Row> {
+        /** */
+        private final Iterator<CacheDataRow> it;
+
+        /** */
+        private final CacheDataRow[] tableRows = new CacheDataRow[SCAN_BATCH_SIZE];
+
+        /** */
+        private final Row[] rows = (Row[])new Object[SCAN_BATCH_SIZE];
+
+        /** Size of the next batch. */
+        private int batchSize = 1;
+
+        /** Count of rows in the current batch. */
+        private int cnt;
+
+        /** Position of the next row in the current batch. */
+        private int pos;
+
+        /** */
+        protected BatchIterator(Iterator<CacheDataRow> it) {
+            this.it = it;
+        }
+
+        /** {@inheritDoc} */
+        @Override public boolean hasNextX() throws IgniteCheckedException {
+            if (pos < cnt)
+                return true;
+
+            cnt = 0;
+            pos = 0;
+
+            while (cnt < batchSize && it.hasNext()) {
+                tableRows[cnt] = it.next();
+                rows[cnt] = factory.create();
+
+                cnt++;
+            }
+
+            batchSize = Math.min(batchSize * 2, SCAN_BATCH_SIZE);
+
+            if (cnt > 0)
+                desc.toRows(ectx, tableRows, rows, cnt, fieldColMapping);
+
+            return cnt > 0;
+        }
+
+        /** {@inheritDoc} */
+        @Override public Row nextX() throws IgniteCheckedException {
+            if (!hasNextX())
+                throw new NoSuchElementException();
+
+            Row row = rows[pos];
+
+            tableRows[pos] = null;
+            rows[pos] = null;
+
+            pos++;
+
+            return row;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void removeX() {
+            throw new UnsupportedOperationException("Remove is not supported.");
+        }
+    }
 }
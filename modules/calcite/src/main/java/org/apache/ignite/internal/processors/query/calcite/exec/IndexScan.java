@@ -170,7 +170,11 @@ public class IndexScan<Row> extends AbstractCacheColumnsScan<IndexRow, Row> {
 
     /** {@inheritDoc} */
     @Override protected Iterator<Row> createIterator() {
-        return F.iterator(createTableRowIterator(), this::indexRow2Row, true);
+        // Rows of an inline scan are read from index pages, there are no cache rows to project in batches.
+        if (SCAN_BATCH_SIZE == 1 || isInlineScan())
+            return F.iterator(createTableRowIterator(), this::indexRow2Row, true);
+
+        return new BatchIterator(F.iterator(createTableRowIterator(), IndexRow::cacheDataRow, true));
     }
 
     /** {@inheritDoc} */
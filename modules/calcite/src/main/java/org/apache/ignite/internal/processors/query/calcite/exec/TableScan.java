@@ -57,8 +57,12 @@ public class TableScan<Row> extends AbstractCacheColumnsScan<CacheDataRow, Row>
 
     /** {@inheritDoc} */
     @Override protected Iterator<Row> createIterator() {
-        return F.iterator((Iterator<CacheDataRow>)new IteratorImpl(),
-            row -> enrichRow(row, factory.create(), fieldColMapping), true);
+        if (SCAN_BATCH_SIZE == 1) {
+            return F.iterator((Iterator<CacheDataRow>)new IteratorImpl(),
+                row -> enrichRow(row, factory.create(), fieldColMapping), true);
+        }
+
+        return new BatchIterator(new IteratorImpl());
     }
 
     /** {@inheritDoc} */
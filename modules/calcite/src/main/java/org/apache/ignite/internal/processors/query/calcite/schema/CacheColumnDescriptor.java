@@ -45,6 +45,20 @@ public interface CacheColumnDescriptor extends ColumnDescriptor {
     public Object value(ExecutionContext<?> ectx, GridCacheContext<?, ?> cctx, CacheDataRow src)
         throws IgniteCheckedException;
 
+    /**
+     * Gets column values from a batch of CacheDataRows.
+     */
+    public default void values(
+        ExecutionContext<?> ectx,
+        GridCacheContext<?, ?> cctx,
+        CacheDataRow[] src,
+        int cnt,
+        Object[] dst
+    ) throws IgniteCheckedException {
+        for (int i = 0; i < cnt; i++)
+            dst[i] = value(ectx, cctx, src[i]);
+    }
+
     /**
      * Sets field of composite object value.
      */
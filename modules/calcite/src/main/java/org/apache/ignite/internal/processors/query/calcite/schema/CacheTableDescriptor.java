@@ -49,6 +49,27 @@ public interface CacheTableDescriptor extends TableDescriptor<CacheDataRow> {
      */
     boolean match(CacheDataRow row);
 
+    /**
+     * Converts a batch of cache rows to relational node rows.
+     *
+     * @param ectx Execution context.
+     * @param tableRows Cache rows.
+     * @param rows Relational node rows to fill.
+     * @param cnt Count of rows in the batch.
+     * @param fieldColMapping Mapping from row fields to table columns.
+     * @throws IgniteCheckedException If failed.
+     */
+    default <Row> void toRows(
+        ExecutionContext<Row> ectx,
+        CacheDataRow[] tableRows,
+        Row[] rows,
+        int cnt,
+        int[] fieldColMapping
+    ) throws IgniteCheckedException {
+        for (int i = 0; i < cnt; i++)
+            toRow(ectx, tableRows[i], rows[i], fieldColMapping);
+    }
+
     /**
      * Converts a relational node row to cache key-value tuple with table operation.
      *
@@ -274,6 +274,43 @@ public class CacheTableDescriptorImpl extends NullInitializerExpressionFactory
         return row;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Rows are filled column by column. Field columns of binary objects are read with a single field lookup per
+     * object schema for the whole batch, rather than a lookup per cell.
+     */
+    @Override public <Row> void toRows(
+        ExecutionContext<Row> ectx,
+        CacheDataRow[] tableRows,
+        Row[] rows,
+        int cnt,
+        int[] fieldColMapping
+    ) throws IgniteCheckedException {
+        RowHandler<Row> hnd = ectx.rowHandler();
+
+        GridCacheContext<?, ?> cctx = cacheContext();
+
+        Object[] vals = new Object[cnt];
+
+        for (int i = 0; i < fieldColMapping.length; i++) {
+            int colIdx = fieldColMapping[i];
+
+            // Skip not required fields.
+            if (colIdx < 0)
+                continue;
+
+            CacheColumnDescriptor desc = descriptors[colIdx];
+
+            Class<?> storageType = desc.storageType();
+
+            desc.values(ectx, cctx, tableRows, cnt, vals);
+
+            for (int r = 0; r < cnt; r++)
+                hnd.set(i, rows[r], TypeUtils.toInternal(ectx, vals[r], storageType));
+        }
+    }
+
     /** {@inheritDoc} */
     @Override public boolean isUpdateAllowed(RelOptTable tbl, int colIdx) {
         final CacheColumnDescriptor desc = descriptors[colIdx];
@@ -796,6 +833,20 @@ public class CacheTableDescriptorImpl extends NullInitializerExpressionFactory
             return cctx.unwrapBinaryIfNeeded(desc.value(src.key(), src.value()), ectx.keepBinary(), null);
         }
 
+        /** {@inheritDoc} */
+        @Override public void values(
+            ExecutionContext<?> ectx,
+            GridCacheContext<?, ?> cctx,
+            CacheDataRow[] src,
+            int cnt,
+            Object[] dst
+        ) throws IgniteCheckedException {
+            desc.values(src, cnt, dst);
+
+            for (int i = 0; i < cnt; i++)
+                dst[i] = cctx.unwrapBinaryIfNeeded(dst[i], ectx.keepBinary(), null);
+        }
+
         /** {@inheritDoc} */
         @Override public void set(Object dst, Object val) throws IgniteCheckedException {
             final Object key0 = key() ? dst : null;
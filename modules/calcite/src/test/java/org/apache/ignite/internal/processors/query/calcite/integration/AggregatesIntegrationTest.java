@@ -117,6 +117,31 @@ public class AggregatesIntegrationTest extends AbstractBasicIntegrationTransacti
         assertQuery("select count(*) from person").returns(7L).check();
     }
 
+    /** Checks aggregates over a table scan spanning several projection batches of rows with different schemas. */
+    @Test
+    public void testAggregatesOverTableScanBatches() {
+        executeSql("create table tbl(id integer primary key, val0 integer, val1 bigint, val2 varchar) with " +
+            atomicity());
+
+        executeSql("insert into tbl select x, case when x % 10 = 0 then null else x end, x * 2, 'val_' || x " +
+            "from table(system_range(1, 1000))");
+
+        executeSql("alter table tbl add column val3 integer");
+
+        executeSql("insert into tbl select x, x, x * 2, 'val_' || x, 1 from table(system_range(1001, 1100))");
+
+        assertQuery("select count(*), count(val0), cast(sum(val0) as bigint), cast(sum(val1) as bigint), " +
+            "count(val3), cast(sum(val3) as bigint) from tbl")
+            .returns(1100L, 1000L, 555050L, 1211100L, 100L, 100L)
+            .check();
+
+        assertQuery("select val2 from tbl where val1 = 1998").returns("val_999").check();
+
+        assertQuery("select val2, val3 from tbl where val1 = 2200").returns("val_1100", 1).check();
+
+        assertQuery("select count(*) from (select val0 from tbl limit 70)").returns(70L).check();
+    }
+
     /** */
     @Ignore("https://issues.apache.org/jira/browse/IGNITE-25765")
     @Test
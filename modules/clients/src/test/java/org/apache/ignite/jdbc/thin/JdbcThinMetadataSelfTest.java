@@ -1041,12 +1041,16 @@ public class JdbcThinMetadataSelfTest extends JdbcThinAbstractSelfTest {
                 "SYS.CACHE_GROUP_PAGE_LISTS.STRIPES_COUNT.null",
                 "SYS.CACHE_GROUP_PAGE_LISTS.CACHED_PAGES_COUNT.null",
                 "SYS.CACHE_GROUP_PAGE_LISTS.PAGE_FREE_SPACE.null",
+                "SYS.CACHE_GROUP_PAGE_LISTS.PAGE_FILL_FACTOR.null",
+                "SYS.CACHE_GROUP_PAGE_LISTS.TAKEN_PAGES_COUNT.null",
                 "SYS.DATA_REGION_PAGE_LISTS.NAME.null",
                 "SYS.DATA_REGION_PAGE_LISTS.BUCKET_NUMBER.null",
                 "SYS.DATA_REGION_PAGE_LISTS.BUCKET_SIZE.null",
                 "SYS.DATA_REGION_PAGE_LISTS.STRIPES_COUNT.null",
                 "SYS.DATA_REGION_PAGE_LISTS.CACHED_PAGES_COUNT.null",
                 "SYS.DATA_REGION_PAGE_LISTS.PAGE_FREE_SPACE.null",
+                "SYS.DATA_REGION_PAGE_LISTS.PAGE_FILL_FACTOR.null",
+                "SYS.DATA_REGION_PAGE_LISTS.TAKEN_PAGES_COUNT.null",
                 "SYS.PARTITION_STATES.CACHE_GROUP_ID.null",
                 "SYS.PARTITION_STATES.PARTITION_ID.null",
                 "SYS.PARTITION_STATES.NODE_ID.null",
@@ -20,6 +20,7 @@ package org.apache.ignite.internal;
 import java.io.IOException;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.Collection;
@@ -385,6 +386,9 @@ public class MessageSerializerGenerator extends MessageCompanionGenerator {
             if (sameType(type, BitSet.class))
                 return new FieldCall("BitSet", null, false);
 
+            if (sameType(type, ByteBuffer.class))
+                return new FieldCall("ByteBuffer", null, false);
+
             if (sameType(type, UUID.class))
                 return new FieldCall("Uuid", null, false);
 
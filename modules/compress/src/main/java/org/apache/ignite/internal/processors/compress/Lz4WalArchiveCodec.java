@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.processors.compress;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FrameInputStream;
+import net.jpountz.lz4.LZ4FrameOutputStream;
+import net.jpountz.xxhash.XXHashFactory;
+import org.apache.ignite.configuration.DiskPageCompression;
+import org.apache.ignite.internal.processors.cache.persistence.wal.WalArchiveCodec;
+
+import static net.jpountz.lz4.LZ4FrameOutputStream.BLOCKSIZE.SIZE_1MB;
+import static net.jpountz.lz4.LZ4FrameOutputStream.FLG.Bits.BLOCK_INDEPENDENCE;
+
+/**
+ * LZ4 frame format codec of compacted WAL archive segments.
+ */
+public class Lz4WalArchiveCodec implements WalArchiveCodec {
+    /** Magic number of LZ4 frame. */
+    private static final int LZ4_MAGIC = 0x184D2204;
+
+    /** Max compression level which uses fast compressor. */
+    private static final int FAST_COMPRESSOR_MAX_LEVEL = 1;
+
+    /** {@inheritDoc} */
+    @Override public DiskPageCompression algorithm() {
+        return DiskPageCompression.LZ4;
+    }
+
+    /** {@inheritDoc} */
+    @Override public int magic() {
+        return LZ4_MAGIC;
+    }
+
+    /** {@inheritDoc} */
+    @Override public OutputStream compress(OutputStream out, int level) throws IOException {
+        LZ4Factory factory = LZ4Factory.fastestInstance();
+
+        LZ4Compressor compressor = level <= FAST_COMPRESSOR_MAX_LEVEL ? factory.fastCompressor() :
+            factory.highCompressor(level);
+
+        return new LZ4FrameOutputStream(out, SIZE_1MB, -1L, compressor,
+            XXHashFactory.fastestInstance().hash32(), BLOCK_INDEPENDENCE);
+    }
+
+    /** {@inheritDoc} */
+    @Override public InputStream decompress(InputStream in) throws IOException {
+        return new LZ4FrameInputStream(in);
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.processors.compress;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import com.github.luben.zstd.ZstdInputStream;
+import com.github.luben.zstd.ZstdOutputStream;
+import org.apache.ignite.configuration.DiskPageCompression;
+import org.apache.ignite.internal.processors.cache.persistence.wal.WalArchiveCodec;
+
+/**
+ * Zstd frame format codec of compacted WAL archive segments.
+ */
+public class ZstdWalArchiveCodec implements WalArchiveCodec {
+    /** Magic number of zstd frame. */
+    private static final int ZSTD_MAGIC = 0xFD2FB528;
+
+    /** {@inheritDoc} */
+    @Override public DiskPageCompression algorithm() {
+        return DiskPageCompression.ZSTD;
+    }
+
+    /** {@inheritDoc} */
+    @Override public int magic() {
+        return ZSTD_MAGIC;
+    }
+
+    /** {@inheritDoc} */
+    @Override public OutputStream compress(OutputStream out, int level) throws IOException {
+        return new ZstdOutputStream(out, level);
+    }
+
+    /** {@inheritDoc} */
+    @Override public InputStream decompress(InputStream in) throws IOException {
+        return new ZstdInputStream(in);
+    }
+}
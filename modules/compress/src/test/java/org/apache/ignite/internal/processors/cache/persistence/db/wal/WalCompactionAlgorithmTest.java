@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.processors.cache.persistence.db.wal;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.util.Arrays;
+import java.util.Collection;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.DiskPageCompression;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.pagemem.wal.WALIterator;
+import org.apache.ignite.internal.pagemem.wal.record.DataRecord;
+import org.apache.ignite.internal.pagemem.wal.record.WALRecord;
+import org.apache.ignite.internal.processors.cache.persistence.filename.NodeFileTree;
+import org.apache.ignite.internal.processors.cache.persistence.wal.reader.IgniteWalIteratorFactory;
+import org.apache.ignite.internal.processors.cache.persistence.wal.reader.IgniteWalIteratorFactory.IteratorParametersBuilder;
+import org.apache.ignite.internal.processors.compress.Lz4WalArchiveCodec;
+import org.apache.ignite.internal.processors.compress.ZstdWalArchiveCodec;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import static org.apache.ignite.configuration.DiskPageCompression.LZ4;
+import static org.apache.ignite.configuration.DiskPageCompression.ZSTD;
+
+/**
+ * Runs WAL compaction tests with segments compacted by zstd and LZ4 codecs.
+ */
+@RunWith(Parameterized.class)
+public class WalCompactionAlgorithmTest extends WalCompactionTest {
+    /** Compaction algorithm. */
+    @Parameterized.Parameter
+    public DiskPageCompression algorithm;
+
+    /** @return Test parameters. */
+    @Parameterized.Parameters(name = "algorithm={0}")
+    public static Collection<Object[]> parameters() {
+        return Arrays.asList(new Object[] {ZSTD}, new Object[] {LZ4});
+    }
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String gridName) throws Exception {
+        IgniteConfiguration cfg = super.getConfiguration(gridName);
+
+        cfg.getDataStorageConfiguration().setWalCompactionAlgorithm(algorithm);
+
+        return cfg;
+    }
+
+    /**
+     * Checks format of compacted segment and reading of it by standalone WAL iterator.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testCompactedSegmentFormat() throws Exception {
+        IgniteEx ig = startGrid(0);
+
+        ig.cluster().state(ClusterState.ACTIVE);
+
+        IgniteCache<Integer, byte[]> cache = ig.cache(CACHE_NAME);
+
+        for (int i = 0; i < ENTRIES; i++)
+            cache.put(i, new byte[20000]);
+
+        // WAL archive segment is allowed to be compressed when it's at least one checkpoint away from current WAL head.
+        ig.context().cache().context().database().wakeupForCheckpoint("Forced checkpoint").get();
+        ig.context().cache().context().database().wakeupForCheckpoint("Forced checkpoint").get();
+
+        NodeFileTree ft = ig.context().pdsFolderResolver().fileTree();
+
+        File walSegment = ft.zipWalArchiveSegment(0);
+
+        assertTrue(GridTestUtils.waitForCondition(walSegment::exists, 15_000));
+
+        stopAllGrids();
+
+        int magic = algorithm == ZSTD ? new ZstdWalArchiveCodec().magic() : new Lz4WalArchiveCodec().magic();
+
+        try (RandomAccessFile raf = new RandomAccessFile(walSegment, "r")) {
+            assertEquals(magic, Integer.reverseBytes(raf.readInt()));
+        }
+
+        int dataRecs = 0;
+
+        IteratorParametersBuilder params = new IteratorParametersBuilder().filesOrDirs(walSegment);
+
+        try (WALIterator it = new IgniteWalIteratorFactory(log).iterator(params)) {
+            while (it.hasNext()) {
+                WALRecord rec = it.next().get2();
+
+                if (rec instanceof DataRecord)
+                    dataRecs++;
+            }
+        }
+
+        assertTrue("Data records expected in compacted segment", dataRecs > 0);
+    }
+}
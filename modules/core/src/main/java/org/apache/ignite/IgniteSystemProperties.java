@@ -32,9 +32,13 @@ import org.apache.ignite.configuration.DataStorageConfiguration;
 import org.apache.ignite.configuration.DeploymentMode;
 import org.apache.ignite.configuration.DiskPageCompression;
 import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.configuration.WALMode;
 import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineRecommender;
+import org.apache.ignite.internal.cache.query.index.sorted.maintenance.IndexBulkLoader;
+import org.apache.ignite.internal.processors.cache.GridCacheSharedTtlCleanupManager;
 import org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointEntry;
 import org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointMarkersStorage;
+import org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointPagesWriterFactory;
 import org.apache.ignite.internal.processors.cache.persistence.snapshot.IgniteSnapshotManager;
 import org.apache.ignite.internal.processors.metastorage.DistributedMetaStorage;
 import org.apache.ignite.internal.processors.performancestatistics.FilePerformanceStatisticsWriter;
@@ -54,6 +58,8 @@ import static org.apache.ignite.internal.LongJVMPauseDetector.DEFAULT_JVM_PAUSE_
 import static org.apache.ignite.internal.LongJVMPauseDetector.DFLT_JVM_PAUSE_DETECTOR_LAST_EVENTS_COUNT;
 import static org.apache.ignite.internal.LongJVMPauseDetector.DFLT_JVM_PAUSE_DETECTOR_PRECISION;
 import static org.apache.ignite.internal.cache.query.index.sorted.inline.InlineRecommender.DFLT_THROTTLE_INLINE_SIZE_CALCULATION;
+import static org.apache.ignite.internal.cache.query.index.sorted.maintenance.IndexBulkLoader.DFLT_INDEX_BULK_LOAD_FILL_FACTOR;
+import static org.apache.ignite.internal.cache.query.index.sorted.maintenance.IndexBulkLoader.DFLT_INDEX_BULK_LOAD_RUN_SIZE;
 import static org.apache.ignite.internal.managers.discovery.GridDiscoveryManager.DFLT_DISCOVERY_HISTORY_SIZE;
 import static org.apache.ignite.internal.processors.affinity.AffinityAssignment.DFLT_AFFINITY_BACKUPS_THRESHOLD;
 import static org.apache.ignite.internal.processors.affinity.GridAffinityAssignmentCache.DFLT_AFFINITY_HISTORY_SIZE;
@@ -68,6 +74,7 @@ import static org.apache.ignite.internal.processors.cache.GridCachePartitionExch
 import static org.apache.ignite.internal.processors.cache.GridCachePartitionExchangeManager.DFLT_EXCHANGE_HISTORY_SIZE;
 import static org.apache.ignite.internal.processors.cache.GridCachePartitionExchangeManager.DFLT_EXCHANGE_MERGE_DELAY;
 import static org.apache.ignite.internal.processors.cache.GridCacheProcessor.DFLT_ALLOW_START_CACHES_IN_PARALLEL;
+import static org.apache.ignite.internal.processors.cache.GridCacheSharedTtlCleanupManager.DFLT_TTL_CLEANUP_THREADS;
 import static org.apache.ignite.internal.processors.cache.GridCacheTtlManager.DFLT_UNWIND_THROTTLING_TIMEOUT;
 import static org.apache.ignite.internal.processors.cache.GridCacheUtils.DFLT_TTL_EXPIRE_BATCH_SIZE;
 import static org.apache.ignite.internal.processors.cache.WalStateManager.DFLT_DISABLE_WAL_DURING_REBALANCING;
@@ -84,21 +91,29 @@ import static org.apache.ignite.internal.processors.cache.persistence.GridCacheD
 import static org.apache.ignite.internal.processors.cache.persistence.GridCacheDatabaseSharedManager.DFLT_PDS_WAL_REBALANCE_THRESHOLD;
 import static org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointHistory.DFLT_PDS_MAX_CHECKPOINT_MEMORY_HISTORY_SIZE;
 import static org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointMarkersStorage.DFLT_IGNITE_CHECKPOINT_MAP_SNAPSHOT_THRESHOLD;
+import static org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointPagesWriterFactory.DFLT_CHECKPOINT_WRITE_BATCH_SIZE;
 import static org.apache.ignite.internal.processors.cache.persistence.checkpoint.CheckpointWorkflow.DFLT_CHECKPOINT_PARALLEL_SORT_THRESHOLD;
+import static org.apache.ignite.internal.processors.cache.persistence.defragmentation.OnlineDefragmentation.DFLT_ONLINE_DEFRAGMENTATION_BATCH_SIZE;
+import static org.apache.ignite.internal.processors.cache.persistence.defragmentation.OnlineDefragmentation.DFLT_ONLINE_DEFRAGMENTATION_FILL_FACTOR;
+import static org.apache.ignite.internal.processors.cache.persistence.defragmentation.OnlineDefragmentation.DFLT_ONLINE_DEFRAGMENTATION_THROTTLE;
 import static org.apache.ignite.internal.processors.cache.persistence.diagnostic.pagelocktracker.PageLockTrackerFactory.DFLT_PAGE_LOCK_TRACKER_CAPACITY;
 import static org.apache.ignite.internal.processors.cache.persistence.diagnostic.pagelocktracker.PageLockTrackerFactory.HEAP_LOG;
 import static org.apache.ignite.internal.processors.cache.persistence.diagnostic.pagelocktracker.SharedPageLockTracker.DFLT_PAGE_LOCK_TRACKER_CHECK_INTERVAL;
 import static org.apache.ignite.internal.processors.cache.persistence.pagemem.FullPageIdTable.DFLT_LONG_LONG_HASH_MAP_LOAD_FACTOR;
 import static org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMemoryImpl.DFLT_DELAYED_REPLACED_PAGE_WRITE;
 import static org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMemoryImpl.DFLT_LOADED_PAGES_BACKWARD_SHIFT_MAP;
+import static org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMemoryImpl.DFLT_SEQUENTIAL_ACCESS_RING_SIZE;
 import static org.apache.ignite.internal.processors.cache.persistence.pagemem.PagesWriteThrottlePolicy.DFLT_THROTTLE_LOG_THRESHOLD;
 import static org.apache.ignite.internal.processors.cache.persistence.snapshot.IgniteSnapshotManager.DFLT_IGNITE_SNAPSHOT_SEQUENTIAL_WRITE;
+import static org.apache.ignite.internal.processors.cache.persistence.tree.BPlusTree.DFLT_PAGE_READ_AHEAD_WINDOW;
 import static org.apache.ignite.internal.processors.cache.persistence.tree.BPlusTree.IGNITE_BPLUS_TREE_LOCK_RETRIES_DEFAULT;
 import static org.apache.ignite.internal.processors.cache.persistence.wal.FileWriteAheadLogManager.DFLT_CHECKPOINT_TRIGGER_ARCHIVE_SIZE_PERCENTAGE;
 import static org.apache.ignite.internal.processors.cache.persistence.wal.FileWriteAheadLogManager.DFLT_THRESHOLD_WAIT_TIME_NEXT_WAL_SEGMENT;
 import static org.apache.ignite.internal.processors.cache.persistence.wal.FileWriteAheadLogManager.DFLT_WAL_COMPRESSOR_WORKER_THREAD_CNT;
 import static org.apache.ignite.internal.processors.cache.persistence.wal.FileWriteAheadLogManager.DFLT_WAL_MMAP;
+import static org.apache.ignite.internal.processors.cache.persistence.wal.filehandle.FileHandleManagerImpl.DFLT_WAL_PARALLEL_WRITE_THREADS;
 import static org.apache.ignite.internal.processors.cache.persistence.wal.filehandle.FileHandleManagerImpl.DFLT_WAL_SEGMENT_SYNC_TIMEOUT;
+import static org.apache.ignite.internal.processors.cache.persistence.wal.filehandle.FsyncFileHandleManagerImpl.DFLT_WAL_GROUP_COMMIT_MAX_WINDOW;
 import static org.apache.ignite.internal.processors.cache.persistence.wal.serializer.RecordSerializerFactory.LATEST_SERIALIZER_VERSION;
 import static org.apache.ignite.internal.processors.cache.transactions.IgniteTxManager.DFLT_DEFERRED_ONE_PHASE_COMMIT_ACK_REQUEST_BUFFER_SIZE;
 import static org.apache.ignite.internal.processors.cache.transactions.IgniteTxManager.DFLT_DEFERRED_ONE_PHASE_COMMIT_ACK_REQUEST_TIMEOUT;
@@ -831,6 +846,14 @@ public final class IgniteSystemProperties extends IgniteCommonsSystemProperties
     public static final String IGNITE_H2_INDEXING_CACHE_THREAD_USAGE_TIMEOUT =
         "IGNITE_H2_INDEXING_CACHE_THREAD_USAGE_TIMEOUT";
 
+    /**
+     * If {@code true}, a row is admitted to the SQL on-heap row cache only when it is requested for the second time
+     * within a short window, so one-off scans don't evict rows of repeated index lookups.
+     * See {@link CacheConfiguration#setSqlOnheapCacheEnabled(boolean)}.
+     */
+    @SystemProperty("Admits rows to the SQL on-heap row cache only on repeated access")
+    public static final String IGNITE_SQL_ONHEAP_CACHE_ADMISSION = "IGNITE_SQL_ONHEAP_CACHE_ADMISSION";
+
     /**
      * Manages backward compatibility of {@link StreamTransformer#from(CacheEntryProcessor)} method.
      * <p>
@@ -899,6 +922,19 @@ public final class IgniteSystemProperties extends IgniteCommonsSystemProperties
         "0 means that inline index store is disabled", type = Integer.class, defaults = "64")
     public static final String IGNITE_MAX_INDEX_PAYLOAD_SIZE = "IGNITE_MAX_INDEX_PAYLOAD_SIZE";
 
+    /**
+     * System property to specify maximum payload size in bytes of separator keys stored in inner pages of new
+     * inline indexes. Separator keys are truncated on key boundaries (variable length keys are truncated to a prefix),
+     * which increases fan-out of inner pages and reduces tree height for wide inline keys. Search correctness is
+     * preserved, because truncated keys are compared using the full row.
+     * <p>
+     * Defaults to {@code -1}, meaning that inner pages use the same payload size as leaf pages.
+     */
+    @SystemProperty(value = "Maximum payload size in bytes of separator keys stored in inner pages of new inline " +
+        "indexes. -1 means that inner pages use the same payload size as leaf pages", type = Integer.class,
+        defaults = "-1")
+    public static final String IGNITE_MAX_INDEX_INNER_PAYLOAD_SIZE = "IGNITE_MAX_INDEX_INNER_PAYLOAD_SIZE";
+
     /**
      * Time interval for calculating rebalance rate statistics, in milliseconds. Defaults to 60000.
      * @deprecated Use {@link MetricsMxBean#configureHitRateMetric(String, long)} instead.
@@ -916,6 +952,15 @@ public final class IgniteSystemProperties extends IgniteCommonsSystemProperties
         "remove this amount of expired entries", type = Integer.class, defaults = "" + DFLT_TTL_EXPIRE_BATCH_SIZE)
     public static final String IGNITE_TTL_EXPIRE_BATCH_SIZE = "IGNITE_TTL_EXPIRE_BATCH_SIZE";
 
+    /**
+     * Count of threads removing expired entries from caches with eager TTL. Partitions of persistent caches are
+     * distributed between the threads, in-memory caches are distributed as a whole.
+     * The default value is {@link GridCacheSharedTtlCleanupManager#DFLT_TTL_CLEANUP_THREADS}.
+     */
+    @SystemProperty(value = "Count of threads removing expired entries from caches with eager TTL",
+        type = Integer.class, defaults = "" + DFLT_TTL_CLEANUP_THREADS)
+    public static final String IGNITE_TTL_CLEANUP_THREADS = "IGNITE_TTL_CLEANUP_THREADS";
+
     /**
      * Indexing discovery history size. Protects from duplicate messages maintaining the list of IDs of recently
      * arrived discovery messages.
@@ -942,6 +987,14 @@ public final class IgniteSystemProperties extends IgniteCommonsSystemProperties
     @SystemProperty("Skip CRC calculation flag")
     public static final String IGNITE_PDS_SKIP_CRC = "IGNITE_PDS_SKIP_CRC";
 
+    /**
+     * Use CRC32C instead of CRC32 for checksums of WAL records and pages. Applies to new WAL segments and new page
+     * store files, existing ones keep their checksum algorithm.
+     */
+    @SystemProperty("Use CRC32C instead of CRC32 for checksums of WAL records and pages. Applies to new WAL " +
+        "segments and new page store files, existing ones keep their checksum algorithm")
+    public static final String IGNITE_PDS_CRC32C = "IGNITE_PDS_CRC32C";
+
     /**
      * WAL rebalance threshold.
      */
@@ -978,6 +1031,16 @@ public final class IgniteSystemProperties extends IgniteCommonsSystemProperties
         type = Integer.class, defaults = "" + DFLT_IGNITE_CHECKPOINT_MAP_SNAPSHOT_THRESHOLD)
     public static final String IGNITE_CHECKPOINT_MAP_SNAPSHOT_THRESHOLD = "IGNITE_CHECKPOINT_MAP_SNAPSHOT_THRESHOLD";
 
+    /**
+     * Maximum count of pages with sequential indexes which checkpoint writer thread coalesces into a single vectored
+     * write. Value {@code 1} disables coalescing.
+     * Default is {@link CheckpointPagesWriterFactory#DFLT_CHECKPOINT_WRITE_BATCH_SIZE}.
+     */
+    @SystemProperty(value = "Maximum count of pages with sequential indexes which checkpoint writer thread " +
+        "coalesces into a single vectored write. Value 1 disables coalescing",
+        type = Integer.class, defaults = "" + DFLT_CHECKPOINT_WRITE_BATCH_SIZE)
+    public static final String IGNITE_CHECKPOINT_WRITE_BATCH_SIZE = "IGNITE_CHECKPOINT_WRITE_BATCH_SIZE";
+
     /** Ignite page memory concurrency level. */
     @SystemProperty(value = "Ignite page memory concurrency level", type = Integer.class)
     public static final String IGNITE_OFFHEAP_LOCK_CONCURRENCY_LEVEL = "IGNITE_OFFHEAP_LOCK_CONCURRENCY_LEVEL";
@@ -1077,11 +1140,42 @@ public final class IgniteSystemProperties extends IgniteCommonsSystemProperties
         defaults = "" + LATEST_SERIALIZER_VERSION)
     public static final String IGNITE_WAL_SERIALIZER_VERSION = "IGNITE_WAL_SERIALIZER_VERSION";
 
+    /**
+     * Log the first modification of a page after a checkpoint as a diff of modified byte ranges relatively to the page
+     * image at the checkpoint instead of a full page snapshot. Pages torn by a crash in the middle of a checkpoint
+     * can't be restored from WAL in this mode, so it should be enabled only if the storage writes pages atomically.
+     * Doesn't apply to cache groups with disk page compression or encryption.
+     */
+    @SystemProperty("Log the first modification of a page after a checkpoint as a diff against the checkpointed " +
+        "page image instead of a full page snapshot. Requires atomic page writes of the storage")
+    public static final String IGNITE_WAL_PAGE_DIFF_RECORDS = "IGNITE_WAL_PAGE_DIFF_RECORDS";
+
     /** Property for setup Ignite WAL segment sync timeout. */
     @SystemProperty(value = "WAL segment sync timeout in milliseconds", type = Long.class,
         defaults = "" + DFLT_WAL_SEGMENT_SYNC_TIMEOUT)
     public static final String IGNITE_WAL_SEGMENT_SYNC_TIMEOUT = "IGNITE_WAL_SEGMENT_SYNC_TIMEOUT";
 
+    /**
+     * Count of threads writing large portions of the WAL buffer to the current segment in parallel. Adjacent chunks
+     * of the buffer are written to the same segment concurrently by positional writes, which allows to use several
+     * I/O queues of fast devices. Has no effect for FSYNC WAL mode and memory mapped WAL, see {@link #IGNITE_WAL_MMAP}.
+     */
+    @SystemProperty(value = "Count of threads writing large portions of the WAL buffer to the current segment " +
+        "in parallel by positional writes of adjacent chunks. Has no effect for FSYNC WAL mode and memory mapped WAL", type = Integer.class,
+        defaults = "" + DFLT_WAL_PARALLEL_WRITE_THREADS)
+    public static final String IGNITE_WAL_PARALLEL_WRITE_THREADS = "IGNITE_WAL_PARALLEL_WRITE_THREADS";
+
+    /**
+     * Maximal time in microseconds a thread waits for concurrent commits before WAL fsync in {@link WALMode#FSYNC}
+     * mode. The actual wait adapts to the load: it grows while fsyncs cover several commits and shrinks back to
+     * {@link DataStorageConfiguration#getWalFsyncDelayNanos()} under single-threaded load. It never exceeds the
+     * average fsync duration. Value not greater than the fsync delay disables adaptation.
+     */
+    @SystemProperty(value = "Maximal time in microseconds a thread waits for concurrent commits before WAL fsync " +
+        "in FSYNC mode. The actual wait adapts to the load", type = Long.class,
+        defaults = "" + DFLT_WAL_GROUP_COMMIT_MAX_WINDOW)
+    public static final String IGNITE_WAL_GROUP_COMMIT_MAX_WINDOW = "IGNITE_WAL_GROUP_COMMIT_MAX_WINDOW";
+
     /**
      * If the property is set Ignite will use legacy node comparator (based on node order) inste
      *
@@ -1163,6 +1257,16 @@ public final class IgniteSystemProperties extends IgniteCommonsSystemProperties
         "this mode", defaults = "true")
     public static final String IGNITE_DIRECT_IO_ENABLED = "IGNITE_DIRECT_IO_ENABLED";
 
+    /**
+     * Enables io_uring based file IO for page stores and WAL. It is used only if JAR file with direct IO feature is
+     * available in classpath and Linux kernel supports io_uring (5.6 or newer). Takes precedence over direct IO.
+     * Default is {@code false}.
+     */
+    @SystemProperty(value = "Enables io_uring based file IO for page stores and WAL. It is used only if JAR file " +
+        "with direct IO feature is available in classpath and Linux kernel supports io_uring (5.6 or newer). Takes " +
+        "precedence over direct IO")
+    public static final String IGNITE_IO_URING_ENABLED = "IGNITE_IO_URING_ENABLED";
+
     /**
      * When set to {@code true} (default), pages are written to page store without holding segment lock (with delay).
      * Because other thread may require exactly the same page to be loaded from store, reads are protected by locking.
@@ -1199,6 +1303,17 @@ public final class IgniteSystemProperties extends IgniteCommonsSystemProperties
         "deletion'", defaults = "" + DFLT_LOADED_PAGES_BACKWARD_SHIFT_MAP)
     public static final String IGNITE_LOADED_PAGES_BACKWARD_SHIFT_MAP = "IGNITE_LOADED_PAGES_BACKWARD_SHIFT_MAP";
 
+    /**
+     * Count of pages per page memory segment loaded by sequential (one-shot) page accesses, such as scan queries,
+     * index rebuild and rebalancing, which are replaced before pages chosen by the page replacement policy.
+     * {@code 0} disables the feature. Default is {@code 64}.
+     */
+    @SystemProperty(value = "Count of pages per page memory segment loaded by sequential (one-shot) page accesses, " +
+        "such as scan queries, index rebuild and rebalancing, which are replaced before pages chosen by the page " +
+        "replacement policy. 0 disables the feature", type = Integer.class,
+        defaults = "" + DFLT_SEQUENTIAL_ACCESS_RING_SIZE)
+    public static final String IGNITE_SEQUENTIAL_ACCESS_RING_SIZE = "IGNITE_SEQUENTIAL_ACCESS_RING_SIZE";
+
     /**
      * Property for setup percentage of archive size for checkpoint trigger. Default value is 0.25
      */
@@ -1254,12 +1369,30 @@ public final class IgniteSystemProperties extends IgniteCommonsSystemProperties
         defaults = "" + IGNITE_BPLUS_TREE_LOCK_RETRIES_DEFAULT)
     public static final String IGNITE_BPLUS_TREE_LOCK_RETRIES = "IGNITE_BPLUS_TREE_LOCK_RETRIES";
 
+    /**
+     * Enables lock-free optimistic reads of B+Tree inner pages on lookups.
+     */
+    @SystemProperty("Enables lock-free optimistic reads of B+Tree inner pages on lookups. Inner pages are copied " +
+        "without taking the page read lock and the lookup falls back to the read lock if a page is modified " +
+        "concurrently. May also be enabled for a particular tree at runtime")
+    public static final String IGNITE_BPLUS_TREE_OPTIMISTIC_READS = "IGNITE_BPLUS_TREE_OPTIMISTIC_READS";
+
     /**
      * Disables secondary indexes B+Tree metrics.
      */
     @SystemProperty(value = "Disables secondary indexes B+Tree metrics", defaults = "false")
     public static final String IGNITE_BPLUS_TREE_DISABLE_METRICS = "IGNITE_BPLUS_TREE_DISABLE_METRICS";
 
+    /**
+     * Count of B+Tree leaf pages read ahead asynchronously by cursors which traverse leaves sequentially. Data pages
+     * referenced from these leaves are read ahead as well. Applies to persistent data regions only. {@code 0} disables
+     * the read-ahead. Default is {@code 0}.
+     */
+    @SystemProperty(value = "Count of B+Tree leaf pages read ahead asynchronously by cursors which traverse leaves " +
+        "sequentially. Data pages referenced from these leaves are read ahead as well. Applies to persistent data " +
+        "regions only. 0 disables the read-ahead", type = Integer.class, defaults = "" + DFLT_PAGE_READ_AHEAD_WINDOW)
+    public static final String IGNITE_PAGE_READ_AHEAD_WINDOW = "IGNITE_PAGE_READ_AHEAD_WINDOW";
+
     /**
      * Amount of memory reserved in the heap at node start, which can be dropped to increase the chances of success when
      * handling OutOfMemoryError.
@@ -1810,6 +1943,25 @@ public final class IgniteSystemProperties extends IgniteCommonsSystemProperties
     public static final String IGNITE_DEFRAGMENTATION_REGION_SIZE_PERCENTAGE =
         "IGNITE_DEFRAGMENTATION_REGION_SIZE_PERCENTAGE";
 
+    /** Count of rows relocated by online defragmentation under a single checkpoint read lock acquisition. */
+    @SystemProperty(value = "Count of rows relocated by online defragmentation under a single checkpoint read lock " +
+        "acquisition", type = Integer.class, defaults = "" + DFLT_ONLINE_DEFRAGMENTATION_BATCH_SIZE)
+    public static final String IGNITE_ONLINE_DEFRAGMENTATION_BATCH_SIZE = "IGNITE_ONLINE_DEFRAGMENTATION_BATCH_SIZE";
+
+    /** Pause in milliseconds between batches of rows relocated by online defragmentation. */
+    @SystemProperty(value = "Pause in milliseconds between batches of rows relocated by online defragmentation",
+        type = Long.class, defaults = "" + DFLT_ONLINE_DEFRAGMENTATION_THROTTLE)
+    public static final String IGNITE_ONLINE_DEFRAGMENTATION_THROTTLE = "IGNITE_ONLINE_DEFRAGMENTATION_THROTTLE";
+
+    /**
+     * Data pages filled less than this fraction are considered sparse by online defragmentation, their rows are
+     * relocated to denser pages.
+     */
+    @SystemProperty(value = "Data pages filled less than this fraction are considered sparse by online " +
+        "defragmentation, their rows are relocated to denser pages", type = Float.class,
+        defaults = "" + DFLT_ONLINE_DEFRAGMENTATION_FILL_FACTOR)
+    public static final String IGNITE_ONLINE_DEFRAGMENTATION_FILL_FACTOR = "IGNITE_ONLINE_DEFRAGMENTATION_FILL_FACTOR";
+
     /**
      * Maximum performance statistics file size in bytes. Performance statistics collection is stopped when the
      * file size is exceeded. The default value is {@link FilePerformanceStatisticsWriter#DFLT_FILE_MAX_SIZE}.
@@ -1870,6 +2022,15 @@ public final class IgniteSystemProperties extends IgniteCommonsSystemProperties
         type = Integer.class)
     public static final String IGNITE_CALCITE_EXEC_IO_BATCH_CNT = "IGNITE_CALCITE_EXEC_IO_BATCH_CNT";
 
+    /**
+     * Calcite-based SQL engine. Maximum count of cache rows a table scan projects to relational rows column by
+     * column. Batches start with one row and double up to this size, so that the first rows are not delayed.
+     * {@code 1} projects rows one by one.
+     */
+    @SystemProperty(value = "Calcite-based SQL engine. Maximum count of cache rows a table scan projects to " +
+        "relational rows column by column", type = Integer.class, defaults = "64")
+    public static final String IGNITE_CALCITE_EXEC_SCAN_BATCH_SIZE = "IGNITE_CALCITE_EXEC_SCAN_BATCH_SIZE";
+
     /**
      * Calcite-based SQL engine. Pretty print serialized to JSON plan, when sending it to remote nodes.
      */
@@ -1885,6 +2046,23 @@ public final class IgniteSystemProperties extends IgniteCommonsSystemProperties
         type = Integer.class, defaults = "" + DFLT_IGNITE_INDEX_REBUILD_BATCH_SIZE)
     public static final String IGNITE_INDEX_REBUILD_BATCH_SIZE = "IGNITE_INDEX_REBUILD_BATCH_SIZE";
 
+    /**
+     * Maximum count of rows sorted in memory before they are loaded into an index rebuilt in the maintenance mode.
+     * The default value is {@link IndexBulkLoader#DFLT_INDEX_BULK_LOAD_RUN_SIZE}.
+     */
+    @SystemProperty(value = "Maximum count of rows sorted in memory before they are loaded into an index rebuilt " +
+        "in the maintenance mode", type = Integer.class, defaults = "" + DFLT_INDEX_BULK_LOAD_RUN_SIZE)
+    public static final String IGNITE_INDEX_BULK_LOAD_RUN_SIZE = "IGNITE_INDEX_BULK_LOAD_RUN_SIZE";
+
+    /**
+     * Share of an index page filled when an index is built bottom-up in the maintenance mode. Must be a value between
+     * 0.5 and 1.0 inclusive. The default value is {@link IndexBulkLoader#DFLT_INDEX_BULK_LOAD_FILL_FACTOR}.
+     */
+    @SystemProperty(value = "Share of an index page filled when an index is built bottom-up in the maintenance " +
+        "mode. Must be a value between 0.5 and 1.0 inclusive", type = Float.class,
+        defaults = "" + DFLT_INDEX_BULK_LOAD_FILL_FACTOR)
+    public static final String IGNITE_INDEX_BULK_LOAD_FILL_FACTOR = "IGNITE_INDEX_BULK_LOAD_FILL_FACTOR";
+
     /**
      * Throttle frequency for an index row inline size calculation and logging index inline size recommendation.
      * The default value is {@link InlineRecommender#DFLT_THROTTLE_INLINE_SIZE_CALCULATION}.
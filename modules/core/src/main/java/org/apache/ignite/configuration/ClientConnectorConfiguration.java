@@ -89,6 +89,9 @@ public class ClientConnectorConfiguration {
     /** Selector count. */
     private int selectorCnt = DFLT_SELECTOR_CNT;
 
+    /** Selector busy-poll flag. */
+    private boolean selectorBusyPoll;
+
     /** Idle timeout. */
     private long idleTimeout = DFLT_IDLE_TIMEOUT;
 
@@ -149,6 +152,7 @@ public class ClientConnectorConfiguration {
         sockRcvBufSize = cfg.getSocketReceiveBufferSize();
         sockSndBufSize = cfg.getSocketSendBufferSize();
         tcpNoDelay = cfg.isTcpNoDelay();
+        selectorBusyPoll = cfg.isSelectorBusyPoll();
         threadPoolSize = cfg.getThreadPoolSize();
         idleTimeout = cfg.getIdleTimeout();
         handshakeTimeout = cfg.getHandshakeTimeout();
@@ -364,6 +368,31 @@ public class ClientConnectorConfiguration {
         return this;
     }
 
+    /**
+     * Gets whether selector threads of TCP server busy-poll their selectors instead of blocking on them.
+     * <p>
+     * Defaults to {@code false}.
+     *
+     * @return {@code True} if selector threads busy-poll their selectors.
+     */
+    public boolean isSelectorBusyPoll() {
+        return selectorBusyPoll;
+    }
+
+    /**
+     * Sets whether selector threads of TCP server busy-poll their selectors. Busy-polling selector threads never
+     * block, so responses are picked up without a selector wake-up, at the cost of one fully loaded core per
+     * selector thread (see {@link #setSelectorCount(int)}).
+     *
+     * @param selectorBusyPoll Whether selector threads busy-poll their selectors.
+     * @return This instance for chaining.
+     */
+    public ClientConnectorConfiguration setSelectorBusyPoll(boolean selectorBusyPoll) {
+        this.selectorBusyPoll = selectorBusyPoll;
+
+        return this;
+    }
+
     /**
      * Gets idle timeout for client connections.
      * If no packets come within idle timeout, the connection is closed.
@@ -346,6 +346,9 @@ public class DataStorageConfiguration implements Serializable {
      */
     private int walCompactionLevel = DFLT_WAL_COMPACTION_LEVEL;
 
+    /** Compression algorithm of WAL compaction, {@code null} for ZIP. */
+    @Nullable private DiskPageCompression walCompactionAlgorithm;
+
     /** Timeout for checkpoint read lock acquisition. */
     private Long checkpointReadLockTimeout;
 
@@ -1297,6 +1300,35 @@ public class DataStorageConfiguration implements Serializable {
         this.walCompactionLevel = walCompactionLevel;
     }
 
+    /**
+     * Gets compression algorithm of WAL compaction.
+     *
+     * @return Compression algorithm or {@code null} if WAL archive segments are compacted into ZIP archives.
+     */
+    @Nullable public DiskPageCompression getWalCompactionAlgorithm() {
+        return walCompactionAlgorithm;
+    }
+
+    /**
+     * Sets compression algorithm of WAL compaction. Segments compacted with different algorithms can be read
+     * regardless of the configured one, so the algorithm may be changed between node restarts.
+     * <p>
+     * {@link #getWalCompactionLevel() WAL compaction level} is algorithm specific:
+     * ZIP: from {@code 0} to {@code 9} (default {@code 1}).
+     * {@link DiskPageCompression#ZSTD Zstd}: from {@code -131072} to {@code 22}.
+     * {@link DiskPageCompression#LZ4 LZ4}: from {@code 0} to {@code 17}, levels up to {@code 1} use fast compressor.
+     *
+     * @param walCompactionAlgorithm {@link DiskPageCompression#ZSTD Zstd}, {@link DiskPageCompression#LZ4 LZ4}
+     *      or {@code null} to compact segments into ZIP archives (default). Zstd and LZ4 require ignite-compress
+     *      module in classpath.
+     * @return {@code this} for chaining.
+     */
+    public DataStorageConfiguration setWalCompactionAlgorithm(@Nullable DiskPageCompression walCompactionAlgorithm) {
+        this.walCompactionAlgorithm = walCompactionAlgorithm;
+
+        return this;
+    }
+
     /**
      * Returns timeout for checkpoint read lock acquisition.
      *
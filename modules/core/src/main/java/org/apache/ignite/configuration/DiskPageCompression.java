@@ -26,6 +26,7 @@ import org.jetbrains.annotations.Nullable;
  * @see CacheConfiguration#setDiskPageCompressionLevel
  * @see DataStorageConfiguration#setWalPageCompression
  * @see DataStorageConfiguration#setWalPageCompressionLevel
+ * @see DataStorageConfiguration#setWalCompactionAlgorithm
  */
 public enum DiskPageCompression {
     /** Compression disabled. */
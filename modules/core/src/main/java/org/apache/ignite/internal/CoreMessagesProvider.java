@@ -290,6 +290,7 @@ import org.apache.ignite.spi.communication.tcp.messages.HandshakeMessage;
 import org.apache.ignite.spi.communication.tcp.messages.HandshakeWaitMessage;
 import org.apache.ignite.spi.communication.tcp.messages.NodeIdMessage;
 import org.apache.ignite.spi.communication.tcp.messages.RecoveryLastReceivedMessage;
+import org.apache.ignite.spi.communication.tcp.messages.SharedMemorySwitchMessage;
 import org.apache.ignite.spi.discovery.SerializableDataBagItemWrapper;
 import org.apache.ignite.spi.discovery.tcp.internal.DiscoveryDataPacket;
 import org.apache.ignite.spi.discovery.tcp.internal.TcpDiscoveryNode;
@@ -656,6 +657,7 @@ public class CoreMessagesProvider extends AbstractMessageFactoryProvider {
         register(RecoveryLastReceivedMessage.class);
         register(TcpInverseConnectionResponseMessage.class);
         register(SessionChannelMessage.class);
+        register(SharedMemorySwitchMessage.class);
 
         // [11700 - 11800]: Datastreamer messages.
         msgIdx = 11700;
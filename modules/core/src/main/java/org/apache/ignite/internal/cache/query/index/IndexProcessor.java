@@ -562,7 +562,11 @@ public class IndexProcessor extends GridProcessorAdapter {
 
         long metaPageId = page.pageId().pageId();
 
-        int inlineSize = MetaPageInfo.read(metaPageId, grpId, pageMemory).inlineSize();
+        MetaPageInfo metaInfo = MetaPageInfo.read(metaPageId, grpId, pageMemory);
+
+        int inlineSize = metaInfo.inlineSize();
+
+        int innerInlineSize = metaInfo.innerInlineSize();
 
         String grpName = ctx.cache().cacheGroup(grpId).cacheOrGroupName();
 
@@ -575,7 +579,7 @@ public class IndexProcessor extends GridProcessorAdapter {
             removeId,
             metaPageId,
             reuseList,
-            AbstractInlineInnerIO.versions(inlineSize),
+            AbstractInlineInnerIO.versions(innerInlineSize),
             AbstractInlineLeafIO.versions(inlineSize),
             PageIdAllocator.FLAG_IDX,
             ctx.failure(),
@@ -20,21 +20,44 @@ package org.apache.ignite.internal.cache.query.index.sorted;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
 import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.internal.pagemem.PageIdUtils;
 import org.apache.ignite.internal.pagemem.PageMemory;
 import org.apache.ignite.internal.processors.cache.CacheGroupContext;
 import org.apache.ignite.internal.processors.cache.GridCacheContextInfo;
+import org.apache.ignite.internal.processors.metric.MetricRegistryImpl;
+import org.apache.ignite.internal.processors.metric.impl.LongAdderMetric;
 import org.apache.ignite.internal.processors.query.GridQueryRowCacheCleaner;
+import org.apache.ignite.internal.util.typedef.internal.U;
 import org.jsr166.ConcurrentLinkedHashMap;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_SQL_ONHEAP_CACHE_ADMISSION;
+import static org.apache.ignite.internal.processors.cache.CacheGroupMetricsImpl.CACHE_GROUP_METRICS_PREFIX;
+import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.metricName;
 import static org.jsr166.ConcurrentLinkedHashMap.DFLT_INIT_CAP;
 import static org.jsr166.ConcurrentLinkedHashMap.DFLT_LOAD_FACTOR;
 
 /**
- * H2 row cache.
+ * On-heap cache of index rows read from data pages, shared by all SQL engines using inline indexes.
  */
 public class IndexRowCache implements GridQueryRowCacheCleaner {
+    /** Hits metric name. */
+    public static final String SQL_ROW_CACHE_HITS = "SqlOnheapCacheHits";
+
+    /** Misses metric name. */
+    public static final String SQL_ROW_CACHE_MISSES = "SqlOnheapCacheMisses";
+
+    /** Evictions metric name. */
+    public static final String SQL_ROW_CACHE_EVICTIONS = "SqlOnheapCacheEvictions";
+
+    /** Size metric name. */
+    public static final String SQL_ROW_CACHE_SIZE = "SqlOnheapCacheSize";
+
+    /** Maximum size of admission filter. */
+    private static final int MAX_ADMISSION_FILTER_SIZE = 1 << 16;
+
     /** Cached rows. */
     private final ConcurrentLinkedHashMap<Long, IndexRowImpl> rows;
 
@@ -44,8 +67,27 @@ public class IndexRowCache implements GridQueryRowCacheCleaner {
     /** Usage count. */
     private int usageCnt = 1;
 
+    /**
+     * Links of recently missed rows, indexed by link hash. A row is admitted to the cache only if its link is found
+     * here, i.e. on a repeated miss. {@code Null} if every row is admitted.
+     */
+    private final AtomicLongArray admissionFilter;
+
+    /** Cache hits. */
+    private final LongAdderMetric hits;
+
+    /** Cache misses. */
+    private final LongAdderMetric misses;
+
+    /** Count of rows inserted into the cache. */
+    private final LongAdderMetric inserted;
+
+    /** Count of rows removed from the cache explicitly. */
+    private final LongAdderMetric removed;
+
     /**
      * @param grpCtx Cache group context.
+     * @param maxSize Maximum count of cached rows, {@code 0} if unlimited.
      */
     public IndexRowCache(CacheGroupContext grpCtx, int maxSize) {
         this.grpCtx = grpCtx;
@@ -56,6 +98,22 @@ public class IndexRowCache implements GridQueryRowCacheCleaner {
             Runtime.getRuntime().availableProcessors(),
             maxSize
         );
+
+        admissionFilter = IgniteSystemProperties.getBoolean(IGNITE_SQL_ONHEAP_CACHE_ADMISSION) ?
+            new AtomicLongArray(U.ceilPow2(maxSize > 0 ? Math.min(maxSize, MAX_ADMISSION_FILTER_SIZE) :
+                MAX_ADMISSION_FILTER_SIZE)) : null;
+
+        MetricRegistryImpl mreg = metricRegistry();
+
+        hits = mreg.longAdderMetric(SQL_ROW_CACHE_HITS, "Count of rows found in the SQL on-heap row cache.");
+        misses = mreg.longAdderMetric(SQL_ROW_CACHE_MISSES, "Count of rows not found in the SQL on-heap row cache.");
+
+        inserted = new LongAdderMetric("inserted", null);
+        removed = new LongAdderMetric("removed", null);
+
+        mreg.register(SQL_ROW_CACHE_EVICTIONS, this::evictions,
+            "Count of rows evicted from the SQL on-heap row cache due to size limit.");
+        mreg.register(SQL_ROW_CACHE_SIZE, this::size, "Count of rows in the SQL on-heap row cache.");
     }
 
     /**
@@ -68,24 +126,43 @@ public class IndexRowCache implements GridQueryRowCacheCleaner {
     public IndexRowImpl get(long link) throws IgniteCheckedException {
         IndexRowImpl row = rows.get(link);
 
-        if (row != null)
+        if (row != null) {
+            hits.increment();
+
             touch(link);
+        }
+        else
+            misses.increment();
 
         return row;
     }
 
     /**
-     * Put row by link.
+     * Put row by link. With admission filter enabled the row is cached only if it was missed recently.
      *
      * @param row Row.
      */
     public void put(IndexRowImpl row) {
-        rows.put(row.link(), row);
+        long link = row.link();
+
+        if (admissionFilter != null) {
+            int idx = U.hash(link) & (admissionFilter.length() - 1);
+
+            if (admissionFilter.get(idx) != link) {
+                admissionFilter.lazySet(idx, link);
+
+                return;
+            }
+        }
+
+        if (rows.put(link, row) == null)
+            inserted.increment();
     }
 
     /** {@inheritDoc} */
     @Override public void remove(long link) {
-        rows.remove(link);
+        if (rows.remove(link) != null)
+            removed.increment();
     }
 
     /**
@@ -106,6 +183,15 @@ public class IndexRowCache implements GridQueryRowCacheCleaner {
 
         clearForCache(cacheInfo);
 
+        if (res) {
+            MetricRegistryImpl mreg = metricRegistry();
+
+            mreg.remove(SQL_ROW_CACHE_HITS);
+            mreg.remove(SQL_ROW_CACHE_MISSES);
+            mreg.remove(SQL_ROW_CACHE_EVICTIONS);
+            mreg.remove(SQL_ROW_CACHE_SIZE);
+        }
+
         return res;
     }
 
@@ -116,6 +202,21 @@ public class IndexRowCache implements GridQueryRowCacheCleaner {
         return rows.size();
     }
 
+    /**
+     * @return Count of rows evicted due to size limit.
+     */
+    public long evictions() {
+        return Math.max(0, inserted.value() - removed.value() - rows.sizex());
+    }
+
+    /**
+     * @return Metric registry of the cache group.
+     */
+    private MetricRegistryImpl metricRegistry() {
+        return grpCtx.shared().kernalContext().metric()
+            .registry(metricName(CACHE_GROUP_METRICS_PREFIX, grpCtx.cacheOrGroupName()));
+    }
+
     /**
      * Clear entries belonging to the given cache.
      *
@@ -129,8 +230,11 @@ public class IndexRowCache implements GridQueryRowCacheCleaner {
         while (iter.hasNext()) {
             IndexRowImpl row = iter.next().getValue();
 
-            if (Objects.equals(cacheId, row.cacheId()))
+            if (Objects.equals(cacheId, row.cacheId())) {
                 iter.remove();
+
+                removed.increment();
+            }
         }
     }
 
@@ -42,6 +42,9 @@ public class MetaPageInfo {
     /** Whether inlinining of java objects as hash is supported. */
     private boolean inlineObjHash;
 
+    /** Payload size of inner pages, {@code 0} if it is the same as for leaf pages. */
+    private int innerInlineSize;
+
     /** Version of Ignite. */
     private final IgniteProductVersion createdVer;
 
@@ -57,6 +60,7 @@ public class MetaPageInfo {
         if (flagsSupported) {
             inlineObjSupported = io.inlineObjectSupported(pageAddr);
             inlineObjHash = io.inlineObjectHash(pageAddr);
+            innerInlineSize = io.innerInlineSize(pageAddr);
         }
 
         createdVer = io.createdVersion(pageAddr);
@@ -69,6 +73,13 @@ public class MetaPageInfo {
         return inlineSize;
     }
 
+    /**
+     * @return Payload size of inner pages.
+     */
+    public int innerInlineSize() {
+        return innerInlineSize == 0 ? inlineSize : innerInlineSize;
+    }
+
     /**
      * @return {@code true} In case use unwrapped PK for indexes.
      */
@@ -129,7 +140,8 @@ public class MetaPageInfo {
     }
 
     /**
-     * Writes meta page info into page memory.
+     * Writes meta page info into page memory. Payload size of inner pages is not written: the tree that receives
+     * the info is expected to store separator keys with the leaf payload.
      *
      * @param metaPageId Meta page ID.
      * @param grpId Cache group ID.
@@ -106,8 +106,9 @@ public class DefragIndexFactory extends InlineIndexFactory {
 
         final MetaPageInfo oldInfo = oldIdx.segment(segmentNum).metaInfo();
 
-        // Set IO wrappers for the new tree.
-        BPlusInnerIO<IndexRow> innerIO = (BPlusInnerIO<IndexRow>)wrap(tree.latestInnerIO(), tree.rowHandler());
+        // Set IO wrappers for the new tree. Rows are copied as raw inlined bytes, so inner pages use the leaf payload size.
+        BPlusInnerIO<IndexRow> innerIO = (BPlusInnerIO<IndexRow>)wrap(
+            AbstractInlineInnerIO.versions(tree.inlineSize()).latest(), tree.rowHandler());
         BPlusLeafIO<IndexRow> leafIo = (BPlusLeafIO<IndexRow>)wrap(tree.latestLeafIO(), tree.rowHandler());
         tree.setIos(new IOVersions<>(innerIO), new IOVersions<>(leafIo));
 
@@ -18,7 +18,10 @@
 package org.apache.ignite.internal.cache.query.index.sorted.inline;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Queue;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -30,6 +33,7 @@ import org.apache.ignite.failure.FailureContext;
 import org.apache.ignite.internal.cache.query.index.AbstractIndex;
 import org.apache.ignite.internal.cache.query.index.SingleCursor;
 import org.apache.ignite.internal.cache.query.index.sorted.DurableBackgroundCleanupIndexTreeTaskV2;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexKeyType;
 import org.apache.ignite.internal.cache.query.index.sorted.IndexKeyTypeSettings;
 import org.apache.ignite.internal.cache.query.index.sorted.IndexRow;
 import org.apache.ignite.internal.cache.query.index.sorted.IndexRowImpl;
@@ -40,6 +44,7 @@ import org.apache.ignite.internal.cache.query.index.sorted.ThreadLocalRowHandler
 import org.apache.ignite.internal.metric.IoStatisticsHolderIndex;
 import org.apache.ignite.internal.processors.cache.GridCacheContext;
 import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
+import org.apache.ignite.internal.processors.cache.persistence.IgniteCacheDatabaseSharedManager;
 import org.apache.ignite.internal.processors.cache.persistence.tree.BPlusTree;
 import org.apache.ignite.internal.util.lang.GridCursor;
 import org.apache.ignite.internal.util.typedef.internal.U;
@@ -78,6 +83,9 @@ public class InlineIndexImpl extends AbstractIndex implements InlineIndex {
     /** Row handler. */
     private final InlineIndexRowHandler rowHnd;
 
+    /** Inline size recommender, it also counts inline hits and misses of the index operations. */
+    private final @Nullable InlineRecommender recommender;
+
     /** */
     private final ReadWriteLock lock = new ReentrantReadWriteLock();
 
@@ -90,6 +98,7 @@ public class InlineIndexImpl extends AbstractIndex implements InlineIndex {
         treeName = def.treeName();
         this.stats = stats;
         rowHnd = segments[0].rowHandler();
+        recommender = segments[0].recommender();
     }
 
     /** {@inheritDoc} */
@@ -111,13 +120,19 @@ public class InlineIndexImpl extends AbstractIndex implements InlineIndex {
             if (isSingleRowLookup(lower, upper)) {
                 IndexRowImpl row = segments[segment].findOne(lower, closure, null);
 
+                onOperationFinished(lower);
+
                 if (row == null || isExpired(row))
                     return IndexValueCursor.EMPTY;
 
                 return new SingleCursor<>(row);
             }
 
-            return segments[segment].find(lower, upper, lowIncl, upIncl, closure, rowFactory, null);
+            GridCursor<IndexRow> cur = segments[segment].find(lower, upper, lowIncl, upIncl, closure, rowFactory, null);
+
+            onOperationFinished(lower);
+
+            return cur;
         }
         finally {
             lock.readLock().unlock();
@@ -218,6 +233,16 @@ public class InlineIndexImpl extends AbstractIndex implements InlineIndex {
         }
     }
 
+    /**
+     * Counts the finished operation as an inline hit or miss of the index.
+     *
+     * @param searchRow Search row of the operation.
+     */
+    private void onOperationFinished(@Nullable IndexRow searchRow) {
+        if (recommender != null)
+            recommender.onOperationFinished(searchRow);
+    }
+
     /** */
     private boolean isSingleRowLookup(IndexRow lower, IndexRow upper) throws IgniteCheckedException {
         return def.primary() && lower != null && isFullSchemaSearch(lower) && checkRowsTheSame(lower, upper);
@@ -373,6 +398,8 @@ public class InlineIndexImpl extends AbstractIndex implements InlineIndex {
                 replaced = prevRow0 != null;
             }
 
+            onOperationFinished(idxRow);
+
             return replaced;
 
         }
@@ -399,6 +426,8 @@ public class InlineIndexImpl extends AbstractIndex implements InlineIndex {
 
             segments[segment].removex(idxRow);
 
+            onOperationFinished(idxRow);
+
         }
         catch (Throwable t) {
             cctx.kernalContext().failure().process(new FailureContext(CRITICAL_ERROR, t));
@@ -424,6 +453,8 @@ public class InlineIndexImpl extends AbstractIndex implements InlineIndex {
             ThreadLocalRowHandlerHolder.rowHandler(rowHnd);
 
             segments[segment].putx(row);
+
+            onOperationFinished(row);
         }
         finally {
             lock.readLock().unlock();
@@ -431,6 +462,123 @@ public class InlineIndexImpl extends AbstractIndex implements InlineIndex {
         }
     }
 
+    /**
+     * Loads rows into the index sorted by the index keys. A segment that is empty is built bottom-up: the rows are
+     * appended to the rightmost leaf page without comparisons and split pages keep {@code fillFactor} of their items.
+     * Non-empty segments get the sorted rows through regular inserts. This method is for internal use only, the caller
+     * must guarantee that there are no concurrent updates of the index.
+     *
+     * @param rows Rows to load.
+     * @param fillFactor Fill factor of the pages of the segments built bottom-up.
+     * @param batchSize Count of rows inserted within a single checkpoint read lock.
+     * @throws IgniteCheckedException If failed.
+     */
+    public void bulkLoad(Collection<CacheDataRow> rows, float fillFactor, int batchSize) throws IgniteCheckedException {
+        if (destroyed.get() || rows.isEmpty())
+            return;
+
+        List<IndexRowImpl>[] segRows = new List[segments.length];
+
+        for (CacheDataRow row : rows) {
+            int segment = segmentForRow(row);
+
+            IndexRowImpl idxRow = new IndexRowImpl(rowHnd, row);
+
+            idxRow.prepareCache();
+
+            // Validate all keys before an actual put. User may specify wrong data types for an insert query.
+            for (int i = 0; i < def.indexKeyDefinitions().size(); ++i)
+                idxRow.key(i);
+
+            if (segRows[segment] == null)
+                segRows[segment] = new ArrayList<>();
+
+            segRows[segment].add(idxRow);
+        }
+
+        boolean seqAllowed = true;
+
+        // Inlined java objects are ordered by hash code in the tree, it doesn't match the order of full rows.
+        for (InlineIndexKeyType keyType : rowHnd.inlineIndexKeyTypes())
+            seqAllowed &= keyType.type() != IndexKeyType.JAVA_OBJECT;
+
+        IgniteCacheDatabaseSharedManager db = cctx.shared().database();
+
+        lock.readLock().lock();
+
+        try {
+            ThreadLocalRowHandlerHolder.rowHandler(rowHnd);
+
+            for (int segment = 0; segment < segments.length; segment++) {
+                List<IndexRowImpl> list = segRows[segment];
+
+                if (list == null)
+                    continue;
+
+                sort(list);
+
+                InlineIndexTree tree = segments[segment];
+
+                boolean seq = seqAllowed && tree.isEmpty();
+
+                if (seq)
+                    tree.enableSequentialWriteMode(fillFactor);
+
+                try {
+                    for (int from = 0; from < list.size(); from += batchSize) {
+                        db.checkpointReadLock();
+
+                        try {
+                            for (IndexRowImpl idxRow : list.subList(from, Math.min(from + batchSize, list.size())))
+                                tree.putx(idxRow);
+                        }
+                        finally {
+                            db.checkpointReadUnlock();
+                        }
+                    }
+                }
+                finally {
+                    if (seq)
+                        tree.disableSequentialWriteMode();
+                }
+            }
+        }
+        catch (Throwable t) {
+            cctx.kernalContext().failure().process(new FailureContext(CRITICAL_ERROR, t));
+
+            throw t;
+        }
+        finally {
+            lock.readLock().unlock();
+            ThreadLocalRowHandlerHolder.clearRowHandler();
+        }
+    }
+
+    /**
+     * Sorts rows in the order of the index.
+     *
+     * @param rows Rows to sort.
+     * @throws IgniteCheckedException If failed.
+     */
+    private void sort(List<IndexRowImpl> rows) throws IgniteCheckedException {
+        try {
+            rows.sort((r1, r2) -> {
+                try {
+                    return InlineIndexTree.compareFullRows(r1, r2, 0, rowHnd, def.rowComparator());
+                }
+                catch (IgniteCheckedException e) {
+                    throw new IgniteException(e);
+                }
+            });
+        }
+        catch (IgniteException e) {
+            if (e.getCause() instanceof IgniteCheckedException)
+                throw (IgniteCheckedException)e.getCause();
+
+            throw e;
+        }
+    }
+
     /** {@inheritDoc} */
     @Override public int inlineSize() {
         return segments[0].inlineSize();
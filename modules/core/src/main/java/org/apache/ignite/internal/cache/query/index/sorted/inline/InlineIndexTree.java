@@ -17,6 +17,8 @@
 
 package org.apache.ignite.internal.cache.query.index.sorted.inline;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.List;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteException;
@@ -37,6 +39,8 @@ import org.apache.ignite.internal.cache.query.index.sorted.SortedIndexDefinition
 import org.apache.ignite.internal.cache.query.index.sorted.ThreadLocalRowHandlerHolder;
 import org.apache.ignite.internal.cache.query.index.sorted.inline.io.AbstractInlineInnerIO;
 import org.apache.ignite.internal.cache.query.index.sorted.inline.io.AbstractInlineLeafIO;
+import org.apache.ignite.internal.cache.query.index.sorted.inline.io.InlineIO;
+import org.apache.ignite.internal.cache.query.index.sorted.inline.types.NullableInlineIndexKeyType;
 import org.apache.ignite.internal.metric.IoStatisticsHolder;
 import org.apache.ignite.internal.pagemem.PageIdAllocator;
 import org.apache.ignite.internal.pagemem.PageMemory;
@@ -47,6 +51,7 @@ import org.apache.ignite.internal.processors.cache.persistence.CacheDataRowAdapt
 import org.apache.ignite.internal.processors.cache.persistence.tree.BPlusTree;
 import org.apache.ignite.internal.processors.cache.persistence.tree.CorruptedTreeException;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.BPlusIO;
+import org.apache.ignite.internal.processors.cache.persistence.tree.io.BPlusInnerIO;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.BPlusMetaIO;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIoResolver;
@@ -55,6 +60,7 @@ import org.apache.ignite.internal.processors.cache.persistence.tree.util.PageHan
 import org.apache.ignite.internal.processors.cache.persistence.tree.util.PageHandlerWrapper;
 import org.apache.ignite.internal.processors.metric.MetricRegistryImpl;
 import org.apache.ignite.internal.processors.metric.impl.LongAdderMetric;
+import org.apache.ignite.internal.util.GridUnsafe;
 import org.apache.ignite.internal.util.typedef.F;
 import org.apache.ignite.internal.util.typedef.internal.CU;
 import org.apache.ignite.internal.util.typedef.internal.S;
@@ -83,8 +89,17 @@ public class InlineIndexTree extends BPlusTree<IndexRow, IndexRow> {
     /** Amount of bytes to store inlined index keys. */
     private final int inlineSize;
 
+    /** Limit of levels passed to reach a leaf key, guards against a cycle of reused pages. */
+    private static final int MAX_LEAF_KEY_DEPTH = 64;
+
+    /** Thread local buffer for optimistic copies of pages passed to reach a leaf key. */
+    private static final ThreadLocal<ByteBuffer> LEAF_KEY_BUF = new ThreadLocal<>();
+
+    /** Amount of bytes to store inlined separator keys in inner pages. */
+    private final int innerInlineSize;
+
     /** Recommends change inline size if needed. */
-    private final InlineRecommender recommender;
+    private final @Nullable InlineRecommender recommender;
 
     /** Whether tree is created from scratch or reused from underlying store. */
     private final boolean created;
@@ -126,7 +141,7 @@ public class InlineIndexTree extends BPlusTree<IndexRow, IndexRow> {
         @Nullable IndexRowCache idxRowCache,
         @Nullable IoStatisticsHolder stats,
         InlineIndexRowHandlerFactory rowHndFactory,
-        InlineRecommender recommender
+        @Nullable InlineRecommender recommender
     ) throws IgniteCheckedException {
         super(
             treeName,
@@ -162,7 +177,10 @@ public class InlineIndexTree extends BPlusTree<IndexRow, IndexRow> {
             MetaPageInfo metaInfo = metaInfo();
 
             inlineSize = metaInfo.inlineSize();
-            setIos(inlineSize);
+
+            innerInlineSize = metaInfo.innerInlineSize();
+
+            setIos(inlineSize, innerInlineSize);
 
             boolean inlineObjSupported = inlineObjectSupported(def, metaInfo, rowHndFactory);
 
@@ -187,22 +205,62 @@ public class InlineIndexTree extends BPlusTree<IndexRow, IndexRow> {
                 log
             );
 
-            setIos(inlineSize);
+            innerInlineSize = computeInnerInlineSize(rowHnd.inlineIndexKeyTypes(), inlineSize);
+
+            setIos(inlineSize, innerInlineSize);
         }
 
+        // Truncated separator keys are resolved against optimistic copies of leaf pages.
+        if (innerInlineSize < inlineSize)
+            pageMemory.enableOptimisticReads();
+
         initTree(initNew, inlineSize);
 
         this.recommender = recommender;
     }
 
     /** */
-    private void setIos(int inlineSize) {
+    private void setIos(int inlineSize, int innerInlineSize) {
         setIos(
-            AbstractInlineInnerIO.versions(inlineSize),
+            AbstractInlineInnerIO.versions(innerInlineSize),
             AbstractInlineLeafIO.versions(inlineSize)
         );
     }
 
+    /**
+     * Computes payload size of separator keys in inner pages of a new tree. The size is limited by
+     * {@link IgniteSystemProperties#IGNITE_MAX_INDEX_INNER_PAYLOAD_SIZE} and is rounded down to the boundary of
+     * a fixed length key, because a partially stored fixed length key can't be used for comparison. The first key
+     * is always kept, so the inner payload is never empty for an inlined index.
+     *
+     * @param keyTypes Index key types.
+     * @param inlineSize Leaf payload size.
+     * @return Inner payload size.
+     */
+    public static int computeInnerInlineSize(List<InlineIndexKeyType> keyTypes, int inlineSize) {
+        int propSize = IgniteSystemProperties.getInteger(IgniteSystemProperties.IGNITE_MAX_INDEX_INNER_PAYLOAD_SIZE, -1);
+
+        if (propSize < 0 || propSize >= inlineSize || F.isEmpty(keyTypes))
+            return inlineSize;
+
+        int size = 0;
+
+        for (int i = 0; i < keyTypes.size(); i++) {
+            int keySize = keyTypes.get(i).inlineSize();
+
+            // Prefix of a variable length key can be stored in any space that is left.
+            if (keySize < 0)
+                return Math.max(propSize, Math.min(inlineSize, size + NullableInlineIndexKeyType.VARTYPE_HEADER_SIZE + 1));
+
+            if (size + keySize > propSize)
+                return i == 0 ? Math.min(inlineSize, keySize) : size;
+
+            size += keySize;
+        }
+
+        return size;
+    }
+
     /**
      * Find whether tree supports inlining objects or not.
      *
@@ -268,6 +326,9 @@ public class InlineIndexTree extends BPlusTree<IndexRow, IndexRow> {
 
         int off = io.offset(idx);
 
+        // Inner pages may store truncated separator keys.
+        int ioInlineSize = ((InlineIO)io).inlineSize();
+
         List<IndexKeyDefinition> keyDefs = rowHnd.indexKeyDefinitions();
         List<InlineIndexKeyType> keyTypes = rowHnd.inlineIndexKeyTypes();
 
@@ -278,7 +339,7 @@ public class InlineIndexTree extends BPlusTree<IndexRow, IndexRow> {
                 if (row.key(keyIdx) == null)
                     return 0;
 
-                int maxSize = inlineSize - fieldOff;
+                int maxSize = ioInlineSize - fieldOff;
 
                 InlineIndexKeyType keyType = keyTypes.get(keyIdx);
 
@@ -301,7 +362,19 @@ public class InlineIndexTree extends BPlusTree<IndexRow, IndexRow> {
         }
 
         if (keyIdx < keyDefs.size()) {
-            recommender.recommend(row, inlineSize, pageSize());
+            if (ioInlineSize < inlineSize) {
+                Integer cmp = compareWithLeafKey((BPlusInnerIO<IndexRow>)io, pageAddr, idx, row);
+
+                if (cmp != null)
+                    return cmp;
+            }
+
+            if (recommender != null) {
+                InlineRecommender.onInlineMiss(row);
+
+                if (ioInlineSize == inlineSize)
+                    recommender.recommend(row, inlineSize, pageSize());
+            }
 
             if (currRow == null)
                 currRow = getRow(io, pageAddr, idx);
@@ -312,6 +385,85 @@ public class InlineIndexTree extends BPlusTree<IndexRow, IndexRow> {
         return 0;
     }
 
+    /**
+     * Compares the row with the complete inlined copy of a truncated separator key. The separator key is equal to
+     * the last key of the rightmost leaf of the left subtree, so the leaf is reached over optimistic copies of pages
+     * without taking page locks: a writer holds the leaf lock until the separator key is replaced.
+     *
+     * @param io Inner page IO.
+     * @param pageAddr Inner page address.
+     * @param idx Separator key index.
+     * @param row Row to compare with.
+     * @return Comparison result or {@code null} if the leaf key can't be read, the caller compares full rows then.
+     * @throws IgniteCheckedException If failed.
+     */
+    private @Nullable Integer compareWithLeafKey(BPlusInnerIO<IndexRow> io, long pageAddr, int idx, IndexRow row)
+        throws IgniteCheckedException {
+        long bufAddr = leafKeyBuffer(pageMem.pageSize());
+
+        long pageId = io.getLeft(pageAddr, idx);
+
+        for (int i = 0; i < MAX_LEAF_KEY_DEPTH; i++) {
+            long page = acquirePage(pageId);
+
+            try {
+                if (pageMem.optimisticCopy(grpId, pageId, page, bufAddr) == 0L || PageIO.getPageId(bufAddr) != pageId)
+                    return null;
+            }
+            finally {
+                releasePage(pageId, page);
+            }
+
+            BPlusIO<IndexRow> pageIo = ioForCopy(bufAddr);
+
+            int cnt = pageIo == null ? 0 : pageIo.getCount(bufAddr);
+
+            if (cnt <= 0)
+                return null;
+
+            if (pageIo.isLeaf())
+                return compare(pageIo, bufAddr, cnt - 1, row);
+
+            pageId = ((BPlusInnerIO<IndexRow>)pageIo).getRight(bufAddr, cnt - 1);
+        }
+
+        return null;
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @return IO of this tree for the page or {@code null} if the page doesn't belong to the tree anymore.
+     */
+    private @Nullable BPlusIO<IndexRow> ioForCopy(long pageAddr) {
+        int type = PageIO.getType(pageAddr);
+        int ver = PageIO.getVersion(pageAddr);
+
+        BPlusIO<IndexRow> leafIo = latestLeafIO();
+
+        if (leafIo.getType() == type && leafIo.getVersion() == ver)
+            return leafIo;
+
+        BPlusIO<IndexRow> innerIo = latestInnerIO();
+
+        return innerIo.getType() == type && innerIo.getVersion() == ver ? innerIo : null;
+    }
+
+    /**
+     * @param pageSize Page size.
+     * @return Address of the thread local buffer to copy pages to.
+     */
+    private static long leafKeyBuffer(int pageSize) {
+        ByteBuffer buf = LEAF_KEY_BUF.get();
+
+        if (buf == null || buf.capacity() < pageSize) {
+            buf = ByteBuffer.allocateDirect(pageSize).order(ByteOrder.nativeOrder());
+
+            LEAF_KEY_BUF.set(buf);
+        }
+
+        return GridUnsafe.bufferAddress(buf);
+    }
+
     /** */
     public static int compareFullRows(
         IndexRow currRow,
@@ -384,6 +536,13 @@ public class InlineIndexTree extends BPlusTree<IndexRow, IndexRow> {
         return inlineSize;
     }
 
+    /**
+     * @return Amount of bytes to store inlined separator keys in inner pages.
+     */
+    public int innerInlineSize() {
+        return innerInlineSize;
+    }
+
     /**
      * @param name Index name.
      * @param keyTypes Index key types.
@@ -477,6 +636,13 @@ public class InlineIndexTree extends BPlusTree<IndexRow, IndexRow> {
         return MetaPageInfo.read(metaPageId, grpId, pageMem);
     }
 
+    /** {@inheritDoc} */
+    @Override protected long metaPageFlags() {
+        int innerSize = innerInlineSize == inlineSize ? 0 : innerInlineSize;
+
+        return super.metaPageFlags() | BPlusMetaIO.innerInlineSizeFlags(innerSize);
+    }
+
     /**
      * Update root meta page if need (previous version not supported features flags
      * and created product version on root meta page).
@@ -586,6 +752,13 @@ public class InlineIndexTree extends BPlusTree<IndexRow, IndexRow> {
         return S.toString(InlineIndexTree.class, this, "super", super.toString());
     }
 
+    /**
+     * @return Inline size recommender of the index or {@code null} if the tree is not used by the index.
+     */
+    public @Nullable InlineRecommender recommender() {
+        return recommender;
+    }
+
     /**
      * @return Index row handler for this tree. Row handler for a tree can be set externally with the holder.
      */
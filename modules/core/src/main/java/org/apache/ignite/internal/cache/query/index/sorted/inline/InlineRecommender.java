@@ -26,14 +26,30 @@ import org.apache.ignite.internal.cache.query.index.sorted.IndexRow;
 import org.apache.ignite.internal.cache.query.index.sorted.SortedIndexDefinition;
 import org.apache.ignite.internal.processors.cache.GridCacheContext;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.AbstractDataPageIO;
+import org.apache.ignite.internal.processors.metric.MetricRegistryImpl;
+import org.apache.ignite.internal.processors.metric.impl.IntMetricImpl;
+import org.apache.ignite.internal.processors.metric.impl.LongAdderMetric;
 import org.apache.ignite.internal.util.typedef.internal.U;
+import org.jetbrains.annotations.Nullable;
 
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_THROTTLE_INLINE_SIZE_CALCULATION;
+import static org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndexImpl.INDEX_METRIC_PREFIX;
+import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.metricName;
 
 /**
- * Write to a log recommendation for inline size.
+ * Write to a log recommendation for inline size. Also counts index operations which compared their search rows with
+ * inlined keys only and operations which had to read indexed rows from data pages, and exposes them as index metrics.
  */
 public class InlineRecommender {
+    /** Name of the metric of operations resolved with inlined keys. */
+    public static final String INLINE_HITS = "InlineHits";
+
+    /** Name of the metric of operations that required to read indexed rows. */
+    public static final String INLINE_MISSES = "InlineMisses";
+
+    /** Name of the metric of the recommended inline size. */
+    public static final String RECOMMENDED_INLINE_SIZE = "RecommendedInlineSize";
+
     /** Default throttle frequency for an index row inline size calculation and logging index inline size recommendation. */
     public static final int DFLT_THROTTLE_INLINE_SIZE_CALCULATION = 1_000;
 
@@ -48,6 +64,9 @@ public class InlineRecommender {
         IgniteSystemProperties.getInteger(IGNITE_THROTTLE_INLINE_SIZE_CALCULATION,
             DFLT_THROTTLE_INLINE_SIZE_CALCULATION);
 
+    /** Search row of the current thread which comparison required to read an indexed row. */
+    private static final ThreadLocal<IndexRow> missedSearchRow = new ThreadLocal<>();
+
     /** Keep max calculated inline size for current index. */
     private final AtomicInteger maxCalculatedInlineSize = new AtomicInteger();
 
@@ -57,10 +76,75 @@ public class InlineRecommender {
     /** Index definition. */
     private final SortedIndexDefinition def;
 
+    /** Operations resolved with inlined keys. */
+    private final LongAdderMetric inlineHits;
+
+    /** Operations that required to read indexed rows. */
+    private final LongAdderMetric inlineMisses;
+
+    /** Recommended inline size, {@code 0} if current inline size is enough for observed rows. */
+    private final IntMetricImpl recommendedInlineSize;
+
     /** Constructor. */
     public InlineRecommender(GridCacheContext<?, ?> cctx, SortedIndexDefinition def) {
         log = cctx.kernalContext().indexProcessor().logger();
         this.def = def;
+
+        MetricRegistryImpl mreg = cctx.kernalContext().metric().registry(
+            metricName(INDEX_METRIC_PREFIX, def.idxName().fullName()));
+
+        inlineHits = mreg.longAdderMetric(INLINE_HITS,
+            "Count of index operations which compared their search rows with inlined keys only.");
+        inlineMisses = mreg.longAdderMetric(INLINE_MISSES,
+            "Count of index operations which had to read indexed rows from data pages to compare their search rows.");
+        recommendedInlineSize = mreg.intMetric(RECOMMENDED_INLINE_SIZE,
+            "Inline size required to fully inline indexed keys of observed rows, 0 if current size is enough.");
+    }
+
+    /**
+     * Callback on index row comparison that required to read the indexed row. It only marks the search row, so the
+     * operation is counted once when it finishes.
+     *
+     * @param searchRow Search row.
+     */
+    public static void onInlineMiss(IndexRow searchRow) {
+        missedSearchRow.set(searchRow);
+    }
+
+    /**
+     * Callback on finished index operation, counts it as a miss if any comparison of its search row required to read
+     * an indexed row and as a hit otherwise.
+     *
+     * @param searchRow Search row of the operation, {@code null} if the operation did not search for a row.
+     */
+    public void onOperationFinished(@Nullable IndexRow searchRow) {
+        if (searchRow == null)
+            return;
+
+        if (missedSearchRow.get() == searchRow) {
+            missedSearchRow.remove();
+
+            inlineMisses.increment();
+        }
+        else
+            inlineHits.increment();
+    }
+
+    /**
+     * @return Share of index operations that required to read indexed rows.
+     */
+    public double inlineMissRate() {
+        long misses = inlineMisses.value();
+        long total = misses + inlineHits.value();
+
+        return total == 0 ? 0 : (double)misses / total;
+    }
+
+    /**
+     * @return Recommended inline size, {@code 0} if current inline size is enough for observed rows.
+     */
+    public int recommendedInlineSize() {
+        return recommendedInlineSize.value();
     }
 
     /**
@@ -78,7 +162,7 @@ public class InlineRecommender {
         if (!inlineSizeCalculationCntr.compareAndSet(invokeCnt, invokeCnt + 1))
             return;
 
-        boolean throttle = invokeCnt + 1 % inlineSizeThrottleThreshold != 0;
+        boolean throttle = (invokeCnt + 1) % inlineSizeThrottleThreshold != 0;
 
         if (throttle)
             return;
@@ -119,6 +203,8 @@ public class InlineRecommender {
                     break;
             }
 
+            recommendedInlineSize.value(Math.min(newSize, maxRecommendedInlineSize));
+
             String cols = def.indexKeyDefinitions().keySet().stream()
                 .collect(Collectors.joining(", ", "(", ")"));
 
@@ -133,7 +219,8 @@ public class InlineRecommender {
                 ", idxCols=" + cols +
                 ", idxType=" + type +
                 ", curSize=" + currInlineSize +
-                ", recommendedInlineSize=" + newSize + "]";
+                ", recommendedInlineSize=" + newSize +
+                ", inlineMissRate=" + String.format("%.2f", inlineMissRate()) + "]";
 
             U.warn(log, warn);
         }
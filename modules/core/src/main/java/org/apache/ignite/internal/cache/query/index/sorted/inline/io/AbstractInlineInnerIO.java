@@ -19,11 +19,13 @@ package org.apache.ignite.internal.cache.query.index.sorted.inline.io;
 
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteException;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexKeyType;
 import org.apache.ignite.internal.cache.query.index.sorted.IndexRow;
 import org.apache.ignite.internal.cache.query.index.sorted.InlineIndexRowHandler;
 import org.apache.ignite.internal.cache.query.index.sorted.ThreadLocalRowHandlerHolder;
 import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndexKeyType;
 import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndexTree;
+import org.apache.ignite.internal.cache.query.index.sorted.keys.IndexKey;
 import org.apache.ignite.internal.pagemem.PageUtils;
 import org.apache.ignite.internal.processors.cache.persistence.tree.BPlusTree;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.BPlusIO;
@@ -117,15 +119,84 @@ public abstract class AbstractInlineInnerIO extends BPlusInnerIO<IndexRow> imple
 
         int srcOff = srcIo.offset(srcIdx);
 
-        byte[] payload = PageUtils.getBytes(srcPageAddr, srcOff, inlineSize);
-
         int dstOff = offset(dstIdx);
 
-        PageUtils.putBytes(dstPageAddr, dstOff, payload);
+        int srcInlineSize = ((InlineIO)srcIo).inlineSize();
+
+        if (srcInlineSize > inlineSize)
+            storeTruncated(dstPageAddr, dstOff, srcPageAddr, srcOff, srcInlineSize);
+        else {
+            byte[] payload = PageUtils.getBytes(srcPageAddr, srcOff, inlineSize);
+
+            PageUtils.putBytes(dstPageAddr, dstOff, payload);
+        }
 
         IORowHandler.store(dstPageAddr, dstOff + inlineSize, (InlineIO)srcIo, srcPageAddr, srcIdx);
     }
 
+    /**
+     * Copies inlined keys from a page with a bigger payload. Keys that fit are copied as is, the first key that
+     * doesn't fit is truncated to a prefix if it has variable length, all the following keys are dropped.
+     * Such a row is still comparable, because comparison falls back to the full row for truncated keys.
+     *
+     * @param dstPageAddr Destination page address.
+     * @param dstOff Destination offset.
+     * @param srcPageAddr Source page address.
+     * @param srcOff Source offset.
+     * @param srcInlineSize Payload size of the source item.
+     */
+    private void storeTruncated(long dstPageAddr, int dstOff, long srcPageAddr, int srcOff, int srcInlineSize) {
+        InlineIndexRowHandler rowHnd = ThreadLocalRowHandlerHolder.rowHandler();
+
+        int fieldOff = 0;
+
+        for (int i = 0; i < rowHnd.inlineIndexKeyTypes().size(); i++) {
+            InlineIndexKeyType keyType = rowHnd.inlineIndexKeyTypes().get(i);
+
+            int srcMaxSize = srcInlineSize - fieldOff;
+            int dstMaxSize = inlineSize - fieldOff;
+
+            if (dstMaxSize <= 0)
+                return;
+
+            if (keyType.isNull(srcPageAddr, srcOff + fieldOff, srcMaxSize) == null
+                || (keyType.keySize() > 0 && keyType.keySize() + 1 > srcMaxSize))
+                break;
+
+            int size = keyType.inlineSize(srcPageAddr, srcOff + fieldOff);
+
+            if (size <= dstMaxSize) {
+                PageUtils.putBytes(dstPageAddr, dstOff + fieldOff, PageUtils.getBytes(srcPageAddr, srcOff + fieldOff, size));
+
+                fieldOff += size;
+
+                continue;
+            }
+
+            // Only a complete value of variable length can be truncated to a shorter prefix.
+            if (keyType.keySize() < 0 && keyType.inlinedFullValue(srcPageAddr, srcOff + fieldOff, srcMaxSize)) {
+                try {
+                    IndexKey key = keyType.get(srcPageAddr, srcOff + fieldOff, srcMaxSize);
+
+                    if (key != null) {
+                        keyType.put(dstPageAddr, dstOff + fieldOff, key, dstMaxSize);
+
+                        return;
+                    }
+                }
+                catch (Exception e) {
+                    throw new IgniteException("Failed to store new index row.", e);
+                }
+            }
+
+            break;
+        }
+
+        // Mark the rest of the payload as not inlined.
+        if (fieldOff < inlineSize)
+            PageUtils.putByte(dstPageAddr, dstOff + fieldOff, (byte)IndexKeyType.UNKNOWN.code());
+    }
+
     /** {@inheritDoc} */
     @Override public long link(long pageAddr, int idx) {
         return PageUtils.getLong(pageAddr, offset(idx) + inlineSize);
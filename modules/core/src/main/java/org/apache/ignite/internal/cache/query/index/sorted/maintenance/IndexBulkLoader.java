@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.cache.query.index.sorted.maintenance;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndexImpl;
+import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
+import org.apache.ignite.internal.processors.query.schema.SchemaIndexCacheVisitorClosure;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.thread.IgniteThread;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_INDEX_BULK_LOAD_FILL_FACTOR;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_INDEX_BULK_LOAD_RUN_SIZE;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_INDEX_REBUILD_BATCH_SIZE;
+import static org.apache.ignite.IgniteSystemProperties.getFloat;
+import static org.apache.ignite.IgniteSystemProperties.getInteger;
+import static org.apache.ignite.internal.processors.query.schema.SchemaIndexCachePartitionWorker.DFLT_IGNITE_INDEX_REBUILD_BATCH_SIZE;
+
+/**
+ * Collects cache rows visited during an exclusive index rebuild into sorted runs and loads them with
+ * {@link InlineIndexImpl#bulkLoad}. The first run of every index segment builds the tree bottom-up, the next runs
+ * are merged into it with ordered inserts.
+ * <p>
+ * The visitor calls {@link #apply} under the checkpoint read lock and the entry lock, so full runs are only queued
+ * there. They are loaded by a dedicated loader thread, which takes the checkpoint read lock per batch of rows.
+ * Rows are kept on heap until they are loaded.
+ */
+public class IndexBulkLoader implements SchemaIndexCacheVisitorClosure {
+    /** Default maximum count of rows in a run. */
+    public static final int DFLT_INDEX_BULK_LOAD_RUN_SIZE = 100_000;
+
+    /** Default fill factor of the index pages. */
+    public static final float DFLT_INDEX_BULK_LOAD_FILL_FACTOR = 0.9f;
+
+    /** Marker of the last run. */
+    private static final List<CacheDataRow> LAST_RUN = Collections.emptyList();
+
+    /** Index to load. */
+    private final InlineIndexImpl idx;
+
+    /** Maximum count of rows in a run. */
+    private final int runSize = Math.max(1, getInteger(IGNITE_INDEX_BULK_LOAD_RUN_SIZE, DFLT_INDEX_BULK_LOAD_RUN_SIZE));
+
+    /** Fill factor of the index pages. */
+    private final float fillFactor = getFloat(IGNITE_INDEX_BULK_LOAD_FILL_FACTOR, DFLT_INDEX_BULK_LOAD_FILL_FACTOR);
+
+    /** Count of rows inserted within a single checkpoint read lock. */
+    private final int batchSize = getInteger(IGNITE_INDEX_REBUILD_BATCH_SIZE, DFLT_IGNITE_INDEX_REBUILD_BATCH_SIZE);
+
+    /** Current run. Guarded by {@code this}. */
+    private List<CacheDataRow> run = new ArrayList<>();
+
+    /** Full runs waiting to be loaded. */
+    private final BlockingQueue<List<CacheDataRow>> runs = new LinkedBlockingQueue<>();
+
+    /** Thread loading the runs. */
+    private final IgniteThread loader;
+
+    /** Error of the loader thread. */
+    private volatile Throwable err;
+
+    /**
+     * @param igniteInstanceName Ignite instance name.
+     * @param idx Index to load.
+     */
+    public IndexBulkLoader(String igniteInstanceName, InlineIndexImpl idx) {
+        this.idx = idx;
+
+        loader = new IgniteThread(igniteInstanceName, "index-bulk-loader-" + idx.name(), this::loadRuns);
+
+        loader.start();
+    }
+
+    /** {@inheritDoc} */
+    @Override public void apply(CacheDataRow row) throws IgniteCheckedException {
+        checkError();
+
+        if (!idx.canHandle(row))
+            return;
+
+        List<CacheDataRow> full = null;
+
+        synchronized (this) {
+            run.add(row);
+
+            if (run.size() >= runSize) {
+                full = run;
+
+                run = new ArrayList<>();
+            }
+        }
+
+        if (full != null)
+            runs.add(full);
+    }
+
+    /**
+     * Loads the rows collected so far and waits for the loader thread to finish.
+     *
+     * @throws IgniteCheckedException If failed.
+     */
+    public void finish() throws IgniteCheckedException {
+        List<CacheDataRow> rest;
+
+        synchronized (this) {
+            rest = run;
+
+            run = new ArrayList<>();
+        }
+
+        if (!rest.isEmpty())
+            runs.add(rest);
+
+        runs.add(LAST_RUN);
+
+        U.join(loader);
+
+        checkError();
+    }
+
+    /**
+     * Drops the queued rows and waits for the loader thread to finish the run it is loading.
+     *
+     * @throws IgniteCheckedException If interrupted.
+     */
+    public void cancel() throws IgniteCheckedException {
+        runs.clear();
+
+        runs.add(LAST_RUN);
+
+        U.join(loader);
+    }
+
+    /** Loads queued runs one by one until the last run marker. */
+    private void loadRuns() {
+        try {
+            for (List<CacheDataRow> rows = runs.take(); rows != LAST_RUN; rows = runs.take())
+                idx.bulkLoad(rows, fillFactor, batchSize);
+        }
+        catch (Throwable t) {
+            err = t;
+
+            runs.clear();
+        }
+    }
+
+    /**
+     * @throws IgniteCheckedException If the loader thread failed.
+     */
+    private void checkError() throws IgniteCheckedException {
+        Throwable err0 = err;
+
+        if (err0 != null)
+            throw new IgniteCheckedException("Failed to load rows into index: " + idx.name(), err0);
+    }
+}
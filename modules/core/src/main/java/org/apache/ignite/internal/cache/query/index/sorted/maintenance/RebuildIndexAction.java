@@ -168,18 +168,45 @@ public class RebuildIndexAction implements MaintenanceAction<Boolean> {
 
         IndexRebuildCancelToken token = new IndexRebuildCancelToken();
 
+        IndexProcessor idxProc = ctx.indexProcessor();
+
+        assert oldIdxDesc.type() == QueryIndexType.SORTED : oldIdxDesc.type();
+
+        TableDescriptor tblDesc = oldIdxDesc.table();
+        IndexDefinition definition = oldIdxDesc.index().unwrap(InlineIndexImpl.class).indexDefinition();
+
         SchemaIndexCacheVisitorImpl visitor = new SchemaIndexCacheVisitorImpl(cctx, token, createIdxFut) {
             /** {@inheritDoc} */
             @Override public void visit(SchemaIndexCacheVisitorClosure clo) {
                 // Rebuild index after it is created.
                 storage.onStartRebuildIndexes(cctx, false);
 
+                IndexBulkLoader ldr = null;
+
                 try {
-                    super.visit(clo);
+                    // Nothing else updates the index in the maintenance mode, so it is built from sorted rows.
+                    Index idx = idxProc.index(definition.idxName());
+
+                    if (idx instanceof InlineIndexImpl)
+                        ldr = new IndexBulkLoader(ctx.igniteInstanceName(), (InlineIndexImpl)idx);
+
+                    super.visit(ldr != null ? ldr : clo);
 
                     buildIdxFut.get();
+
+                    if (ldr != null)
+                        ldr.finish();
                 }
                 catch (Exception e) {
+                    if (ldr != null) {
+                        try {
+                            ldr.cancel();
+                        }
+                        catch (IgniteCheckedException e0) {
+                            e.addSuppressed(e0);
+                        }
+                    }
+
                     throw new IgniteException(e);
                 }
                 finally {
@@ -188,13 +215,6 @@ public class RebuildIndexAction implements MaintenanceAction<Boolean> {
             }
         };
 
-        IndexProcessor idxProc = ctx.indexProcessor();
-
-        assert oldIdxDesc.type() == QueryIndexType.SORTED : oldIdxDesc.type();
-
-        TableDescriptor tblDesc = oldIdxDesc.table();
-        IndexDefinition definition = oldIdxDesc.index().unwrap(InlineIndexImpl.class).indexDefinition();
-
         Index newIdx = idxProc.createIndexDynamically(tblDesc.cacheInfo().cacheContext(),
             InlineIndexFactory.INSTANCE, definition, visitor);
 
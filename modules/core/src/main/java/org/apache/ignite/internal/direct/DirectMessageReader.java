@@ -28,6 +28,7 @@ import org.apache.ignite.internal.direct.state.DirectMessageState;
 import org.apache.ignite.internal.direct.state.DirectMessageStateItem;
 import org.apache.ignite.internal.direct.stream.DirectByteBufferStream;
 import org.apache.ignite.internal.managers.communication.CompressedMessage;
+import org.apache.ignite.internal.managers.communication.CompressionListener;
 import org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion;
 import org.apache.ignite.internal.processors.cache.CacheObject;
 import org.apache.ignite.internal.processors.cache.KeyCacheObject;
@@ -79,6 +80,9 @@ public class DirectMessageReader implements MessageReader {
     /** Whether last field was fully read. */
     private boolean lastRead;
 
+    /** Compression listener. */
+    private CompressionListener cmprLsnr;
+
     /**
      * @param msgFactory Message factory.
      * @param cacheObjProc Cache object processor.
@@ -94,6 +98,15 @@ public class DirectMessageReader implements MessageReader {
         });
     }
 
+    /**
+     * Sets listener notified of every compressed field read by this reader.
+     *
+     * @param cmprLsnr Compression listener.
+     */
+    public void compressionListener(@Nullable CompressionListener cmprLsnr) {
+        this.cmprLsnr = cmprLsnr;
+    }
+
     /** {@inheritDoc} */
     @Override public void setBuffer(ByteBuffer buf) {
         this.buf = buf;
@@ -211,6 +224,17 @@ public class DirectMessageReader implements MessageReader {
         return arr;
     }
 
+    /** {@inheritDoc} */
+    @Nullable @Override public ByteBuffer readByteBuffer() {
+        DirectByteBufferStream stream = curStream;
+
+        byte[] arr = stream.readByteArray();
+
+        lastRead = stream.lastFinished();
+
+        return arr != null ? ByteBuffer.wrap(arr) : null;
+    }
+
     /** {@inheritDoc} */
     @Nullable @Override public short[] readShortArray() {
         DirectByteBufferStream stream = curStream;
@@ -530,7 +554,19 @@ public class DirectMessageReader implements MessageReader {
         else
             tmpReader.reset();
 
-        tmpReader.setBuffer(ByteBuffer.wrap(msg0.uncompressed()));
+        CompressionListener cmprLsnr0 = cmprLsnr;
+
+        if (cmprLsnr0 != null) {
+            int compressedSize = msg0.compressedSize();
+
+            long start = System.nanoTime();
+
+            tmpReader.setBuffer(ByteBuffer.wrap(msg0.uncompressed()));
+
+            cmprLsnr0.onDecompressed(msg0.dataSize(), compressedSize, System.nanoTime() - start);
+        }
+        else
+            tmpReader.setBuffer(ByteBuffer.wrap(msg0.uncompressed()));
 
         T res;
 
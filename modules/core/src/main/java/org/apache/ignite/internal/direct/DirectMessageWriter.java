@@ -27,6 +27,7 @@ import org.apache.ignite.internal.direct.state.DirectMessageState;
 import org.apache.ignite.internal.direct.state.DirectMessageStateItem;
 import org.apache.ignite.internal.direct.stream.DirectByteBufferStream;
 import org.apache.ignite.internal.managers.communication.CompressedMessage;
+import org.apache.ignite.internal.managers.communication.CompressionListener;
 import org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion;
 import org.apache.ignite.internal.processors.cache.CacheObject;
 import org.apache.ignite.internal.processors.cache.KeyCacheObject;
@@ -54,6 +55,12 @@ public class DirectMessageWriter implements MessageWriter {
     /** Temporary buffer capacity.  */
     private static final int TMP_BUF_CAPACITY = 10 * 1024;
 
+    /**
+     * Minimum size of a direct buffer handed off to the caller when zero copy is enabled. Smaller buffers are
+     * cheaper to copy than to transmit with a separate gathering write.
+     */
+    public static final int ZERO_COPY_THRESHOLD = 64 * 1024;
+
     /** State. */
     @GridToStringInclude
     private final DirectMessageState<StateItem> state;
@@ -79,6 +86,15 @@ public class DirectMessageWriter implements MessageWriter {
     /** Reusable scratch buffer for compressed payload serialization. Retained at the largest size seen so far. */
     private ByteBuffer tmpBuf;
 
+    /** Compression listener. */
+    private CompressionListener cmprLsnr;
+
+    /** Whether large direct buffers are handed off to the caller instead of being copied. */
+    private boolean zeroCopy;
+
+    /** Region handed off by the last write call and not yet polled. */
+    private ByteBuffer zeroCopyRegion;
+
     /** @param msgFactory Message factory. */
     public DirectMessageWriter(final MessageFactory msgFactory) {
         this(msgFactory, DFLT_NETWORK_COMPRESSION);
@@ -99,6 +115,15 @@ public class DirectMessageWriter implements MessageWriter {
         });
     }
 
+    /**
+     * Sets listener notified of every compressed field written by this writer.
+     *
+     * @param cmprLsnr Compression listener.
+     */
+    public void compressionListener(@Nullable CompressionListener cmprLsnr) {
+        this.cmprLsnr = cmprLsnr;
+    }
+
     /** {@inheritDoc} */
     @Override public void setBuffer(ByteBuffer buf) {
         this.buf = buf;
@@ -119,6 +144,8 @@ public class DirectMessageWriter implements MessageWriter {
 
     /** {@inheritDoc} */
     @Override public boolean writeHeader(short type) {
+        state.item().msgType = type;
+
         DirectByteBufferStream stream = curStream;
 
         stream.writeShort(type);
@@ -216,6 +243,32 @@ public class DirectMessageWriter implements MessageWriter {
         return stream.lastFinished();
     }
 
+    /** {@inheritDoc} */
+    @Override public boolean writeByteBuffer(@Nullable ByteBuffer val) {
+        DirectByteBufferStream stream = curStream;
+
+        ByteBuffer region = stream.writeByteBuffer(val, zeroCopy ? ZERO_COPY_THRESHOLD : Integer.MAX_VALUE);
+
+        if (region != null)
+            zeroCopyRegion = region;
+
+        return stream.lastFinished();
+    }
+
+    /** {@inheritDoc} */
+    @Override public void zeroCopy(boolean enabled) {
+        zeroCopy = enabled;
+    }
+
+    /** {@inheritDoc} */
+    @Nullable @Override public ByteBuffer pollZeroCopyRegion() {
+        ByteBuffer region = zeroCopyRegion;
+
+        zeroCopyRegion = null;
+
+        return region;
+    }
+
     /** {@inheritDoc} */
     @Override public boolean writeShortArray(@Nullable short[] val) {
         DirectByteBufferStream stream = curStream;
@@ -532,7 +585,21 @@ public class DirectMessageWriter implements MessageWriter {
 
             tmpBuf.flip();
 
-            stream.compressedMessage(new CompressedMessage(tmpBuf, compressionLvl));
+            CompressionListener cmprLsnr0 = cmprLsnr;
+
+            if (cmprLsnr0 != null) {
+                int rawSize = tmpBuf.remaining();
+
+                long start = System.nanoTime();
+
+                CompressedMessage msg = new CompressedMessage(tmpBuf, compressionLvl);
+
+                cmprLsnr0.onCompressed(state.item().msgType, rawSize, msg.compressedSize(), System.nanoTime() - start);
+
+                stream.compressedMessage(msg);
+            }
+            else
+                stream.compressedMessage(new CompressedMessage(tmpBuf, compressionLvl));
             stream.serializeFinished(true);
         }
 
@@ -556,6 +623,9 @@ public class DirectMessageWriter implements MessageWriter {
         /** */
         private boolean hdrWritten;
 
+        /** Direct type of the message written at this depth. */
+        private short msgType;
+
         /** */
         public StateItem(MessageFactory msgFactory) {
             stream = new DirectByteBufferStream(msgFactory);
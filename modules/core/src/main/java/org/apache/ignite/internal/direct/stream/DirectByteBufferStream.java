@@ -356,6 +356,9 @@ public class DirectByteBufferStream {
     /** */
     private boolean serializeFinished;
 
+    /** Buffer handed off to the caller by {@link #writeByteBuffer(ByteBuffer, int)} and not yet completed. */
+    private ByteBuffer handedOff;
+
     /**
      * Constructror for stream used for writing messages.
      *
@@ -625,6 +628,70 @@ public class DirectByteBufferStream {
             writeInt(-1);
     }
 
+    /**
+     * Writes buffer contents between its position and limit in the format of {@link #writeByteArray(byte[])}.
+     * A direct buffer of at least {@code handOffThreshold} bytes is not copied: it is returned to the caller right
+     * after the length header, and the caller must transmit it after the bytes already written to the stream buffer.
+     * The next call with the same value completes the write. The value must not change until it is transmitted, see
+     * {@link MessageWriter#writeByteBuffer(ByteBuffer)}.
+     *
+     * @param val Value.
+     * @param handOffThreshold Minimum size of a direct buffer to hand off.
+     * @return Duplicate of {@code val} handed off to the caller, or {@code null} if the value is copied.
+     */
+    @Nullable public ByteBuffer writeByteBuffer(@Nullable ByteBuffer val, int handOffThreshold) {
+        if (val == null) {
+            writeInt(-1);
+
+            return null;
+        }
+
+        if (handedOff != null) {
+            // The caller has transmitted the region.
+            handedOff = null;
+            arrOff = -1;
+            lastFinished = true;
+
+            return null;
+        }
+
+        int len = val.remaining();
+
+        if (writeArrayLength(len))
+            return null;
+
+        if (arrOff == 0 && len >= handOffThreshold && val.isDirect()) {
+            handedOff = val.duplicate();
+
+            lastFinished = false;
+
+            return handedOff;
+        }
+
+        int toWrite = len - arrOff;
+        int cnt = Math.min(toWrite, buf.remaining());
+
+        if (cnt > 0) {
+            ByteBuffer src = val.duplicate();
+
+            src.position(val.position() + arrOff);
+            src.limit(src.position() + cnt);
+
+            buf.put(src);
+        }
+
+        if (cnt == toWrite) {
+            arrOff = -1;
+            lastFinished = true;
+        }
+        else {
+            arrOff += cnt;
+            lastFinished = false;
+        }
+
+        return null;
+    }
+
     /**
      * @param val Value.
      */
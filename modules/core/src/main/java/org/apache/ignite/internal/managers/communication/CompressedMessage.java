@@ -21,6 +21,8 @@ import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.zip.DataFormatException;
 import java.util.zip.Deflater;
 import java.util.zip.Inflater;
@@ -49,6 +51,18 @@ public class CompressedMessage implements NonMarshallableMessage {
      */
     private static final int MAX_DEFLATE_BLOCK_OVERHEAD = 64;
 
+    /** Maximum count of deflaters and inflaters kept for reuse. */
+    private static final int POOL_SIZE = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Deflaters kept for reuse, so the native zlib state is not allocated for every compressed field. A deflater that
+     * does not fit the pool is ended at once.
+     */
+    private static final BlockingQueue<Deflater> DEFLATERS = new ArrayBlockingQueue<>(POOL_SIZE);
+
+    /** Inflaters kept for reuse. See {@link #DEFLATERS}. */
+    private static final BlockingQueue<Inflater> INFLATERS = new ArrayBlockingQueue<>(POOL_SIZE);
+
     /** Compressed data chunks: filled by {@link #compress(ByteBuffer)} on send, by the serializer on receive. */
     List<byte[]> chunks;
 
@@ -96,6 +110,19 @@ public class CompressedMessage implements NonMarshallableMessage {
         return uncompress();
     }
 
+    /** @return Total size of the compressed chunks. */
+    public int compressedSize() {
+        if (chunks == null)
+            return 0;
+
+        int size = 0;
+
+        for (int i = 0; i < chunks.size(); i++)
+            size += chunks.get(i).length;
+
+        return size;
+    }
+
     /** @return Next chunk of data or null. */
     public byte[] nextChunk() {
         return chunkIdx < chunks.size() ? chunks.get(chunkIdx++) : null;
@@ -103,7 +130,12 @@ public class CompressedMessage implements NonMarshallableMessage {
 
     /** @param buf Buffer. */
     private void compress(ByteBuffer buf) {
-        Deflater deflater = new Deflater(compressionLvl, true);
+        Deflater deflater = DEFLATERS.poll();
+
+        if (deflater == null)
+            deflater = new Deflater(compressionLvl, true);
+        else
+            deflater.setLevel(compressionLvl);
 
         try {
             deflater.setInput(buf);
@@ -131,7 +163,11 @@ public class CompressedMessage implements NonMarshallableMessage {
                 chunks.add(len == chunk0.length ? chunk0 : Arrays.copyOf(chunk0, len));
         }
         finally {
-            deflater.end();
+            // Drops the reference to the input buffer and makes the deflater ready for the next message.
+            deflater.reset();
+
+            if (!DEFLATERS.offer(deflater))
+                deflater.end();
         }
     }
 
@@ -153,7 +189,10 @@ public class CompressedMessage implements NonMarshallableMessage {
 
         byte[] data = new byte[dataSize];
 
-        Inflater inflater = new Inflater(true);
+        Inflater inflater = INFLATERS.poll();
+
+        if (inflater == null)
+            inflater = new Inflater(true);
 
         try {
             int off = 0;
@@ -188,7 +227,10 @@ public class CompressedMessage implements NonMarshallableMessage {
             throw new IgniteException(e);
         }
         finally {
-            inflater.end();
+            inflater.reset();
+
+            if (!INFLATERS.offer(inflater))
+                inflater.end();
         }
 
         chunks = null;
@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.managers.communication;
+
+/**
+ * Listener notified when fields annotated with {@code @Compress} are compressed or decompressed by the direct
+ * message writer and reader.
+ */
+public interface CompressionListener {
+    /**
+     * @param msgType Direct type of the message that owns the compressed field.
+     * @param rawSize Size of the serialized field before compression.
+     * @param compressedSize Size of the compressed field.
+     * @param nanos Time spent on compression in nanoseconds.
+     */
+    public void onCompressed(short msgType, int rawSize, int compressedSize, long nanos);
+
+    /**
+     * @param rawSize Size of the decompressed field.
+     * @param compressedSize Size of the compressed field.
+     * @param nanos Time spent on decompression in nanoseconds.
+     */
+    public void onDecompressed(int rawSize, int compressedSize, long nanos);
+}
@@ -85,6 +85,40 @@ public interface PageSupport {
      */
     public void readUnlock(int grpId, long pageId, long page);
 
+    /**
+     * Copies the page contents to the given buffer without taking the page lock. The copy is consistent only
+     * if a non-zero stamp is returned. The stamp may be passed to {@link #validateOptimisticRead(int, long, long, long)}
+     * later to check that the page was not modified since the copy was made.
+     *
+     * @param grpId Cache group ID.
+     * @param pageId Page ID.
+     * @param page Page pointer.
+     * @param dstAddr Address of a buffer of at least page size bytes.
+     * @return Stamp of the copy or {@code 0L} if a consistent copy could not be made.
+     */
+    public default long optimisticCopy(int grpId, long pageId, long page, long dstAddr) {
+        return 0L;
+    }
+
+    /**
+     * @param grpId Cache group ID.
+     * @param pageId Page ID.
+     * @param page Page pointer.
+     * @param stamp Stamp returned by {@link #optimisticCopy(int, long, long, long)}.
+     * @return {@code True} if the page was not modified since the stamp was obtained.
+     */
+    public default boolean validateOptimisticRead(int grpId, long pageId, long page, long stamp) {
+        return false;
+    }
+
+    /**
+     * Starts maintaining page write versions, so that {@link #optimisticCopy(int, long, long, long)} may succeed.
+     * May be called at any time, versions are maintained until the page memory is stopped.
+     */
+    public default void enableOptimisticReads() {
+        // No-op.
+    }
+
     /**
      *
      * @param grpId Cache group ID.
@@ -47,6 +47,7 @@ import org.apache.ignite.internal.util.offheap.GridOffHeapOutOfMemoryException;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.jetbrains.annotations.TestOnly;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_BPLUS_TREE_OPTIMISTIC_READS;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_OFFHEAP_LOCK_CONCURRENCY_LEVEL;
 import static org.apache.ignite.internal.util.GridUnsafe.wrapPointer;
 
@@ -232,7 +233,8 @@ public class PageMemoryNoStoreImpl implements PageMemory {
 
         totalPages = (int)(dataRegionCfg.getMaxSize() / sysPageSize);
 
-        rwLock = new OffheapReadWriteLock(lockConcLvl);
+        rwLock = new OffheapReadWriteLock(lockConcLvl,
+            IgniteSystemProperties.getBoolean(IGNITE_BPLUS_TREE_OPTIMISTIC_READS));
     }
 
     /** {@inheritDoc} */
@@ -552,6 +554,34 @@ public class PageMemoryNoStoreImpl implements PageMemory {
         rwLock.readUnlock(page + LOCK_OFFSET);
     }
 
+    /** {@inheritDoc} */
+    @Override public long optimisticCopy(int cacheId, long pageId, long page, long dstAddr) {
+        assert started;
+
+        int tag = PageIdUtils.tag(pageId);
+
+        long stamp = rwLock.tryOptimisticRead(page + LOCK_OFFSET, tag);
+
+        if (stamp == OffheapReadWriteLock.INVALID_STAMP)
+            return 0L;
+
+        GridUnsafe.copyMemory(page + PAGE_OVERHEAD, dstAddr, pageSize());
+
+        return rwLock.validate(page + LOCK_OFFSET, tag, stamp) ? stamp : 0L;
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean validateOptimisticRead(int cacheId, long pageId, long page, long stamp) {
+        assert started;
+
+        return rwLock.validate(page + LOCK_OFFSET, PageIdUtils.tag(pageId), stamp);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void enableOptimisticReads() {
+        rwLock.enableOptimisticReads();
+    }
+
     /** {@inheritDoc} */
     @Override public long writeLock(int cacheId, long pageId, long page) {
         assert started;
@@ -308,7 +308,10 @@ public abstract class WALRecord {
         DATA_PAGE_FRAGMENTED_UPDATE_RECORD(81, PHYSICAL),
 
         /** Reserved for further improvements. */
-        RESERVED_IDX2(82);
+        RESERVED_IDX2(82),
+
+        /** Modified ranges of a page relatively to its image at the last checkpoint. */
+        PAGE_DIFF_RECORD(83, PHYSICAL);
 
         /** Index for serialization. Should be consistent throughout all versions. */
         private final int idx;
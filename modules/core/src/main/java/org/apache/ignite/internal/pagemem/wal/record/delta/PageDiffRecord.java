@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagemem.wal.record.delta;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.pagemem.FullPageId;
+import org.apache.ignite.internal.pagemem.PageMemory;
+import org.apache.ignite.internal.processors.cache.persistence.wal.crc.FastCrc;
+import org.apache.ignite.internal.util.GridUnsafe;
+import org.apache.ignite.internal.util.tostring.GridToStringExclude;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Physical record which is logged instead of a full page snapshot on the first modification of a page after
+ * a checkpoint. Contains modified byte ranges of the page relatively to its image at the moment of the checkpoint
+ * and the checksum of that image.
+ * <p>
+ * The diff is applied only if the page has the expected base image. Otherwise the page already contains the image
+ * written by a later checkpoint, and the rest of the page records up to this checkpoint should be skipped.
+ */
+public class PageDiffRecord extends PageDeltaRecord {
+    /** Size of range header: offset and length. */
+    private static final int RANGE_HDR_SIZE = 4;
+
+    /** Checksum of the page image the diff is calculated against. */
+    private final int baseCrc;
+
+    /** Modified ranges of the page: offset, length and new content of each range. */
+    @GridToStringExclude
+    private final byte[] diff;
+
+    /**
+     * @param grpId Cache group ID.
+     * @param pageId Page ID.
+     * @param baseCrc Checksum of the page image the diff is calculated against.
+     * @param diff Encoded modified ranges of the page.
+     */
+    public PageDiffRecord(int grpId, long pageId, int baseCrc, byte[] diff) {
+        super(grpId, pageId);
+
+        this.baseCrc = baseCrc;
+        this.diff = diff;
+    }
+
+    /**
+     * Calculates the diff of a page.
+     *
+     * @param fullId Full page ID.
+     * @param base Page image before modification.
+     * @param pageAddr Page address.
+     * @param pageSize Page size.
+     * @return Diff record or {@code null} if the diff is not much smaller than the page itself.
+     */
+    public static @Nullable PageDiffRecord create(FullPageId fullId, byte[] base, long pageAddr, int pageSize) {
+        assert pageSize <= 0xFFFF : pageSize;
+
+        byte[] buf = new byte[pageSize / 2];
+
+        int pos = 0;
+        int off = 0;
+
+        while (off < pageSize) {
+            if (equal(base, pageAddr, off, pageSize)) {
+                off += step(off, pageSize);
+
+                continue;
+            }
+
+            int start = off;
+
+            do
+                off += step(off, pageSize);
+            while (off < pageSize && !equal(base, pageAddr, off, pageSize));
+
+            int len = off - start;
+
+            if (pos + RANGE_HDR_SIZE + len > buf.length)
+                return null;
+
+            putShort(buf, pos, start);
+            putShort(buf, pos + 2, len);
+
+            GridUnsafe.copyOffheapHeap(pageAddr + start, buf, GridUnsafe.BYTE_ARR_OFF + pos + RANGE_HDR_SIZE, len);
+
+            pos += RANGE_HDR_SIZE + len;
+        }
+
+        int crc = FastCrc.calcCrc(ByteBuffer.wrap(base, 0, pageSize), pageSize);
+
+        return new PageDiffRecord(fullId.groupId(), fullId.pageId(), crc, Arrays.copyOf(buf, pos));
+    }
+
+    /**
+     * @param pageAddr Page address.
+     * @param pageSize Page size.
+     * @return {@code True} if the page has the image this diff is calculated against.
+     */
+    public boolean baseMatches(long pageAddr, int pageSize) {
+        return FastCrc.calcCrc(GridUnsafe.wrapPointer(pageAddr, pageSize), pageSize) == baseCrc;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void applyDelta(PageMemory pageMem, long pageAddr) throws IgniteCheckedException {
+        if (!baseMatches(pageAddr, pageMem.pageSize())) {
+            throw new IgniteCheckedException("Page image doesn't match the base of the page diff [grpId=" +
+                groupId() + ", pageId=" + U.hexLong(pageId()) + ']');
+        }
+
+        for (int pos = 0; pos < diff.length; ) {
+            int off = getShort(diff, pos);
+            int len = getShort(diff, pos + 2);
+
+            GridUnsafe.copyHeapOffheap(diff, GridUnsafe.BYTE_ARR_OFF + pos + RANGE_HDR_SIZE, pageAddr + off, len);
+
+            pos += RANGE_HDR_SIZE + len;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public RecordType type() {
+        return RecordType.PAGE_DIFF_RECORD;
+    }
+
+    /**
+     * @return Checksum of the page image the diff is calculated against.
+     */
+    public int baseCrc() {
+        return baseCrc;
+    }
+
+    /**
+     * @return Encoded modified ranges of the page.
+     */
+    public byte[] diff() {
+        return diff;
+    }
+
+    /**
+     * @param base Page image before modification.
+     * @param pageAddr Page address.
+     * @param off Offset.
+     * @param pageSize Page size.
+     * @return {@code True} if the word or the byte at the given offset is not modified.
+     */
+    private static boolean equal(byte[] base, long pageAddr, int off, int pageSize) {
+        if (off + 8 <= pageSize)
+            return GridUnsafe.getLong(base, GridUnsafe.BYTE_ARR_OFF + off) == GridUnsafe.getLong(pageAddr + off);
+
+        return base[off] == GridUnsafe.getByte(pageAddr + off);
+    }
+
+    /**
+     * @param off Offset.
+     * @param pageSize Page size.
+     * @return Number of bytes compared at the given offset.
+     */
+    private static int step(int off, int pageSize) {
+        return off + 8 <= pageSize ? 8 : 1;
+    }
+
+    /**
+     * @param arr Array.
+     * @param pos Position.
+     * @param val Unsigned short value.
+     */
+    private static void putShort(byte[] arr, int pos, int val) {
+        arr[pos] = (byte)(val >>> 8);
+        arr[pos + 1] = (byte)val;
+    }
+
+    /**
+     * @param arr Array.
+     * @param pos Position.
+     * @return Unsigned short value.
+     */
+    private static int getShort(byte[] arr, int pos) {
+        return ((arr[pos] & 0xFF) << 8) | (arr[pos + 1] & 0xFF);
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(PageDiffRecord.class, this,
+            "diffSize", diff.length,
+            "super", super.toString());
+    }
+}
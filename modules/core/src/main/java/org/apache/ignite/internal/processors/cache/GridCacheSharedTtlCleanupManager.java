@@ -19,34 +19,47 @@ package org.apache.ignite.internal.processors.cache;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteException;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.configuration.CacheConfiguration;
 import org.apache.ignite.failure.FailureContext;
 import org.apache.ignite.internal.IgniteInterruptedCheckedException;
 import org.apache.ignite.internal.NodeStoppingException;
 import org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion;
+import org.apache.ignite.internal.util.typedef.F;
 import org.apache.ignite.internal.util.typedef.X;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.internal.util.worker.GridWorker;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_TTL_CLEANUP_THREADS;
+import static org.apache.ignite.IgniteSystemProperties.getInteger;
 import static org.apache.ignite.failure.FailureType.CRITICAL_ERROR;
 import static org.apache.ignite.failure.FailureType.SYSTEM_WORKER_TERMINATION;
 
 /**
  * Periodically removes expired entities from caches with {@link CacheConfiguration#isEagerTtl()} flag set.
+ * Expired entries are removed by {@link IgniteSystemProperties#IGNITE_TTL_CLEANUP_THREADS} workers, each of them
+ * handles its own stripe of partitions.
  */
 public class GridCacheSharedTtlCleanupManager extends GridCacheSharedManagerAdapter {
+    /** @see IgniteSystemProperties#IGNITE_TTL_CLEANUP_THREADS */
+    public static final int DFLT_TTL_CLEANUP_THREADS = 1;
+
     /** Ttl cleanup worker thread sleep interval, ms. */
     private static final long CLEANUP_WORKER_SLEEP_INTERVAL = 500;
 
     /** Limit of expired entries processed by worker for certain cache in one pass. */
     private static final int CLEANUP_WORKER_ENTRIES_PROCESS_LIMIT = 1000;
 
-    /** Cleanup worker. */
-    private CleanupWorker cleanupWorker;
+    /** Count of cleanup workers. */
+    private final int workersCnt = Math.max(1, getInteger(IGNITE_TTL_CLEANUP_THREADS, DFLT_TTL_CLEANUP_THREADS));
+
+    /** Cleanup workers. */
+    private CleanupWorker[] cleanupWorkers;
 
     /** Lock on worker thread creation. */
     private final ReentrantLock lock = new ReentrantLock();
@@ -54,6 +67,12 @@ public class GridCacheSharedTtlCleanupManager extends GridCacheSharedManagerAdap
     /** Map of registered ttl managers, where the cache id is used as the key. */
     private final Map<Integer, GridCacheTtlManager> mgrs = new ConcurrentHashMap<>();
 
+    /**
+     * Guards expiration against unregistering of the ttl manager. Workers hold the read lock while the cache is
+     * processed, so the cache can't be stopped in the middle of the expiration.
+     */
+    private final ReadWriteLock mgrsLock = new ReentrantReadWriteLock();
+
     /** {@inheritDoc} */
     @Override protected void onKernalStop0(boolean cancel) {
         stopCleanupWorker();
@@ -79,6 +98,10 @@ public class GridCacheSharedTtlCleanupManager extends GridCacheSharedManagerAdap
     public void unregister(GridCacheTtlManager mgr) {
         mgrs.remove(mgr.context().cacheId());
 
+        // Wait for the workers processing the cache.
+        mgrsLock.writeLock().lock();
+        mgrsLock.writeLock().unlock();
+
         if (mgrs.isEmpty())
             stopCleanupWorker();
     }
@@ -92,7 +115,7 @@ public class GridCacheSharedTtlCleanupManager extends GridCacheSharedManagerAdap
         lock.lock();
 
         try {
-            return cleanupWorker != null;
+            return cleanupWorkers != null;
         }
         finally {
             lock.unlock();
@@ -106,12 +129,16 @@ public class GridCacheSharedTtlCleanupManager extends GridCacheSharedManagerAdap
         lock.lock();
 
         try {
-            if (cleanupWorker != null)
+            if (cleanupWorkers != null)
                 return;
 
-            cleanupWorker = new CleanupWorker();
+            cleanupWorkers = new CleanupWorker[workersCnt];
+
+            for (int i = 0; i < workersCnt; i++) {
+                cleanupWorkers[i] = new CleanupWorker(i);
 
-            U.newThread(cleanupWorker).start();
+                U.newThread(cleanupWorkers[i]).start();
+            }
         }
         finally {
             lock.unlock();
@@ -125,11 +152,11 @@ public class GridCacheSharedTtlCleanupManager extends GridCacheSharedManagerAdap
         lock.lock();
 
         try {
-            if (null != cleanupWorker) {
-                U.cancel(cleanupWorker);
-                U.join(cleanupWorker, log);
+            if (null != cleanupWorkers) {
+                U.cancel(F.asList(cleanupWorkers));
+                U.join(F.asList(cleanupWorkers), log);
 
-                cleanupWorker = null;
+                cleanupWorkers = null;
             }
         }
         finally {
@@ -141,12 +168,19 @@ public class GridCacheSharedTtlCleanupManager extends GridCacheSharedManagerAdap
      * Entry cleanup worker.
      */
     private class CleanupWorker extends GridWorker {
+        /** Index of the stripe of partitions handled by the worker. */
+        private final int stripe;
+
         /**
          * Creates cleanup worker.
+         *
+         * @param stripe Index of the stripe of partitions handled by the worker.
          */
-        CleanupWorker() {
-            super(cctx.igniteInstanceName(), "ttl-cleanup-worker", cctx.logger(GridCacheSharedTtlCleanupManager.class),
-                cctx.kernalContext().workersRegistry());
+        CleanupWorker(int stripe) {
+            super(cctx.igniteInstanceName(), stripe == 0 ? "ttl-cleanup-worker" : "ttl-cleanup-worker-" + stripe,
+                cctx.logger(GridCacheSharedTtlCleanupManager.class), cctx.kernalContext().workersRegistry());
+
+            this.stripe = stripe;
         }
 
         /** {@inheritDoc} */
@@ -179,27 +213,28 @@ public class GridCacheSharedTtlCleanupManager extends GridCacheSharedManagerAdap
 
                 assert !cctx.kernalContext().recoveryMode();
 
-                final AtomicBoolean expiredRemains = new AtomicBoolean();
-
                 while (!isCancelled()) {
-                    expiredRemains.set(false);
+                    boolean expiredRemains = false;
 
-                    for (Map.Entry<Integer, GridCacheTtlManager> mgr : mgrs.entrySet()) {
+                    for (Integer processedCacheID : mgrs.keySet()) {
                         updateHeartbeat();
 
-                        Integer processedCacheID = mgr.getKey();
-
                         cctx.database().checkpointReadLock();
 
                         try {
                             // Need to be sure that the cache to be processed will not be unregistered and,
                             // therefore, stopped during the process of expiration is in progress.
-                            mgrs.computeIfPresent(processedCacheID, (id, m) -> {
-                                if (m.expire(CLEANUP_WORKER_ENTRIES_PROCESS_LIMIT))
-                                    expiredRemains.set(true);
+                            mgrsLock.readLock().lock();
+
+                            try {
+                                GridCacheTtlManager m = mgrs.get(processedCacheID);
 
-                                return m;
-                            });
+                                if (m != null && m.expire(CLEANUP_WORKER_ENTRIES_PROCESS_LIMIT, stripe, workersCnt))
+                                    expiredRemains = true;
+                            }
+                            finally {
+                                mgrsLock.readLock().unlock();
+                            }
                         }
                         finally {
                             cctx.database().checkpointReadUnlock();
@@ -211,7 +246,7 @@ public class GridCacheSharedTtlCleanupManager extends GridCacheSharedManagerAdap
 
                     updateHeartbeat();
 
-                    if (!expiredRemains.get())
+                    if (!expiredRemains)
                         U.sleep(CLEANUP_WORKER_SLEEP_INTERVAL);
 
                     onIdle();
@@ -27,6 +27,9 @@ import org.apache.ignite.internal.processors.cache.distributed.dht.topology.Grid
 import org.apache.ignite.internal.processors.cache.distributed.near.GridNearCacheAdapter;
 import org.apache.ignite.internal.processors.cache.distributed.near.GridNearCacheEntry;
 import org.apache.ignite.internal.processors.cache.version.GridCacheVersion;
+import org.apache.ignite.internal.processors.metric.MetricRegistryImpl;
+import org.apache.ignite.internal.processors.metric.impl.AtomicLongMetric;
+import org.apache.ignite.internal.processors.metric.impl.LongAdderMetric;
 import org.apache.ignite.internal.util.GridConcurrentSkipListSet;
 import org.apache.ignite.internal.util.lang.IgniteInClosure2X;
 import org.apache.ignite.internal.util.typedef.X;
@@ -35,6 +38,8 @@ import org.apache.ignite.internal.util.typedef.internal.S;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.jetbrains.annotations.Nullable;
 
+import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.cacheMetricsRegistryName;
+
 /**
  * Eagerly removes expired entries from cache when
  * {@link CacheConfiguration#isEagerTtl()} flag is set.
@@ -65,6 +70,12 @@ public class GridCacheTtlManager extends GridCacheManagerAdapter {
     /** */
     private GridCacheContext dhtCtx;
 
+    /** Count of expired entries removed from the cache. */
+    private LongAdderMetric expiredCnt;
+
+    /** Delay between the expiration time and the removal of the last purged entry. */
+    private AtomicLongMetric expirationLag;
+
     /** */
     private final IgniteInClosure2X<GridCacheEntryEx, GridCacheVersion> expireC =
         new IgniteInClosure2X<GridCacheEntryEx, GridCacheVersion>() {
@@ -108,6 +119,15 @@ public class GridCacheTtlManager extends GridCacheManagerAdapter {
 
         eagerTtlEnabled = true;
 
+        MetricRegistryImpl mreg = cctx.kernalContext().metric().registry(
+            cacheMetricsRegistryName(cctx.name(), cctx.isNear()));
+
+        expiredCnt = mreg.longAdderMetric("TtlExpiredEntries",
+            "Count of expired entries removed from the cache.");
+
+        expirationLag = mreg.longMetric("TtlExpirationLag",
+            "Delay between the expiration time and the removal of the last purged entry, in milliseconds.");
+
         cctx.shared().ttl().register(this);
 
         pendingEntries = (cctx.config().getNearConfiguration() != null) ? new GridConcurrentSkipListSetEx() : null;
@@ -196,6 +216,20 @@ public class GridCacheTtlManager extends GridCacheManagerAdapter {
         }
     }
 
+    /**
+     * Called when expired entries are purged from the offheap.
+     *
+     * @param cnt Count of purged entries.
+     * @param lag Delay between the expiration time of the oldest purged entry and its removal, in milliseconds.
+     */
+    public void onExpired(int cnt, long lag) {
+        if (expiredCnt == null)
+            return;
+
+        expiredCnt.add(cnt);
+        expirationLag.value(Math.max(0, lag));
+    }
+
     /**
      * Processes specified amount of expired entries.
      *
@@ -203,6 +237,20 @@ public class GridCacheTtlManager extends GridCacheManagerAdapter {
      * @return {@code True} if unprocessed expired entries remains.
      */
     public boolean expire(int amount) {
+        return expire(amount, 0, 1);
+    }
+
+    /**
+     * Processes specified amount of expired entries of the given stripe of partitions. Partitions of persistent caches
+     * are distributed between stripes by the partition number, caches with a single pending tree are processed by
+     * one of the stripes.
+     *
+     * @param amount Limit of processed entries by single call, {@code -1} for no limit.
+     * @param stripe Index of the stripe.
+     * @param stripes Count of the stripes.
+     * @return {@code True} if unprocessed expired entries remains.
+     */
+    public boolean expire(int amount, int stripe, int stripes) {
         // TTL manager is not initialized or eagerTtl disabled for cache.
         if (!eagerTtlEnabled)
             return false;
@@ -212,7 +260,7 @@ public class GridCacheTtlManager extends GridCacheManagerAdapter {
         long now = U.currentTimeMillis();
 
         try {
-            if (pendingEntries != null) {
+            if (pendingEntries != null && stripe == 0) {
                 GridNearCacheAdapter nearCache = cctx.near();
 
                 GridCacheVersion obsoleteVer = null;
@@ -240,18 +288,20 @@ public class GridCacheTtlManager extends GridCacheManagerAdapter {
             if (!cctx.affinityNode())
                 return false;  /* Pending tree never contains entries for that cache */
 
-            if (!hasPendingEntries || nextCleanTime > U.currentTimeMillis())
+            // Throttling is shared by all callers, so it is applied to the whole cache only.
+            if (!hasPendingEntries || (stripes == 1 && nextCleanTime > U.currentTimeMillis()))
                 return false;
 
-            boolean more = cctx.offheap().expire(dhtCtx, expireC, amount);
+            boolean more = cctx.offheap().expire(dhtCtx, expireC, amount, stripe, stripes);
 
             if (more)
                 return true;
 
             // There is nothing to clean, so the next clean up can be postponed.
-            nextCleanTime = U.currentTimeMillis() + unwindThrottlingTimeout;
+            if (stripes == 1)
+                nextCleanTime = U.currentTimeMillis() + unwindThrottlingTimeout;
 
-            if (amount != -1 && pendingEntries != null) {
+            if (amount != -1 && pendingEntries != null && stripe == 0) {
                 EntryWrapper e = pendingEntries.firstx();
 
                 return e != null && e.expireTime <= now;
@@ -19,6 +19,7 @@ package org.apache.ignite.internal.processors.cache;
 
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import javax.cache.Cache;
 import org.apache.ignite.IgniteCheckedException;
@@ -123,6 +124,17 @@ public interface IgniteCacheOffheapManager {
      */
     @Nullable public CacheDataRow read(GridCacheContext cctx, KeyCacheObject key) throws IgniteCheckedException;
 
+    /**
+     * Reads rows for a batch of keys. Keys of the same partition are looked up with a single batched tree search.
+     *
+     * @param cctx Cache context.
+     * @param keys Keys.
+     * @return Rows of the found keys.
+     * @throws IgniteCheckedException If failed.
+     */
+    public Map<KeyCacheObject, CacheDataRow> readAll(GridCacheContext cctx, Collection<KeyCacheObject> keys)
+        throws IgniteCheckedException;
+
     /**
      * @param p Partition.
      * @return Data store.
@@ -162,6 +174,27 @@ public interface IgniteCacheOffheapManager {
     public boolean expire(GridCacheContext cctx, IgniteInClosure2X<GridCacheEntryEx, GridCacheVersion> c, int amount)
         throws IgniteCheckedException;
 
+    /**
+     * Processes expired entries of the given stripe of partitions. Partitions are distributed between stripes by
+     * the partition number if every partition has its own pending entries tree, otherwise the whole cache is
+     * assigned to a single stripe.
+     *
+     * @param cctx Cache context.
+     * @param c Closure.
+     * @param amount Limit of processed entries by single call, {@code -1} for no limit.
+     * @param stripe Index of the stripe.
+     * @param stripes Count of the stripes.
+     * @return {@code True} if unprocessed expired entries remains.
+     * @throws IgniteCheckedException If failed.
+     */
+    public boolean expire(
+        GridCacheContext cctx,
+        IgniteInClosure2X<GridCacheEntryEx, GridCacheVersion> c,
+        int amount,
+        int stripe,
+        int stripes
+    ) throws IgniteCheckedException;
+
     /**
      * Gets the number of entries pending expire.
      *
@@ -601,6 +634,14 @@ public interface IgniteCacheOffheapManager {
          */
         public CacheDataRow find(GridCacheContext cctx, KeyCacheObject key) throws IgniteCheckedException;
 
+        /**
+         * @param cctx Cache context.
+         * @param keys Keys.
+         * @return Data rows in the order of the given keys, {@code null} elements for the keys which are not found.
+         * @throws IgniteCheckedException If failed.
+         */
+        public List<CacheDataRow> findAll(GridCacheContext cctx, List<KeyCacheObject> keys) throws IgniteCheckedException;
+
         /**
          * @return Data cursor.
          * @throws IgniteCheckedException If failed.
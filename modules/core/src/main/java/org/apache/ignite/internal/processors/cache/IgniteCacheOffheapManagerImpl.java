@@ -19,8 +19,10 @@ package org.apache.ignite.internal.processors.cache;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -449,6 +451,38 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
         return row;
     }
 
+    /** {@inheritDoc} */
+    @Override public Map<KeyCacheObject, CacheDataRow> readAll(GridCacheContext cctx, Collection<KeyCacheObject> keys)
+        throws IgniteCheckedException {
+        Map<CacheDataStore, List<KeyCacheObject>> keysByStore = new HashMap<>();
+
+        for (KeyCacheObject key : keys) {
+            CacheDataStore dataStore = dataStore(cctx, key);
+
+            if (dataStore != null)
+                keysByStore.computeIfAbsent(dataStore, s -> new ArrayList<>()).add(key);
+        }
+
+        Map<KeyCacheObject, CacheDataRow> res = U.newHashMap(keys.size());
+
+        for (Map.Entry<CacheDataStore, List<KeyCacheObject>> e : keysByStore.entrySet()) {
+            List<KeyCacheObject> storeKeys = e.getValue();
+
+            List<CacheDataRow> rows = e.getKey().findAll(cctx, storeKeys);
+
+            for (int i = 0; i < storeKeys.size(); i++) {
+                CacheDataRow row = rows.get(i);
+
+                assert row == null || row.value() != null : row;
+
+                if (row != null)
+                    res.put(storeKeys.get(i), row);
+            }
+        }
+
+        return res;
+    }
+
     /** {@inheritDoc} */
     @Override public boolean containsKey(GridCacheMapEntry entry) {
         try {
@@ -1103,11 +1137,26 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
         GridCacheContext cctx,
         IgniteInClosure2X<GridCacheEntryEx, GridCacheVersion> c,
         int amount
+    ) throws IgniteCheckedException {
+        return expire(cctx, c, amount, 0, 1);
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean expire(
+        GridCacheContext cctx,
+        IgniteInClosure2X<GridCacheEntryEx, GridCacheVersion> c,
+        int amount,
+        int stripe,
+        int stripes
     ) throws IgniteCheckedException {
         assert !cctx.isNear() : cctx.name();
 
         assert pendingEntries != null;
 
+        // There is a single pending entries tree, so the cache is processed by one stripe.
+        if (U.safeAbs(cctx.cacheId()) % stripes != stripe)
+            return false;
+
         int cleared = expireInternal(cctx, c, amount);
 
         return amount != -1 && cleared >= amount;
@@ -1139,12 +1188,16 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
                 int cleared = 0;
 
                 do {
+                    long now = U.currentTimeMillis();
+
                     List<PendingRow> rows = pendingEntries.remove(new PendingRow(cacheId, Long.MIN_VALUE, 0),
-                        new PendingRow(cacheId, U.currentTimeMillis(), 0), amount - cleared);
+                        new PendingRow(cacheId, now, 0), amount - cleared);
 
                     if (rows.isEmpty())
                         break;
 
+                    cctx.ttl().onExpired(rows.size(), now - rows.get(0).expireTime);
+
                     for (PendingRow row : rows) {
                         if (row.key.partition() == -1)
                             row.key.partition(cctx.affinity().partition(row.key));
@@ -1807,6 +1860,48 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
             return row;
         }
 
+        /** {@inheritDoc} */
+        @Override public List<CacheDataRow> findAll(GridCacheContext cctx, List<KeyCacheObject> keys)
+            throws IgniteCheckedException {
+            int cacheId = grp.sharedGroup() ? cctx.cacheId() : CU.UNDEFINED_CACHE_ID;
+
+            List<CacheSearchRow> searchRows = new ArrayList<>(keys.size());
+
+            for (KeyCacheObject key : keys) {
+                key.valueBytes(cctx.cacheObjectContext());
+
+                searchRows.add(new SearchRow(cacheId, key));
+            }
+
+            // Rows are ordered by hash in the tree, so the sorted rows stored in the same leaf are found at once.
+            List<CacheSearchRow> sorted = new ArrayList<>(searchRows);
+
+            sorted.sort(Comparator.comparingInt(CacheSearchRow::hash));
+
+            List<CacheDataRow> found = dataTree.findAll(sorted, null, CacheDataRowAdapter.RowData.NO_KEY);
+
+            Map<CacheSearchRow, CacheDataRow> rows = new IdentityHashMap<>(keys.size());
+
+            for (int i = 0; i < sorted.size(); i++)
+                rows.put(sorted.get(i), found.get(i));
+
+            List<CacheDataRow> res = new ArrayList<>(keys.size());
+
+            for (CacheSearchRow searchRow : searchRows) {
+                CacheDataRow row = rows.get(searchRow);
+
+                if (row != null) {
+                    row.key(searchRow.key());
+
+                    grp.dataRegion().evictionTracker().touchPage(row.link());
+                }
+
+                res.add(row);
+            }
+
+            return res;
+        }
+
         /** {@inheritDoc} */
         @Override public GridCursor<? extends CacheDataRow> cursor() throws IgniteCheckedException {
             return dataTree.find(null, null);
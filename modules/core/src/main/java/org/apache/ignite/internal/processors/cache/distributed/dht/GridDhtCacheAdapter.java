@@ -732,6 +732,9 @@ public abstract class GridDhtCacheAdapter<K, V> extends GridDistributedCacheAdap
 
             boolean readNoEntry = ctx.readNoEntry(expiry, readerArgs != null);
 
+            // Look up all the keys with batched tree searches.
+            Map<KeyCacheObject, CacheDataRow> rows = readNoEntry && keysSize > 1 ? ctx.offheap().readAll(ctx, keys) : null;
+
             for (KeyCacheObject key : keys) {
                 while (true) {
                     try {
@@ -745,7 +748,7 @@ public abstract class GridDhtCacheAdapter<K, V> extends GridDistributedCacheAdap
                         boolean skipEntry = readNoEntry;
 
                         if (readNoEntry) {
-                            CacheDataRow row = ctx.offheap().read(ctx, key);
+                            CacheDataRow row = rows != null ? rows.get(key) : ctx.offheap().read(ctx, key);
 
                             if (row != null) {
                                 long expireTime = row.expireTime();
@@ -1528,10 +1528,14 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
                 boolean success = true;
                 boolean readNoEntry = ctx.readNoEntry(expiry, false);
 
+                // Look up all the keys with batched tree searches.
+                Map<KeyCacheObject, CacheDataRow> rows = readNoEntry && keys.size() > 1 ?
+                    ctx.offheap().readAll(ctx, keys) : null;
+
                 // Optimistically expect that all keys are available locally (avoid creation of get future).
                 for (KeyCacheObject key : keys) {
                     if (readNoEntry) {
-                        CacheDataRow row = ctx.offheap().read(ctx, key);
+                        CacheDataRow row = rows != null ? rows.get(key) : ctx.offheap().read(ctx, key);
 
                         if (row != null) {
                             long expireTime = row.expireTime();
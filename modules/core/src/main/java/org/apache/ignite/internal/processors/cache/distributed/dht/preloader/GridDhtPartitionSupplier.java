@@ -42,6 +42,7 @@ import org.apache.ignite.internal.processors.cache.IgniteRebalanceIterator;
 import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtLocalPartition;
 import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionTopology;
 import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
+import org.apache.ignite.internal.processors.cache.persistence.pagemem.SequentialPageAccess;
 import org.apache.ignite.internal.util.tostring.GridToStringExclude;
 import org.apache.ignite.internal.util.typedef.F;
 import org.apache.ignite.internal.util.typedef.T3;
@@ -298,7 +299,7 @@ public class GridDhtPartitionSupplier {
 
             long batchesCnt = 0;
 
-            while (iter.hasNext()) {
+            while (hasNextRow(iter)) {
                 if (supplyMsg.messageSize() >= msgMaxSize) {
                     if (++batchesCnt >= maxBatchesCnt) {
                         saveSupplyContext(ctxId,
@@ -555,6 +556,24 @@ public class GridDhtPartitionSupplier {
             (topicId > 0 ? ", topic=" + topicId : "");
     }
 
+    /**
+     * Advances rebalance iterator. Partition pages are visited only once, so they are loaded with the sequential
+     * access hint and don't flush hot pages out of memory.
+     *
+     * @param iter Rebalance iterator.
+     * @return {@code True} if iterator has more rows.
+     */
+    private static boolean hasNextRow(IgniteRebalanceIterator iter) {
+        boolean nested = SequentialPageAccess.enter();
+
+        try {
+            return iter.hasNext();
+        }
+        finally {
+            SequentialPageAccess.exit(nested);
+        }
+    }
+
     /**
      * Saves supply context with given parameters to {@code scMap}.
      *
@@ -565,6 +565,26 @@ public class DataRegionMetricsImpl implements DataRegionMetrics {
         }
     }
 
+    /**
+     * Updates page hits of the cache group and the data region.
+     *
+     * @param grpId Cache group ID.
+     */
+    public void onPageHit(int grpId) {
+        if (metricsEnabled)
+            cacheGrpPageMetrics(grpId).pageHits().increment();
+    }
+
+    /**
+     * Updates page misses of the cache group and the data region.
+     *
+     * @param grpId Cache group ID.
+     */
+    public void onPageMiss(int grpId) {
+        if (metricsEnabled)
+            cacheGrpPageMetrics(grpId).pageMisses().increment();
+    }
+
     /**
      * Updates page written.
      */
@@ -643,6 +663,8 @@ public class DataRegionMetricsImpl implements DataRegionMetrics {
         return PageMetricsImpl.builder(registry)
             .totalPagesCallback(delegate(dataRegionPageMetrics.totalPages()))
             .indexPagesCallback(delegate(dataRegionPageMetrics.indexPages()))
+            .pageHitsCallback(delegate(dataRegionPageMetrics.pageHits()))
+            .pageMissesCallback(delegate(dataRegionPageMetrics.pageMisses()))
             .build();
     }
 
@@ -53,6 +53,12 @@ public class DataStorageMetricsImpl {
     /** */
     private final HitRateMetric walBuffPollSpinsNum;
 
+    /** */
+    private final HistogramMetricImpl walFsyncHistogram;
+
+    /** */
+    private final HistogramMetricImpl walGroupCommitHistogram;
+
     /** */
     private final AtomicLongMetric lastCpBeforeLockDuration;
 
@@ -218,6 +224,14 @@ public class DataStorageMetricsImpl {
             rateTimeInterval,
             subInts);
 
+        walFsyncHistogram = mreg.histogram("WalFsyncHistogram",
+            new long[] {100, 500, 1000, 5000, 10000, 50000},
+            "Histogram of WAL fsync duration in microseconds.");
+
+        walGroupCommitHistogram = mreg.histogram("WalGroupCommitBatchSizeHistogram",
+            new long[] {1, 2, 4, 8, 16, 32, 64},
+            "Histogram of count of threads waiting for a single WAL fsync in FSYNC mode.");
+
         lastCpBeforeLockDuration = mreg.longMetric("LastCheckpointBeforeLockDuration",
             "Duration of the checkpoint action before taken write lock in milliseconds.");
 
@@ -787,6 +801,17 @@ public class DataStorageMetricsImpl {
 
         walFsyncTimeDuration.add(microseconds);
         walFsyncTimeNum.increment();
+        walFsyncHistogram.value(microseconds);
+    }
+
+    /**
+     * @param batchSize Count of threads waiting for a single WAL fsync.
+     */
+    public void onGroupCommit(int batchSize) {
+        if (!metricsEnabled)
+            return;
+
+        walGroupCommitHistogram.value(batchSize);
     }
 
     /**
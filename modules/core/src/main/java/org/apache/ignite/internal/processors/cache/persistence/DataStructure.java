@@ -416,6 +416,33 @@ public abstract class DataStructure {
             arg, intArg, lockFailed, statHolder, pageIoRslvr);
     }
 
+    /**
+     * Same as {@link #read(long, long, PageHandler, Object, int, Object, IoStatisticsHolder)} but tries to run
+     * the handler on a page copy made without the read lock first.
+     *
+     * @param pageId Page ID.
+     * @param page Page pointer.
+     * @param h Handler.
+     * @param arg Argument.
+     * @param intArg Argument of type {@code int}.
+     * @param lockFailed Result in case of lock failure due to page recycling.
+     * @param statHolder Statistics holder to track IO operations.
+     * @return Handler result.
+     * @throws IgniteCheckedException If failed.
+     * @see PageHandler#readPageOptimistic
+     */
+    protected final <X, R> R readOptimistic(
+        long pageId,
+        long page,
+        PageHandler<X, R> h,
+        X arg,
+        int intArg,
+        R lockFailed,
+        IoStatisticsHolder statHolder) throws IgniteCheckedException {
+        return PageHandler.readPageOptimistic(pageMem, grpId, pageId, page, lockLsnr, h,
+            arg, intArg, lockFailed, statHolder, pageIoRslvr);
+    }
+
     /**
      * @param pageId Page ID.
      * @param init IO for new page initialization.
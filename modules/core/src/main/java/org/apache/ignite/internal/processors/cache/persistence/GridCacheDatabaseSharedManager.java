@@ -87,6 +87,7 @@ import org.apache.ignite.internal.pagemem.wal.record.TxRecord;
 import org.apache.ignite.internal.pagemem.wal.record.WALRecord;
 import org.apache.ignite.internal.pagemem.wal.record.WalRecordCacheGroupAware;
 import org.apache.ignite.internal.pagemem.wal.record.delta.PageDeltaRecord;
+import org.apache.ignite.internal.pagemem.wal.record.delta.PageDiffRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.PartitionDestroyRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.PartitionMetaStateRecord;
 import org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion;
@@ -2234,6 +2235,9 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
 
         RestoreBinaryState restoreBinaryState = new RestoreBinaryState(status, it, lastArchivedSegment, cacheGroupsPredicate);
 
+        // Pages already stored as of the unfinished checkpoint, their deltas up to the next snapshot must be skipped.
+        Set<FullPageId> skippedPages = ConcurrentHashMap.newKeySet();
+
         try {
             while (restoreBinaryState.hasNext()) {
                 if (exec.error())
@@ -2261,6 +2265,9 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
 
                             stripedApplyPage((pageMem) -> {
                                     try {
+                                        if (!skippedPages.isEmpty())
+                                            skippedPages.remove(pageSnapshot.fullPageId());
+
                                         applyPageSnapshot(pageMem, pageSnapshot);
 
                                         applied.incrementAndGet();
@@ -2339,7 +2346,21 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
 
                             stripedApplyPage((pageMem) -> {
                                 try {
-                                    applyPageDelta(pageMem, pageDelta, true);
+                                    if (pageDelta instanceof PageDiffRecord) {
+                                        if (!applyPageDiff(pageMem, (PageDiffRecord)pageDelta)) {
+                                            skippedPages.add(pageDelta.fullPageId());
+
+                                            return;
+                                        }
+
+                                        // The stored page matched the diff base, so it is in sync with the log again.
+                                        if (!skippedPages.isEmpty())
+                                            skippedPages.remove(pageDelta.fullPageId());
+                                    }
+                                    else if (!skippedPages.isEmpty() && skippedPages.contains(pageDelta.fullPageId()))
+                                        return;
+                                    else
+                                        applyPageDelta(pageMem, pageDelta, true);
 
                                     applied.incrementAndGet();
                                 }
@@ -2479,6 +2500,42 @@ public class GridCacheDatabaseSharedManager extends IgniteCacheDatabaseSharedMan
         }
     }
 
+    /**
+     * Applies page diff if the page is stored as it was at the last finished checkpoint. Otherwise the page was
+     * written by the unfinished checkpoint and already contains the diff with the following updates.
+     *
+     * @param pageMem Page memory.
+     * @param diffRec Page diff record.
+     * @return {@code True} if the diff was applied.
+     * @throws IgniteCheckedException If failed.
+     */
+    private boolean applyPageDiff(PageMemoryEx pageMem, PageDiffRecord diffRec) throws IgniteCheckedException {
+        int grpId = diffRec.groupId();
+        long pageId = diffRec.pageId();
+
+        // Unlike page snapshot, the diff is applied to the stored page, so it must be read.
+        long page = pageMem.acquirePage(grpId, pageId, IoStatisticsHolderNoOp.INSTANCE, false);
+
+        try {
+            long pageAddr = pageMem.writeLock(grpId, pageId, page, true);
+
+            boolean matches = diffRec.baseMatches(pageAddr, pageMem.pageSize());
+
+            try {
+                if (matches)
+                    diffRec.applyDelta(pageMem, pageAddr);
+            }
+            finally {
+                pageMem.writeUnlock(grpId, pageId, page, null, matches, true);
+            }
+
+            return matches;
+        }
+        finally {
+            pageMem.releasePage(grpId, pageId, page);
+        }
+    }
+
     /**
      * @param grpId Group id.
      * @param partId Partition id.
@@ -20,6 +20,7 @@ package org.apache.ignite.internal.processors.cache.persistence;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -1097,7 +1098,9 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
     @Override public boolean expire(
         GridCacheContext cctx,
         IgniteInClosure2X<GridCacheEntryEx, GridCacheVersion> c,
-        int amount
+        int amount,
+        int stripe,
+        int stripes
     ) throws IgniteCheckedException {
         assert !cctx.isNear() : cctx.name();
 
@@ -1109,6 +1112,9 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
             int cleared = 0;
 
             for (GridDhtLocalPartition part : grp.topology().shiftedCurrentLocalPartitions()) {
+                if (part.id() % stripes != stripe)
+                    continue;
+
                 GridCacheDataStore store = (GridCacheDataStore)part.dataStore();
 
                 if (store.destroyed())
@@ -2533,6 +2539,17 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
             return null;
         }
 
+        /** {@inheritDoc} */
+        @Override public List<CacheDataRow> findAll(GridCacheContext cctx, List<KeyCacheObject> keys)
+            throws IgniteCheckedException {
+            CacheDataStore delegate = init0(true);
+
+            if (delegate != null)
+                return delegate.findAll(cctx, keys);
+
+            return Collections.nCopies(keys.size(), null);
+        }
+
         /** {@inheritDoc} */
         @Override public GridCursor<? extends CacheDataRow> cursor() throws IgniteCheckedException {
             CacheDataStore delegate = init0(true);
@@ -2757,6 +2774,8 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
                         if (rows.isEmpty())
                             break;
 
+                        cctx.ttl().onExpired(rows.size(), now - rows.get(0).expireTime);
+
                         for (PendingRow row : rows) {
                             row.key.partition(partId);
 
@@ -37,8 +37,11 @@ import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO;
 import org.apache.ignite.internal.util.GridConcurrentMultiPairQueue;
 import org.apache.ignite.internal.util.future.CountDownFuture;
 import org.apache.ignite.internal.util.lang.IgniteThrowableFunction;
+import org.jetbrains.annotations.Nullable;
 import org.jsr166.ConcurrentLinkedHashMap;
 
+import static org.apache.ignite.internal.pagemem.PageIdUtils.pageIndex;
+import static org.apache.ignite.internal.pagemem.PageIdUtils.partId;
 import static org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO.getType;
 import static org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO.getVersion;
 import static org.apache.ignite.internal.util.IgniteUtils.hexLong;
@@ -71,6 +74,12 @@ public class CheckpointPagesWriter implements Runnable {
     /** Thread local with buffers for the checkpoint threads. Each buffer represent one page for durable memory. */
     private final ThreadLocal<ByteBuffer> threadBuf;
 
+    /**
+     * Thread local with arrays of page buffers to coalesce pages with sequential indexes into a single write, or
+     * {@code null} if pages are written one by one.
+     */
+    @Nullable private final ThreadLocal<ByteBuffer[]> threadBatchBufs;
+
     /** Throttling policy according to the settings. */
     private final PageMemoryImpl.ThrottlingPolicy throttlingPolicy;
 
@@ -97,6 +106,7 @@ public class CheckpointPagesWriter implements Runnable {
      * @param log Logger.
      * @param dsMetrics Data storage metrics.
      * @param buf Thread local byte buffer.
+     * @param batchBufs Thread local page buffers to coalesce sequential pages, {@code null} to write pages one by one.
      * @param throttlingPolicy Throttling policy.
      * @param pageMemoryGroupResolver Resolver of page memory by group id.
      * @param progress Checkpoint progress.
@@ -112,6 +122,7 @@ public class CheckpointPagesWriter implements Runnable {
         IgniteLogger log,
         DataStorageMetricsImpl dsMetrics,
         ThreadLocal<ByteBuffer> buf,
+        @Nullable ThreadLocal<ByteBuffer[]> batchBufs,
         PageMemoryImpl.ThrottlingPolicy throttlingPolicy,
         IgniteThrowableFunction<Integer, PageMemoryEx> pageMemoryGroupResolver,
         CheckpointProgressImpl progress,
@@ -126,6 +137,7 @@ public class CheckpointPagesWriter implements Runnable {
         this.log = log;
         this.persStoreMetrics = dsMetrics;
         this.threadBuf = buf;
+        this.threadBatchBufs = batchBufs;
         this.throttlingPolicy = throttlingPolicy;
         this.pageMemoryGroupResolver = pageMemoryGroupResolver;
         this.curCpProgress = progress;
@@ -172,42 +184,54 @@ public class CheckpointPagesWriter implements Runnable {
 
         Map<PageMemoryEx, PageStoreWriter> pageStoreWriters = new HashMap<>();
 
-        ByteBuffer tmpWriteBuf = threadBuf.get();
+        PageWriteBatch batch = new PageWriteBatch(threadBatchBufs != null ?
+            threadBatchBufs.get() : new ByteBuffer[] {threadBuf.get()});
 
         boolean throttlingEnabled = throttlingPolicy != PageMemoryImpl.ThrottlingPolicy.DISABLED;
 
         GridConcurrentMultiPairQueue.Result<PageMemoryEx, FullPageId> res =
             new GridConcurrentMultiPairQueue.Result<>();
 
-        while (writePageIds.next(res)) {
-            if (shutdownNow.getAsBoolean())
-                break;
+        // Pages are taken from the queue by batches, so sequential pages get to the same thread.
+        FullPageId[] fullIds = new FullPageId[batch.capacity()];
 
-            beforePageWrite.run();
+        int cnt;
 
-            FullPageId fullId = res.getValue();
-
-            PageMemoryEx pageMem = res.getKey();
+        try {
+            while ((cnt = writePageIds.next(res, fullIds)) > 0) {
+                PageMemoryEx pageMem = res.getKey();
 
-            tmpWriteBuf.rewind();
+                PageStoreWriter pageStoreWriter = pageStoreWriters.computeIfAbsent(pageMem,
+                    pageMemEx -> createPageStoreWriter(pageMemEx, batch, pagesToRetry));
 
-            PageStoreWriter pageStoreWriter =
-                pageStoreWriters.computeIfAbsent(pageMem, pageMemEx -> createPageStoreWriter(pageMemEx, pagesToRetry));
+                for (int i = 0; i < cnt; i++) {
+                    if (shutdownNow.getAsBoolean())
+                        break;
 
-            pageMem.checkpointWritePage(fullId, tmpWriteBuf, pageStoreWriter, tracker, false);
+                    beforePageWrite.run();
 
-            if (throttlingEnabled) {
-                while (pageMem.isCpBufferOverflowThresholdExceeded()) {
-                    FullPageId cpPageId = pageMem.pullPageFromCpBuffer();
+                    pageMem.checkpointWritePage(fullIds[i], batch.nextBuffer(), pageStoreWriter, tracker, false);
 
-                    if (cpPageId.equals(FullPageId.NULL_PAGE))
-                        break;
+                    if (throttlingEnabled) {
+                        while (pageMem.isCpBufferOverflowThresholdExceeded()) {
+                            FullPageId cpPageId = pageMem.pullPageFromCpBuffer();
 
-                    tmpWriteBuf.rewind();
+                            if (cpPageId.equals(FullPageId.NULL_PAGE))
+                                break;
 
-                    pageMem.checkpointWritePage(cpPageId, tmpWriteBuf, pageStoreWriter, tracker, false);
+                            pageMem.checkpointWritePage(cpPageId, batch.nextBuffer(), pageStoreWriter, tracker, false);
+                        }
+                    }
                 }
+
+                if (shutdownNow.getAsBoolean())
+                    break;
             }
+
+            batch.flush();
+        }
+        finally {
+            batch.release();
         }
 
         return pagesToRetry.isEmpty() ?
@@ -219,11 +243,13 @@ public class CheckpointPagesWriter implements Runnable {
      * Factory method for create {@link PageStoreWriter}.
      *
      * @param pageMemEx
+     * @param batch Batch of pages to write.
      * @param pagesToRetry List pages for retry.
      * @return Checkpoint page write context.
      */
     private PageStoreWriter createPageStoreWriter(
         PageMemoryEx pageMemEx,
+        PageWriteBatch batch,
         Map<PageMemoryEx, List<FullPageId>> pagesToRetry
     ) {
         return new PageStoreWriter() {
@@ -248,16 +274,159 @@ public class CheckpointPagesWriter implements Runnable {
                         tracker.onDataPageWritten();
                 }
 
-                curCpProgress.updateWrittenPages(1);
+                batch.add(pageMemEx, fullPageId, buf, tag);
+            }
+        };
+    }
+
+    /**
+     * Pages with sequential indexes of the same partition which are written to the page store by a single vectored
+     * write. Pages of the batch occupy the head of the buffers array, so the buffer for the next page is the one
+     * following the last page of the batch. Pages of the batch are kept pinned in page memory until they are written,
+     * otherwise a page could be replaced and read from the store before its content is actually written.
+     */
+    private class PageWriteBatch {
+        /** Page buffers. */
+        private final ByteBuffer[] bufs;
+
+        /** Full page IDs. */
+        private final FullPageId[] fullIds;
+
+        /** Page IDs. */
+        private final long[] pageIds;
+
+        /** Absolute pointers of pinned pages. */
+        private final long[] absPtrs;
+
+        /** Page memory of the pages. */
+        private PageMemoryEx pageMem;
+
+        /** Partition generation of the pages. */
+        private int tag;
+
+        /** Count of pages. */
+        private int cnt;
+
+        /**
+         * @param bufs Page buffers.
+         */
+        private PageWriteBatch(ByteBuffer[] bufs) {
+            this.bufs = bufs;
+
+            fullIds = new FullPageId[bufs.length];
+            pageIds = new long[bufs.length];
+            absPtrs = new long[bufs.length];
+        }
+
+        /**
+         * @return Maximum count of pages in batch.
+         */
+        private int capacity() {
+            return bufs.length;
+        }
+
+        /**
+         * @return Buffer to copy the content of the next page to.
+         */
+        private ByteBuffer nextBuffer() {
+            ByteBuffer buf = bufs[cnt];
+
+            buf.rewind();
+
+            return buf;
+        }
+
+        /**
+         * Adds the page to the batch. The batch is written before if the page doesn't follow the last page of
+         * the batch.
+         *
+         * @param pageMem Page memory.
+         * @param fullId Full page ID.
+         * @param buf Buffer with page content, got from {@link #nextBuffer()}.
+         * @param tag Partition generation.
+         * @throws IgniteCheckedException If failed.
+         */
+        private void add(PageMemoryEx pageMem, FullPageId fullId, ByteBuffer buf, int tag) throws IgniteCheckedException {
+            assert buf == bufs[cnt];
+
+            if (cnt > 0 && !follows(pageMem, fullId, tag)) {
+                int idx = cnt;
 
-                PageStore store = pageWriter.write(pageMemEx, fullPageId, buf, tag);
+                flush();
 
-                updStores.computeIfAbsent(store, k -> new LongAdder()).increment();
+                bufs[idx] = bufs[0];
+                bufs[0] = buf;
             }
-        };
+
+            if (cnt == 0) {
+                this.pageMem = pageMem;
+                this.tag = tag;
+            }
+
+            fullIds[cnt] = fullId;
+            pageIds[cnt] = fullId.pageId();
+
+            // The last page of a full batch is written right away, no need to pin it.
+            absPtrs[cnt] = cnt < bufs.length - 1 ? pageMem.acquireCheckpointPage(fullId, tag) : 0;
+
+            if (++cnt == bufs.length)
+                flush();
+        }
+
+        /**
+         * @param pageMem Page memory.
+         * @param fullId Full page ID.
+         * @param tag Partition generation.
+         * @return {@code True} if the page follows the last page of the batch in the partition file.
+         */
+        private boolean follows(PageMemoryEx pageMem, FullPageId fullId, int tag) {
+            FullPageId last = fullIds[cnt - 1];
+
+            return this.pageMem == pageMem && this.tag == tag && last.groupId() == fullId.groupId() &&
+                partId(last.pageId()) == partId(fullId.pageId()) &&
+                pageIndex(last.pageId()) + 1 == pageIndex(fullId.pageId());
+        }
+
+        /**
+         * Writes pages of the batch to the page store.
+         *
+         * @throws IgniteCheckedException If failed.
+         */
+        private void flush() throws IgniteCheckedException {
+            if (cnt == 0)
+                return;
+
+            try {
+                PageStore store = cnt == 1 ?
+                    pageWriter.write(pageMem, fullIds[0], bufs[0], tag) :
+                    pageWriter.write(pageMem, fullIds[0].groupId(), pageIds, bufs, cnt, tag);
+
+                curCpProgress.updateWrittenPages(cnt);
+
+                updStores.computeIfAbsent(store, k -> new LongAdder()).add(cnt);
+            }
+            finally {
+                release();
+            }
+        }
+
+        /**
+         * Unpins pages of the batch and clears the batch.
+         */
+        private void release() {
+            for (int i = 0; i < cnt; i++) {
+                if (absPtrs[i] != 0)
+                    pageMem.releasePage(fullIds[i].groupId(), pageIds[i], absPtrs[i]);
+
+                fullIds[i] = null;
+            }
+
+            cnt = 0;
+            pageMem = null;
+        }
     }
 
-    /** Interface which allows to write one page to page store. */
+    /** Interface which allows to write pages to page store. */
     public interface CheckpointPageWriter {
         /**
          *
@@ -270,5 +439,18 @@ public class CheckpointPagesWriter implements Runnable {
          */
         PageStore write(PageMemoryEx pageMemEx, FullPageId fullPageId, ByteBuffer buf, int tag)
             throws IgniteCheckedException;
+
+        /**
+         * @param pageMemEx Page memory from which pages should be written.
+         * @param grpId Cache group ID.
+         * @param pageIds Page IDs with sequential indexes of the same partition.
+         * @param bufs Byte buffers.
+         * @param cnt Count of pages.
+         * @param tag Page tag.
+         * @return {@link PageStore} which was used to write.
+         * @throws IgniteCheckedException if fail.
+         */
+        PageStore write(PageMemoryEx pageMemEx, int grpId, long[] pageIds, ByteBuffer[] bufs, int cnt, int tag)
+            throws IgniteCheckedException;
     }
 }
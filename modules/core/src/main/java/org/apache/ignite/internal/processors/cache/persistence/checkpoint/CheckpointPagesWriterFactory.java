@@ -18,6 +18,7 @@
 package org.apache.ignite.internal.processors.cache.persistence.checkpoint;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
@@ -28,6 +29,7 @@ import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.internal.GridKernalContext;
 import org.apache.ignite.internal.pagemem.FullPageId;
 import org.apache.ignite.internal.pagemem.store.PageStore;
@@ -43,12 +45,17 @@ import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.internal.util.worker.WorkProgressDispatcher;
 import org.jsr166.ConcurrentLinkedHashMap;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_CHECKPOINT_WRITE_BATCH_SIZE;
+
 /**
  * Factory class for checkpoint pages writer.
  *
  * It holds all dependency which is needed for creation of checkpoint writer and recovery checkpoint writer.
  */
 public class CheckpointPagesWriterFactory {
+    /** @see IgniteSystemProperties#IGNITE_CHECKPOINT_WRITE_BATCH_SIZE */
+    public static final int DFLT_CHECKPOINT_WRITE_BATCH_SIZE = 16;
+
     /** Context. */
     private final GridKernalContext ctx;
 
@@ -61,6 +68,33 @@ public class CheckpointPagesWriterFactory {
     /** Thread local with buffers for the checkpoint threads. Each buffer represent one page for durable memory. */
     private volatile ThreadLocal<ByteBuffer> threadBuf;
 
+    /** Maximum count of pages with sequential indexes written by a single vectored write. */
+    private final int writeBatchSize =
+        IgniteSystemProperties.getInteger(IGNITE_CHECKPOINT_WRITE_BATCH_SIZE, DFLT_CHECKPOINT_WRITE_BATCH_SIZE);
+
+    /**
+     * Thread local with page buffers to coalesce sequential pages written by the checkpoint threads. Buffers are slices
+     * of one direct buffer aligned by page size, so they are suitable for direct IO.
+     */
+    private final ThreadLocal<ByteBuffer[]> threadBatchBufs = new ThreadLocal<ByteBuffer[]>() {
+        /** {@inheritDoc} */
+        @Override protected ByteBuffer[] initialValue() {
+            int pageSize = threadBuf.get().capacity();
+
+            ByteBuffer buf = ByteBuffer.allocateDirect((writeBatchSize + 1) * pageSize).alignedSlice(pageSize);
+
+            ByteBuffer[] bufs = new ByteBuffer[writeBatchSize];
+
+            for (int i = 0; i < bufs.length; i++) {
+                buf.limit((i + 1) * pageSize).position(i * pageSize);
+
+                bufs[i] = buf.slice().order(ByteOrder.nativeOrder());
+            }
+
+            return bufs;
+        }
+    };
+
     /** Throttling policy according to the settings. */
     private final PageMemoryImpl.ThrottlingPolicy throttlingPolicy;
 
@@ -125,6 +159,7 @@ public class CheckpointPagesWriterFactory {
             log,
             persStoreMetrics,
             threadBuf,
+            writeBatchSize > 1 ? threadBatchBufs : null,
             throttlingPolicy,
             pageMemoryGroupResolver,
             curCpProgress,
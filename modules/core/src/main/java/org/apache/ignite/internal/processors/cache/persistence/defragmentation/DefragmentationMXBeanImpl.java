@@ -52,6 +52,22 @@ public class DefragmentationMXBeanImpl implements DefragmentationMXBean {
         }
     }
 
+    /** {@inheritDoc} */
+    @Override public boolean startOnline(String cacheNames) {
+        final List<String> caches = Arrays.stream(cacheNames.split(","))
+            .filter(s -> !s.isEmpty())
+            .collect(Collectors.toList());
+
+        try {
+            defragmentation.startOnline(caches);
+
+            return true;
+        }
+        catch (IgniteCheckedException e) {
+            return false;
+        }
+    }
+
     /** {@inheritDoc} */
     @Override public boolean cancel() {
         try {
@@ -83,4 +99,9 @@ public class DefragmentationMXBeanImpl implements DefragmentationMXBean {
     @Override public long startTime() {
         return defragmentation.startTime();
     }
+
+    /** {@inheritDoc} */
+    @Override public long relocatedRows() {
+        return defragmentation.relocatedRows();
+    }
 }
@@ -24,6 +24,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.IgniteInternalFuture;
 
 /**
  * Defragmentation operation service.
@@ -38,6 +39,16 @@ public interface IgniteDefragmentation {
      */
     ScheduleResult schedule(List<String> cacheNames) throws IgniteCheckedException;
 
+    /**
+     * Start online defragmentation of the running node. Rows stored in sparse data pages are relocated in small
+     * batches, caches stay available for operations.
+     *
+     * @param cacheNames Names of caches or cache groups to run defragmentation on, all persistent caches if empty.
+     * @return Future completed when defragmentation is finished or cancelled.
+     * @throws IgniteCheckedException If defragmentation can't be started.
+     */
+    IgniteInternalFuture<Void> startOnline(List<String> cacheNames) throws IgniteCheckedException;
+
     /**
      * Cancel scheduled or ongoing defragmentation.
      * @return Result of the cancellation.
@@ -72,6 +83,11 @@ public interface IgniteDefragmentation {
      */
     long startTime();
 
+    /**
+     * @return Number of rows relocated by the last online defragmentation, or 0 if there was none.
+     */
+    long relocatedRows();
+
     /** Result of the scheduling. */
     public enum ScheduleResult {
         /**
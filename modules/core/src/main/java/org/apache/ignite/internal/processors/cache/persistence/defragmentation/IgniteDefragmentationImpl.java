@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.processors.cache.persistence.defragmentation;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -25,9 +26,12 @@ import java.util.Optional;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteException;
 import org.apache.ignite.internal.GridKernalContext;
+import org.apache.ignite.internal.IgniteInternalFuture;
+import org.apache.ignite.internal.processors.cache.CacheGroupContext;
 import org.apache.ignite.internal.processors.cache.persistence.GridCacheDatabaseSharedManager;
 import org.apache.ignite.internal.processors.cache.persistence.IgniteCacheDatabaseSharedManager;
 import org.apache.ignite.internal.processors.cache.persistence.defragmentation.CachePartitionDefragmentationManager.Status;
+import org.apache.ignite.internal.util.typedef.F;
 import org.apache.ignite.maintenance.MaintenanceAction;
 import org.apache.ignite.maintenance.MaintenanceRegistry;
 import org.apache.ignite.maintenance.MaintenanceTask;
@@ -42,6 +46,9 @@ public class IgniteDefragmentationImpl implements IgniteDefragmentation {
     /** Kernal context. */
     private final GridKernalContext ctx;
 
+    /** Last started online defragmentation. */
+    private volatile OnlineDefragmentation onlineDefrag;
+
     /** */
     public IgniteDefragmentationImpl(GridKernalContext ctx) {
         this.ctx = ctx;
@@ -63,10 +70,51 @@ public class IgniteDefragmentationImpl implements IgniteDefragmentation {
         return oldTask != null ? ScheduleResult.SUCCESS_SUPERSEDED_PREVIOUS : ScheduleResult.SUCCESS;
     }
 
+    /** {@inheritDoc} */
+    @Override public synchronized IgniteInternalFuture<Void> startOnline(List<String> cacheNames)
+        throws IgniteCheckedException {
+        if (ctx.maintenanceRegistry().isMaintenanceMode())
+            throw new IgniteCheckedException("Online defragmentation can't be started in maintenance mode.");
+
+        if (!ctx.state().clusterState().state().active())
+            throw new IgniteCheckedException("Online defragmentation can't be started on inactive cluster.");
+
+        OnlineDefragmentation defrag = onlineDefrag;
+
+        if (defrag != null && defrag.inProgress())
+            throw new IgniteCheckedException("Online defragmentation is already in progress.");
+
+        List<CacheGroupContext> grps = new ArrayList<>();
+
+        for (CacheGroupContext grp : ctx.cache().cacheGroups()) {
+            if (grp.systemCache() || !grp.persistenceEnabled() || !grp.affinityNode())
+                continue;
+
+            if (F.isEmpty(cacheNames) || cacheNames.contains(grp.cacheOrGroupName()) ||
+                grp.caches().stream().anyMatch(cctx -> cacheNames.contains(cctx.name())))
+                grps.add(grp);
+        }
+
+        if (grps.isEmpty())
+            throw new IgniteCheckedException("No persistent caches found to defragment: " + cacheNames);
+
+        onlineDefrag = defrag = new OnlineDefragmentation(ctx.cache().context(), grps);
+
+        return defrag.start();
+    }
+
     /** {@inheritDoc} */
     @Override public CancelResult cancel() throws IgniteCheckedException {
         final MaintenanceRegistry maintenanceRegistry = ctx.maintenanceRegistry();
 
+        OnlineDefragmentation defrag = onlineDefrag;
+
+        if (defrag != null && defrag.inProgress()) {
+            defrag.cancel();
+
+            return CancelResult.CANCELLED;
+        }
+
         if (!maintenanceRegistry.isMaintenanceMode()) {
             boolean deleted = maintenanceRegistry.unregisterMaintenanceTask(DEFRAGMENTATION_MNTC_TASK_NAME);
 
@@ -165,7 +213,13 @@ public class IgniteDefragmentationImpl implements IgniteDefragmentation {
     @Override public boolean inProgress() {
         final Status status = getStatus();
 
-        return status != null && status.getFinishTs() == 0;
+        if (status == null) {
+            OnlineDefragmentation defrag = onlineDefrag;
+
+            return defrag != null && defrag.inProgress();
+        }
+
+        return status.getFinishTs() == 0;
     }
 
     /** {@inheritDoc} */
@@ -173,7 +227,7 @@ public class IgniteDefragmentationImpl implements IgniteDefragmentation {
         final Status status = getStatus();
 
         if (status == null)
-            return 0;
+            return onlineDefrag != null ? onlineDefrag.processedPartitions() : 0;
 
         return status.getDefragmentedPartitionCount();
     }
@@ -183,7 +237,7 @@ public class IgniteDefragmentationImpl implements IgniteDefragmentation {
         final CachePartitionDefragmentationManager.Status status = getStatus();
 
         if (status == null)
-            return 0;
+            return onlineDefrag != null ? onlineDefrag.totalPartitions() : 0;
 
         return status.getTotalPartitionCount();
     }
@@ -193,11 +247,18 @@ public class IgniteDefragmentationImpl implements IgniteDefragmentation {
         final CachePartitionDefragmentationManager.Status status = getStatus();
 
         if (status == null)
-            return 0;
+            return onlineDefrag != null ? onlineDefrag.startTime() : 0;
 
         return status.getStartTs();
     }
 
+    /** {@inheritDoc} */
+    @Override public long relocatedRows() {
+        OnlineDefragmentation defrag = onlineDefrag;
+
+        return defrag != null ? defrag.relocatedRows() : 0;
+    }
+
     /**
      * Get defragmentation status.
      * @return Defragmentation status or {@code null} if there is no ongoing defragmentation.
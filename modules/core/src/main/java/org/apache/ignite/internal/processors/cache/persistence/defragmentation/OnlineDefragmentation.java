@@ -0,0 +1,391 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.defragmentation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.IgniteSystemProperties;
+import org.apache.ignite.internal.IgniteInternalFuture;
+import org.apache.ignite.internal.pagemem.PageIdUtils;
+import org.apache.ignite.internal.pagemem.PageMemory;
+import org.apache.ignite.internal.processors.cache.CacheGroupContext;
+import org.apache.ignite.internal.processors.cache.GridCacheContext;
+import org.apache.ignite.internal.processors.cache.GridCacheEntryEx;
+import org.apache.ignite.internal.processors.cache.GridCacheSharedContext;
+import org.apache.ignite.internal.processors.cache.IgniteCacheOffheapManager.CacheDataStore;
+import org.apache.ignite.internal.processors.cache.KeyCacheObject;
+import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtLocalPartition;
+import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
+import org.apache.ignite.internal.processors.cache.persistence.CacheDataRowAdapter;
+import org.apache.ignite.internal.processors.cache.persistence.IgniteCacheDatabaseSharedManager;
+import org.apache.ignite.internal.processors.cache.persistence.tree.io.AbstractDataPageIO;
+import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO;
+import org.apache.ignite.internal.util.future.GridFutureAdapter;
+import org.apache.ignite.internal.util.lang.GridCursor;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.thread.IgniteThread;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_ONLINE_DEFRAGMENTATION_BATCH_SIZE;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_ONLINE_DEFRAGMENTATION_FILL_FACTOR;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_ONLINE_DEFRAGMENTATION_THROTTLE;
+import static org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionState.OWNING;
+
+/**
+ * Online defragmentation of cache groups. Unlike {@link CachePartitionDefragmentationManager}, it doesn't require
+ * maintenance mode: rows stored in sparsely filled data pages of owning partitions are rewritten in small batches under
+ * checkpoint read lock and entry locks, so that the free list places them into denser pages, while the emptied pages
+ * are returned to the reuse list. Partitions keep serving operations in the meantime.
+ * <p>
+ * Relocation doesn't change data, so it isn't logged to WAL as logical records: page changes it produces are
+ * covered by physical records and checkpoints as any other page change.
+ */
+public class OnlineDefragmentation {
+    /** @see IgniteSystemProperties#IGNITE_ONLINE_DEFRAGMENTATION_BATCH_SIZE */
+    public static final int DFLT_ONLINE_DEFRAGMENTATION_BATCH_SIZE = 100;
+
+    /** @see IgniteSystemProperties#IGNITE_ONLINE_DEFRAGMENTATION_THROTTLE */
+    public static final long DFLT_ONLINE_DEFRAGMENTATION_THROTTLE = 10;
+
+    /** @see IgniteSystemProperties#IGNITE_ONLINE_DEFRAGMENTATION_FILL_FACTOR */
+    public static final float DFLT_ONLINE_DEFRAGMENTATION_FILL_FACTOR = 0.5f;
+
+    /** Count of rows relocated under a single checkpoint read lock acquisition. */
+    private final int batchSize = Math.max(1,
+        IgniteSystemProperties.getInteger(IGNITE_ONLINE_DEFRAGMENTATION_BATCH_SIZE, DFLT_ONLINE_DEFRAGMENTATION_BATCH_SIZE));
+
+    /** Pause between batches in milliseconds. */
+    private final long throttle =
+        IgniteSystemProperties.getLong(IGNITE_ONLINE_DEFRAGMENTATION_THROTTLE, DFLT_ONLINE_DEFRAGMENTATION_THROTTLE);
+
+    /** Fill factor below which data page is considered sparse. */
+    private final float fillFactor =
+        IgniteSystemProperties.getFloat(IGNITE_ONLINE_DEFRAGMENTATION_FILL_FACTOR, DFLT_ONLINE_DEFRAGMENTATION_FILL_FACTOR);
+
+    /** Shared context. */
+    private final GridCacheSharedContext<?, ?> cctx;
+
+    /** Logger. */
+    private final IgniteLogger log;
+
+    /** Cache groups to defragment. */
+    private final List<CacheGroupContext> grps;
+
+    /** Finish future. */
+    private final GridFutureAdapter<Void> finishFut = new GridFutureAdapter<>();
+
+    /** Count of relocated rows. */
+    private final AtomicLong relocatedRows = new AtomicLong();
+
+    /** Total count of partitions to defragment. */
+    private final int totalParts;
+
+    /** Count of processed partitions. */
+    private volatile int processedParts;
+
+    /** Start timestamp. */
+    private volatile long startTs;
+
+    /** Cancelled flag. */
+    private volatile boolean cancelled;
+
+    /**
+     * @param cctx Shared context.
+     * @param grps Cache groups to defragment.
+     */
+    public OnlineDefragmentation(GridCacheSharedContext<?, ?> cctx, List<CacheGroupContext> grps) {
+        this.cctx = cctx;
+        this.grps = grps;
+
+        log = cctx.logger(OnlineDefragmentation.class);
+
+        int parts = 0;
+
+        for (CacheGroupContext grp : grps) {
+            for (GridDhtLocalPartition part : grp.topology().currentLocalPartitions()) {
+                if (part.state() == OWNING)
+                    parts++;
+            }
+        }
+
+        totalParts = parts;
+    }
+
+    /**
+     * Starts defragmentation in a separate thread.
+     *
+     * @return Future completed when defragmentation is finished or cancelled.
+     */
+    public IgniteInternalFuture<Void> start() {
+        startTs = U.currentTimeMillis();
+
+        new IgniteThread(cctx.igniteInstanceName(), "online-defragmentation", this::defragment).start();
+
+        return finishFut;
+    }
+
+    /** Cancels defragmentation, it stops after the current batch. */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * @return Future completed when defragmentation is finished or cancelled.
+     */
+    public IgniteInternalFuture<Void> finishFuture() {
+        return finishFut;
+    }
+
+    /**
+     * @return {@code True} if defragmentation is in progress.
+     */
+    public boolean inProgress() {
+        return !finishFut.isDone();
+    }
+
+    /**
+     * @return Count of processed partitions.
+     */
+    public int processedPartitions() {
+        return processedParts;
+    }
+
+    /**
+     * @return Total count of partitions to defragment.
+     */
+    public int totalPartitions() {
+        return totalParts;
+    }
+
+    /**
+     * @return Count of relocated rows.
+     */
+    public long relocatedRows() {
+        return relocatedRows.get();
+    }
+
+    /**
+     * @return Start timestamp.
+     */
+    public long startTime() {
+        return startTs;
+    }
+
+    /** Defragments cache groups. */
+    private void defragment() {
+        if (log.isInfoEnabled())
+            log.info("Online defragmentation started [partitions=" + totalParts + ", fillFactor=" + fillFactor + ']');
+
+        try {
+            for (CacheGroupContext grp : grps) {
+                for (GridDhtLocalPartition part : grp.topology().currentLocalPartitions()) {
+                    if (stopped())
+                        break;
+
+                    if (part.state() != OWNING || !part.reserve())
+                        continue;
+
+                    try {
+                        if (part.state() == OWNING)
+                            defragment(grp, part);
+                    }
+                    finally {
+                        part.release();
+                    }
+
+                    processedParts++;
+                }
+            }
+
+            if (log.isInfoEnabled()) {
+                log.info("Online defragmentation " + (stopped() ? "cancelled" : "finished") +
+                    " [processedPartitions=" + processedParts + ", relocatedRows=" + relocatedRows.get() +
+                    ", time=" + (U.currentTimeMillis() - startTs) + " ms]");
+            }
+
+            finishFut.onDone();
+        }
+        catch (Throwable e) {
+            U.error(log, "Online defragmentation failed.", e);
+
+            finishFut.onDone(e);
+
+            if (e instanceof Error)
+                throw (Error)e;
+        }
+    }
+
+    /**
+     * @return {@code True} if defragmentation was cancelled or node is stopping.
+     */
+    private boolean stopped() {
+        return cancelled || cctx.kernalContext().isStopping();
+    }
+
+    /**
+     * Relocates rows stored in sparse data pages of the partition.
+     *
+     * @param grp Cache group.
+     * @param part Partition.
+     * @throws IgniteCheckedException If failed.
+     */
+    private void defragment(CacheGroupContext grp, GridDhtLocalPartition part) throws IgniteCheckedException {
+        CacheDataStore store = part.dataStore();
+
+        PageMemory pageMem = grp.dataRegion().pageMemory();
+
+        int maxFreeSpace = (int)(pageMem.realPageSize(grp.groupId()) * (1 - fillFactor));
+
+        GridCursor<? extends CacheDataRow> cur = store.cursor(CacheDataRowAdapter.RowData.KEY_ONLY);
+
+        List<CacheDataRow> batch = new ArrayList<>(batchSize);
+
+        // Page sparsity is checked once per batch.
+        Map<Long, Boolean> sparsePages = new HashMap<>();
+
+        while (cur.next()) {
+            if (stopped())
+                return;
+
+            CacheDataRow row = cur.get();
+
+            long pageId = PageIdUtils.pageId(row.link());
+
+            Boolean sparse = sparsePages.get(pageId);
+
+            if (sparse == null)
+                sparsePages.put(pageId, sparse = freeSpace(pageMem, grp.groupId(), pageId) > maxFreeSpace);
+
+            if (!sparse)
+                continue;
+
+            batch.add(row);
+
+            if (batch.size() == batchSize) {
+                relocate(grp, part, batch);
+
+                batch.clear();
+                sparsePages.clear();
+
+                if (throttle > 0)
+                    U.sleep(throttle);
+            }
+        }
+
+        if (!batch.isEmpty())
+            relocate(grp, part, batch);
+    }
+
+    /**
+     * @param pageMem Page memory.
+     * @param grpId Cache group ID.
+     * @param pageId Page ID.
+     * @return Free space of the data page or {@code 0} if it isn't a data page anymore.
+     * @throws IgniteCheckedException If failed.
+     */
+    private static int freeSpace(PageMemory pageMem, int grpId, long pageId) throws IgniteCheckedException {
+        long page = pageMem.acquirePage(grpId, pageId);
+
+        try {
+            long pageAddr = pageMem.readLock(grpId, pageId, page);
+
+            // Page was reused.
+            if (pageAddr == 0L)
+                return 0;
+
+            try {
+                if (PageIO.getType(pageAddr) != PageIO.T_DATA)
+                    return 0;
+
+                AbstractDataPageIO<?> io = PageIO.getPageIO(pageAddr);
+
+                return io.getFreeSpace(pageAddr);
+            }
+            finally {
+                pageMem.readUnlock(grpId, pageId, page);
+            }
+        }
+        finally {
+            pageMem.releasePage(grpId, pageId, page);
+        }
+    }
+
+    /**
+     * Rewrites rows, so that they are stored by the free list into other pages.
+     *
+     * @param grp Cache group.
+     * @param part Partition.
+     * @param rows Rows to relocate.
+     * @throws IgniteCheckedException If failed.
+     */
+    private void relocate(CacheGroupContext grp, GridDhtLocalPartition part, List<CacheDataRow> rows)
+        throws IgniteCheckedException {
+        IgniteCacheDatabaseSharedManager db = cctx.database();
+
+        CacheDataStore store = part.dataStore();
+
+        db.checkpointReadLock();
+
+        try {
+            for (CacheDataRow row : rows) {
+                GridCacheContext<?, ?> cacheCtx = grp.sharedGroup() ? cctx.cacheContext(row.cacheId()) :
+                    grp.singleCacheContext();
+
+                // Cache was stopped.
+                if (cacheCtx == null)
+                    continue;
+
+                KeyCacheObject key = row.key();
+
+                key.partition(part.id());
+
+                GridCacheEntryEx entry = cacheCtx.cache().entryEx(key);
+
+                entry.lockEntry();
+
+                try {
+                    if (entry.obsolete())
+                        continue;
+
+                    CacheDataRow cur = store.find(cacheCtx, key);
+
+                    // Row was updated or removed concurrently.
+                    if (cur == null || cur.link() != row.link())
+                        continue;
+
+                    // Old row isn't passed to get the new one always written into another page.
+                    store.update(cacheCtx, key, cur.value(), cur.version(), cur.expireTime(), null);
+
+                    relocatedRows.incrementAndGet();
+                }
+                finally {
+                    entry.unlockEntry();
+
+                    entry.touch();
+                }
+            }
+        }
+        finally {
+            db.checkpointReadUnlock();
+        }
+    }
+}
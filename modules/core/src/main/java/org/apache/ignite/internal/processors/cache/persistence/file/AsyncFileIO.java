@@ -35,6 +35,11 @@ import org.apache.ignite.internal.util.typedef.internal.U;
  * File I/O implementation based on {@link AsynchronousFileChannel}.
  */
 public class AsyncFileIO extends AbstractFileIO {
+    /**
+     * Buffers to coalesce gather writes into, {@link AsynchronousFileChannel} can't write several buffers at once.
+     */
+    private static final ThreadLocal<ByteBuffer> GATHER_BUF = new ThreadLocal<>();
+
     /**
      * File channel associated with {@code file}
      */
@@ -187,6 +192,31 @@ public class AsyncFileIO extends AbstractFileIO {
         }
     }
 
+    /** {@inheritDoc} */
+    @Override public long writeFully(ByteBuffer[] srcBufs, int off, int len, long position) throws IOException {
+        if (len == 1)
+            return writeFully(srcBufs[off], position);
+
+        int total = 0;
+
+        for (int i = off; i < off + len; i++)
+            total += srcBufs[i].remaining();
+
+        ByteBuffer buf = GATHER_BUF.get();
+
+        if (buf == null || buf.capacity() < total)
+            GATHER_BUF.set(buf = ByteBuffer.allocateDirect(total));
+
+        buf.clear();
+
+        for (int i = off; i < off + len; i++)
+            buf.put(srcBufs[i]);
+
+        buf.flip();
+
+        return writeFully(buf, position);
+    }
+
     /** {@inheritDoc} */
     @Override public int write(byte[] buf, int off, int len) throws IOException {
         ChannelOpFuture fut = holder.get();
@@ -176,6 +176,29 @@ public interface FileIO extends AutoCloseable {
      */
     public int writeFully(ByteBuffer srcBuf, long position) throws IOException;
 
+    /**
+     * Writes a sequence of bytes to this file from the given buffers starting from specified file {@code position}.
+     * Remaining bytes of each buffer are written right after the bytes of the previous one (gather write), so
+     * implementations may write all the buffers with a single system call.
+     *
+     * @param srcBufs Source buffers.
+     * @param off Offset of the first buffer in the array.
+     * @param len Number of buffers to write.
+     * @param position Starting file position.
+     *
+     * @return Number of written bytes.
+     *
+     * @throws IOException If some I/O error occurs.
+     */
+    public default long writeFully(ByteBuffer[] srcBufs, int off, int len, long position) throws IOException {
+        long written = 0;
+
+        for (int i = off; i < off + len; i++)
+            written += writeFully(srcBufs[i], position + written);
+
+        return written;
+    }
+
     /**
      * Writes {@code length} bytes from the {@code buffer}
      * starting at offset {@code off} to this file.
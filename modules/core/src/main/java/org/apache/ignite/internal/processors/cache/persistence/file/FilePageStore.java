@@ -525,7 +525,7 @@ public class FilePageStore implements PageStore {
             pageBuf.position(0);
 
             if (checkCrc) {
-                int curCrc32 = FastCrc.calcCrc(pageBuf, getCrcSize(pageId, pageBuf));
+                int curCrc32 = checksum(pageBuf, getCrcSize(pageId, pageBuf));
 
                 if ((savedCrc32 ^ curCrc32) != 0)
                     throw new IgniteDataIntegrityViolationException("Failed to read page (CRC validation failed) " +
@@ -721,33 +721,96 @@ public class FilePageStore implements PageStore {
                         "off=" + U.hexLong(off) + ", allocated=" + U.hexLong(allocated.get()) +
                             ", pageId=" + U.hexLong(pageId) + ", file=" + getFileAbsolutePath();
 
-                    assert pageBuf.position() == 0;
-                    assert pageBuf.order() == ByteOrder.nativeOrder() : "Page buffer order " + pageBuf.order()
-                        + " should be same with " + ByteOrder.nativeOrder();
-                    assert PageIO.getType(pageBuf) != 0 : "Invalid state. Type is 0! pageId = " + U.hexLong(pageId);
-                    assert PageIO.getVersion(pageBuf) != 0 : "Invalid state. Version is 0! pageId = " + U.hexLong(pageId);
+                    prepareWrite(pageId, pageBuf, calculateCrc);
 
-                    if (calculateCrc && !skipCrc) {
-                        assert PageIO.getCrc(pageBuf) == 0 : U.hexLong(pageId);
+                    fileIO.writeFully(pageBuf, off);
+
+                    PageIO.setCrc(pageBuf, 0);
+
+                    if (interrupted)
+                        Thread.currentThread().interrupt();
+
+                    return;
+                }
+                finally {
+                    lock.readLock().unlock();
+                }
+            }
+            catch (IOException e) {
+                if (e instanceof ClosedChannelException) {
+                    try {
+                        if (e instanceof ClosedByInterruptException) {
+                            interrupted = true;
+
+                            Thread.interrupted();
+                        }
+
+                        reinit(fileIO);
+
+                        pageBuf.position(0);
 
-                        PageIO.setCrc(pageBuf, calcCrc32(pageBuf, getCrcSize(pageId, pageBuf)));
+                        PageIO.setCrc(pageBuf, 0);
+
+                        continue;
+                    }
+                    catch (IOException e0) {
+                        e0.addSuppressed(e);
+
+                        e = e0;
                     }
+                }
+
+                throw new StorageException("Failed to write page [file=" + getFileAbsolutePath()
+                    + ", pageId=" + pageId + ", tag=" + tag + "]", e);
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public void write(
+        long[] pageIds,
+        ByteBuffer[] pageBufs,
+        int cnt,
+        int tag,
+        boolean calculateCrc
+    ) throws IgniteCheckedException {
+        if (cnt == 1) {
+            write(pageIds[0], pageBufs[0], tag, calculateCrc);
+
+            return;
+        }
+
+        init();
+
+        boolean interrupted = false;
+
+        while (true) {
+            FileIO fileIO = this.fileIO;
+
+            try {
+                lock.readLock().lock();
 
-                    // Check whether crc was calculated somewhere above the stack if it is forcibly skipped.
-                    assert skipCrc || PageIO.getCrc(pageBuf) != 0 || calcCrc32(pageBuf, getCrcSize(pageId, pageBuf)) == 0 :
-                        "CRC hasn't been calculated, crc=0";
+                try {
+                    if (tag < this.tag)
+                        return;
 
-                    assert pageBuf.position() == 0 : pageBuf.position();
+                    long off = pageOffset(pageIds[0]);
 
-                    for (PageWriteListener lsnr : lsnrs) {
-                        lsnr.accept(pageId, pageBuf);
+                    assert (off >= 0 && pageOffset(pageIds[cnt - 1]) <= allocated.get()) || recover :
+                        "off=" + U.hexLong(off) + ", allocated=" + U.hexLong(allocated.get()) +
+                            ", pageId=" + U.hexLong(pageIds[cnt - 1]) + ", file=" + getFileAbsolutePath();
+
+                    for (int i = 0; i < cnt; i++) {
+                        assert pageOffset(pageIds[i]) == off + (long)i * pageSize : "Pages are not sequential [first=" +
+                            U.hexLong(pageIds[0]) + ", pageId=" + U.hexLong(pageIds[i]) + ']';
 
-                        pageBuf.rewind();
+                        prepareWrite(pageIds[i], pageBufs[i], calculateCrc);
                     }
 
-                    fileIO.writeFully(pageBuf, off);
+                    fileIO.writeFully(pageBufs, 0, cnt, off);
 
-                    PageIO.setCrc(pageBuf, 0);
+                    for (int i = 0; i < cnt; i++)
+                        PageIO.setCrc(pageBufs[i], 0);
 
                     if (interrupted)
                         Thread.currentThread().interrupt();
@@ -769,9 +832,11 @@ public class FilePageStore implements PageStore {
 
                         reinit(fileIO);
 
-                        pageBuf.position(0);
+                        for (int i = 0; i < cnt; i++) {
+                            pageBufs[i].position(0);
 
-                        PageIO.setCrc(pageBuf, 0);
+                            PageIO.setCrc(pageBufs[i], 0);
+                        }
 
                         continue;
                     }
@@ -782,27 +847,72 @@ public class FilePageStore implements PageStore {
                     }
                 }
 
-                throw new StorageException("Failed to write page [file=" + getFileAbsolutePath()
-                    + ", pageId=" + pageId + ", tag=" + tag + "]", e);
+                throw new StorageException("Failed to write pages [file=" + getFileAbsolutePath()
+                    + ", firstPageId=" + pageIds[0] + ", cnt=" + cnt + ", tag=" + tag + "]", e);
             }
         }
     }
 
+    /**
+     * Calculates CRC of the page and notifies write listeners before the page is written.
+     *
+     * @param pageId Page ID.
+     * @param pageBuf Page buffer.
+     * @param calculateCrc If {@code false} crc calculation will be forcibly skipped.
+     * @throws IOException If failed to calculate CRC.
+     */
+    private void prepareWrite(long pageId, ByteBuffer pageBuf, boolean calculateCrc) throws IOException {
+        assert pageBuf.position() == 0;
+        assert pageBuf.order() == ByteOrder.nativeOrder() : "Page buffer order " + pageBuf.order()
+            + " should be same with " + ByteOrder.nativeOrder();
+        assert PageIO.getType(pageBuf) != 0 : "Invalid state. Type is 0! pageId = " + U.hexLong(pageId);
+        assert PageIO.getVersion(pageBuf) != 0 : "Invalid state. Version is 0! pageId = " + U.hexLong(pageId);
+
+        if (calculateCrc && !skipCrc) {
+            assert PageIO.getCrc(pageBuf) == 0 : U.hexLong(pageId);
+
+            PageIO.setCrc(pageBuf, calcPageCrc(pageBuf, getCrcSize(pageId, pageBuf)));
+        }
+
+        // Check whether crc was calculated somewhere above the stack if it is forcibly skipped.
+        assert skipCrc || PageIO.getCrc(pageBuf) != 0 || calcPageCrc(pageBuf, getCrcSize(pageId, pageBuf)) == 0 :
+            "CRC hasn't been calculated, crc=0";
+
+        assert pageBuf.position() == 0 : pageBuf.position();
+
+        for (PageWriteListener lsnr : lsnrs) {
+            lsnr.accept(pageId, pageBuf);
+
+            pageBuf.rewind();
+        }
+    }
+
     /**
      * @param pageBuf Page buffer.
      * @param pageSize Page size.
      */
-    private static int calcCrc32(ByteBuffer pageBuf, int pageSize) {
+    private int calcPageCrc(ByteBuffer pageBuf, int pageSize) {
         try {
             pageBuf.position(0);
 
-            return FastCrc.calcCrc(pageBuf, pageSize);
+            return checksum(pageBuf, pageSize);
         }
         finally {
             pageBuf.position(0);
         }
     }
 
+    /**
+     * Calculates checksum of the page starting from the current buffer position.
+     *
+     * @param pageBuf Page buffer.
+     * @param len Data length.
+     * @return CRC32 checksum.
+     */
+    protected int checksum(ByteBuffer pageBuf, int len) {
+        return FastCrc.calcCrc(pageBuf, len);
+    }
+
     /** {@inheritDoc} */
     @Override public long pageOffset(long pageId) {
         return (long)PageIdUtils.pageIndex(pageId) * pageSize + headerSize();
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.file;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.function.LongConsumer;
+import org.apache.ignite.internal.processors.cache.persistence.wal.crc.FastCrc;
+import org.apache.ignite.lang.IgniteOutClosure;
+
+/**
+ * Page store which calculates checksums of pages with CRC32C instead of CRC32. Format of the file is the same
+ * as in {@link FilePageStoreV2}, checksum algorithm is defined by the version written in the file header.
+ */
+public class FilePageStoreV3 extends FilePageStoreV2 {
+    /** File version. */
+    public static final int VERSION = 3;
+
+    /**
+     * Constructor which initializes file path provider closure, allowing to calculate file path in any time.
+     *
+     * @param type Type.
+     * @param pathProvider file path provider.
+     * @param factory Factory.
+     * @param pageSize Page size.
+     * @param allocatedTracker Allocated tracker.
+     */
+    public FilePageStoreV3(
+        byte type,
+        IgniteOutClosure<Path> pathProvider,
+        FileIOFactory factory,
+        int pageSize,
+        LongConsumer allocatedTracker) {
+        super(type, pathProvider, factory, pageSize, allocatedTracker);
+    }
+
+    /** {@inheritDoc} */
+    @Override public int version() {
+        return VERSION;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected int checksum(ByteBuffer pageBuf, int len) {
+        return FastCrc.calcCrc32c(pageBuf, len);
+    }
+}
@@ -26,9 +26,12 @@ import java.nio.file.Path;
 import java.util.function.IntSupplier;
 import java.util.function.LongConsumer;
 import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.internal.pagemem.store.PageStore;
 import org.apache.ignite.lang.IgniteOutClosure;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_PDS_CRC32C;
+
 /**
  * Checks version in files if it's present on the disk, creates store with latest version otherwise.
  */
@@ -125,7 +128,7 @@ public class FileVersionCheckingFactory {
      * Resolves latest page store version.
      */
     public int latestVersion() {
-        int latestVer = LATEST_VERSION;
+        int latestVer = IgniteSystemProperties.getBoolean(IGNITE_PDS_CRC32C) ? FilePageStoreV3.VERSION : LATEST_VERSION;
 
         try {
             latestVer = Integer.parseInt(System.getProperty(LATEST_VERSION_OVERRIDE_PROPERTY));
@@ -159,6 +162,9 @@ public class FileVersionCheckingFactory {
             case FilePageStoreV2.VERSION:
                 return new FilePageStoreV2(type, pathProvider, fileIOFactory, pageSize, allocatedTracker);
 
+            case FilePageStoreV3.VERSION:
+                return new FilePageStoreV3(type, pathProvider, fileIOFactory, pageSize, allocatedTracker);
+
             default:
                 throw new IllegalArgumentException(
                     "Unknown version of file page store: " + ver + " for file [" + pathProvider.apply().toAbsolutePath() + "]"
@@ -176,6 +182,7 @@ public class FileVersionCheckingFactory {
                 return FilePageStore.HEADER_SIZE;
 
             case FilePageStoreV2.VERSION:
+            case FilePageStoreV3.VERSION:
                 return pageSize.getAsInt();
 
             default:
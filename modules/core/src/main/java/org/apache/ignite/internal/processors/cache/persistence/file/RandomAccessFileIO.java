@@ -44,6 +44,9 @@ public class RandomAccessFileIO extends AbstractFileIO {
     /** */
     private final int fsBlockSize;
 
+    /** Mutex for gather writes, which have to move the channel position. */
+    private final Object gatherMux = new Object();
+
     /**
      * Creates I/O implementation for specified {@code file}
      *
@@ -65,6 +68,13 @@ public class RandomAccessFileIO extends AbstractFileIO {
         return U.field(fd, "fd");
     }
 
+    /**
+     * @return Native file descriptor.
+     */
+    int nativeFileDescriptor() {
+        return fd;
+    }
+
     /** {@inheritDoc} */
     @Override public int getFileSystemBlockSize() {
         return fsBlockSize;
@@ -120,6 +130,34 @@ public class RandomAccessFileIO extends AbstractFileIO {
         return ch.write(ByteBuffer.wrap(buf, off, len));
     }
 
+    /** {@inheritDoc} */
+    @Override public long writeFully(ByteBuffer[] srcBufs, int off, int len, long position) throws IOException {
+        if (len == 1)
+            return writeFully(srcBufs[off], position);
+
+        long total = 0;
+
+        for (int i = off; i < off + len; i++)
+            total += srcBufs[i].remaining();
+
+        // FileChannel has no positional gather write, so the position is moved and then restored.
+        synchronized (gatherMux) {
+            long pos = ch.position();
+
+            ch.position(position);
+
+            try {
+                for (long written = 0; written < total; )
+                    written += ch.write(srcBufs, off, len);
+            }
+            finally {
+                ch.position(pos);
+            }
+        }
+
+        return total;
+    }
+
     /** {@inheritDoc} */
     @Override public void force(boolean withMetadata) throws IOException {
         ch.force(withMetadata);
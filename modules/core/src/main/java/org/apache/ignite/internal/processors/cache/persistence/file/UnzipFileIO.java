@@ -17,22 +17,24 @@
 package org.apache.ignite.internal.processors.cache.persistence.file;
 
 import java.io.BufferedInputStream;
+import java.io.EOFException;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.nio.MappedByteBuffer;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
 /**
- * {@link FileIO} that allows to work with ZIP compressed file.
+ * {@link FileIO} that allows to work with ZIP compressed file or any other decompressing stream.
  * Doesn't allow random access and setting {@link FileIO#position()} backwards.
  * Allows sequential reads including setting {@link FileIO#position()} forward.
  */
 public class UnzipFileIO extends AbstractFileIO {
-    /** Zip input stream. */
-    private final ZipInputStream zis;
+    /** Decompressing input stream. */
+    private final InputStream zis;
 
     /** Byte array for draining data. */
     private final byte[] arr = new byte[128 * 1024];
@@ -47,10 +49,21 @@ public class UnzipFileIO extends AbstractFileIO {
      * @param zip Compressed file.
      */
     public UnzipFileIO(File zip) throws IOException {
-        zis = new ZipInputStream(new BufferedInputStream(new FileInputStream(zip)));
+        ZipInputStream zis = new ZipInputStream(new BufferedInputStream(new FileInputStream(zip)));
 
         ZipEntry entry = zis.getNextEntry();
         size = entry.getSize();
+
+        this.zis = zis;
+    }
+
+    /**
+     * @param in Decompressing input stream.
+     * @param size Size of uncompressed data.
+     */
+    public UnzipFileIO(InputStream in, long size) {
+        zis = in;
+        this.size = size;
     }
 
     /** {@inheritDoc} */
@@ -86,7 +99,13 @@ public class UnzipFileIO extends AbstractFileIO {
         while (bytesRemaining > 0) {
             int bytesToRead = bytesRemaining > arr.length ? arr.length : (int)bytesRemaining;
 
-            bytesRemaining -= zis.read(arr, 0, bytesToRead);
+            int bytesRead = zis.read(arr, 0, bytesToRead);
+
+            if (bytesRead == -1)
+                throw new EOFException("EOF at position [" + totalBytesRead + "] while seeking to [" + newPosition + "]");
+
+            bytesRemaining -= bytesRead;
+            totalBytesRead += bytesRead;
         }
     }
 
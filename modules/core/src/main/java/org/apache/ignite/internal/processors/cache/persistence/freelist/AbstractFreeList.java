@@ -169,6 +169,8 @@ public abstract class AbstractFreeList<T extends Storable> extends PagesList imp
             int written,
             IoStatisticsHolder statHolder
         ) throws IgniteCheckedException {
+            onTake(pageAddr, (AbstractDataPageIO)iox);
+
             written = addRow(pageId, page, pageAddr, iox, row, written, statHolder);
 
             putPage(((AbstractDataPageIO)iox).getFreeSpace(pageAddr), pageId, page, pageAddr, statHolder);
@@ -315,6 +317,23 @@ public abstract class AbstractFreeList<T extends Storable> extends PagesList imp
                 int bucket = bucket(freeSpace, false);
 
                 put(null, pageId, page, pageAddr, bucket, statHolder);
+
+                addBucketFreeSpace(bucket, freeSpace);
+            }
+        }
+
+        /**
+         * Removes free space of the page from its bucket if the page was taken from a bucket. Allocated and recycled
+         * pages are empty, they are not accounted in any bucket.
+         *
+         * @param pageAddr Page address.
+         * @param io IO.
+         */
+        protected void onTake(long pageAddr, AbstractDataPageIO<T> io) {
+            if (!io.isEmpty(pageAddr)) {
+                int freeSpace = io.getFreeSpace(pageAddr);
+
+                addBucketFreeSpace(bucket(freeSpace, false), -freeSpace);
             }
         }
     }
@@ -335,6 +354,8 @@ public abstract class AbstractFreeList<T extends Storable> extends PagesList imp
         ) throws IgniteCheckedException {
             AbstractDataPageIO<T> io = (AbstractDataPageIO<T>)iox;
 
+            writeRowHnd.onTake(pageAddr, io);
+
             // Fill the page up to the end.
             while (written != COMPLETE || (!evictionTracker.evictionRequired() && cur.next())) {
                 T row = cur.get();
@@ -399,6 +420,11 @@ public abstract class AbstractFreeList<T extends Storable> extends PagesList imp
 
             int newFreeSpace = io.getFreeSpace(pageAddr);
 
+            // Free space of a page is accounted in its bucket while the page is in the bucket or is being taken from
+            // it, possibly with an outdated bucket, the taker removes it under the page lock.
+            if (oldFreeSpace > MIN_PAGE_FREE_SPACE)
+                addBucketFreeSpace(bucket(oldFreeSpace, false), -oldFreeSpace);
+
             if (newFreeSpace > MIN_PAGE_FREE_SPACE) {
                 int newBucket = bucket(newFreeSpace, false);
 
@@ -407,7 +433,8 @@ public abstract class AbstractFreeList<T extends Storable> extends PagesList imp
                 if (!putIsNeeded) {
                     int oldBucket = bucket(oldFreeSpace, false);
 
-                    if (oldBucket != newBucket) {
+                    // An empty page is recycled even if its bucket is not changed.
+                    if (oldBucket != newBucket || io.isEmpty(pageAddr)) {
                         // It is possible that page was concurrently taken for put, in this case put will handle bucket change.
                         pageId = maskPartId ? PageIdUtils.maskPartitionId(pageId) : pageId;
 
@@ -421,8 +448,12 @@ public abstract class AbstractFreeList<T extends Storable> extends PagesList imp
                     if (putIsNeeded)
                         reuseBag.addFreePage(recyclePage(pageId, page, pageAddr, null));
                 }
-                else if (putIsNeeded)
-                    put(null, pageId, page, pageAddr, newBucket, statHolder);
+                else {
+                    addBucketFreeSpace(newBucket, newFreeSpace);
+
+                    if (putIsNeeded)
+                        put(null, pageId, page, pageAddr, newBucket, statHolder);
+                }
             }
 
             statHolder.trackPageRemoveData(newFreeSpace - oldFreeSpace);
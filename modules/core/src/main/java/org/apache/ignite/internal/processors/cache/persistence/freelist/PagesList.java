@@ -21,9 +21,11 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteLogger;
 import org.apache.ignite.IgniteSystemProperties;
@@ -106,9 +108,22 @@ public abstract class PagesList extends DataStructure {
     private final boolean pagesListCachingDisabledSysProp =
         IgniteSystemProperties.getBoolean(IgniteSystemProperties.IGNITE_PAGES_LIST_DISABLE_ONHEAP_CACHING, false);
 
+    /** Counter to assign preferred stripes to threads which are not bound to a pool stripe. */
+    private static final AtomicInteger stripeHintCntr = new AtomicInteger();
+
+    /** Stripe of a bucket preferred by the current thread. */
+    private static final ThreadLocal<Integer> threadStripeHint =
+        ThreadLocal.withInitial(() -> stripeHintCntr.getAndIncrement() & Integer.MAX_VALUE);
+
     /** */
     protected final AtomicLongArray bucketsSize;
 
+    /** Count of pages taken from buckets to be reused, adders keep the take path free of a shared counter. */
+    private final LongAdder[] bucketsTakes;
+
+    /** Summed free space of data pages in buckets, in bytes, see {@link #addBucketFreeSpace(int, long)}. */
+    private final LongAdder[] bucketsFreeSpace;
+
     /** */
     protected volatile boolean changed;
 
@@ -232,6 +247,13 @@ public abstract class PagesList extends DataStructure {
         log = ctx.log(PagesList.class);
 
         bucketsSize = new AtomicLongArray(buckets);
+        bucketsTakes = new LongAdder[buckets];
+        bucketsFreeSpace = new LongAdder[buckets];
+
+        for (int i = 0; i < buckets; i++) {
+            bucketsTakes[i] = new LongAdder();
+            bucketsFreeSpace[i] = new LongAdder();
+        }
     }
 
     /**
@@ -330,6 +352,12 @@ public abstract class PagesList extends DataStructure {
                     assert ok;
 
                     bucketsSize.set(bucket, bucketSize);
+
+                    // Free space of restored pages is not stored, assume the middle of the bucket range.
+                    if (!isReuseBucket(bucket)) {
+                        bucketsFreeSpace[bucket].add(
+                            bucketSize * (getPageFreeSpace(bucket) + maxPageFreeSpace(bucket)) / 2);
+                    }
                 }
             }
         }
@@ -735,10 +763,11 @@ public abstract class PagesList extends DataStructure {
     /**
      * @param bucket Bucket.
      * @param bag Reuse bag.
+     * @param lockAttempt Lock attempts counter.
      * @return Page ID where the given page
      * @throws IgniteCheckedException If failed.
      */
-    private Stripe getPageForPut(int bucket, ReuseBag bag) throws IgniteCheckedException {
+    private Stripe getPageForPut(int bucket, ReuseBag bag, int lockAttempt) throws IgniteCheckedException {
         // Striped pool optimization.
         IgniteThread igniteThread = IgniteThread.current();
 
@@ -761,7 +790,21 @@ public abstract class PagesList extends DataStructure {
         if (tails == null)
             return addStripe(bucket, bag, true);
 
-        return randomTail(tails);
+        // Threads keep to their own stripes while these are not contended.
+        return lockAttempt == 0 ? tails[stripeHint() % tails.length] : randomTail(tails);
+    }
+
+    /**
+     * @return Index of a stripe preferred by the current thread, it is the index of the pool stripe
+     * if the thread belongs to a striped pool.
+     */
+    static int stripeHint() {
+        IgniteThread igniteThread = IgniteThread.current();
+
+        if (igniteThread != null && igniteThread.stripe() >= 0)
+            return igniteThread.stripe();
+
+        return threadStripeHint.get();
     }
 
     /**
@@ -864,7 +907,7 @@ public abstract class PagesList extends DataStructure {
         }
 
         for (int lockAttempt = 0; ;) {
-            Stripe stripe = getPageForPut(bucket, bag);
+            Stripe stripe = getPageForPut(bucket, bag, lockAttempt);
 
             // No need to continue if bag has been utilized at getPageForPut (free page can be used for pagelist).
             if (bag != null && bag.isEmpty())
@@ -1248,7 +1291,7 @@ public abstract class PagesList extends DataStructure {
      * @param bucket Bucket index.
      * @return Page for take.
      */
-    private Stripe getPageForTake(int bucket) {
+    private Stripe getPageForTake(int bucket, int lockAttempt) {
         Stripe[] tails = getBucket(bucket);
 
         if (tails == null || bucketsSize.get(bucket) == 0)
@@ -1272,7 +1315,8 @@ public abstract class PagesList extends DataStructure {
             return stripe.empty ? null : stripe;
         }
 
-        int init = randomInt(len);
+        // Threads keep to their own stripes while these are not contended.
+        int init = lockAttempt == 0 ? stripeHint() % len : randomInt(len);
         int cur = init;
 
         while (true) {
@@ -1340,6 +1384,8 @@ public abstract class PagesList extends DataStructure {
         if (pagesCache != null && (pageId = pagesCache.poll()) != 0L) {
             decrementBucketSize(bucket);
 
+            bucketsTakes[bucket].increment();
+
             if (log.isDebugEnabled()) {
                 log.debug("Take page from pages list cache [list=" + name() + ", bucket=" + bucket +
                     ", pageId=" + pageId + ']');
@@ -1351,7 +1397,7 @@ public abstract class PagesList extends DataStructure {
         }
 
         for (int lockAttempt = 0; ;) {
-            Stripe stripe = getPageForTake(bucket);
+            Stripe stripe = getPageForTake(bucket, lockAttempt);
 
             if (stripe == null)
                 return 0L;
@@ -1405,6 +1451,8 @@ public abstract class PagesList extends DataStructure {
                     if (pageId != 0L) {
                         decrementBucketSize(bucket);
 
+                        bucketsTakes[bucket].increment();
+
                         if (needWalDeltaRecord(tailId, tailPage, null))
                             wal.log(new PagesListRemovePageRecord(grpId, tailId, pageId));
 
@@ -1981,6 +2029,63 @@ public abstract class PagesList extends DataStructure {
         return bucketsSize.get(bucket);
     }
 
+    /**
+     * Count of pages taken from the bucket to be reused.
+     *
+     * @param bucket Bucket.
+     */
+    public long takenPagesCount(int bucket) {
+        return bucketsTakes[bucket].sum();
+    }
+
+    /**
+     * Adds to the summed free space of data pages in the bucket. The sum is maintained by the data page owners under
+     * the page write lock.
+     *
+     * @param bucket Bucket.
+     * @param delta Free space delta, in bytes.
+     */
+    protected void addBucketFreeSpace(int bucket, long delta) {
+        bucketsFreeSpace[bucket].add(delta);
+    }
+
+    /**
+     * Summed free space of data pages in the bucket, it is estimated for the pages restored from a persisted list.
+     *
+     * @param bucket Bucket.
+     */
+    public long bucketFreeSpace(int bucket) {
+        return bucketsFreeSpace[bucket].sum();
+    }
+
+    /**
+     * Average fill factor of data pages in the bucket, that is the part of a page occupied by data.
+     *
+     * @param bucket Bucket.
+     */
+    public float pageFillFactor(int bucket) {
+        long pages = bucketsSize.get(bucket);
+
+        if (pages <= 0 || isReuseBucket(bucket))
+            return 0;
+
+        // The page count and the free space sum are updated separately, keep the average within the bucket range.
+        long freeSpace = Math.max(getPageFreeSpace(bucket), Math.min(bucketFreeSpace(bucket) / pages,
+            maxPageFreeSpace(bucket)));
+
+        int pageSize = pageSize();
+
+        return 1 - (float)Math.min(freeSpace, pageSize) / pageSize;
+    }
+
+    /**
+     * @param bucket Bucket.
+     * @return Maximum free space of a page in the bucket.
+     */
+    public int maxPageFreeSpace(int bucket) {
+        return bucket + 1 < buckets ? getPageFreeSpace(bucket + 1) - 1 : pageSize();
+    }
+
     /**
      * Stripes count.
      *
@@ -40,7 +40,7 @@ public class ClockPageReplacementFlags {
      * @param totalPagesCnt Total pages count.
      * @param memPtr Pointer to memory region.
      */
-    ClockPageReplacementFlags(int totalPagesCnt, long memPtr) {
+    public ClockPageReplacementFlags(int totalPagesCnt, long memPtr) {
         pagesCnt = totalPagesCnt;
         flagsPtr = memPtr;
 
@@ -97,7 +97,7 @@ public class ClockPageReplacementFlags {
      *
      * @param pageIdx Page index.
      */
-    boolean getFlag(int pageIdx) {
+    public boolean getFlag(int pageIdx) {
         long flags = GridUnsafe.getLong(flagsPtr + ((pageIdx >> 3) & (~7L)));
 
         return (flags & (1L << pageIdx)) != 0L;
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.pagemem;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import org.apache.ignite.internal.pagemem.wal.record.delta.PageDiffRecord;
+import org.apache.ignite.internal.util.GridUnsafe;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Keeps images of clean pages taken when a thread acquires a write lock, so that the first modification of a page
+ * after a checkpoint can be logged as {@link PageDiffRecord}. Images are bound to the thread holding the lock.
+ */
+class PageBaseImages {
+    /** Maximum number of free images kept by a thread. */
+    private static final int MAX_FREE_IMAGES = 8;
+
+    /** Page size. */
+    private final int pageSize;
+
+    /** Images of the pages locked by the current thread. */
+    private final ThreadLocal<Images> images = ThreadLocal.withInitial(Images::new);
+
+    /**
+     * @param pageSize Page size.
+     */
+    PageBaseImages(int pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Takes image of the page.
+     *
+     * @param absPtr Absolute pointer of the page.
+     * @param pageAddr Page address.
+     */
+    void capture(long absPtr, long pageAddr) {
+        Images imgs = images.get();
+
+        byte[] img = imgs.free.isEmpty() ? new byte[pageSize] : imgs.free.poll();
+
+        GridUnsafe.copyOffheapHeap(pageAddr, img, GridUnsafe.BYTE_ARR_OFF, pageSize);
+
+        imgs.put(absPtr, img);
+    }
+
+    /**
+     * Removes image of the page taken by the current thread.
+     *
+     * @param absPtr Absolute pointer of the page.
+     * @return Image of the page or {@code null} if it wasn't taken.
+     */
+    @Nullable byte[] remove(long absPtr) {
+        return images.get().remove(absPtr);
+    }
+
+    /**
+     * Returns image to the pool of the current thread.
+     *
+     * @param img Image.
+     */
+    void release(byte[] img) {
+        ArrayDeque<byte[]> free = images.get().free;
+
+        if (free.size() < MAX_FREE_IMAGES)
+            free.push(img);
+    }
+
+    /** Images of a thread. */
+    private static class Images {
+        /** Pointers of locked pages. */
+        private long[] ptrs = new long[4];
+
+        /** Images of locked pages. */
+        private byte[][] imgs = new byte[4][];
+
+        /** Number of locked pages. */
+        private int cnt;
+
+        /** Free images. */
+        private final ArrayDeque<byte[]> free = new ArrayDeque<>();
+
+        /**
+         * @param ptr Page pointer.
+         * @param img Image.
+         */
+        void put(long ptr, byte[] img) {
+            for (int i = 0; i < cnt; i++) {
+                if (ptrs[i] == ptr) {
+                    imgs[i] = img;
+
+                    return;
+                }
+            }
+
+            if (cnt == ptrs.length) {
+                ptrs = Arrays.copyOf(ptrs, cnt * 2);
+                imgs = Arrays.copyOf(imgs, cnt * 2);
+            }
+
+            ptrs[cnt] = ptr;
+            imgs[cnt++] = img;
+        }
+
+        /**
+         * @param ptr Page pointer.
+         * @return Image or {@code null}.
+         */
+        @Nullable byte[] remove(long ptr) {
+            for (int i = cnt - 1; i >= 0; i--) {
+                if (ptrs[i] == ptr) {
+                    byte[] img = imgs[i];
+
+                    cnt--;
+
+                    ptrs[i] = ptrs[cnt];
+                    imgs[i] = imgs[cnt];
+                    imgs[cnt] = null;
+
+                    return img;
+                }
+            }
+
+            return null;
+        }
+    }
+}
@@ -148,6 +148,19 @@ public interface PageMemoryEx extends PageMemory {
         boolean keepDirty
     ) throws IgniteCheckedException;
 
+    /**
+     * Pins the page which is being written by checkpoint, so the page can't be replaced until it is released by
+     * {@link #releasePage(int, long, long)}. Allows {@link PageStoreWriter} to postpone write of the page content: the
+     * page is not read from the store until the write is completed. Unlike {@link #acquirePage(int, long)} the page is
+     * not loaded if it is absent, and the access is not accounted as a page hit.
+     *
+     * @param fullId Full page ID, the page must be pinned by the caller, e.g. by {@link #checkpointWritePage}.
+     * @param tag Partition generation the page content was copied with.
+     * @return Page absolute pointer or {@code 0} if the partition generation has changed, so the page content won't be
+     *      written anyway.
+     */
+    public long acquireCheckpointPage(FullPageId fullId, int tag);
+
     /** */
     public PageReadWriteManager pageManager();
 
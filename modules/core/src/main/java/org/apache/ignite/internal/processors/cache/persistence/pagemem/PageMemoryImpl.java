@@ -60,6 +60,8 @@ import org.apache.ignite.internal.pagemem.wal.record.PageSnapshot;
 import org.apache.ignite.internal.pagemem.wal.record.WALRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.InitNewPageRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.PageDeltaRecord;
+import org.apache.ignite.internal.pagemem.wal.record.delta.PageDiffRecord;
+import org.apache.ignite.internal.processors.cache.CacheGroupContext;
 import org.apache.ignite.internal.processors.cache.GridCacheSharedContext;
 import org.apache.ignite.internal.processors.cache.persistence.CheckpointLockStateChecker;
 import org.apache.ignite.internal.processors.cache.persistence.DataRegionMetricsImpl;
@@ -95,9 +97,13 @@ import org.jetbrains.annotations.TestOnly;
 import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
 import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_BPLUS_TREE_OPTIMISTIC_READS;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_DELAYED_REPLACED_PAGE_WRITE;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_LOADED_PAGES_BACKWARD_SHIFT_MAP;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_SEQUENTIAL_ACCESS_RING_SIZE;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_WAL_PAGE_DIFF_RECORDS;
 import static org.apache.ignite.IgniteSystemProperties.getBoolean;
+import static org.apache.ignite.IgniteSystemProperties.getInteger;
 import static org.apache.ignite.internal.pagemem.FullPageId.NULL_PAGE;
 import static org.apache.ignite.internal.processors.cache.persistence.pagemem.PagePool.SEGMENT_INDEX_MASK;
 import static org.apache.ignite.internal.util.GridUnsafe.wrapPointer;
@@ -160,6 +166,9 @@ public class PageMemoryImpl implements PageMemoryEx {
     /** @see IgniteSystemProperties#IGNITE_LOADED_PAGES_BACKWARD_SHIFT_MAP */
     public static final boolean DFLT_LOADED_PAGES_BACKWARD_SHIFT_MAP = true;
 
+    /** @see IgniteSystemProperties#IGNITE_SEQUENTIAL_ACCESS_RING_SIZE */
+    public static final int DFLT_SEQUENTIAL_ACCESS_RING_SIZE = 64;
+
     /** Tracking io. */
     private static final TrackingPageIO trackingIO = TrackingPageIO.VERSIONS.latest();
 
@@ -183,6 +192,9 @@ public class PageMemoryImpl implements PageMemoryEx {
     private final boolean useBackwardShiftMap =
         IgniteSystemProperties.getBoolean(IGNITE_LOADED_PAGES_BACKWARD_SHIFT_MAP, DFLT_LOADED_PAGES_BACKWARD_SHIFT_MAP);
 
+    /** Per-segment count of pages loaded by sequential access which are replaced first. */
+    private final int seqAccessRingSize = getInteger(IGNITE_SEQUENTIAL_ACCESS_RING_SIZE, DFLT_SEQUENTIAL_ACCESS_RING_SIZE);
+
     /** Page replacement policy factory. */
     private final PageReplacementPolicyFactory pageReplacementPolicyFactory;
 
@@ -232,6 +244,12 @@ public class PageMemoryImpl implements PageMemoryEx {
      */
     @Nullable private final DelayedPageReplacementTracker delayedPageReplacementTracker;
 
+    /**
+     * Images of clean pages taken on write lock to log the first modification of a page after checkpoint as a diff.
+     * {@code Null} if page diff records are disabled.
+     */
+    @Nullable private final PageBaseImages pageBaseImages;
+
     /** Obsolete feature. Flag keeped for compatibility with existing PDS. */
     private final boolean trackable;
 
@@ -325,7 +343,11 @@ public class PageMemoryImpl implements PageMemoryEx {
 
         encPageSize = CU.encryptedPageSize(pageSize, ctx.kernalContext().config().getEncryptionSpi());
 
-        rwLock = new OffheapReadWriteLock(128);
+        pageBaseImages = getBoolean(IGNITE_WAL_PAGE_DIFF_RECORDS)
+            && !ctx.gridConfig().getDataStorageConfiguration().isWriteRecoveryDataOnCheckpoint()
+            ? new PageBaseImages(pageSize) : null;
+
+        rwLock = new OffheapReadWriteLock(128, getBoolean(IGNITE_BPLUS_TREE_OPTIMISTIC_READS));
 
         this.dataRegionMetrics = dataRegionMetrics;
         
@@ -352,6 +374,10 @@ public class PageMemoryImpl implements PageMemoryEx {
             case CLOCK:
                 pageReplacementPolicyFactory = new ClockPageReplacementPolicyFactory();
 
+                break;
+            case TINY_LFU:
+                pageReplacementPolicyFactory = new TinyLfuPageReplacementPolicyFactory();
+
                 break;
             default:
                 throw new IgniteException("Unexpected page replacement mode: " + dataRegionCfg.getPageReplacementMode());
@@ -600,7 +626,7 @@ public class PageMemoryImpl implements PageMemoryEx {
                 relPtr = seg.borrowOrAllocateFreePage(pageId);
 
             if (relPtr == INVALID_REL_PTR) {
-                relPtr = seg.removePageForReplacement();
+                relPtr = seg.removePageForReplacement(false);
 
                 pageReplaced = true;
             }
@@ -653,6 +679,8 @@ public class PageMemoryImpl implements PageMemoryEx {
 
             seg.pageReplacementPolicy.onMiss(relPtr);
 
+            seg.onLoad(relPtr, false);
+
             seg.loadedPages.put(grpId, PageIdUtils.effectivePageId(pageId), relPtr, seg.partGeneration(grpId, partId));
         }
         catch (IgniteOutOfMemoryException oom) {
@@ -741,6 +769,8 @@ public class PageMemoryImpl implements PageMemoryEx {
 
         Segment seg = segment(grpId, pageId);
 
+        boolean seqAccess = SequentialPageAccess.isActive();
+
         seg.readLock().lock();
 
         try {
@@ -758,7 +788,9 @@ public class PageMemoryImpl implements PageMemoryEx {
 
                 seg.acquirePage(absPtr);
 
-                seg.pageReplacementPolicy.onHit(relPtr);
+                seg.onHit(relPtr, seqAccess);
+
+                dataRegionMetrics.onPageHit(grpId);
 
                 statHolder.trackLogicalRead(absPtr + PAGE_OVERHEAD);
 
@@ -797,7 +829,7 @@ public class PageMemoryImpl implements PageMemoryEx {
                 boolean pageReplaced = false;
 
                 if (relPtr == INVALID_REL_PTR) {
-                    relPtr = seg.removePageForReplacement();
+                    relPtr = seg.removePageForReplacement(seqAccess);
 
                     pageReplaced = true;
                 }
@@ -817,6 +849,10 @@ public class PageMemoryImpl implements PageMemoryEx {
 
                 seg.pageReplacementPolicy.onMiss(relPtr);
 
+                seg.onLoad(relPtr, seqAccess);
+
+                dataRegionMetrics.onPageMiss(grpId);
+
                 seg.loadedPages.put(
                     grpId,
                     fullId.effectivePageId(),
@@ -874,11 +910,17 @@ public class PageMemoryImpl implements PageMemoryEx {
 
                 seg.pageReplacementPolicy.onRemove(relPtr);
                 seg.pageReplacementPolicy.onMiss(relPtr);
+
+                seg.onLoad(relPtr, seqAccess);
+
+                dataRegionMetrics.onPageMiss(grpId);
             }
             else {
                 absPtr = seg.absolute(relPtr);
 
-                seg.pageReplacementPolicy.onHit(relPtr);
+                seg.onHit(relPtr, seqAccess);
+
+                dataRegionMetrics.onPageHit(grpId);
             }
 
             seg.acquirePage(absPtr);
@@ -1021,6 +1063,20 @@ public class PageMemoryImpl implements PageMemoryEx {
 
                             break;
 
+                        case PAGE_DIFF_RECORD:
+                            PageDiffRecord diffRec = (PageDiffRecord)tuple.getValue();
+
+                            // Continue from the checkpointed image if it is the base of the diff.
+                            if (diffRec.fullPageId().equals(fullId)
+                                && (curPage != null || lastValidPage != null)
+                                && diffRec.baseMatches(tmpAddr, pageSize())) {
+                                diffRec.applyDelta(this, tmpAddr);
+
+                                curPage = wrapPointer(tmpAddr, pageSize());
+                            }
+
+                            break;
+
                         default:
                             if (tuple.getValue() instanceof PageDeltaRecord) {
                                 PageDeltaRecord deltaRecord = (PageDeltaRecord)tuple.getValue();
@@ -1374,6 +1430,31 @@ public class PageMemoryImpl implements PageMemoryEx {
         }
     }
 
+    /** {@inheritDoc} */
+    @Override public long acquireCheckpointPage(FullPageId fullId, int tag) {
+        Segment seg = segment(fullId.groupId(), fullId.pageId());
+
+        seg.readLock().lock();
+
+        try {
+            long relPtr = resolveRelativePointer(seg, fullId, tag);
+
+            if (relPtr == INVALID_REL_PTR || relPtr == OUTDATED_REL_PTR)
+                return 0;
+
+            long absPtr = seg.absolute(relPtr);
+
+            assert PageHeader.isAcquired(absPtr) : fullId;
+
+            seg.acquirePage(absPtr);
+
+            return absPtr;
+        }
+        finally {
+            seg.readLock().unlock();
+        }
+    }
+
     /**
      * @param absPtr Absolute ptr.
      * @param out Output buffer.
@@ -1606,6 +1687,39 @@ public class PageMemoryImpl implements PageMemoryEx {
         return readLock(page, pageId, true);
     }
 
+    /** {@inheritDoc} */
+    @Override public long optimisticCopy(int grpId, long pageId, long page, long dstAddr) {
+        assert started;
+
+        int tag = PageIdUtils.tag(pageId);
+
+        long stamp = rwLock.tryOptimisticRead(page + PAGE_LOCK_OFFSET, tag);
+
+        if (stamp == OffheapReadWriteLock.INVALID_STAMP)
+            return 0L;
+
+        GridUnsafe.copyMemory(page + PAGE_OVERHEAD, dstAddr, pageSize());
+
+        if (!rwLock.validate(page + PAGE_LOCK_OFFSET, tag, stamp))
+            return 0L;
+
+        touchPage(page, true);
+
+        return stamp;
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean validateOptimisticRead(int grpId, long pageId, long page, long stamp) {
+        assert started;
+
+        return rwLock.validate(page + PAGE_LOCK_OFFSET, PageIdUtils.tag(pageId), stamp);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void enableOptimisticReads() {
+        rwLock.enableOptimisticReads();
+    }
+
     /**
      * @param absPtr Absolute pointer to unlock.
      */
@@ -1693,6 +1807,10 @@ public class PageMemoryImpl implements PageMemoryEx {
 
         assert PageIO.getCrc(absPtr + PAGE_OVERHEAD) == 0; //TODO GG-11480
 
+        // Clean page has the same content as at the last checkpoint, keep it to log the modification as a diff.
+        if (pageBaseImages != null && !isDirty(absPtr))
+            pageBaseImages.capture(absPtr, absPtr + PAGE_OVERHEAD);
+
         return absPtr + PAGE_OVERHEAD;
     }
 
@@ -1712,6 +1830,8 @@ public class PageMemoryImpl implements PageMemoryEx {
     ) {
         boolean wasDirty = isDirty(page);
 
+        byte[] baseImg = pageBaseImages != null ? pageBaseImages.remove(page) : null;
+
         try {
             boolean pageWalRec = markDirty && walPlc != FALSE && (walPlc == TRUE || !wasDirty);
 
@@ -1720,13 +1840,16 @@ public class PageMemoryImpl implements PageMemoryEx {
             if (markDirty)
                 setDirty(fullId, page, true, false);
 
-            beforeReleaseWrite(fullId, page + PAGE_OVERHEAD, pageWalRec);
+            beforeReleaseWrite(fullId, page + PAGE_OVERHEAD, pageWalRec, baseImg);
         }
         catch (IgniteCheckedException e) {
             throw new IgniteException(e);
         }
         // Always release the lock.
         finally {
+            if (baseImg != null)
+                pageBaseImages.release(baseImg);
+
             long pageId = PageIO.getPageId(page + PAGE_OVERHEAD);
 
             try {
@@ -1890,11 +2013,45 @@ public class PageMemoryImpl implements PageMemoryEx {
      *
      */
     void beforeReleaseWrite(FullPageId pageId, long ptr, boolean pageWalRec) throws IgniteCheckedException {
+        beforeReleaseWrite(pageId, ptr, pageWalRec, null);
+    }
+
+    /**
+     * @param pageId Full page ID.
+     * @param ptr Page pointer.
+     * @param pageWalRec {@code True} if full page record is required.
+     * @param baseImg Image of the page at the last checkpoint or {@code null} if it wasn't taken.
+     */
+    private void beforeReleaseWrite(
+        FullPageId pageId,
+        long ptr,
+        boolean pageWalRec,
+        @Nullable byte[] baseImg
+    ) throws IgniteCheckedException {
         boolean walIsNotDisabled = walMgr != null && !walMgr.pageRecordsDisabled(pageId.groupId(), pageId.pageId());
         boolean pageRecOrAlwaysWriteFullPage = walMgr != null && (pageWalRec || walMgr.isAlwaysWriteFullPages());
 
-        if (pageRecOrAlwaysWriteFullPage && walIsNotDisabled)
-            walMgr.log(new PageSnapshot(pageId, ptr, pageSize(), realPageSize(pageId.groupId())));
+        if (pageRecOrAlwaysWriteFullPage && walIsNotDisabled) {
+            PageDiffRecord diffRec = baseImg != null && pageDiffAllowed(pageId.groupId())
+                ? PageDiffRecord.create(pageId, baseImg, ptr, pageSize())
+                : null;
+
+            walMgr.log(diffRec != null ? diffRec : new PageSnapshot(pageId, ptr, pageSize(), realPageSize(pageId.groupId())));
+        }
+    }
+
+    /**
+     * @param grpId Cache group ID.
+     * @return {@code True} if pages of the group are stored as they are in memory, so the checkpointed image
+     * can be the base of {@link PageDiffRecord}.
+     */
+    private boolean pageDiffAllowed(int grpId) {
+        if (realPageSize(grpId) != pageSize())
+            return false;
+
+        CacheGroupContext grp = ctx.cache().cacheGroup(grpId);
+
+        return grp == null || !grp.compressionHandler().compressionEnabled();
     }
 
     /**
@@ -2006,7 +2163,10 @@ public class PageMemoryImpl implements PageMemoryEx {
         /** Bytes required to store {@link #loadedPages}. */
         private final long memPerTbl;
 
-        /** Bytes required to store {@link #pageReplacementPolicy} service data. */
+        /** Pages loaded by sequential access, {@code null} if disabled. */
+        @Nullable private final SequentialAccessRing seqAccessRing;
+
+        /** Bytes required to store {@link #pageReplacementPolicy} and {@link #seqAccessRing} service data. */
         private long memPerRepl;
 
         /** Pages marked as dirty since the last checkpoint. */
@@ -2057,14 +2217,21 @@ public class PageMemoryImpl implements PageMemoryEx {
 
             pages = (int)((totalMemory - memPerTbl - ldPagesMapOffInRegion) / sysPageSize);
 
-            memPerRepl = pageReplacementPolicyFactory.requiredMemory(pages);
+            long memPerPlc = pageReplacementPolicyFactory.requiredMemory(pages);
+
+            memPerRepl = memPerPlc + (seqAccessRingSize > 0 ? SequentialAccessRing.requiredMemory(pages) : 0);
 
             DirectMemoryRegion poolRegion = region.slice(memPerTbl + memPerRepl + ldPagesMapOffInRegion);
 
             pool = new PagePool(idx, poolRegion, sysPageSize, rwLock);
 
-            pageReplacementPolicy = pageReplacementPolicyFactory.create(this,
-                    region.address() + memPerTbl + ldPagesMapOffInRegion, pool.pages());
+            long replPtr = region.address() + memPerTbl + ldPagesMapOffInRegion;
+
+            pageReplacementPolicy = pageReplacementPolicyFactory.create(this, replPtr, pool.pages());
+
+            seqAccessRing = seqAccessRingSize > 0
+                ? new SequentialAccessRing(seqAccessRingSize, pool.pages(), replPtr + memPerPlc)
+                : null;
 
             maxDirtyPages = throttlingPlc != ThrottlingPolicy.DISABLED
                 ? pool.pages() * 3L / 4
@@ -2120,6 +2287,33 @@ public class PageMemoryImpl implements PageMemoryEx {
             return memPerRepl;
         }
 
+        /**
+         * Existing page touched.
+         *
+         * @param relPtr Relative pointer to page.
+         * @param seqAccess {@code True} if page is accessed within {@link SequentialPageAccess} hint scope.
+         */
+        private void onHit(long relPtr, boolean seqAccess) {
+            if (seqAccess)
+                return;
+
+            pageReplacementPolicy.onHit(relPtr);
+
+            if (seqAccessRing != null)
+                seqAccessRing.onHit((int)pageIndex(relPtr));
+        }
+
+        /**
+         * Page loaded into memory.
+         *
+         * @param relPtr Relative pointer to page.
+         * @param seqAccess {@code True} if page is loaded within {@link SequentialPageAccess} hint scope.
+         */
+        private void onLoad(long relPtr, boolean seqAccess) {
+            if (seqAccessRing != null)
+                seqAccessRing.onLoad((int)pageIndex(relPtr), seqAccess);
+        }
+
         /**
          * @param absPtr Page absolute address to acquire.
          */
@@ -2309,10 +2503,11 @@ public class PageMemoryImpl implements PageMemoryEx {
         /**
          * Removes random oldest page for page replacement from memory to storage.
          *
+         * @param seqAccess {@code True} if page is replaced within {@link SequentialPageAccess} hint scope.
          * @return Relative address for removed page, now it can be replaced by allocated or reloaded page.
          * @throws IgniteCheckedException If failed to evict page.
          */
-        private long removePageForReplacement() throws IgniteCheckedException {
+        private long removePageForReplacement(boolean seqAccess) throws IgniteCheckedException {
             assert getWriteHoldCount() > 0;
 
             if (pageReplacementWarned == 0) {
@@ -2341,7 +2536,10 @@ public class PageMemoryImpl implements PageMemoryEx {
 
             long replaceStartTs = System.nanoTime();
 
-            long page = pageReplacementPolicy.replace();
+            long page = seqAccess && seqAccessRing != null ? removeSequentialAccessPage() : INVALID_REL_PTR;
+
+            if (page == INVALID_REL_PTR)
+                page = pageReplacementPolicy.replace();
 
             dataRegionMetrics.onPageReplaced(
                 U.currentTimeMillis() - PageHeader.readTimestamp(absolute(page)),
@@ -2351,6 +2549,43 @@ public class PageMemoryImpl implements PageMemoryEx {
             return page;
         }
 
+        /**
+         * Removes the oldest page loaded within {@link SequentialPageAccess} hint scope.
+         *
+         * @return Relative address for removed page or {@link #INVALID_REL_PTR} if there are no pages to remove.
+         * @throws IgniteCheckedException If failed to evict page.
+         */
+        private long removeSequentialAccessPage() throws IgniteCheckedException {
+            int pageIdx;
+
+            while ((pageIdx = seqAccessRing.poll()) >= 0) {
+                long relPtr = relative(pageIdx);
+                long absPtr = absolute(relPtr);
+
+                FullPageId fullId = PageHeader.fullPageId(absPtr);
+
+                // Skip pages which were already removed or outdated.
+                long loadedRelPtr = loadedPages.get(
+                    fullId.groupId(),
+                    fullId.effectivePageId(),
+                    partGeneration(fullId.groupId(), PageIdUtils.partId(fullId.pageId())),
+                    INVALID_REL_PTR,
+                    INVALID_REL_PTR
+                );
+
+                if (loadedRelPtr != relPtr)
+                    continue;
+
+                if (tryToRemovePage(fullId, absPtr)) {
+                    pageReplacementPolicy.onRemove(relPtr);
+
+                    return relPtr;
+                }
+            }
+
+            return INVALID_REL_PTR;
+        }
+
         /**
          * Creates out of memory exception with additional information.
          *
@@ -33,6 +33,16 @@ public interface PageMetrics {
      */
     public LongAdderMetric indexPages();
 
+    /**
+     * Number of page acquisitions served from memory.
+     */
+    public LongAdderMetric pageHits();
+
+    /**
+     * Number of page acquisitions that required loading the page into memory.
+     */
+    public LongAdderMetric pageMisses();
+
     /**
      * Resets all metric counters.
      */
@@ -30,11 +30,19 @@ public class PageMetricsImpl implements PageMetrics {
     /** Index pages in memory. */
     private final LongAdderMetric idxPages;
 
+    /** Page hits. */
+    private final LongAdderMetric pageHits;
+
+    /** Page misses. */
+    private final LongAdderMetric pageMisses;
+
     /** */
     private PageMetricsImpl(
         MetricRegistryImpl metricRegistry,
         @Nullable LongAdderWithDelegateMetric.Delegate totalPagesCb,
-        @Nullable LongAdderWithDelegateMetric.Delegate idxPagesCb
+        @Nullable LongAdderWithDelegateMetric.Delegate idxPagesCb,
+        @Nullable LongAdderWithDelegateMetric.Delegate pageHitsCb,
+        @Nullable LongAdderWithDelegateMetric.Delegate pageMissesCb
     ) {
         totalPages = createMetricWithOptionalDelegate(
             metricRegistry, "TotalAllocatedPages", "Total allocated pages.", totalPagesCb
@@ -43,6 +51,18 @@ public class PageMetricsImpl implements PageMetrics {
         idxPages = createMetricWithOptionalDelegate(
             metricRegistry, "InMemoryIndexPages", "Amount of index pages loaded into memory.", idxPagesCb
         );
+
+        pageHits = createMetricWithOptionalDelegate(
+            metricRegistry, "PageHits", "Number of page acquisitions served from memory.", pageHitsCb
+        );
+
+        pageMisses = createMetricWithOptionalDelegate(
+            metricRegistry, "PageMisses", "Number of page acquisitions that required loading the page into memory.",
+            pageMissesCb
+        );
+
+        metricRegistry.register("PageHitRatio", this::pageHitRatio,
+            "Ratio of page acquisitions served from memory to all page acquisitions.");
     }
 
     /**
@@ -58,6 +78,12 @@ public class PageMetricsImpl implements PageMetrics {
         /** Index pages callback. */
         private LongAdderWithDelegateMetric.Delegate idxPagesCb;
 
+        /** Page hits callback. */
+        private LongAdderWithDelegateMetric.Delegate pageHitsCb;
+
+        /** Page misses callback. */
+        private LongAdderWithDelegateMetric.Delegate pageMissesCb;
+
         /**
          * @param metricRegistry Metric registry.
          */
@@ -81,12 +107,30 @@ public class PageMetricsImpl implements PageMetrics {
             return this;
         }
 
+        /**
+         * @param cb Callback.
+         */
+        public Builder pageHitsCallback(LongAdderWithDelegateMetric.Delegate cb) {
+            pageHitsCb = cb;
+            return this;
+        }
+
+        /**
+         * @param cb Callback.
+         */
+        public Builder pageMissesCallback(LongAdderWithDelegateMetric.Delegate cb) {
+            pageMissesCb = cb;
+            return this;
+        }
+
         /** */
         public PageMetricsImpl build() {
             return new PageMetricsImpl(
                 metricRegistry,
                 totalPagesCb,
-                idxPagesCb
+                idxPagesCb,
+                pageHitsCb,
+                pageMissesCb
             );
         }
     }
@@ -125,9 +169,31 @@ public class PageMetricsImpl implements PageMetrics {
         return idxPages;
     }
 
+    /** {@inheritDoc} */
+    @Override public LongAdderMetric pageHits() {
+        return pageHits;
+    }
+
+    /** {@inheritDoc} */
+    @Override public LongAdderMetric pageMisses() {
+        return pageMisses;
+    }
+
+    /**
+     * @return Ratio of page hits to all page acquisitions or {@code 0} if there were no acquisitions.
+     */
+    private double pageHitRatio() {
+        long hits = pageHits.value();
+        long total = hits + pageMisses.value();
+
+        return total == 0 ? 0 : (double)hits / total;
+    }
+
     /** {@inheritDoc} */
     @Override public void reset() {
         totalPages.reset();
         idxPages.reset();
+        pageHits.reset();
+        pageMisses.reset();
     }
 }
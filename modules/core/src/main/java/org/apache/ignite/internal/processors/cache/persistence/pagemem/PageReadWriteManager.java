@@ -45,6 +45,32 @@ public interface PageReadWriteManager {
      */
     public PageStore write(int grpId, long pageId, ByteBuffer pageBuf, int tag, boolean calculateCrc) throws IgniteCheckedException;
 
+    /**
+     * Writes pages with sequential indexes of the same partition for the given cache ID.
+     *
+     * @param grpId Cache group ID.
+     * @param pageIds Page IDs, index of each page is greater by one than the index of the previous page.
+     * @param pageBufs Page buffers to write.
+     * @param cnt Count of pages to write.
+     * @return Page store the pages were written to.
+     * @throws IgniteCheckedException If failed to write pages.
+     */
+    public default PageStore write(
+        int grpId,
+        long[] pageIds,
+        ByteBuffer[] pageBufs,
+        int cnt,
+        int tag,
+        boolean calculateCrc
+    ) throws IgniteCheckedException {
+        PageStore store = null;
+
+        for (int i = 0; i < cnt; i++)
+            store = write(grpId, pageIds[i], pageBufs[i], tag, calculateCrc);
+
+        return store;
+    }
+
     /**
      * Allocates a page for the given page space.
      *
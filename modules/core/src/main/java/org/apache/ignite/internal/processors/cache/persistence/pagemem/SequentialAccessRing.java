@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.pagemem;
+
+/**
+ * Ring of pages loaded within the {@link SequentialPageAccess} hint scope. Pages from the ring are replaced before
+ * pages chosen by the page replacement policy.
+ *
+ * Each page also has a flag which is set if the page was loaded within the hint scope and cleared when the page is
+ * loaded or accessed outside of the hint scope. Pages without this flag are skipped on polling from the ring.
+ *
+ * Note: Methods that modify the ring are always invoked under segment write lock.
+ */
+class SequentialAccessRing {
+    /** Ring of page indexes. */
+    private final int[] ring;
+
+    /** Index of the oldest ring item. */
+    private int head;
+
+    /** Count of ring items. */
+    private int size;
+
+    /** Flags of pages loaded within the hint scope. */
+    private final ClockPageReplacementFlags seqFlags;
+
+    /**
+     * @param capacity Ring capacity.
+     * @param pagesCnt Pages count.
+     * @param memPtr Pointer to memory region.
+     */
+    SequentialAccessRing(int capacity, int pagesCnt, long memPtr) {
+        assert capacity > 0 : capacity;
+
+        ring = new int[capacity];
+        seqFlags = new ClockPageReplacementFlags(pagesCnt, memPtr);
+    }
+
+    /**
+     * Page loaded into memory.
+     *
+     * @param pageIdx Page index.
+     * @param seqAccess {@code True} if page is loaded within the hint scope.
+     */
+    void onLoad(int pageIdx, boolean seqAccess) {
+        if (seqAccess) {
+            seqFlags.setFlag(pageIdx);
+
+            // Overwrite the oldest item if the ring is full, it will be replaced by the page replacement policy.
+            if (size == ring.length) {
+                head = next(head);
+
+                size--;
+            }
+
+            ring[(head + size) % ring.length] = pageIdx;
+
+            size++;
+        }
+        else if (size > 0 && seqFlags.getFlag(pageIdx))
+            seqFlags.clearFlag(pageIdx);
+    }
+
+    /**
+     * Page accessed outside of the hint scope. Can be invoked under segment read lock.
+     *
+     * @param pageIdx Page index.
+     */
+    void onHit(int pageIdx) {
+        if (size > 0 && seqFlags.getFlag(pageIdx))
+            seqFlags.clearFlag(pageIdx);
+    }
+
+    /**
+     * Polls the oldest page loaded within the hint scope.
+     *
+     * @return Page index or {@code -1} if there are no such pages.
+     */
+    int poll() {
+        while (size > 0) {
+            int pageIdx = ring[head];
+
+            head = next(head);
+
+            size--;
+
+            if (seqFlags.getFlag(pageIdx)) {
+                seqFlags.clearFlag(pageIdx);
+
+                return pageIdx;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * @param idx Ring index.
+     * @return Next ring index.
+     */
+    private int next(int idx) {
+        return idx + 1 == ring.length ? 0 : idx + 1;
+    }
+
+    /**
+     * Memory required to service {@code pagesCnt} pages.
+     *
+     * @param pagesCnt Pages count.
+     */
+    static long requiredMemory(int pagesCnt) {
+        return ClockPageReplacementFlags.requiredMemory(pagesCnt);
+    }
+}
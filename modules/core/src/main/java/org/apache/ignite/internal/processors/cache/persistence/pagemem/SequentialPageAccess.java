@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.pagemem;
+
+/**
+ * Sequential (one-shot) page access hint of the current thread.
+ *
+ * Bulk readers (scan queries, index rebuild, rebalancing) touch every page of a partition only once. Pages loaded
+ * within the hint scope are placed to a small per-segment ring, which is recycled before pages chosen by the page
+ * replacement policy, and page hits within the hint scope don't update the page replacement policy state. This keeps
+ * hot pages in memory while background scans are running.
+ *
+ * Usage:
+ * <pre>
+ * boolean nested = SequentialPageAccess.enter();
+ *
+ * try {
+ *     // Scan pages.
+ * }
+ * finally {
+ *     SequentialPageAccess.exit(nested);
+ * }
+ * </pre>
+ */
+public final class SequentialPageAccess {
+    /** Hint flag of the current thread. */
+    private static final ThreadLocal<Boolean> active = ThreadLocal.withInitial(() -> false);
+
+    /** */
+    private SequentialPageAccess() {
+        // No-op.
+    }
+
+    /**
+     * Enters the hint scope.
+     *
+     * @return {@code True} if the current thread is already within the hint scope. Must be passed to
+     *      {@link #exit(boolean)}.
+     */
+    public static boolean enter() {
+        if (active.get())
+            return true;
+
+        active.set(true);
+
+        return false;
+    }
+
+    /**
+     * Exits the hint scope.
+     *
+     * @param nested Value returned by {@link #enter()}.
+     */
+    public static void exit(boolean nested) {
+        if (nested)
+            return;
+
+        active.set(false);
+    }
+
+    /**
+     * @return {@code True} if the current thread is within the hint scope.
+     */
+    public static boolean isActive() {
+        return active.get();
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.pagemem;
+
+import org.apache.ignite.configuration.PageReplacementMode;
+import org.apache.ignite.internal.util.GridUnsafe;
+
+/**
+ * Off-heap count-min sketch of 4-bit counters used to estimate pages access frequency.
+ *
+ * Each 64-bit word of the table holds 16 counters. A key is mapped to 4 words (one per hash function) and to one
+ * counter inside of each word, the estimated frequency is the minimum of these counters. To keep the history fresh,
+ * all counters are halved when the number of increments reaches the sample size (10 increments per page on average).
+ *
+ * @see PageReplacementMode#TINY_LFU
+ */
+public class TinyLfuFrequencySketch {
+    /** Seeds of hash functions. */
+    private static final long[] SEEDS = {
+        0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+    };
+
+    /** Mask to clear the high bit of each counter after the right shift. */
+    private static final long RESET_MASK = 0x7777777777777777L;
+
+    /** Counter mask. */
+    private static final long CNTR_MASK = 0xfL;
+
+    /** Minimal table size (in words). */
+    private static final int MIN_TABLE_SIZE = 16;
+
+    /** Maximal table size (in words). */
+    private static final int MAX_TABLE_SIZE = 1 << 30;
+
+    /** Increments per page before the counters are halved. */
+    private static final int SAMPLE_FACTOR = 10;
+
+    /** Pointer to memory region to store counters. */
+    private final long tablePtr;
+
+    /** Table size (in words) minus one. */
+    private final int tableMask;
+
+    /** Count of increments which triggers counters halving. */
+    private final int sampleSize;
+
+    /** Count of increments since the last halving. Updated without synchronization, lost updates are tolerable. */
+    private int additions;
+
+    /**
+     * @param pagesCnt Pages count.
+     * @param memPtr Pointer to memory region.
+     */
+    public TinyLfuFrequencySketch(int pagesCnt, long memPtr) {
+        int tableSize = tableSize(pagesCnt);
+
+        tablePtr = memPtr;
+        tableMask = tableSize - 1;
+        sampleSize = (int)Math.min(Integer.MAX_VALUE, (long)SAMPLE_FACTOR * pagesCnt);
+
+        GridUnsafe.zeroMemory(tablePtr, (long)tableSize << 3);
+    }
+
+    /**
+     * Gets estimated access frequency of the key.
+     *
+     * @param hash Key hash.
+     * @return Estimated frequency in range [0..15].
+     */
+    public int frequency(int hash) {
+        int start = (hash & 3) << 2;
+
+        int freq = (int)CNTR_MASK;
+
+        for (int i = 0; i < SEEDS.length; i++) {
+            long word = GridUnsafe.getLong(wordPtr(hash, i));
+
+            freq = Math.min(freq, (int)((word >>> ((start + i) << 2)) & CNTR_MASK));
+        }
+
+        return freq;
+    }
+
+    /**
+     * Increments access frequency of the key. Can be invoked concurrently.
+     *
+     * @param hash Key hash.
+     */
+    public void increment(int hash) {
+        int start = (hash & 3) << 2;
+
+        boolean added = false;
+
+        for (int i = 0; i < SEEDS.length; i++)
+            added |= incrementAt(wordPtr(hash, i), (start + i) << 2);
+
+        if (added)
+            additions++;
+    }
+
+    /**
+     * @return {@code True} if counters should be halved.
+     */
+    public boolean resetRequired() {
+        return additions >= sampleSize;
+    }
+
+    /**
+     * Halves all counters. Must not be invoked concurrently with other methods.
+     */
+    public void reset() {
+        for (long ptr = tablePtr, end = tablePtr + ((long)(tableMask + 1) << 3); ptr < end; ptr += 8)
+            GridUnsafe.putLong(ptr, (GridUnsafe.getLong(ptr) >>> 1) & RESET_MASK);
+
+        additions >>>= 1;
+    }
+
+    /**
+     * Increments counter if it's not saturated.
+     *
+     * @param ptr Word pointer.
+     * @param shift Counter offset in the word (in bits).
+     * @return {@code True} if counter was incremented.
+     */
+    private static boolean incrementAt(long ptr, int shift) {
+        long mask = CNTR_MASK << shift;
+
+        while (true) {
+            long word = GridUnsafe.getLong(ptr);
+
+            if ((word & mask) == mask)
+                return false;
+
+            if (GridUnsafe.compareAndSwapLong(null, ptr, word, word + (1L << shift)))
+                return true;
+        }
+    }
+
+    /**
+     * @param hash Key hash.
+     * @param i Hash function index.
+     * @return Pointer to the table word.
+     */
+    private long wordPtr(int hash, int i) {
+        long h = (hash + SEEDS[i]) * SEEDS[i];
+
+        h += h >>> 32;
+
+        return tablePtr + ((long)((int)h & tableMask) << 3);
+    }
+
+    /**
+     * @param pagesCnt Pages count.
+     * @return Table size (in words), one word per page rounded up to the power of two.
+     */
+    private static int tableSize(int pagesCnt) {
+        if (pagesCnt > MAX_TABLE_SIZE)
+            return MAX_TABLE_SIZE;
+
+        return Math.max(MIN_TABLE_SIZE, Integer.highestOneBit(Math.max(pagesCnt - 1, 1)) << 1);
+    }
+
+    /**
+     * Memory required to service {@code pagesCnt} pages.
+     *
+     * @param pagesCnt Pages count.
+     */
+    public static long requiredMemory(int pagesCnt) {
+        return (long)tableSize(pagesCnt) << 3;
+    }
+}
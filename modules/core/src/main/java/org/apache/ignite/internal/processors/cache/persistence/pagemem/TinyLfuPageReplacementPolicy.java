@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.pagemem;
+
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.configuration.PageReplacementMode;
+import org.apache.ignite.internal.pagemem.FullPageId;
+import org.apache.ignite.internal.pagemem.PageIdUtils;
+
+import static org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMemoryImpl.INVALID_REL_PTR;
+import static org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMemoryImpl.OUTDATED_REL_PTR;
+
+/**
+ * CLOCK page replacement policy with TinyLFU frequency-based victim selection.
+ *
+ * @see PageReplacementMode#TINY_LFU
+ */
+public class TinyLfuPageReplacementPolicy extends PageReplacementPolicy {
+    /** Count of CLOCK candidates compared by access frequency to choose the page to replace. */
+    public static final int SAMPLE_SIZE = 4;
+
+    /** Pages hit-flags store. */
+    private final ClockPageReplacementFlags flags;
+
+    /** Pages access frequency sketch. */
+    private final TinyLfuFrequencySketch sketch;
+
+    /** Candidates page indexes. Guarded by segment write lock. */
+    private final int[] candIdxs = new int[SAMPLE_SIZE];
+
+    /** Candidates relative pointers. Guarded by segment write lock. */
+    private final long[] candRelPtrs = new long[SAMPLE_SIZE];
+
+    /** Candidates full page IDs. Guarded by segment write lock. */
+    private final FullPageId[] candIds = new FullPageId[SAMPLE_SIZE];
+
+    /** Candidates estimated access frequencies. Guarded by segment write lock. */
+    private final int[] candFreqs = new int[SAMPLE_SIZE];
+
+    /**
+     * @param seg Page memory segment.
+     * @param ptr Pointer to memory region.
+     * @param pagesCnt Pages count.
+     */
+    protected TinyLfuPageReplacementPolicy(PageMemoryImpl.Segment seg, long ptr, int pagesCnt) {
+        super(seg);
+
+        flags = new ClockPageReplacementFlags(pagesCnt, ptr);
+        sketch = new TinyLfuFrequencySketch(pagesCnt, ptr + ClockPageReplacementFlags.requiredMemory(pagesCnt));
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onHit(long relPtr) {
+        int pageIdx = (int)seg.pageIndex(relPtr);
+
+        // Page frequency is counted at most once per the CLOCK hand revolution, this keeps hot pages access cheap.
+        if (!flags.getFlag(pageIdx)) {
+            flags.setFlag(pageIdx);
+
+            sketch.increment(pageHash(relPtr));
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onMiss(long relPtr) {
+        if (sketch.resetRequired())
+            sketch.reset();
+
+        sketch.increment(pageHash(relPtr));
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onRemove(long relPtr) {
+        int pageIdx = (int)seg.pageIndex(relPtr);
+
+        flags.clearFlag(pageIdx);
+    }
+
+    /** {@inheritDoc} */
+    @Override public long replace() throws IgniteCheckedException {
+        LoadedPagesMap loadedPages = seg.loadedPages();
+
+        int loadedPagesCnt = loadedPages.size();
+        int candCnt = 0;
+
+        for (int i = 0; i < loadedPagesCnt; i++) {
+            int pageIdx = flags.poll();
+
+            long relPtr = seg.relative(pageIdx);
+            long absPtr = seg.absolute(relPtr);
+
+            FullPageId fullId = PageHeader.fullPageId(absPtr);
+
+            // Check loaded pages map for outdated page.
+            relPtr = loadedPages.get(
+                fullId.groupId(),
+                fullId.effectivePageId(),
+                seg.partGeneration(fullId.groupId(), PageIdUtils.partId(fullId.pageId())),
+                INVALID_REL_PTR,
+                OUTDATED_REL_PTR
+            );
+
+            assert relPtr != INVALID_REL_PTR;
+
+            if (relPtr == OUTDATED_REL_PTR)
+                return seg.refreshOutdatedPage(fullId.groupId(), fullId.pageId(), true);
+
+            candIdxs[candCnt] = pageIdx;
+            candRelPtrs[candCnt] = relPtr;
+            candIds[candCnt] = fullId;
+            candFreqs[candCnt] = sketch.frequency(fullId.hashCode());
+            candCnt++;
+
+            if (candCnt < SAMPLE_SIZE && i < loadedPagesCnt - 1)
+                continue;
+
+            // Try candidates starting from the least frequently used one.
+            while (candCnt > 0) {
+                int min = 0;
+
+                for (int j = 1; j < candCnt; j++) {
+                    if (candFreqs[j] < candFreqs[min])
+                        min = j;
+                }
+
+                if (seg.tryToRemovePage(candIds[min], seg.absolute(candRelPtrs[min]))) {
+                    relPtr = candRelPtrs[min];
+
+                    clearCandidates(candCnt);
+
+                    return relPtr;
+                }
+
+                flags.setFlag(candIdxs[min]);
+
+                candCnt--;
+
+                candIdxs[min] = candIdxs[candCnt];
+                candRelPtrs[min] = candRelPtrs[candCnt];
+                candIds[min] = candIds[candCnt];
+                candFreqs[min] = candFreqs[candCnt];
+            }
+        }
+
+        clearCandidates(candCnt);
+
+        throw seg.oomException("no pages to replace");
+    }
+
+    /**
+     * Releases references to candidates page IDs.
+     *
+     * @param candCnt Candidates count.
+     */
+    private void clearCandidates(int candCnt) {
+        for (int i = 0; i < candCnt; i++)
+            candIds[i] = null;
+    }
+
+    /**
+     * @param relPtr Relative pointer to page.
+     * @return Page hash for the frequency sketch.
+     */
+    private int pageHash(long relPtr) {
+        return PageHeader.fullPageId(seg.absolute(relPtr)).hashCode();
+    }
+
+    /**
+     * Memory required to service {@code pagesCnt} pages.
+     *
+     * @param pagesCnt Pages count.
+     */
+    public static long requiredMemory(int pagesCnt) {
+        return ClockPageReplacementFlags.requiredMemory(pagesCnt) + TinyLfuFrequencySketch.requiredMemory(pagesCnt);
+    }
+}
@@ -24,8 +24,11 @@ import java.util.Comparator;
 import java.util.Deque;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
 import java.util.function.Supplier;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteSystemProperties;
@@ -54,6 +57,7 @@ import org.apache.ignite.internal.pagemem.wal.record.delta.SplitExistingPageReco
 import org.apache.ignite.internal.processors.cache.persistence.CorruptedDataStructureException;
 import org.apache.ignite.internal.processors.cache.persistence.DataStructure;
 import org.apache.ignite.internal.processors.cache.persistence.diagnostic.pagelocktracker.PageLockTrackerManager;
+import org.apache.ignite.internal.processors.cache.persistence.pagemem.SequentialPageAccess;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.BPlusIO;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.BPlusInnerIO;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.BPlusLeafIO;
@@ -73,6 +77,7 @@ import org.apache.ignite.internal.util.IgniteTree;
 import org.apache.ignite.internal.util.lang.GridCursor;
 import org.apache.ignite.internal.util.lang.GridTreePrinter;
 import org.apache.ignite.internal.util.lang.GridTuple3;
+import org.apache.ignite.internal.util.typedef.internal.A;
 import org.apache.ignite.internal.util.typedef.internal.S;
 import org.apache.ignite.internal.util.typedef.internal.SB;
 import org.apache.ignite.internal.util.typedef.internal.U;
@@ -80,6 +85,8 @@ import org.apache.ignite.lang.IgniteInClosure;
 import org.jetbrains.annotations.Nullable;
 
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_BPLUS_TREE_LOCK_RETRIES;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_BPLUS_TREE_OPTIMISTIC_READS;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_PAGE_READ_AHEAD_WINDOW;
 import static org.apache.ignite.internal.processors.cache.persistence.tree.BPlusTree.Bool.DONE;
 import static org.apache.ignite.internal.processors.cache.persistence.tree.BPlusTree.Bool.FALSE;
 import static org.apache.ignite.internal.processors.cache.persistence.tree.BPlusTree.Bool.READY;
@@ -234,9 +241,25 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
     private static final int LOCK_RETRIES = IgniteSystemProperties.getInteger(
         IGNITE_BPLUS_TREE_LOCK_RETRIES, IGNITE_BPLUS_TREE_LOCK_RETRIES_DEFAULT);
 
+    /** */
+    private static final boolean OPTIMISTIC_READS = IgniteSystemProperties.getBoolean(IGNITE_BPLUS_TREE_OPTIMISTIC_READS);
+
+    /** @see IgniteSystemProperties#IGNITE_PAGE_READ_AHEAD_WINDOW */
+    public static final int DFLT_PAGE_READ_AHEAD_WINDOW = 0;
+
+    /** Count of leaf pages a cursor has to reach by forward links before it starts to read pages ahead. */
+    private static final int READ_AHEAD_THRESHOLD = 2;
+
     /** */
     private final AtomicBoolean destroyed = new AtomicBoolean(false);
 
+    /** Whether the tree is closed, pending read-ahead tasks are skipped then. */
+    private volatile boolean closed;
+
+    /** Count of leaf pages read ahead by cursors. */
+    private final int readAheadWnd = IgniteSystemProperties.getInteger(
+        IGNITE_PAGE_READ_AHEAD_WINDOW, DFLT_PAGE_READ_AHEAD_WINDOW);
+
     /** */
     private final float minFill;
 
@@ -264,9 +287,18 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
     /** Failure processor. */
     private final FailureProcessor failureProcessor;
 
+    /** Default share of a page kept in the left page when it is split in the sequential write mode. */
+    public static final float DFLT_SEQUENTIAL_WRITE_FILL_FACTOR = 0.85f;
+
     /** Flag for enabling single-threaded append-only tree creation. */
     private boolean sequentialWriteOptsEnabled;
 
+    /** Share of a page kept in the left page when it is split in the sequential write mode. */
+    private float seqWriteFillFactor = DFLT_SEQUENTIAL_WRITE_FILL_FACTOR;
+
+    /** Flag for reading inner pages without read locks on lookups. */
+    private volatile boolean optimisticReads = OPTIMISTIC_READS;
+
     /** */
     private final GridTreePrinter<Long> treePrinter = new GridTreePrinter<Long>() {
         /** */
@@ -909,6 +941,13 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
         }
     }
 
+    /**
+     * @return Flags written to the meta page of a new tree.
+     */
+    protected long metaPageFlags() {
+        return BPlusMetaIO.DEFAULT_FLAGS;
+    }
+
     /** */
     private final PageHandler<Long, Bool> initRoot = new InitRoot();
 
@@ -928,10 +967,14 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
 
             io.initRoot(pageAddr, rootId, pageSize());
             io.setInlineSize(pageAddr, inlineSize);
-            io.initFlagsAndVersion(pageAddr, BPlusMetaIO.DEFAULT_FLAGS, IgniteVersionUtils.VER);
+            long flags = metaPageFlags();
 
-            if (needWalDeltaRecord(metaId, metaPage, walPlc))
-                wal.log(new MetaPageInitRootInlineFlagsCreatedVersionRecord(cacheId, metaId, rootId, inlineSize));
+            io.initFlagsAndVersion(pageAddr, flags, IgniteVersionUtils.VER);
+
+            if (needWalDeltaRecord(metaId, metaPage, walPlc)) {
+                wal.log(new MetaPageInitRootInlineFlagsCreatedVersionRecord(cacheId, metaId, rootId, inlineSize,
+                    flags, IgniteVersionUtils.VER));
+            }
 
             assert io.getRootLevel(pageAddr) == 0;
             assert io.getFirstPageId(pageAddr, 0) == rootId;
@@ -1079,9 +1122,51 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
 
     /** Flag for enabling single-threaded append-only tree creation. */
     public void enableSequentialWriteMode() {
+        enableSequentialWriteMode(DFLT_SEQUENTIAL_WRITE_FILL_FACTOR);
+    }
+
+    /**
+     * Enables single-threaded append-only tree creation. Rows must be inserted in the ascending order and no other
+     * operation may run on the tree until the mode is disabled.
+     *
+     * @param fillFactor Share of a page kept in the left page when a full page is split, from {@code 0.5} (the
+     *      regular split) to {@code 1} (densely packed pages with no room for further inserts).
+     */
+    public void enableSequentialWriteMode(float fillFactor) {
+        A.ensure(fillFactor >= 0.5f && fillFactor <= 1f, "fillFactor must be in range [0.5, 1]");
+
+        seqWriteFillFactor = fillFactor;
         sequentialWriteOptsEnabled = true;
     }
 
+    /** Switches the tree back to the regular mode after {@link #enableSequentialWriteMode(float)}. */
+    public void disableSequentialWriteMode() {
+        sequentialWriteOptsEnabled = false;
+    }
+
+    /**
+     * Enables or disables optimistic reads of inner pages on lookups. When enabled, {@code find} operations descend
+     * through inner pages using page copies validated against concurrent modifications instead of read locks,
+     * falling back to the read lock if a page is modified concurrently. Leaf pages are always read under the lock.
+     * Enabling optimistic reads makes the page memory maintain page write versions from now on, see
+     * {@link PageMemory#enableOptimisticReads()}.
+     *
+     * @param optimisticReads {@code True} to enable optimistic reads.
+     */
+    public void optimisticReads(boolean optimisticReads) {
+        if (optimisticReads)
+            pageMem.enableOptimisticReads();
+
+        this.optimisticReads = optimisticReads;
+    }
+
+    /**
+     * @return {@code True} if optimistic reads of inner pages are enabled.
+     */
+    public boolean optimisticReads() {
+        return optimisticReads;
+    }
+
     /**
      * Initialize new tree.
      *
@@ -1580,6 +1665,49 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
         return findOne(row, null, null);
     }
 
+    /**
+     * Finds exact matches for a batch of lookup rows. Once a leaf page is reached, all the following rows which
+     * can be resolved on the same leaf page are looked up under the same page lock, so the rows sorted in the tree
+     * order share a single descent per leaf page. Rows in any other order are still resolved correctly, but may
+     * need more descents.
+     *
+     * @param rows Lookup rows for exact match, preferably sorted in the tree order.
+     * @param c Closure filter.
+     * @param x Implementation specific argument, {@code null} always means that we need to return full detached data row.
+     * @return Found results in the order of the given rows, {@code null} elements for the rows which are not found.
+     * @throws IgniteCheckedException If failed.
+     */
+    public final <R> List<R> findAll(List<L> rows, TreeRowClosure<L, T> c, Object x) throws IgniteCheckedException {
+        checkDestroyed();
+
+        if (rows.isEmpty())
+            return Collections.emptyList();
+
+        GetAll g = new GetAll(rows, c, x);
+
+        try {
+            while (g.next()) {
+                g.lockRetriesCnt = getLockRetries();
+
+                doFind(g);
+            }
+
+            return (List<R>)g.res;
+        }
+        catch (CorruptedDataStructureException e) {
+            throw e;
+        }
+        catch (IgniteCheckedException e) {
+            throw new IgniteCheckedException("Runtime failure on lookup row: " + g.row, e);
+        }
+        catch (RuntimeException | AssertionError e) {
+            throw corruptedTreeException("Runtime failure on lookup row: " + g.row, e, grpId, g.pageId);
+        }
+        finally {
+            checkDestroyed();
+        }
+    }
+
     /**
      * @param g Get.
      * @throws IgniteCheckedException If failed.
@@ -1624,7 +1752,11 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
                 g.pageId = pageId;
                 g.fwdId = fwdId;
 
-                Result res = read(pageId, page, search, g, lvl, RETRY);
+                // Inner pages are read optimistically, leaf pages are locked since the found rows are used
+                // outside of the page handler.
+                Result res = lvl != 0 && optimisticReads ?
+                    readOptimistic(pageId, page, search, g, lvl, RETRY, statisticsHolder()) :
+                    read(pageId, page, search, g, lvl, RETRY);
 
                 switch (res) {
                     case GO_DOWN:
@@ -2742,6 +2874,14 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
         return destroy(null, false);
     }
 
+    /** {@inheritDoc} */
+    @Override public void close() {
+        // Pending read-ahead tasks are skipped after that.
+        closed = true;
+
+        super.close();
+    }
+
     /**
      * Destroys tree. This method is allowed to be invoked only when the tree is out of use (no concurrent operations
      * are trying to read or update the tree after destroy beginning).
@@ -2960,7 +3100,7 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
     ) throws IgniteCheckedException {
         int cnt = io.getCount(pageAddr);
 
-        int mid = sequentialWriteOptsEnabled ? (int)(cnt * 0.85) : cnt >>> 1;
+        int mid = sequentialWriteOptsEnabled ? Math.min((int)(cnt * seqWriteFillFactor), cnt - 1) : cnt >>> 1;
 
         boolean res = false;
 
@@ -3318,6 +3458,121 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
         }
     }
 
+    /**
+     * Get exact matches for a batch of rows.
+     */
+    private final class GetAll extends Get {
+        /** */
+        final List<L> rows;
+
+        /** */
+        final List<T> res;
+
+        /** */
+        final Object x;
+
+        /** */
+        final TreeRowClosure<L, T> c;
+
+        /** Index of the row that is currently looked up. */
+        int cur = -1;
+
+        /**
+         * @param rows Rows.
+         * @param c Closure filter.
+         * @param x Implementation specific argument.
+         */
+        private GetAll(List<L> rows, TreeRowClosure<L, T> c, Object x) {
+            super(rows.get(0), false);
+
+            this.rows = rows;
+            this.c = c;
+            this.x = x;
+
+            res = new ArrayList<>(Collections.nCopies(rows.size(), null));
+        }
+
+        /**
+         * Moves to the next row that is not resolved yet.
+         *
+         * @return {@code True} if there is a row to look up.
+         */
+        boolean next() {
+            if (++cur == rows.size())
+                return false;
+
+            row = rows.get(cur);
+
+            return true;
+        }
+
+        /** {@inheritDoc} */
+        @Override boolean found(BPlusIO<L> io, long pageAddr, int idx, int lvl) throws IgniteCheckedException {
+            if (lvl != 0)
+                return false;
+
+            onLeaf(io, pageAddr, idx, true);
+
+            return true;
+        }
+
+        /** {@inheritDoc} */
+        @Override boolean notFound(BPlusIO<L> io, long pageAddr, int idx, int lvl) throws IgniteCheckedException {
+            if (lvl != 0)
+                return false;
+
+            onLeaf(io, pageAddr, idx, false);
+
+            return true;
+        }
+
+        /**
+         * Resolves the current row and all the following rows that can be resolved on the given leaf page.
+         *
+         * @param io IO.
+         * @param pageAddr Leaf page address.
+         * @param idx Index of the current row.
+         * @param found {@code True} if the current row is found.
+         * @throws IgniteCheckedException If failed.
+         */
+        private void onLeaf(BPlusIO<L> io, long pageAddr, int idx, boolean found) throws IgniteCheckedException {
+            if (found)
+                res.set(cur, get(io, pageAddr, idx));
+
+            int cnt = io.getCount(pageAddr);
+
+            while (cur + 1 < rows.size()) {
+                L next = rows.get(cur + 1);
+
+                idx = findInsertionPoint(0, io, pageAddr, 0, cnt, next, 0);
+
+                if (idx >= 0)
+                    res.set(cur + 1, get(io, pageAddr, idx));
+                else {
+                    idx = fix(idx);
+
+                    // The row is absent only if it is between two rows of this page or after the last row
+                    // of the rightmost page, otherwise it may be on a neighbour page.
+                    if (idx == 0 || (idx == cnt && io.getForward(pageAddr) != 0L))
+                        return;
+                }
+
+                cur++;
+            }
+        }
+
+        /**
+         * @param io IO.
+         * @param pageAddr Page address.
+         * @param idx Index.
+         * @return Row or {@code null} if it is filtered out.
+         * @throws IgniteCheckedException If failed.
+         */
+        private T get(BPlusIO<L> io, long pageAddr, int idx) throws IgniteCheckedException {
+            return c == null || c.apply(BPlusTree.this, io, pageAddr, idx) ? getRow(io, pageAddr, idx, x) : null;
+        }
+    }
+
     /**
      * Get a cursor for range.
      */
@@ -5393,6 +5648,235 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
      */
     public abstract T getRow(BPlusIO<L> io, long pageAddr, int idx, Object x) throws IgniteCheckedException;
 
+    /**
+     * Returns executor for asynchronous read-ahead of pages for cursors which traverse leaves sequentially.
+     *
+     * @return Executor or {@code null} if pages of this tree are not read ahead.
+     */
+    @Nullable protected Executor readAheadExecutor() {
+        return null;
+    }
+
+    /**
+     * Returns a guard for the read-ahead started by a cursor. The guard is checked before each page read by
+     * read-ahead tasks, so pending tasks are skipped once it returns {@code false}.
+     *
+     * @return Guard or {@code null} if pages may not be read ahead now.
+     */
+    @Nullable protected BooleanSupplier readAheadGuard() {
+        return () -> true;
+    }
+
+    /**
+     * @param guard Read-ahead guard.
+     * @return {@code True} if read-ahead tasks have to be skipped.
+     */
+    private boolean readAheadStopped(BooleanSupplier guard) {
+        return closed || destroyed.get() || !guard.getAsBoolean();
+    }
+
+    /**
+     * Collects IDs of pages referenced from rows of the leaf page to read them ahead together with the leaf.
+     *
+     * @param io Leaf IO.
+     * @param pageAddr Leaf page address.
+     * @param cnt Count of rows in the leaf.
+     * @param pageIds Collected page IDs.
+     */
+    protected void collectReadAheadPages(BPlusIO<L> io, long pageAddr, int cnt, GridLongList pageIds) {
+        // No-op.
+    }
+
+    /**
+     * Asynchronous read-ahead of leaf pages and pages referenced from their rows (see
+     * {@link #collectReadAheadPages(BPlusIO, long, int, GridLongList)}). Leaves are read ahead by windows of
+     * {@link #readAheadWnd} pages, the next window is requested when the cursor reaches the middle of the
+     * current one. Read-ahead is a hint only: any failure or rejected task stops it and the cursor reads pages by
+     * itself.
+     * <p>
+     * Pages are read within the {@link SequentialPageAccess} hint scope and are not tracked by the tree statistics
+     * holder, so read-ahead neither promotes pages which are already in memory nor counts page hits and misses.
+     * A page read ahead becomes a regular one when the cursor accesses it.
+     */
+    private final class ReadAhead implements Runnable {
+        /** */
+        private final Executor exec;
+
+        /** */
+        private final BooleanSupplier guard;
+
+        /** ID of the first leaf page of the window to read. */
+        private long startPageId;
+
+        /** Count of leaf pages read or being read ahead of the cursor. */
+        private int ahead;
+
+        /** Forward link of the last leaf page read ahead or {@code 0} if the read-ahead is stopped. */
+        private volatile long endPageId;
+
+        /** {@code True} if the window is being read. */
+        private volatile boolean running;
+
+        /**
+         * @param exec Executor.
+         * @param guard Read-ahead guard.
+         */
+        private ReadAhead(Executor exec, BooleanSupplier guard) {
+            this.exec = exec;
+            this.guard = guard;
+        }
+
+        /**
+         * Cursor moved to the next leaf page.
+         *
+         * @param fwdId Forward link of the leaf page.
+         */
+        void onLeaf(long fwdId) {
+            ahead--;
+
+            if (fwdId == 0L || running)
+                return;
+
+            if (ahead <= 0)
+                start(fwdId); // Cursor has outrun the read-ahead or it has been stopped.
+            else if (ahead <= readAheadWnd / 2) {
+                long endPageId = this.endPageId;
+
+                if (endPageId != 0L)
+                    start(endPageId);
+            }
+        }
+
+        /**
+         * @param startPageId ID of the first leaf page of the window.
+         */
+        private void start(long startPageId) {
+            this.startPageId = startPageId;
+
+            running = true;
+
+            try {
+                exec.execute(this);
+            }
+            catch (RuntimeException ignored) {
+                // Executor is stopped or rejected the task.
+                running = false;
+
+                return;
+            }
+
+            ahead = Math.max(ahead, 0) + readAheadWnd;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void run() {
+            boolean nested = SequentialPageAccess.enter();
+
+            long pageId = startPageId;
+
+            try {
+                GridLongList pageIds = new GridLongList();
+
+                for (int i = 0; i < readAheadWnd && pageId != 0L; i++) {
+                    if (readAheadStopped(guard)) {
+                        pageId = 0L;
+
+                        break;
+                    }
+
+                    long fwdId = 0L;
+
+                    long page = acquirePage(pageId, IoStatisticsHolderNoOp.INSTANCE);
+
+                    try {
+                        long pageAddr = readLock(pageId, page);
+
+                        // Page could be concurrently recycled.
+                        if (pageAddr != 0L) {
+                            try {
+                                BPlusIO<L> io = io(pageAddr);
+
+                                if (io.isLeaf()) {
+                                    collectReadAheadPages(io, pageAddr, io.getCount(pageAddr), pageIds);
+
+                                    fwdId = io.getForward(pageAddr);
+                                }
+                            }
+                            finally {
+                                readUnlock(pageId, page, pageAddr);
+                            }
+                        }
+                    }
+                    finally {
+                        releasePage(pageId, page);
+                    }
+
+                    pageId = fwdId;
+
+                    if (!pageIds.isEmpty()) {
+                        try {
+                            exec.execute(new ReadAheadPages(pageIds, guard));
+                        }
+                        catch (RejectedExecutionException ignored) {
+                            // Queue is full, the pages will be read by the cursor.
+                        }
+
+                        pageIds = new GridLongList();
+                    }
+                }
+            }
+            catch (IgniteCheckedException | RuntimeException ignored) {
+                pageId = 0L;
+            }
+            finally {
+                SequentialPageAccess.exit(nested);
+
+                endPageId = pageId;
+
+                running = false;
+            }
+        }
+    }
+
+    /**
+     * Asynchronous read of pages referenced from rows of a leaf page.
+     */
+    private final class ReadAheadPages implements Runnable {
+        /** */
+        private final GridLongList pageIds;
+
+        /** */
+        private final BooleanSupplier guard;
+
+        /**
+         * @param pageIds Page IDs.
+         * @param guard Read-ahead guard.
+         */
+        private ReadAheadPages(GridLongList pageIds, BooleanSupplier guard) {
+            this.pageIds = pageIds;
+            this.guard = guard;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void run() {
+            boolean nested = SequentialPageAccess.enter();
+
+            try {
+                for (int i = 0; i < pageIds.size() && !readAheadStopped(guard); i++) {
+                    long pageId = pageIds.get(i);
+
+                    releasePage(pageId, acquirePage(pageId, IoStatisticsHolderNoOp.INSTANCE));
+                }
+            }
+            catch (IgniteCheckedException | RuntimeException ignored) {
+                // Pages will be read by the cursor.
+            }
+            finally {
+                SequentialPageAccess.exit(nested);
+            }
+        }
+    }
+
     /**
      *
      */
@@ -5415,6 +5899,12 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
         /** Cached value for retrieving diagnosting info in case of failure. */
         public GetCursor getCursor;
 
+        /** Count of leaf pages reached by forward links before the read-ahead is started. */
+        private int leafCnt;
+
+        /** Read-ahead of upcoming pages or {@code null} if it's not started. */
+        private ReadAhead readAhead;
+
         /**
          * @param lowerBound Lower bound.
          * @param upperBound Upper bound.
@@ -5603,7 +6093,11 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
                     try {
                         BPlusIO<L> io = io(pageAddr);
 
-                        if (fillFromBuffer(pageAddr, io, -1, io.getCount(pageAddr)))
+                        boolean found = fillFromBuffer(pageAddr, io, -1, io.getCount(pageAddr));
+
+                        readAhead();
+
+                        if (found)
                             return true;
 
                         // Continue fetching forward.
@@ -5627,6 +6121,30 @@ public abstract class BPlusTree<L, T extends L> extends DataStructure implements
             return reinitialize();
         }
 
+        /**
+         * Reads upcoming pages ahead if the cursor traverses leaves sequentially.
+         */
+        private void readAhead() {
+            if (readAhead == null) {
+                if (readAheadWnd <= 0 || ++leafCnt != READ_AHEAD_THRESHOLD)
+                    return;
+
+                Executor exec = readAheadExecutor();
+
+                if (exec == null)
+                    return;
+
+                BooleanSupplier guard = readAheadGuard();
+
+                if (guard == null || readAheadStopped(guard))
+                    return;
+
+                readAhead = new ReadAhead(exec, guard);
+            }
+
+            readAhead.onLeaf(nextPageId);
+        }
+
         /**
          * @param lower New exact lower bound.
          */
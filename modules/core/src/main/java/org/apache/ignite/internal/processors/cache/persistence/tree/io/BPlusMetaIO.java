@@ -67,6 +67,12 @@ public class BPlusMetaIO extends PageIO {
     /** */
     public static final long DEFAULT_FLAGS = FLAG_UNWRAPPED_PK | FLAG_INLINE_OBJECT_SUPPORTED | FLAG_INLINE_OBJECT_HASH;
 
+    /** Shift of the payload size of inner pages in the flags. Zero size means the payload size of leaf pages. */
+    private static final int INNER_INLINE_SIZE_SHIFT = 16;
+
+    /** */
+    private static final long INNER_INLINE_SIZE_MASK = 0xFFFFL << INNER_INLINE_SIZE_SHIFT;
+
     /** */
     private final int refsOff;
 
@@ -255,6 +261,24 @@ public class BPlusMetaIO extends PageIO {
         return (flags(pageAddr) & FLAG_INLINE_OBJECT_HASH) != 0L;
     }
 
+    /**
+     * @param pageAddr Page address.
+     * @return Payload size of inner pages, or {@code 0} if inner pages have the same payload as leaf pages.
+     */
+    public int innerInlineSize(long pageAddr) {
+        return supportFlags() ? (int)((flags(pageAddr) & INNER_INLINE_SIZE_MASK) >>> INNER_INLINE_SIZE_SHIFT) : 0;
+    }
+
+    /**
+     * @param innerInlineSize Payload size of inner pages, or {@code 0} if it is the same as for leaf pages.
+     * @return Flags bits that store the payload size of inner pages.
+     */
+    public static long innerInlineSizeFlags(int innerInlineSize) {
+        assert innerInlineSize >= 0 && innerInlineSize <= 0xFFFF : innerInlineSize;
+
+        return (long)innerInlineSize << INNER_INLINE_SIZE_SHIFT;
+    }
+
     /**
      * @return {@code true} If flags are supported.
      */
@@ -317,6 +341,8 @@ public class BPlusMetaIO extends PageIO {
     }
 
     /**
+     * Sets flags. Payload size of inner pages is reset to the payload size of leaf pages.
+     *
      * @param pageAddr Page address.
      * @param unwrappedPk unwrapped primary key of this tree flag.
      * @param inlineObjSupported inline POJO by created tree flag.
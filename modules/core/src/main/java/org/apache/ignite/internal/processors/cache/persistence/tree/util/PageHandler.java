@@ -18,6 +18,7 @@
 package org.apache.ignite.internal.processors.cache.persistence.tree.util;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.internal.metric.IoStatisticsHolder;
 import org.apache.ignite.internal.pagemem.PageMemory;
@@ -48,6 +49,10 @@ public abstract class PageHandler<X, R> {
         }
     };
 
+    /** Per-thread buffers for page copies made by optimistic reads. */
+    private static final ThreadLocal<OptimisticReadBuffer> OPTIMISTIC_READ_BUF =
+        ThreadLocal.withInitial(OptimisticReadBuffer::new);
+
     /**
      * @param cacheId Cache ID.
      * @param pageId Page ID.
@@ -179,6 +184,78 @@ public abstract class PageHandler<X, R> {
         }
     }
 
+    /**
+     * Runs the handler against a consistent copy of the page taken without the page read lock. If the copy can not be
+     * made or the page is modified while the handler is running, the result is discarded and the handler is re-run
+     * under the read lock with {@link #readPage(PageMemory, int, long, long, PageLockListener, PageHandler, Object,
+     * int, Object, IoStatisticsHolder, PageIoResolver)}, so the handler must not have side effects that can not be
+     * overwritten by the repeated run.
+     *
+     * @param pageMem Page memory.
+     * @param cacheId Cache ID.
+     * @param pageId Page ID.
+     * @param page Page pointer.
+     * @param lsnr Lock listener.
+     * @param h Handler.
+     * @param arg Argument.
+     * @param intArg Argument of type {@code int}.
+     * @param lockFailed Result in case of lock failure due to page recycling.
+     * @param statHolder Statistics holder to track IO operations.
+     * @return Handler result.
+     * @throws IgniteCheckedException If failed.
+     */
+    public static <X, R> R readPageOptimistic(
+        PageMemory pageMem,
+        int cacheId,
+        long pageId,
+        long page,
+        PageLockListener lsnr,
+        PageHandler<X, R> h,
+        X arg,
+        int intArg,
+        R lockFailed,
+        IoStatisticsHolder statHolder,
+        PageIoResolver pageIoRslvr
+    ) throws IgniteCheckedException {
+        OptimisticReadBuffer buf = OPTIMISTIC_READ_BUF.get();
+
+        // Nested optimistic reads from within the handler use the regular read lock.
+        if (!buf.busy) {
+            buf.busy = true;
+
+            try {
+                long bufAddr = buf.address(pageMem.pageSize());
+
+                long stamp = pageMem.optimisticCopy(cacheId, pageId, page, bufAddr);
+
+                if (stamp != 0L) {
+                    R res;
+
+                    try {
+                        PageIO io = pageIoRslvr.resolve(bufAddr);
+
+                        res = h.run(cacheId, pageId, page, bufAddr, io, null, arg, intArg, statHolder);
+                    }
+                    catch (IgniteCheckedException | RuntimeException | AssertionError e) {
+                        // The handler may have followed a link which was valid in the copy only.
+                        if (pageMem.validateOptimisticRead(cacheId, pageId, page, stamp))
+                            throw e;
+
+                        res = null;
+                    }
+
+                    if (res != null && pageMem.validateOptimisticRead(cacheId, pageId, page, stamp))
+                        return res;
+                }
+            }
+            finally {
+                buf.busy = false;
+            }
+        }
+
+        return readPage(pageMem, cacheId, pageId, page, lsnr, h, arg, intArg, lockFailed, statHolder, pageIoRslvr);
+    }
+
     /**
      * @param pageMem Page memory.
      * @param cacheId Cache ID.
@@ -539,4 +616,26 @@ public abstract class PageHandler<X, R> {
     public static void copyMemory(long srcAddr, long srcOff, long dstAddr, long dstOff, long cnt) {
         GridUnsafe.copyMemory(null, srcAddr + srcOff, null, dstAddr + dstOff, cnt);
     }
+
+    /**
+     * Thread local buffer for optimistic page reads.
+     */
+    private static class OptimisticReadBuffer {
+        /** */
+        private ByteBuffer buf;
+
+        /** {@code True} if the buffer is used by the current optimistic read. */
+        private boolean busy;
+
+        /**
+         * @param pageSize Page size.
+         * @return Address of the buffer of at least the given size.
+         */
+        long address(int pageSize) {
+            if (buf == null || buf.capacity() < pageSize)
+                buf = ByteBuffer.allocateDirect(pageSize).order(ByteOrder.nativeOrder());
+
+            return GridUnsafe.bufferAddress(buf);
+        }
+    }
 }
@@ -17,27 +17,22 @@
 
 package org.apache.ignite.internal.processors.cache.persistence.wal;
 
-import java.io.BufferedInputStream;
-import java.io.BufferedOutputStream;
 import java.io.DataInput;
 import java.io.EOFException;
 import java.io.File;
 import java.io.FileFilter;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.channels.ClosedByInterruptException;
-import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.sql.Time;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -45,14 +40,10 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.regex.Pattern;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
-import java.util.zip.ZipOutputStream;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteLogger;
 import org.apache.ignite.IgniteSystemProperties;
@@ -66,7 +57,6 @@ import org.apache.ignite.events.WalSegmentCompactedEvent;
 import org.apache.ignite.failure.FailureContext;
 import org.apache.ignite.failure.FailureType;
 import org.apache.ignite.internal.GridKernalContext;
-import org.apache.ignite.internal.IgniteInternalFuture;
 import org.apache.ignite.internal.IgniteInterruptedCheckedException;
 import org.apache.ignite.internal.managers.eventstorage.GridEventStorageManager;
 import org.apache.ignite.internal.pagemem.wal.IgniteWriteAheadLogManager;
@@ -112,8 +102,6 @@ import org.apache.ignite.internal.processors.failure.FailureProcessor;
 import org.apache.ignite.internal.processors.timeout.GridTimeoutObject;
 import org.apache.ignite.internal.processors.timeout.GridTimeoutProcessor;
 import org.apache.ignite.internal.util.GridUnsafe;
-import org.apache.ignite.internal.util.future.GridFinishedFuture;
-import org.apache.ignite.internal.util.future.GridFutureAdapter;
 import org.apache.ignite.internal.util.io.GridFileUtils;
 import org.apache.ignite.internal.util.typedef.CI1;
 import org.apache.ignite.internal.util.typedef.CIX1;
@@ -138,6 +126,7 @@ import static java.nio.file.StandardOpenOption.READ;
 import static java.nio.file.StandardOpenOption.WRITE;
 import static java.util.stream.Collectors.toList;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_CHECKPOINT_TRIGGER_ARCHIVE_SIZE_PERCENTAGE;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_PDS_CRC32C;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_THRESHOLD_WAIT_TIME_NEXT_WAL_SEGMENT;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_THRESHOLD_WAL_ARCHIVE_SIZE_PERCENTAGE;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_WAL_COMPRESSOR_WORKER_THREAD_CNT;
@@ -155,6 +144,7 @@ import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType
 import static org.apache.ignite.internal.processors.cache.persistence.filename.NodeFileTree.TMP_SUFFIX;
 import static org.apache.ignite.internal.processors.cache.persistence.filename.NodeFileTree.TMP_ZIP_WAL_SEG_FILE_EXT;
 import static org.apache.ignite.internal.processors.cache.persistence.filename.NodeFileTree.WAL_SEGMENT_FILE_EXT;
+import static org.apache.ignite.internal.processors.cache.persistence.wal.serializer.RecordSerializerFactory.CRC32C_FLAG;
 import static org.apache.ignite.internal.processors.cache.persistence.wal.serializer.RecordSerializerFactory.LATEST_SERIALIZER_VERSION;
 import static org.apache.ignite.internal.processors.cache.persistence.wal.serializer.RecordV1Serializer.HEADER_RECORD_SIZE;
 import static org.apache.ignite.internal.processors.cache.persistence.wal.serializer.RecordV1Serializer.readPosition;
@@ -265,6 +255,9 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
     private final int serializerVer =
         IgniteSystemProperties.getInteger(IGNITE_WAL_SERIALIZER_VERSION, LATEST_SERIALIZER_VERSION);
 
+    /** Calculate checksums of records in new WAL segments with CRC32C instead of CRC32. */
+    private final boolean crc32c = IgniteSystemProperties.getBoolean(IGNITE_PDS_CRC32C);
+
     /** Factory to provide I/O interfaces for read/write operations with files */
     private volatile FileIOFactory ioFactory;
 
@@ -287,9 +280,6 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
     /** Compressor. */
     @Nullable private FileCompressor compressor;
 
-    /** Decompressor. */
-    @Nullable private FileDecompressor decompressor;
-
     /**
      * Cleaner of segments from WAL archive when the maximum size is reached.
      * Will not work if WAL archive size is {@link DataStorageConfiguration#UNLIMITED_WAL_ARCHIVE}.
@@ -483,7 +473,7 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
                     });
             }
 
-            serializer = new RecordSerializerFactoryImpl(cctx).createSerializer(serializerVer);
+            serializer = new RecordSerializerFactoryImpl(cctx).createSerializer(crc32c ? serializerVer | CRC32C_FLAG : serializerVer);
 
             IgniteCacheDatabaseSharedManager dbMgr = cctx.database();
 
@@ -519,9 +509,9 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
             // We have to initialize compressor before archiver in order to setup already compressed segments.
             // Otherwise, FileArchiver initialization will trigger redundant work for FileCompressor.
             if (dsCfg.isWalCompactionEnabled()) {
-                compressor = new FileCompressor(log);
+                WalArchiveCompression.checkSupported(dsCfg.getWalCompactionAlgorithm());
 
-                decompressor = new FileDecompressor(log);
+                compressor = new FileCompressor(log);
             }
 
             if (isArchiverEnabled())
@@ -594,10 +584,6 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
             assert compressor != null : "Compressor should be initialized.";
 
             compressor.restart();
-
-            assert decompressor != null : "Compressor should be initialized.";
-
-            decompressor.restart();
         }
 
         if (!walArchiveUnlimited()) {
@@ -701,9 +687,6 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
             if (compressor != null)
                 compressor.shutdown();
 
-            if (decompressor != null)
-                decompressor.shutdown();
-
             if (cleaner != null)
                 cleaner.shutdown();
         }
@@ -1023,7 +1006,6 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
             new RecordSerializerFactoryImpl(cctx).recordDeserializeFilter(recordDeserializeFilter),
             ioFactory,
             archiver,
-            decompressor,
             log,
             segmentAware,
             segmentRouter,
@@ -1398,7 +1380,7 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
                 lsnr.apply(fileIO);
 
             try {
-                int serVer = serializerVer;
+                int serVer = serializer.version();
 
                 // If we have existing segment, try to read version from it.
                 if (lastReadPtr != null) {
@@ -1406,7 +1388,7 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
                         serVer = readSegmentHeader(fileIO, segmentFileInputFactory).getSerializerVersion();
                     }
                     catch (SegmentEofException | EOFException ignore) {
-                        serVer = serializerVer;
+                        serVer = serializer.version();
                     }
                 }
 
@@ -2434,9 +2416,8 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
                     .getSerializerVersion();
             }
 
-            try (ZipOutputStream zos = new ZipOutputStream(new BufferedOutputStream(new FileOutputStream(zip)))) {
-                zos.setLevel(dsCfg.getWalCompactionLevel());
-                zos.putNextEntry(new ZipEntry(idx + WAL_SEGMENT_FILE_EXT));
+            try (OutputStream zos = WalArchiveCompression.compressedOutput(zip, idx + WAL_SEGMENT_FILE_EXT,
+                dsCfg.getWalCompactionAlgorithm(), dsCfg.getWalCompactionLevel())) {
 
                 ByteBuffer buf = ByteBuffer.allocate(HEADER_RECORD_SIZE);
                 buf.order(ByteOrder.nativeOrder());
@@ -2528,165 +2509,6 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
         segmentAware.awaitSegmentCompressed(idx);
     }
 
-    /**
-     * Responsible for decompressing previously compressed segments of WAL archive if they are needed for replay.
-     */
-    private class FileDecompressor extends GridWorker {
-        /** Decompression futures. */
-        private final Map<Long, GridFutureAdapter<Void>> decompressionFutures = new HashMap<>();
-
-        /** Segments queue. */
-        private final PriorityBlockingQueue<Long> segmentsQueue = new PriorityBlockingQueue<>();
-
-        /** Byte array for draining data. */
-        private final byte[] arr = new byte[BUF_SIZE];
-
-        /**
-         * @param log Logger.
-         */
-        FileDecompressor(IgniteLogger log) {
-            super(cctx.igniteInstanceName(), "wal-file-decompressor%" + cctx.igniteInstanceName(), log,
-                cctx.kernalContext().workersRegistry());
-        }
-
-        /** {@inheritDoc} */
-        @Override protected void body() {
-            Throwable err = null;
-
-            try {
-                while (!isCancelled()) {
-                    long segmentToDecompress = -1L;
-
-                    blockingSectionBegin();
-
-                    try {
-                        segmentToDecompress = segmentsQueue.take();
-                    }
-                    finally {
-                        blockingSectionEnd();
-                    }
-
-                    if (isCancelled())
-                        break;
-
-                    if (segmentToDecompress == -1)
-                        continue;
-
-                    File zip = ft.zipWalArchiveSegment(segmentToDecompress);
-                    File unzipTmp = ft.tempWalArchiveSegment(segmentToDecompress);
-                    File unzip = ft.walArchiveSegment(segmentToDecompress);
-
-                    long currSize = 0;
-                    long reservedSize = U.uncompressedSize(zip);
-
-                    segmentAware.addSize(segmentToDecompress, reservedSize);
-
-                    IgniteCheckedException ex = null;
-
-                    try {
-                        if (unzip.exists())
-                            throw new FileAlreadyExistsException(unzip.getAbsolutePath());
-
-                        try (ZipInputStream zis = new ZipInputStream(new BufferedInputStream(new FileInputStream(zip)));
-                             FileIO io = ioFactory.create(unzipTmp)) {
-                            zis.getNextEntry();
-
-                            while (io.writeFully(arr, 0, zis.read(arr)) > 0)
-                                updateHeartbeat();
-                        }
-
-                        Files.move(unzipTmp.toPath(), unzip.toPath());
-
-                        currSize = unzip.length();
-                    }
-                    catch (IOException e) {
-                        deleteArchiveFiles(unzipTmp);
-
-                        if (e instanceof FileAlreadyExistsException) {
-                            U.error(log, "Can't rename temporary unzipped segment: raw segment is already present " +
-                                "[tmp=" + unzipTmp + ", raw=" + unzip + "]", e);
-                        }
-                        else if (!isCancelled.get()) {
-                            ex = new IgniteCheckedException("Error during WAL segment decompression [segmentIdx=" +
-                                segmentToDecompress + "]", e);
-                        }
-                    }
-                    finally {
-                        segmentAware.addSize(segmentToDecompress, currSize - reservedSize);
-                    }
-
-                    updateHeartbeat();
-
-                    synchronized (this) {
-                        decompressionFutures.remove(segmentToDecompress).onDone(ex);
-                    }
-                }
-            }
-            catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-
-                if (!isCancelled.get())
-                    err = e;
-            }
-            catch (Throwable t) {
-                err = t;
-            }
-            finally {
-                if (err == null && !isCancelled.get())
-                    err = new IllegalStateException("Worker " + name() + " is terminated unexpectedly");
-
-                if (err instanceof OutOfMemoryError)
-                    failureProcessor.process(new FailureContext(CRITICAL_ERROR, err));
-                else if (err != null)
-                    failureProcessor.process(new FailureContext(SYSTEM_WORKER_TERMINATION, err));
-            }
-        }
-
-        /**
-         * Asynchronously decompresses WAL segment which is present only in .zip file.
-         *
-         * @return Future which is completed once file is decompressed.
-         */
-        synchronized IgniteInternalFuture<Void> decompressFile(long idx) {
-            if (decompressionFutures.containsKey(idx))
-                return decompressionFutures.get(idx);
-
-            File f = ft.walArchiveSegment(idx);
-
-            if (f.exists())
-                return new GridFinishedFuture<>();
-
-            segmentsQueue.put(idx);
-
-            GridFutureAdapter<Void> res = new GridFutureAdapter<>();
-
-            decompressionFutures.put(idx, res);
-
-            return res;
-        }
-
-        /** */
-        private void shutdown() {
-            synchronized (this) {
-                U.cancel(this);
-
-                // Put fake -1 to wake thread from queue.take()
-                segmentsQueue.put(-1L);
-            }
-
-            U.join(this, log);
-        }
-
-        /** Restart worker. */
-        void restart() {
-            assert runner() == null : "FileDecompressor is still running.";
-
-            isCancelled.set(false);
-
-            U.newThread(this).start();
-        }
-    }
-
     /**
      * Validate files depending on {@link DataStorageConfiguration#getWalSegments()}  and create if need. Check end
      * when exit condition return false or all files are passed.
@@ -2846,9 +2668,6 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
         /** See {@link FileWriteAheadLogManager#archiver}. */
         @Nullable private final FileArchiver archiver;
 
-        /** */
-        private final FileDecompressor decompressor;
-
         /** */
         private final DataStorageConfiguration dsCfg;
 
@@ -2869,7 +2688,6 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
          * @param dsCfg Database configuration.
          * @param serializerFactory Serializer factory.
          * @param archiver File Archiver.
-         * @param decompressor Decompressor.
          * @param log Logger  @throws IgniteCheckedException If failed to initialize WAL segment.
          * @param segmentAware Segment aware.
          * @param segmentRouter Segment router.
@@ -2884,7 +2702,6 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
             RecordSerializerFactory serializerFactory,
             FileIOFactory ioFactory,
             @Nullable FileArchiver archiver,
-            FileDecompressor decompressor,
             IgniteLogger log,
             SegmentAware segmentAware,
             SegmentRouter segmentRouter,
@@ -2905,7 +2722,6 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
             this.start = start;
             this.dsCfg = dsCfg;
 
-            this.decompressor = decompressor;
             this.segmentRouter = segmentRouter;
             this.segmentAware = segmentAware;
         }
@@ -2925,10 +2741,7 @@ public class FileWriteAheadLogManager extends GridCacheSharedManagerAdapter impl
                         "[segmentIdx=" + desc.idx() + "]");
                 }
 
-                if (decompressor != null)
-                    decompressor.decompressFile(desc.idx()).get();
-                else
-                    currDesc = zipFile;
+                currDesc = zipFile;
             }
 
             return (ReadFileHandle)super.initReadHandle(currDesc, start);
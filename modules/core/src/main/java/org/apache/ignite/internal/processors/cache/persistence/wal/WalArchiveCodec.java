@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.processors.cache.persistence.wal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.DiskPageCompression;
+
+/**
+ * Codec of compacted WAL archive segments. Segments are compacted into ZIP archives by default, other codecs are
+ * looked up by {@link java.util.ServiceLoader} and selected by {@link DataStorageConfiguration#setWalCompactionAlgorithm}.
+ * <p>
+ * A codec must produce a self-describing stream which starts with the {@link #magic() magic number} of the codec so
+ * compacted segments stay readable after the configured algorithm is changed.
+ *
+ * @see WalArchiveCompression
+ */
+public interface WalArchiveCodec {
+    /**
+     * @return Compression algorithm implemented by the codec.
+     */
+    public DiskPageCompression algorithm();
+
+    /**
+     * @return Magic number the compressed stream starts with, read as a little-endian integer.
+     */
+    public int magic();
+
+    /**
+     * @param out Output stream to write compressed data to.
+     * @param level Algorithm specific compression level.
+     * @return Output stream which compresses written data. Closing of the returned stream closes {@code out}.
+     * @throws IOException If failed.
+     */
+    public OutputStream compress(OutputStream out, int level) throws IOException;
+
+    /**
+     * @param in Input stream of compressed data.
+     * @return Input stream of decompressed data. Closing of the returned stream closes {@code in}.
+     * @throws IOException If failed.
+     */
+    public InputStream decompress(InputStream in) throws IOException;
+}
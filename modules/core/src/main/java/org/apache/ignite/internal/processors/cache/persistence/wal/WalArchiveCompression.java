@@ -0,0 +1,362 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.processors.cache.persistence.wal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.configuration.DiskPageCompression;
+import org.apache.ignite.internal.processors.cache.persistence.file.FileIO;
+import org.apache.ignite.internal.processors.cache.persistence.file.UnzipFileIO;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Reads and writes compacted WAL archive segments.
+ * <p>
+ * A segment is compacted either into a ZIP archive with a single entry, or into a stream of a pluggable
+ * {@link WalArchiveCodec} followed by a skippable frame which holds the size of the uncompressed segment:
+ * <pre>
+ * +-----------------------+---------------------------+------------------+--------------------------+
+ * | codec compressed data | 0x184D2A50 (frame magic)  | 8 (frame length) | uncompressed segment size |
+ * +-----------------------+---------------------------+------------------+--------------------------+
+ * </pre>
+ * The format of the skippable frame is shared by zstd and LZ4 frame formats, so a compacted segment can be
+ * decompressed by the standard command line tools. The format of a compacted segment is detected by its first bytes,
+ * so segments compacted with different algorithms can be read at the same time.
+ */
+public final class WalArchiveCompression {
+    /** Magic number of ZIP local file header. */
+    private static final int ZIP_MAGIC = 0x04034B50;
+
+    /** Magic number of the skippable frame which holds the uncompressed segment size. */
+    private static final int SIZE_FRAME_MAGIC = 0x184D2A50;
+
+    /** Length of the skippable frame content. */
+    private static final int SIZE_FRAME_CONTENT_LEN = 8;
+
+    /** Length of the skippable frame which holds the uncompressed segment size. */
+    private static final int SIZE_FRAME_LEN = 8 + SIZE_FRAME_CONTENT_LEN;
+
+    /** Buffer size of streams. */
+    private static final int BUF_SIZE = 64 * 1024;
+
+    /** */
+    private WalArchiveCompression() {
+        // No-op.
+    }
+
+    /**
+     * Checks that compacted segments can be written with the given algorithm.
+     *
+     * @param algorithm Compression algorithm or {@code null} for ZIP.
+     * @throws IgniteCheckedException If the algorithm is not supported.
+     */
+    public static void checkSupported(@Nullable DiskPageCompression algorithm) throws IgniteCheckedException {
+        if (algorithm != null && !Codecs.BY_ALGORITHM.containsKey(algorithm)) {
+            throw new IgniteCheckedException("WAL archive compaction algorithm is not supported [algorithm=" +
+                algorithm + "]. Make sure that ignite-compress module is in classpath.");
+        }
+    }
+
+    /**
+     * Opens stream to write a compacted segment.
+     *
+     * @param file Compacted segment file.
+     * @param entryName Name of ZIP entry.
+     * @param algorithm Compression algorithm or {@code null} for ZIP.
+     * @param level Algorithm specific compression level.
+     * @return Output stream for uncompressed segment data.
+     * @throws IOException If failed.
+     */
+    public static OutputStream compressedOutput(
+        File file,
+        String entryName,
+        @Nullable DiskPageCompression algorithm,
+        int level
+    ) throws IOException {
+        OutputStream fileOut = new BufferedOutputStream(new FileOutputStream(file), BUF_SIZE);
+
+        try {
+            if (algorithm == null) {
+                ZipOutputStream zos = new ZipOutputStream(fileOut);
+
+                zos.setLevel(level);
+                zos.putNextEntry(new ZipEntry(entryName));
+
+                return zos;
+            }
+
+            WalArchiveCodec codec = Codecs.BY_ALGORITHM.get(algorithm);
+
+            if (codec == null)
+                throw new IOException("WAL archive compaction algorithm is not supported: " + algorithm);
+
+            return new FrameOutputStream(codec.compress(new UnclosableOutputStream(fileOut), level), fileOut);
+        }
+        catch (IOException | RuntimeException e) {
+            U.closeQuiet(fileOut);
+
+            throw e;
+        }
+    }
+
+    /**
+     * Opens compacted segment for sequential reading. Data is decompressed on the fly.
+     *
+     * @param file Compacted segment file.
+     * @return File IO to read uncompressed segment data.
+     * @throws IOException If failed.
+     */
+    public static FileIO openCompacted(File file) throws IOException {
+        WalArchiveCodec codec = codec(file);
+
+        if (codec == null)
+            return new UnzipFileIO(file);
+
+        long size = frameUncompressedSize(file);
+
+        InputStream in = new BoundedInputStream(new FileInputStream(file), file.length() - SIZE_FRAME_LEN);
+
+        try {
+            return new UnzipFileIO(codec.decompress(new BufferedInputStream(in, BUF_SIZE)), size);
+        }
+        catch (IOException | RuntimeException e) {
+            U.closeQuiet(in);
+
+            throw e;
+        }
+    }
+
+    /**
+     * @param file Compacted segment file.
+     * @return Codec of compacted segment or {@code null} if segment is compacted into ZIP archive.
+     * @throws IOException If failed to read the file or the file format is unknown.
+     */
+    @Nullable private static WalArchiveCodec codec(File file) throws IOException {
+        int magic;
+
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            magic = Integer.reverseBytes(raf.readInt());
+        }
+
+        if (magic == ZIP_MAGIC)
+            return null;
+
+        WalArchiveCodec codec = Codecs.BY_MAGIC.get(magic);
+
+        if (codec == null) {
+            throw new IOException("Unknown format of compacted WAL segment [file=" + file.getAbsolutePath() +
+                ", magic=0x" + Integer.toHexString(magic) + "]. Make sure that ignite-compress module is in classpath.");
+        }
+
+        return codec;
+    }
+
+    /**
+     * @param file Compacted segment file.
+     * @return Size of the uncompressed segment stored in the trailing skippable frame.
+     * @throws IOException If failed.
+     */
+    private static long frameUncompressedSize(File file) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            if (raf.length() < SIZE_FRAME_LEN)
+                throw new IOException("Compacted WAL segment is truncated: " + file.getAbsolutePath());
+
+            raf.seek(raf.length() - SIZE_FRAME_LEN);
+
+            int magic = Integer.reverseBytes(raf.readInt());
+            int len = Integer.reverseBytes(raf.readInt());
+
+            if (magic != SIZE_FRAME_MAGIC || len != SIZE_FRAME_CONTENT_LEN)
+                throw new IOException("Compacted WAL segment is truncated: " + file.getAbsolutePath());
+
+            return Long.reverseBytes(raf.readLong());
+        }
+    }
+
+    /**
+     * Lazily loaded codecs.
+     */
+    private static class Codecs {
+        /** Codecs by algorithm. */
+        private static final Map<DiskPageCompression, WalArchiveCodec> BY_ALGORITHM =
+            new EnumMap<>(DiskPageCompression.class);
+
+        /** Codecs by magic number. */
+        private static final Map<Integer, WalArchiveCodec> BY_MAGIC = new HashMap<>();
+
+        static {
+            for (WalArchiveCodec codec : U.loadService(WalArchiveCodec.class)) {
+                BY_ALGORITHM.putIfAbsent(codec.algorithm(), codec);
+                BY_MAGIC.putIfAbsent(codec.magic(), codec);
+            }
+        }
+    }
+
+    /**
+     * Counts uncompressed bytes and appends the skippable frame with their count once the codec stream is closed.
+     */
+    private static class FrameOutputStream extends FilterOutputStream {
+        /** Underlying file stream. */
+        private final OutputStream fileOut;
+
+        /** Count of uncompressed bytes. */
+        private long size;
+
+        /**
+         * @param codecOut Codec stream.
+         * @param fileOut Underlying file stream.
+         */
+        FrameOutputStream(OutputStream codecOut, OutputStream fileOut) {
+            super(codecOut);
+
+            this.fileOut = fileOut;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void write(int b) throws IOException {
+            out.write(b);
+
+            size++;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+
+            size += len;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void close() throws IOException {
+            try {
+                out.close();
+
+                byte[] frame = new byte[SIZE_FRAME_LEN];
+
+                U.intToBytes(Integer.reverseBytes(SIZE_FRAME_MAGIC), frame, 0);
+                U.intToBytes(Integer.reverseBytes(SIZE_FRAME_CONTENT_LEN), frame, 4);
+                U.longToBytes(Long.reverseBytes(size), frame, 8);
+
+                fileOut.write(frame);
+            }
+            finally {
+                fileOut.close();
+            }
+        }
+    }
+
+    /**
+     * Keeps the underlying stream open when a codec stream is closed.
+     */
+    private static class UnclosableOutputStream extends FilterOutputStream {
+        /**
+         * @param out Underlying stream.
+         */
+        UnclosableOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        /** {@inheritDoc} */
+        @Override public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        /** {@inheritDoc} */
+        @Override public void close() throws IOException {
+            out.flush();
+        }
+    }
+
+    /**
+     * Stops reading before the trailing skippable frame.
+     */
+    private static class BoundedInputStream extends FilterInputStream {
+        /** Remaining bytes. */
+        private long remaining;
+
+        /**
+         * @param in Underlying stream.
+         * @param limit Count of bytes to read.
+         */
+        BoundedInputStream(InputStream in, long limit) {
+            super(in);
+
+            remaining = limit;
+        }
+
+        /** {@inheritDoc} */
+        @Override public int read() throws IOException {
+            if (remaining <= 0)
+                return -1;
+
+            int b = in.read();
+
+            if (b >= 0)
+                remaining--;
+
+            return b;
+        }
+
+        /** {@inheritDoc} */
+        @Override public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0)
+                return -1;
+
+            int read = in.read(b, off, (int)Math.min(len, remaining));
+
+            if (read > 0)
+                remaining -= read;
+
+            return read;
+        }
+
+        /** {@inheritDoc} */
+        @Override public long skip(long n) throws IOException {
+            long skipped = in.skip(Math.min(n, remaining));
+
+            remaining -= skipped;
+
+            return skipped;
+        }
+
+        /** {@inheritDoc} */
+        @Override public int available() throws IOException {
+            return (int)Math.min(in.available(), remaining);
+        }
+
+        /** {@inheritDoc} */
+        @Override public boolean markSupported() {
+            return false;
+        }
+    }
+}
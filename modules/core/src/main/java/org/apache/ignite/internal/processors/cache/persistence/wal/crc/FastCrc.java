@@ -23,17 +23,25 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.util.zip.CRC32;
+import java.util.zip.CRC32C;
 import java.util.zip.CheckedInputStream;
+import java.util.zip.Checksum;
 
 /**
- * This CRC calculation implementation workf much faster then {@link PureJavaCrc32}
+ * This CRC calculation implementation workf much faster then {@link PureJavaCrc32}.
+ * <p>
+ * Calculates CRC32 by default or CRC32C (Castagnoli) which is intrinsified by JIT with hardware instructions
+ * on x86 and ARM platforms.
  */
 public final class FastCrc {
     /** CRC algo. */
     private static final ThreadLocal<CRC32> CRC = ThreadLocal.withInitial(CRC32::new);
 
+    /** CRC32C algo. */
+    private static final ThreadLocal<CRC32C> CRC32C = ThreadLocal.withInitial(CRC32C::new);
+
     /** */
-    private final CRC32 crc = new CRC32();
+    private final Checksum crc;
 
     /**
      * Current value.
@@ -42,6 +50,15 @@ public final class FastCrc {
 
     /** */
     public FastCrc() {
+        this(false);
+    }
+
+    /**
+     * @param crc32c If {@code true} CRC32C is calculated instead of CRC32.
+     */
+    public FastCrc(boolean crc32c) {
+        crc = crc32c ? new CRC32C() : new CRC32();
+
         reset();
     }
 
@@ -85,6 +102,33 @@ public final class FastCrc {
         return res;
     }
 
+    /**
+     * @param buf Input buffer.
+     * @param len Data length.
+     *
+     * @return CRC32C checksum.
+     */
+    public static int calcCrc32c(ByteBuffer buf, int len) {
+        CRC32C crcAlgo = CRC32C.get();
+
+        int res = calcCrc(crcAlgo, buf, len);
+
+        crcAlgo.reset();
+
+        return res;
+    }
+
+    /**
+     * @param buf Input buffer.
+     * @param len Data length.
+     * @param crc32c If {@code true} CRC32C is calculated instead of CRC32.
+     *
+     * @return Checksum.
+     */
+    public static int calcCrc(ByteBuffer buf, int len, boolean crc32c) {
+        return crc32c ? calcCrc32c(buf, len) : calcCrc(buf, len);
+    }
+
     /**
      * @param file A file to calculate checksum over it.
      * @return CRC32 checksum.
@@ -112,7 +156,7 @@ public final class FastCrc {
      *
      * @return Crc checksum.
      */
-    private static int calcCrc(CRC32 crcAlgo, ByteBuffer buf, int len) {
+    private static int calcCrc(Checksum crcAlgo, ByteBuffer buf, int len) {
         int initLimit = buf.limit();
 
         buf.limit(buf.position() + len);
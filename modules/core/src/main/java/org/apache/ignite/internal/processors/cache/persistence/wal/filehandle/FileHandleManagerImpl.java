@@ -23,6 +23,9 @@ import java.nio.MappedByteBuffer;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.LockSupport;
 import java.util.function.Supplier;
 import org.apache.ignite.IgniteCheckedException;
@@ -38,10 +41,15 @@ import org.apache.ignite.internal.processors.cache.persistence.wal.SegmentedRing
 import org.apache.ignite.internal.processors.cache.persistence.wal.WALPointer;
 import org.apache.ignite.internal.processors.cache.persistence.wal.io.SegmentIO;
 import org.apache.ignite.internal.processors.cache.persistence.wal.serializer.RecordSerializer;
+import org.apache.ignite.internal.thread.pool.IgniteThreadPoolExecutor;
+import org.apache.ignite.internal.util.future.GridCompoundFuture;
+import org.apache.ignite.internal.util.future.GridFutureAdapter;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.internal.util.worker.GridWorker;
+import org.jetbrains.annotations.Nullable;
 
 import static java.lang.Long.MAX_VALUE;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_WAL_PARALLEL_WRITE_THREADS;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_WAL_SEGMENT_SYNC_TIMEOUT;
 import static org.apache.ignite.configuration.WALMode.LOG_ONLY;
 import static org.apache.ignite.failure.FailureType.CRITICAL_ERROR;
@@ -56,6 +64,12 @@ public class FileHandleManagerImpl implements FileHandleManager {
     /** Default wal segment sync timeout. */
     public static final long DFLT_WAL_SEGMENT_SYNC_TIMEOUT = 500L;
 
+    /** Default count of threads writing the WAL buffer to the current segment. */
+    public static final int DFLT_WAL_PARALLEL_WRITE_THREADS = 1;
+
+    /** Minimal size of a chunk of the WAL buffer which is written by a separate thread. */
+    static final int MIN_PARALLEL_WRITE_CHUNK_SIZE = 256 * 1024;
+
     /** WAL writer worker. */
     private final WALWriter walWriter;
 
@@ -92,6 +106,12 @@ public class FileHandleManagerImpl implements FileHandleManager {
     /** Fsync delay. */
     private final long fsyncDelay;
 
+    /** Count of threads writing to the segment, see {@link IgniteSystemProperties#IGNITE_WAL_PARALLEL_WRITE_THREADS}. */
+    private final int walParallelWriteThreads;
+
+    /** Pool of additional writing threads, {@code null} if WAL buffer is written by the WAL writer only. */
+    @Nullable private volatile IgniteThreadPoolExecutor walParallelWritePool;
+
     /**
      * @param cctx Context.
      * @param metrics Data storage metrics.
@@ -124,6 +144,8 @@ public class FileHandleManagerImpl implements FileHandleManager {
         this.walBufferSize = walBufferSize;
         this.maxWalSegmentSize = maxWalSegmentSize;
         this.fsyncDelay = fsyncDelay;
+        walParallelWriteThreads = mmap ? 1 : Math.max(1,
+            IgniteSystemProperties.getInteger(IGNITE_WAL_PARALLEL_WRITE_THREADS, DFLT_WAL_PARALLEL_WRITE_THREADS));
         walWriter = new WALWriter(log);
 
         if (mode != WALMode.NONE && mode != WALMode.FSYNC) {
@@ -210,13 +232,47 @@ public class FileHandleManagerImpl implements FileHandleManager {
                 walSegmentSyncWorker.shutdown();
 
             walWriter.shutdown();
+
+            stopParallelWritePool();
+        }
+    }
+
+    /**
+     * Stops the pool of additional writing threads.
+     */
+    private void stopParallelWritePool() {
+        IgniteThreadPoolExecutor pool = walParallelWritePool;
+
+        if (pool != null) {
+            pool.shutdownNow();
+
+            try {
+                pool.awaitTermination(2, TimeUnit.MINUTES);
+            }
+            catch (InterruptedException ignore) {
+                Thread.currentThread().interrupt();
+            }
+
+            walParallelWritePool = null;
         }
     }
 
     /** {@inheritDoc} */
     @Override public void resumeLogging() {
-        if (!mmap)
+        if (!mmap) {
+            if (walParallelWriteThreads > 1 && walParallelWritePool == null) {
+                walParallelWritePool = new IgniteThreadPoolExecutor(
+                    "wal-parallel-write",
+                    cctx.igniteInstanceName(),
+                    walParallelWriteThreads - 1,
+                    walParallelWriteThreads - 1,
+                    30_000,
+                    new LinkedBlockingQueue<>()
+                );
+            }
+
             walWriter.restart();
+        }
 
         if (cctx.kernalContext().clientNode())
             return;
@@ -559,7 +615,12 @@ public class FileHandleManagerImpl implements FileHandleManager {
             try {
                 assert hdl.written == hdl.fileIO.position();
 
-                hdl.written += hdl.fileIO.writeFully(buf);
+                IgniteThreadPoolExecutor pool = walParallelWritePool;
+
+                if (pool != null && size >= 2 * MIN_PARALLEL_WRITE_CHUNK_SIZE)
+                    hdl.written += writeParallel(hdl, buf, pool);
+                else
+                    hdl.written += hdl.fileIO.writeFully(buf);
 
                 assert hdl.written == hdl.fileIO.position();
             }
@@ -574,6 +635,91 @@ public class FileHandleManagerImpl implements FileHandleManager {
             }
         }
 
+        /**
+         * Writes the buffer by several concurrent positional writes of its adjacent chunks. The first chunk is written
+         * by the WAL writer itself, the others by the parallel write pool. A chunk rejected by the pool is written by
+         * the WAL writer. Position of the file is moved to the end of written data only after all the chunks have been
+         * written.
+         *
+         * @param hdl Current handle.
+         * @param buf Buffer to write to file.
+         * @param pool Parallel write pool.
+         * @return Count of written bytes.
+         * @throws IOException If failed.
+         */
+        private int writeParallel(
+            FileWriteHandleImpl hdl,
+            ByteBuffer buf,
+            IgniteThreadPoolExecutor pool
+        ) throws IOException {
+            int size = buf.remaining();
+
+            int chunks = Math.min(walParallelWriteThreads, size / MIN_PARALLEL_WRITE_CHUNK_SIZE);
+
+            int chunkSize = size / chunks;
+
+            long pos = hdl.written;
+
+            GridCompoundFuture<Object, Object> fut = new GridCompoundFuture<>();
+
+            try {
+                for (int i = 1; i < chunks; i++) {
+                    int off = i * chunkSize;
+
+                    ByteBuffer chunk = buf.duplicate();
+
+                    chunk.position(buf.position() + off);
+                    chunk.limit(i == chunks - 1 ? buf.limit() : buf.position() + off + chunkSize);
+
+                    GridFutureAdapter<Object> chunkFut = new GridFutureAdapter<>();
+
+                    fut.add(chunkFut);
+
+                    Runnable writeChunk = () -> {
+                        try {
+                            hdl.fileIO.writeFully(chunk, pos + off);
+
+                            chunkFut.onDone();
+                        }
+                        catch (Throwable e) {
+                            chunkFut.onDone(e);
+                        }
+                    };
+
+                    try {
+                        pool.execute(writeChunk);
+                    }
+                    catch (RejectedExecutionException ignored) {
+                        // Pool is stopping.
+                        writeChunk.run();
+                    }
+                }
+
+                ByteBuffer first = buf.duplicate();
+
+                first.limit(buf.position() + chunkSize);
+
+                hdl.fileIO.writeFully(first, pos);
+            }
+            finally {
+                fut.markInitialized();
+
+                // Buffer can't be released until all the submitted chunks have been written.
+                try {
+                    fut.get();
+                }
+                catch (IgniteCheckedException e) {
+                    throw new IOException("Failed to write WAL buffer chunk.", e);
+                }
+            }
+
+            hdl.fileIO.position(pos + size);
+
+            buf.position(buf.limit());
+
+            return size;
+        }
+
         /**
          * Restart worker in IgniteThread.
          */
@@ -34,7 +34,6 @@ import java.util.concurrent.locks.ReentrantLock;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteException;
 import org.apache.ignite.IgniteLogger;
-import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.configuration.DataStorageConfiguration;
 import org.apache.ignite.configuration.WALMode;
 import org.apache.ignite.internal.cdc.CdcManager;
@@ -54,10 +53,8 @@ import org.apache.ignite.internal.util.GridUnsafe;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.jetbrains.annotations.Nullable;
 
-import static org.apache.ignite.IgniteSystemProperties.IGNITE_WAL_SERIALIZER_VERSION;
 import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.SWITCH_SEGMENT_RECORD;
 import static org.apache.ignite.internal.processors.cache.persistence.wal.FileWriteAheadLogManager.prepareSerializerVersionBuffer;
-import static org.apache.ignite.internal.processors.cache.persistence.wal.serializer.RecordSerializerFactory.LATEST_SERIALIZER_VERSION;
 import static org.apache.ignite.internal.processors.cache.persistence.wal.serializer.RecordV1Serializer.HEADER_RECORD_SIZE;
 import static org.apache.ignite.internal.util.IgniteUtils.findField;
 import static org.apache.ignite.internal.util.IgniteUtils.findNonPublicMethod;
@@ -79,10 +76,6 @@ class FileWriteHandleImpl extends AbstractFileHandle implements FileWriteHandle
     /** Page size. */
     private static final int PAGE_SIZE = GridUnsafe.pageSize();
 
-    /** Serializer latest version to use. */
-    private final int serializerVer =
-        IgniteSystemProperties.getInteger(IGNITE_WAL_SERIALIZER_VERSION, LATEST_SERIALIZER_VERSION);
-
     /** Use mapped byte buffer. */
     private final boolean mmap;
 
@@ -208,7 +201,7 @@ class FileWriteHandleImpl extends AbstractFileHandle implements FileWriteHandle
 
         assert seg != null && seg.position() > 0;
 
-        prepareSerializerVersionBuffer(getSegmentId(), serializerVer, false, seg.buffer());
+        prepareSerializerVersionBuffer(getSegmentId(), serializer.version(), false, seg.buffer());
 
         seg.release();
     }
@@ -456,7 +449,7 @@ class FileWriteHandleImpl extends AbstractFileHandle implements FileWriteHandle
                 flushOrWait(null);
 
                 RecordSerializer backwardSerializer = new RecordSerializerFactoryImpl(cctx)
-                    .createSerializer(serializerVer);
+                    .createSerializer(serializer.version());
 
                 SwitchSegmentRecord segmentRecord = new SwitchSegmentRecord();
 
@@ -21,6 +21,7 @@ import java.io.IOException;
 import java.util.function.Supplier;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.configuration.WALMode;
 import org.apache.ignite.internal.pagemem.wal.record.WALRecord;
 import org.apache.ignite.internal.processors.cache.GridCacheSharedContext;
@@ -30,10 +31,15 @@ import org.apache.ignite.internal.processors.cache.persistence.wal.WALPointer;
 import org.apache.ignite.internal.processors.cache.persistence.wal.io.SegmentIO;
 import org.apache.ignite.internal.processors.cache.persistence.wal.serializer.RecordSerializer;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_WAL_GROUP_COMMIT_MAX_WINDOW;
+
 /**
  * Implementation of {@link FileWriteHandle} for FSYNC mode.
  */
 public class FsyncFileHandleManagerImpl implements FileHandleManager {
+    /** Default maximal group commit window in microseconds. */
+    public static final long DFLT_WAL_GROUP_COMMIT_MAX_WINDOW = 1000L;
+
     /** Context. */
     protected final GridCacheSharedContext cctx;
 
@@ -55,8 +61,8 @@ public class FsyncFileHandleManagerImpl implements FileHandleManager {
     /** WAL segment size in bytes. This is maximum value, actual segments may be shorter. */
     private final long maxWalSegmentSize;
 
-    /** Fsync delay. */
-    private final long fsyncDelay;
+    /** Group commit scheduler shared by handles of all segments. */
+    private final FsyncGroupCommit grpCommit;
 
     /** Thread local byte buffer size. */
     private final int tlbSize;
@@ -88,7 +94,8 @@ public class FsyncFileHandleManagerImpl implements FileHandleManager {
         this.serializer = serializer;
         currentHandleSupplier = handle;
         this.maxWalSegmentSize = maxWalSegmentSize;
-        this.fsyncDelay = fsyncDelay;
+        grpCommit = new FsyncGroupCommit(fsyncDelay, IgniteSystemProperties.getLong(
+            IGNITE_WAL_GROUP_COMMIT_MAX_WINDOW, DFLT_WAL_GROUP_COMMIT_MAX_WINDOW) * 1_000);
         this.tlbSize = tlbSize;
     }
 
@@ -97,7 +104,7 @@ public class FsyncFileHandleManagerImpl implements FileHandleManager {
         RecordSerializer serializer) throws IOException {
         return new FsyncFileWriteHandle(
             cctx, fileIO, metrics, serializer, position,
-            mode, maxWalSegmentSize, tlbSize, fsyncDelay
+            mode, maxWalSegmentSize, tlbSize, grpCommit
         );
     }
 
@@ -106,7 +113,7 @@ public class FsyncFileHandleManagerImpl implements FileHandleManager {
         RecordSerializer serializer) throws IOException {
         return new FsyncFileWriteHandle(
             cctx, fileIO, metrics, serializer, 0,
-            mode, maxWalSegmentSize, tlbSize, fsyncDelay
+            mode, maxWalSegmentSize, tlbSize, grpCommit
         );
     }
 
@@ -28,7 +28,6 @@ import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteLogger;
-import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.configuration.DataStorageConfiguration;
 import org.apache.ignite.configuration.WALMode;
 import org.apache.ignite.failure.FailureContext;
@@ -49,10 +48,8 @@ import org.apache.ignite.internal.util.typedef.internal.S;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.jetbrains.annotations.Nullable;
 
-import static org.apache.ignite.IgniteSystemProperties.IGNITE_WAL_SERIALIZER_VERSION;
 import static org.apache.ignite.failure.FailureType.CRITICAL_ERROR;
 import static org.apache.ignite.internal.processors.cache.persistence.wal.FileWriteAheadLogManager.prepareSerializerVersionBuffer;
-import static org.apache.ignite.internal.processors.cache.persistence.wal.serializer.RecordSerializerFactory.LATEST_SERIALIZER_VERSION;
 
 /**
  * File handle for one log segment.
@@ -65,10 +62,6 @@ class FsyncFileWriteHandle extends AbstractFileHandle implements FileWriteHandle
     /** Max segment size. */
     private final long maxSegmentSize;
 
-    /** Serializer latest version to use. */
-    private final int serializerVersion =
-        IgniteSystemProperties.getInteger(IGNITE_WAL_SERIALIZER_VERSION, LATEST_SERIALIZER_VERSION);
-
     /**
      * Accumulated WAL records chain. This reference points to latest WAL record. When writing records chain is iterated
      * from latest to oldest (see {@link WALRecord#previous()}) Records from chain are saved into buffer in reverse
@@ -117,8 +110,8 @@ class FsyncFileWriteHandle extends AbstractFileHandle implements FileWriteHandle
     /** Logger. */
     protected final IgniteLogger log;
 
-    /** Fsync delay. */
-    private final long fsyncDelay;
+    /** Group commit scheduler. */
+    private final FsyncGroupCommit grpCommit;
 
     /** Switch segment record offset. */
     private int switchSegmentRecordOffset;
@@ -147,13 +140,13 @@ class FsyncFileWriteHandle extends AbstractFileHandle implements FileWriteHandle
      * @param mode WAL mode.
      * @param maxSegmentSize Max segment size.
      * @param size Thread local byte buffer size.
-     * @param fsyncDelay Fsync delay.
+     * @param grpCommit Group commit scheduler.
      * @throws IOException If failed.
      */
     FsyncFileWriteHandle(
         GridCacheSharedContext cctx, SegmentIO fileIO,
         DataStorageMetricsImpl metrics, RecordSerializer serializer, long pos,
-        WALMode mode, long maxSegmentSize, int size, long fsyncDelay) throws IOException {
+        WALMode mode, long maxSegmentSize, int size, FsyncGroupCommit grpCommit) throws IOException {
         super(fileIO);
         assert serializer != null;
 
@@ -162,7 +155,7 @@ class FsyncFileWriteHandle extends AbstractFileHandle implements FileWriteHandle
         this.cctx = cctx;
         this.metrics = metrics;
         this.log = cctx.logger(FsyncFileWriteHandle.class);
-        this.fsyncDelay = fsyncDelay;
+        this.grpCommit = grpCommit;
         this.maxSegmentSize = maxSegmentSize;
         this.serializer = serializer;
         this.written = pos;
@@ -566,6 +559,9 @@ class FsyncFileWriteHandle extends AbstractFileHandle implements FileWriteHandle
      * @throws IgniteInterruptedCheckedException If interrupted.
      */
     protected void fsync(WALPointer ptr, boolean stop) throws StorageException, IgniteInterruptedCheckedException {
+        if (ptr != null)
+            grpCommit.onWaitStart();
+
         lock.lock();
 
         try {
@@ -573,9 +569,11 @@ class FsyncFileWriteHandle extends AbstractFileHandle implements FileWriteHandle
                 if (!needFsync(ptr))
                     return;
 
-                if (fsyncDelay > 0 && !stopped()) {
+                long delay = grpCommit.window();
+
+                if (delay > 0 && !stopped()) {
                     // Delay fsync to collect as many updates as possible: trade latency for throughput.
-                    U.await(fsync, fsyncDelay, TimeUnit.NANOSECONDS);
+                    U.await(fsync, delay, TimeUnit.NANOSECONDS);
 
                     if (!needFsync(ptr))
                         return;
@@ -590,9 +588,7 @@ class FsyncFileWriteHandle extends AbstractFileHandle implements FileWriteHandle
             if (lastFsyncPos != written) {
                 assert lastFsyncPos < written; // Fsync position must be behind.
 
-                boolean metricsEnabled = metrics.metricsEnabled();
-
-                long start = metricsEnabled ? System.nanoTime() : 0;
+                long start = System.nanoTime();
 
                 try {
                     fileIO.force();
@@ -603,17 +599,23 @@ class FsyncFileWriteHandle extends AbstractFileHandle implements FileWriteHandle
 
                 lastFsyncPos = written;
 
-                if (fsyncDelay > 0)
-                    fsync.signalAll();
+                fsync.signalAll();
 
-                long end = metricsEnabled ? System.nanoTime() : 0;
+                long duration = System.nanoTime() - start;
 
-                if (metricsEnabled)
-                    metrics.onFsync(end - start);
+                int batch = grpCommit.onFsync(duration);
+
+                if (metrics.metricsEnabled()) {
+                    metrics.onFsync(duration);
+                    metrics.onGroupCommit(batch);
+                }
             }
         }
         finally {
             lock.unlock();
+
+            if (ptr != null)
+                grpCommit.onWaitEnd();
         }
     }
 
@@ -633,7 +635,7 @@ class FsyncFileWriteHandle extends AbstractFileHandle implements FileWriteHandle
                 try {
                     try {
                         RecordSerializer backwardSerializer = new RecordSerializerFactoryImpl(cctx)
-                            .createSerializer(serializerVersion);
+                            .createSerializer(serializer.version());
 
                         SwitchSegmentRecord segmentRecord = new SwitchSegmentRecord();
 
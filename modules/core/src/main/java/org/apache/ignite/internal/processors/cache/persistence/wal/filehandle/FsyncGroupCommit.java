@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.wal.filehandle;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.internal.util.typedef.internal.S;
+
+/**
+ * Group commit scheduler of {@link FsyncFileWriteHandle}. Counts threads waiting for their WAL pointers to be synced
+ * and adapts the time the first of them waits before fsync (the window) to the load. The window grows while fsyncs
+ * cover several waiting threads and shrinks back to the configured fsync delay while threads come one by one, so
+ * a single committer is not delayed. The window never exceeds the configured maximum and the average fsync duration.
+ * <p>
+ * The scheduler is shared by handles of all segments, so the statistics survive segment rollover.
+ */
+class FsyncGroupCommit {
+    /** Minimal window growth step in nanoseconds. */
+    private static final long MIN_GROWTH_STEP = 10_000L;
+
+    /** Minimal window in nanoseconds, see {@link DataStorageConfiguration#getWalFsyncDelayNanos()}. */
+    private final long minWindow;
+
+    /** Maximal window in nanoseconds. */
+    private final long maxWindow;
+
+    /** Count of threads waiting for fsync. */
+    private final AtomicInteger waiters = new AtomicInteger();
+
+    /** Current window in nanoseconds. */
+    private volatile long window;
+
+    /** Average fsync duration in nanoseconds. */
+    private volatile long avgFsyncDuration;
+
+    /**
+     * @param minWindow Minimal window in nanoseconds.
+     * @param maxWindow Maximal window in nanoseconds, window is not adapted if it is not greater than
+     *      {@code minWindow}.
+     */
+    FsyncGroupCommit(long minWindow, long maxWindow) {
+        this.minWindow = Math.max(minWindow, 0);
+        this.maxWindow = maxWindow;
+
+        window = this.minWindow;
+    }
+
+    /**
+     * Callback on a thread started waiting for fsync.
+     */
+    void onWaitStart() {
+        waiters.incrementAndGet();
+    }
+
+    /**
+     * Callback on a thread finished waiting for fsync.
+     */
+    void onWaitEnd() {
+        waiters.decrementAndGet();
+    }
+
+    /**
+     * @return Time in nanoseconds to wait for other threads before fsync.
+     */
+    long window() {
+        return window;
+    }
+
+    /**
+     * Adapts the window after fsync. Must be invoked under the lock of the handle which performed fsync.
+     *
+     * @param duration Fsync duration in nanoseconds.
+     * @return Count of threads which were waiting for the fsync, including the one that performed it. Threads which
+     *      wait for a pointer beyond the synced position are counted as well, so this is an upper estimate.
+     */
+    int onFsync(long duration) {
+        int batch = Math.max(waiters.get(), 1);
+
+        if (maxWindow <= minWindow)
+            return batch;
+
+        long avg = avgFsyncDuration;
+
+        avg = avg == 0 ? duration : avg - (avg >> 3) + (duration >> 3);
+
+        avgFsyncDuration = avg;
+
+        long w = window;
+
+        if (batch > 1) {
+            long cap = Math.max(minWindow, Math.min(maxWindow, avg));
+
+            w = Math.min(cap, Math.max(w << 1, w + MIN_GROWTH_STEP));
+        }
+        else
+            w = Math.max(minWindow, w >> 1);
+
+        window = w;
+
+        return batch;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(FsyncGroupCommit.class, this, "waiters", waiters.get());
+    }
+}
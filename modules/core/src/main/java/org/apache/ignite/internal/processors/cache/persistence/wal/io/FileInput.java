@@ -50,14 +50,23 @@ public interface FileInput extends ByteBufferBackedDataInput {
      * @param skipCheck If CRC check should be skipped.
      * @return autoclosable fileInput, after its closing crc32 will be calculated and compared with saved one
      */
-    SimpleFileInput.Crc32CheckingFileInput startRead(boolean skipCheck);
+    default SimpleFileInput.Crc32CheckingFileInput startRead(boolean skipCheck) {
+        return startRead(skipCheck, false);
+    }
+
+    /**
+     * @param skipCheck If CRC check should be skipped.
+     * @param crc32c If checksum is calculated with CRC32C instead of CRC32.
+     * @return autoclosable fileInput, after its closing checksum will be calculated and compared with saved one
+     */
+    SimpleFileInput.Crc32CheckingFileInput startRead(boolean skipCheck, boolean crc32c);
 
     /**
      * Checking of CRC32.
      */
     public class Crc32CheckingFileInput implements ByteBufferBackedDataInput, AutoCloseable {
         /** */
-        private final FastCrc crc = new FastCrc();
+        private final FastCrc crc;
 
         /** Last calc position. */
         private int lastCalcPosition;
@@ -69,8 +78,20 @@ public interface FileInput extends ByteBufferBackedDataInput {
         private FileInput delegate;
 
         /**
+         * @param delegate File input.
+         * @param skipCheck Skip crc check.
          */
         public Crc32CheckingFileInput(FileInput delegate, boolean skipCheck) {
+            this(delegate, skipCheck, false);
+        }
+
+        /**
+         * @param delegate File input.
+         * @param skipCheck Skip crc check.
+         * @param crc32c Checksum is calculated with CRC32C instead of CRC32.
+         */
+        public Crc32CheckingFileInput(FileInput delegate, boolean skipCheck, boolean crc32c) {
+            this.crc = new FastCrc(crc32c);
             this.delegate = delegate;
             this.lastCalcPosition = delegate.buffer().position();
             this.skipCheck = skipCheck;
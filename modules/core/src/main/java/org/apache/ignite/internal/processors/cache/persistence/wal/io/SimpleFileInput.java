@@ -265,9 +265,10 @@ public class SimpleFileInput implements FileInput {
 
     /**
      * @param skipCheck If CRC check should be skipped.
+     * @param crc32c If checksum is calculated with CRC32C instead of CRC32.
      * @return autoclosable fileInput, after its closing crc will be calculated and compared with saved one
      */
-    @Override public Crc32CheckingFileInput startRead(boolean skipCheck) {
-        return new Crc32CheckingFileInput(this, skipCheck);
+    @Override public Crc32CheckingFileInput startRead(boolean skipCheck, boolean crc32c) {
+        return new Crc32CheckingFileInput(this, skipCheck, crc32c);
     }
 }
@@ -85,6 +85,7 @@ import org.apache.ignite.internal.pagemem.wal.record.delta.MetaPageUpdatePartiti
 import org.apache.ignite.internal.pagemem.wal.record.delta.MetaPageUpdatePartitionDataRecordV2;
 import org.apache.ignite.internal.pagemem.wal.record.delta.MetaPageUpdatePartitionDataRecordV3;
 import org.apache.ignite.internal.pagemem.wal.record.delta.NewRootInitRecord;
+import org.apache.ignite.internal.pagemem.wal.record.delta.PageDiffRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.PageListMetaResetCountRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.PagesListAddPageRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.PagesListInitNewPageRecord;
@@ -433,6 +434,9 @@ public class RecordDataV1Serializer implements RecordDataSerializer {
             case INIT_NEW_PAGE_RECORD:
                 return 4 + 8 + 2 + 2 + 8;
 
+            case PAGE_DIFF_RECORD:
+                return 4 + 8 + 4 + 4 + ((PageDiffRecord)record).diff().length;
+
             case BTREE_META_PAGE_INIT_ROOT:
                 return 4 + 8 + 8;
 
@@ -820,6 +824,20 @@ public class RecordDataV1Serializer implements RecordDataSerializer {
 
                 break;
 
+            case PAGE_DIFF_RECORD:
+                cacheId = in.readInt();
+                pageId = in.readLong();
+
+                int baseCrc = in.readInt();
+
+                byte[] diff = new byte[in.readInt()];
+
+                in.readFully(diff);
+
+                res = new PageDiffRecord(cacheId, pageId, baseCrc, diff);
+
+                break;
+
             case BTREE_META_PAGE_INIT_ROOT:
                 cacheId = in.readInt();
                 pageId = in.readLong();
@@ -1494,6 +1512,18 @@ public class RecordDataV1Serializer implements RecordDataSerializer {
 
                 break;
 
+            case PAGE_DIFF_RECORD:
+                PageDiffRecord diffRec = (PageDiffRecord)rec;
+
+                buf.putInt(diffRec.groupId());
+                buf.putLong(diffRec.pageId());
+
+                buf.putInt(diffRec.baseCrc());
+                buf.putInt(diffRec.diff().length);
+                buf.put(diffRec.diff());
+
+                break;
+
             case BTREE_META_PAGE_INIT_ROOT:
                 MetaPageInitRootRecord imRec = (MetaPageInitRootRecord)rec;
 
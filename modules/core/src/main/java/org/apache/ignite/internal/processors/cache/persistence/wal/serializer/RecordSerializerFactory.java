@@ -31,6 +31,12 @@ public interface RecordSerializerFactory {
     /** Latest serializer version to use. */
     static final int LATEST_SERIALIZER_VERSION = 2;
 
+    /**
+     * Flag of serializer version which is set in segment header when checksums of records are calculated
+     * with CRC32C instead of CRC32.
+     */
+    static final int CRC32C_FLAG = 1 << 16;
+
     /**
      * Factory method for creation {@link RecordSerializer}.
      *
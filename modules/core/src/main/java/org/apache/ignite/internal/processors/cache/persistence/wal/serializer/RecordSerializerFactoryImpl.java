@@ -69,14 +69,17 @@ public class RecordSerializerFactoryImpl implements RecordSerializerFactory {
         if (ver <= 0)
             throw new IgniteCheckedException("Failed to create a serializer (corrupted WAL file).");
 
-        switch (ver) {
+        boolean crc32c = (ver & CRC32C_FLAG) != 0;
+
+        switch (ver & ~CRC32C_FLAG) {
             case 1:
                 return new RecordV1Serializer(
                     new RecordDataV1Serializer(cctx),
                     needWritePointer,
                     marshalledMode,
                     skipPositionCheck,
-                    recordDeserializeFilter);
+                    recordDeserializeFilter,
+                    crc32c);
 
             case 2:
                 return new RecordV2Serializer(
@@ -84,7 +87,8 @@ public class RecordSerializerFactoryImpl implements RecordSerializerFactory {
                     needWritePointer,
                     marshalledMode,
                     skipPositionCheck,
-                    recordDeserializeFilter
+                    recordDeserializeFilter,
+                    crc32c
                 );
 
             default:
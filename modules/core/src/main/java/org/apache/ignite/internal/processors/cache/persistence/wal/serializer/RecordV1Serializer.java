@@ -49,6 +49,7 @@ import org.apache.ignite.lang.IgniteBiPredicate;
 
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_PDS_SKIP_CRC;
 import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.SWITCH_SEGMENT_RECORD;
+import static org.apache.ignite.internal.processors.cache.persistence.wal.serializer.RecordSerializerFactory.CRC32C_FLAG;
 
 /**
  * Record V1 serializer.
@@ -92,6 +93,9 @@ public class RecordV1Serializer implements RecordSerializer {
     /** Skip position check flag. Should be set for reading compacted wal file with skipped physical records. */
     private final boolean skipPositionCheck;
 
+    /** Calculate checksums of records with CRC32C instead of CRC32. */
+    private final boolean crc32c;
+
     /**
      * Marshalled mode.
      * Records are not deserialized in this mode, {@link MarshalledRecord} with binary representation are read instead.
@@ -198,24 +202,27 @@ public class RecordV1Serializer implements RecordSerializer {
      * @param marshalledMode Marshalled mode.
      * @param skipPositionCheck Skip position check mode.
      * @param recordFilter Record type filter. {@link FilteredRecord} is deserialized instead of original record
+     * @param crc32c Calculate checksums of records with CRC32C instead of CRC32.
      */
     public RecordV1Serializer(
         RecordDataV1Serializer dataSerializer,
         boolean writePointer,
         boolean marshalledMode,
         boolean skipPositionCheck,
-        IgniteBiPredicate<RecordType, WALPointer> recordFilter
+        IgniteBiPredicate<RecordType, WALPointer> recordFilter,
+        boolean crc32c
     ) {
         this.dataSerializer = dataSerializer;
         this.writePointer = writePointer;
         this.recordFilter = recordFilter;
         this.skipPositionCheck = skipPositionCheck;
         this.marshalledMode = marshalledMode;
+        this.crc32c = crc32c;
     }
 
     /** {@inheritDoc} */
     @Override public int version() {
-        return 1;
+        return crc32c ? 1 | CRC32C_FLAG : 1;
     }
 
     /** {@inheritDoc} */
@@ -225,12 +232,12 @@ public class RecordV1Serializer implements RecordSerializer {
 
     /** {@inheritDoc} */
     @Override public void writeRecord(WALRecord rec, ByteBuffer buf) throws IgniteCheckedException {
-        writeWithCrc(rec, buf, recordIO);
+        writeWithCrc(rec, buf, recordIO, crc32c);
     }
 
     /** {@inheritDoc} */
     @Override public WALRecord readRecord(FileInput in0, WALPointer expPtr) throws IOException, IgniteCheckedException {
-        return readWithCrc(in0, expPtr, recordIO);
+        return readWithCrc(in0, expPtr, recordIO, crc32c);
     }
 
     /** {@inheritDoc} */
@@ -360,6 +367,7 @@ public class RecordV1Serializer implements RecordSerializer {
      * @param in0 File input.
      * @param expPtr Expected WAL pointer for record. Used to validate actual position against expected from the file.
      * @param reader Record reader I/O interface.
+     * @param crc32c Checksum of record is CRC32C instead of CRC32.
      * @return WAL record.
      * @throws EOFException In case of end of file.
      * @throws IgniteCheckedException If it's unable to read record.
@@ -367,11 +375,12 @@ public class RecordV1Serializer implements RecordSerializer {
     static WALRecord readWithCrc(
         FileInput in0,
         WALPointer expPtr,
-        RecordIO reader
+        RecordIO reader,
+        boolean crc32c
     ) throws EOFException, IgniteCheckedException {
         long startPos = -1;
 
-        try (SimpleFileInput.Crc32CheckingFileInput in = in0.startRead(skipCrc)) {
+        try (SimpleFileInput.Crc32CheckingFileInput in = in0.startRead(skipCrc, crc32c)) {
             startPos = in0.position();
 
             WALRecord res = reader.readWithHeaders(in, expPtr);
@@ -408,9 +417,15 @@ public class RecordV1Serializer implements RecordSerializer {
      * @param rec WAL record.
      * @param buf Buffer to write.
      * @param writer Record write I/O interface.
+     * @param crc32c Calculate checksum of record with CRC32C instead of CRC32.
      * @throws IgniteCheckedException If it's unable to write record.
      */
-    static void writeWithCrc(WALRecord rec, ByteBuffer buf, RecordIO writer) throws IgniteCheckedException {
+    static void writeWithCrc(
+        WALRecord rec,
+        ByteBuffer buf,
+        RecordIO writer,
+        boolean crc32c
+    ) throws IgniteCheckedException {
         assert rec.size() >= 0 && buf.remaining() >= rec.size() : rec.size();
 
         boolean switchSegmentRec = rec.type() == RecordType.SWITCH_SEGMENT_RECORD;
@@ -429,7 +444,7 @@ public class RecordV1Serializer implements RecordSerializer {
             buf.position(startPos);
 
             // This call will move buffer position to the end of the record again.
-            int crcVal = FastCrc.calcCrc(buf, curPos - startPos);
+            int crcVal = FastCrc.calcCrc(buf, curPos - startPos, crc32c);
 
             buf.putInt(crcVal);
         }
@@ -40,6 +40,7 @@ import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType
 import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.ENCRYPTED_RECORD;
 import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.ENCRYPTED_RECORD_V2;
 import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.SWITCH_SEGMENT_RECORD;
+import static org.apache.ignite.internal.processors.cache.persistence.wal.serializer.RecordSerializerFactory.CRC32C_FLAG;
 import static org.apache.ignite.internal.processors.cache.persistence.wal.serializer.RecordV1Serializer.CRC_SIZE;
 import static org.apache.ignite.internal.processors.cache.persistence.wal.serializer.RecordV1Serializer.REC_TYPE_SIZE;
 import static org.apache.ignite.internal.processors.cache.persistence.wal.serializer.RecordV1Serializer.readRecordType;
@@ -74,6 +75,9 @@ public class RecordV2Serializer implements RecordSerializer {
     /** Skip position check flag. Should be set for reading compacted wal file with skipped physical records. */
     private final boolean skipPositionCheck;
 
+    /** Calculate checksums of records with CRC32C instead of CRC32. */
+    private final boolean crc32c;
+
     /** Singleton instance of {@link FilteredRecord}  */
     private final FilteredRecord filteredRecord = new FilteredRecord();
 
@@ -212,24 +216,27 @@ public class RecordV2Serializer implements RecordSerializer {
      * @param marshalledMode Marshalled mode.
      * @param skipPositionCheck Skip position check mode.
      * @param recordFilter Record type filter. {@link FilteredRecord} is deserialized instead of original record.
+     * @param crc32c Calculate checksums of records with CRC32C instead of CRC32.
      */
     public RecordV2Serializer(
         RecordDataV2Serializer dataSerializer,
         boolean writePointer,
         boolean marshalledMode,
         boolean skipPositionCheck,
-        IgniteBiPredicate<RecordType, WALPointer> recordFilter
+        IgniteBiPredicate<RecordType, WALPointer> recordFilter,
+        boolean crc32c
     ) {
         this.dataSerializer = dataSerializer;
         this.writePointer = writePointer;
         this.marshalledMode = marshalledMode;
         this.skipPositionCheck = skipPositionCheck;
         this.recordFilter = recordFilter;
+        this.crc32c = crc32c;
     }
 
     /** {@inheritDoc} */
     @Override public int version() {
-        return 2;
+        return crc32c ? 2 | CRC32C_FLAG : 2;
     }
 
     /** {@inheritDoc} */
@@ -244,12 +251,12 @@ public class RecordV2Serializer implements RecordSerializer {
 
     /** {@inheritDoc} */
     @Override public void writeRecord(WALRecord record, ByteBuffer buf) throws IgniteCheckedException {
-        RecordV1Serializer.writeWithCrc(record, buf, recordIO);
+        RecordV1Serializer.writeWithCrc(record, buf, recordIO, crc32c);
     }
 
     /** {@inheritDoc} */
     @Override public WALRecord readRecord(FileInput in, WALPointer expPtr) throws IOException, IgniteCheckedException {
-        return RecordV1Serializer.readWithCrc(in, expPtr, recordIO);
+        return RecordV1Serializer.readWithCrc(in, expPtr, recordIO, crc32c);
     }
 
     /**
@@ -45,6 +45,13 @@ public class SegmentHeader {
         return serializerVersion;
     }
 
+    /**
+     * @return {@code True} if checksums of records in segment are calculated with CRC32C instead of CRC32.
+     */
+    public boolean crc32c() {
+        return (serializerVersion & RecordSerializerFactory.CRC32C_FLAG) != 0;
+    }
+
     /**
      * @return Comacted flag.
      */
@@ -32,6 +32,7 @@ import org.apache.ignite.internal.processors.cache.KeyCacheObject;
 import org.apache.ignite.internal.processors.cache.distributed.dht.GridDhtCacheAdapter;
 import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtLocalPartition;
 import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
+import org.apache.ignite.internal.processors.cache.persistence.pagemem.SequentialPageAccess;
 import org.apache.ignite.internal.util.GridConcurrentHashSet;
 import org.apache.ignite.internal.util.lang.GridIterator;
 import org.apache.ignite.internal.util.typedef.internal.S;
@@ -146,9 +147,9 @@ public final class ScanQueryIterator<K, V, R> extends AbstractScanQueryIterator<
 
         R next0 = null;
 
-        while (it.hasNext()) {
-            CacheDataRow row = it.next();
+        CacheDataRow row;
 
+        while ((row = nextRow()) != null) {
             KeyCacheObject key = row.key();
             CacheObject val;
 
@@ -235,6 +236,22 @@ public final class ScanQueryIterator<K, V, R> extends AbstractScanQueryIterator<
         return next0;
     }
 
+    /**
+     * Gets next row of the underlying iterator, pages of the partition are loaded as sequential access.
+     *
+     * @return Next row or {@code null} if there are no more rows.
+     */
+    @Nullable private CacheDataRow nextRow() {
+        boolean nestedSeqAccess = SequentialPageAccess.enter();
+
+        try {
+            return it.hasNext() ? it.next() : null;
+        }
+        finally {
+            SequentialPageAccess.exit(nestedSeqAccess);
+        }
+    }
+
     /** */
     public AffinityTopologyVersion topVer() {
         return topVer;
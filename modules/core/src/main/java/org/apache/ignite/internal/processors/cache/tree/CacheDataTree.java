@@ -18,6 +18,8 @@
 package org.apache.ignite.internal.processors.cache.tree;
 
 import java.util.Comparator;
+import java.util.concurrent.Executor;
+import java.util.function.BooleanSupplier;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.internal.metric.IoStatisticsHolder;
 import org.apache.ignite.internal.pagemem.PageUtils;
@@ -25,6 +27,8 @@ import org.apache.ignite.internal.pagemem.store.PageStore;
 import org.apache.ignite.internal.processors.cache.CacheGroupContext;
 import org.apache.ignite.internal.processors.cache.GridCacheSharedContext;
 import org.apache.ignite.internal.processors.cache.KeyCacheObject;
+import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtLocalPartition;
+import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionState;
 import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
 import org.apache.ignite.internal.processors.cache.persistence.CacheDataRowAdapter;
 import org.apache.ignite.internal.processors.cache.persistence.CacheSearchRow;
@@ -38,15 +42,19 @@ import org.apache.ignite.internal.processors.cache.persistence.tree.io.DataPageP
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.IOVersions;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO;
 import org.apache.ignite.internal.processors.cache.persistence.tree.reuse.ReuseList;
+import org.apache.ignite.internal.util.GridLongList;
 import org.apache.ignite.internal.util.GridUnsafe;
 import org.apache.ignite.internal.util.lang.GridCursor;
 import org.apache.ignite.internal.util.typedef.internal.CU;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.TestOnly;
 
 import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
 import static org.apache.ignite.internal.pagemem.PageIdUtils.itemId;
 import static org.apache.ignite.internal.pagemem.PageIdUtils.pageId;
+import static org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionState.EVICTED;
+import static org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionState.RENTING;
 import static org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO.T_DATA;
 import static org.apache.ignite.internal.util.GridArrays.clearTail;
 
@@ -389,6 +397,51 @@ public class CacheDataTree extends BPlusTree<CacheSearchRow, CacheDataRow> {
         return grp.statisticsHolderIdx();
     }
 
+    /** {@inheritDoc} */
+    @Nullable @Override protected Executor readAheadExecutor() {
+        return grp.persistenceEnabled() ? grp.shared().kernalContext().pools().getPageReadAheadExecutorService() : null;
+    }
+
+    /** {@inheritDoc} */
+    @Nullable @Override protected BooleanSupplier readAheadGuard() {
+        GridDhtLocalPartition part = grp.topology().localPartition(rowStore.getPartitionId());
+
+        if (part == null)
+            return null;
+
+        // If the cursor has reserved the partition, the read-ahead is stopped once the reservation is released.
+        boolean reserved = part.reservations() > 0;
+
+        return () -> {
+            GridDhtPartitionState state = part.state();
+
+            return state != RENTING && state != EVICTED && (!reserved || part.reservations() > 0);
+        };
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void collectReadAheadPages(
+        BPlusIO<CacheSearchRow> io,
+        long pageAddr,
+        int cnt,
+        GridLongList pageIds
+    ) {
+        RowLinkIO rowIo = (RowLinkIO)io;
+
+        long prevPageId = 0L;
+
+        for (int i = 0; i < cnt; i++) {
+            long dataPageId = pageId(rowIo.getLink(pageAddr, i));
+
+            // Rows inserted together are usually stored in the same data page.
+            if (dataPageId != prevPageId) {
+                pageIds.add(dataPageId);
+
+                prevPageId = dataPageId;
+            }
+        }
+    }
+
     /**
      * @param key Key.
      * @param link Link.
@@ -200,6 +200,7 @@ public class ClientListenerProcessor extends GridProcessorAdapter {
                             .listener(new ClientListenerNioListener(ctx, busyLock, cliConnCfg, metrics, newConnEnabled))
                             .logger(log)
                             .selectorCount(selectorCnt)
+                            .busyPoll(cliConnCfg.isSelectorBusyPoll())
                             .igniteInstanceName(ctx.igniteInstanceName())
                             .serverName("client-listener")
                             .tcpNoDelay(cliConnCfg.isTcpNoDelay())
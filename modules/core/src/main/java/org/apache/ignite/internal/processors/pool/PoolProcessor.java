@@ -24,6 +24,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
@@ -59,10 +60,12 @@ import org.apache.ignite.plugin.extensions.communication.IoPool;
 import org.apache.ignite.spi.systemview.view.StripedExecutorTaskView;
 import org.jetbrains.annotations.Nullable;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_PAGE_READ_AHEAD_WINDOW;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_STARVATION_CHECK_INTERVAL;
 import static org.apache.ignite.configuration.IgniteConfiguration.DFLT_THREAD_KEEP_ALIVE_TIME;
 import static org.apache.ignite.failure.FailureType.SYSTEM_WORKER_TERMINATION;
 import static org.apache.ignite.internal.processors.cache.persistence.snapshot.IgniteSnapshotManager.SNAPSHOT_RUNNER_THREAD_PREFIX;
+import static org.apache.ignite.internal.processors.cache.persistence.tree.BPlusTree.DFLT_PAGE_READ_AHEAD_WINDOW;
 import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.metricName;
 
 /**
@@ -133,6 +136,12 @@ public class PoolProcessor extends GridProcessorAdapter {
     /** Group for a thread pools. */
     public static final String THREAD_POOLS = "threadPools";
 
+    /** Size of the thread pool for asynchronous read-ahead of pages. */
+    public static final int PAGE_READ_AHEAD_POOL_SIZE = 4;
+
+    /** Capacity of the task queue of the page read-ahead pool. Tasks which don't fit are dropped. */
+    public static final int PAGE_READ_AHEAD_QUEUE_SIZE = 1024;
+
     /** Histogram buckets for the task execution time metric (in milliseconds). */
     public static final long[] TASK_EXEC_TIME_HISTOGRAM_BUCKETS = new long[] {10, 50, 100, 500, 1000};
 
@@ -223,6 +232,10 @@ public class PoolProcessor extends GridProcessorAdapter {
     @GridToStringExclude
     private IgniteThreadPoolExecutor reencryptExecSvc;
 
+    /** Executor for asynchronous read-ahead of pages by sequential B+Tree cursors. */
+    @GridToStringExclude
+    private IgniteThreadPoolExecutor pageReadAheadExecSvc;
+
     /** Map of {@link IoPool}-s injected by Ignite plugins. */
     private final IoPool[] extPools = new IoPool[128];
 
@@ -563,6 +576,20 @@ public class PoolProcessor extends GridProcessorAdapter {
                 oomeHnd);
 
             reencryptExecSvc.allowCoreThreadTimeOut(true);
+
+            if (IgniteSystemProperties.getInteger(IGNITE_PAGE_READ_AHEAD_WINDOW, DFLT_PAGE_READ_AHEAD_WINDOW) > 0) {
+                pageReadAheadExecSvc = new IgniteThreadPoolExecutor(
+                    "page-read-ahead",
+                    ctx.igniteInstanceName(),
+                    PAGE_READ_AHEAD_POOL_SIZE,
+                    PAGE_READ_AHEAD_POOL_SIZE,
+                    DFLT_THREAD_KEEP_ALIVE_TIME,
+                    new ArrayBlockingQueue<>(PAGE_READ_AHEAD_QUEUE_SIZE),
+                    GridIoPolicy.UNDEFINED,
+                    oomeHnd);
+
+                pageReadAheadExecSvc.allowCoreThreadTimeOut(true);
+            }
         }
 
         if (cfg.getClientConnectorConfiguration() != null) {
@@ -646,6 +673,9 @@ public class PoolProcessor extends GridProcessorAdapter {
         if (reencryptExecSvc != null)
             monitorExecutor("GridReencryptionExecutor", reencryptExecSvc);
 
+        if (pageReadAheadExecSvc != null)
+            monitorExecutor("GridPageReadAheadExecutor", pageReadAheadExecSvc);
+
         if (customExecs != null) {
             for (Map.Entry<String, ? extends ExecutorService> entry : customExecs.entrySet())
                 monitorExecutor(entry.getKey(), entry.getValue());
@@ -1021,6 +1051,13 @@ public class PoolProcessor extends GridProcessorAdapter {
         return reencryptExecSvc;
     }
 
+    /**
+     * @return Executor for asynchronous read-ahead of pages or {@code null} if read-ahead is disabled.
+     */
+    @Nullable public IgniteThreadPoolExecutor getPageReadAheadExecutorService() {
+        return pageReadAheadExecSvc;
+    }
+
     /**
      * Add pool to check for starvation.
      *
@@ -1152,6 +1189,10 @@ public class PoolProcessor extends GridProcessorAdapter {
 
         reencryptExecSvc = null;
 
+        U.shutdownNow(getClass(), pageReadAheadExecSvc, log);
+
+        pageReadAheadExecSvc = null;
+
         if (!F.isEmpty(customExecs)) {
             for (IgniteThreadPoolExecutor exec : customExecs.values())
                 U.shutdownNow(getClass(), exec, log);
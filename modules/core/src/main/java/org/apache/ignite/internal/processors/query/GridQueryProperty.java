@@ -18,6 +18,7 @@
 package org.apache.ignite.internal.processors.query;
 
 import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
 
 /**
  * Description and access method for query entity field.
@@ -33,6 +34,19 @@ public interface GridQueryProperty {
      */
     public Object value(Object key, Object val) throws IgniteCheckedException;
 
+    /**
+     * Gets this property values from a batch of rows.
+     *
+     * @param rows Rows.
+     * @param cnt Count of rows.
+     * @param dst Property values, one per row.
+     * @throws IgniteCheckedException If failed.
+     */
+    public default void values(CacheDataRow[] rows, int cnt, Object[] dst) throws IgniteCheckedException {
+        for (int i = 0; i < cnt; i++)
+            dst[i] = value(rows[i].key(), rows[i].value());
+    }
+
     /**
      * Sets this property value for the given object.
      *
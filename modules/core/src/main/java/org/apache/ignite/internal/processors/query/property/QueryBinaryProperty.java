@@ -27,6 +27,7 @@ import org.apache.ignite.internal.binary.BinaryFieldEx;
 import org.apache.ignite.internal.binary.BinaryObjectEx;
 import org.apache.ignite.internal.binary.BinaryUtils;
 import org.apache.ignite.internal.processors.cache.KeyCacheObjectImpl;
+import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
 import org.apache.ignite.internal.processors.query.GridQueryProperty;
 import org.apache.ignite.internal.util.typedef.F;
 
@@ -135,6 +136,52 @@ public class QueryBinaryProperty implements GridQueryProperty {
             throw new IgniteCheckedException("Unexpected binary object class [type=" + obj.getClass() + ']');
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Binary objects of the same type are read in one go with {@link BinaryFieldEx#values}, other batches are read
+     * row by row.
+     */
+    @Override public void values(CacheDataRow[] rows, int cnt, Object[] dst) throws IgniteCheckedException {
+        BinaryObject[] objs = parent == null && cnt > 0 ? sameTypeObjects(rows, cnt) : null;
+
+        BinaryField field0 = objs == null ? null : binaryField(objs[0]);
+
+        if (field0 != null)
+            ((BinaryFieldEx)field0).values(objs, cnt, dst);
+        else
+            GridQueryProperty.super.values(rows, cnt, dst);
+    }
+
+    /**
+     * @param rows Rows.
+     * @param cnt Count of rows.
+     * @return Binary objects the property belongs to, {@code null} if they are not all binary objects of one type.
+     */
+    private BinaryObject[] sameTypeObjects(CacheDataRow[] rows, int cnt) {
+        BinaryObject[] objs = new BinaryObject[cnt];
+
+        int typeId = 0;
+
+        for (int i = 0; i < cnt; i++) {
+            Object obj = isKeyProp ? rows[i].key() : rows[i].value();
+
+            if (!BinaryUtils.isBinaryObjectExImpl(obj))
+                return null;
+
+            BinaryObjectEx obj0 = (BinaryObjectEx)obj;
+
+            if (i == 0)
+                typeId = obj0.typeId();
+            else if (obj0.typeId() != typeId)
+                return null;
+
+            objs[i] = obj0;
+        }
+
+        return objs;
+    }
+
     /** {@inheritDoc} */
     @Override public void setValue(Object key, Object val, Object propVal) throws IgniteCheckedException {
         Object obj = key() ? key : val;
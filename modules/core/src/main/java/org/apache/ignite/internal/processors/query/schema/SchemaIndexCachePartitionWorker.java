@@ -30,6 +30,7 @@ import org.apache.ignite.internal.processors.cache.distributed.dht.topology.Grid
 import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtLocalPartition;
 import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionState;
 import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
+import org.apache.ignite.internal.processors.cache.persistence.pagemem.SequentialPageAccess;
 import org.apache.ignite.internal.processors.query.QueryTypeDescriptorImpl;
 import org.apache.ignite.internal.util.future.GridFutureAdapter;
 import org.apache.ignite.internal.util.lang.GridCursor;
@@ -179,7 +180,7 @@ public class SchemaIndexCachePartitionWorker extends GridWorker {
             try {
                 int cntr = 0;
 
-                while (!stop() && cursor.next()) {
+                while (!stop() && next(cursor)) {
                     KeyCacheObject key = cursor.get().key();
 
                     if (!locked) {
@@ -217,6 +218,25 @@ public class SchemaIndexCachePartitionWorker extends GridWorker {
         }
     }
 
+    /**
+     * Moves the partition cursor to the next row. Partition tree pages are visited only once, so they are accessed
+     * as sequential to not flush hot pages out of memory. Index pages updated for the row are not affected.
+     *
+     * @param cursor Partition cursor.
+     * @return {@code True} if the cursor has moved to the next row.
+     * @throws IgniteCheckedException If failed.
+     */
+    private static boolean next(GridCursor<? extends CacheDataRow> cursor) throws IgniteCheckedException {
+        boolean nestedSeqAccess = SequentialPageAccess.enter();
+
+        try {
+            return cursor.next();
+        }
+        finally {
+            SequentialPageAccess.exit(nestedSeqAccess);
+        }
+    }
+
     /**
      * Process single key.
      *
@@ -146,6 +146,47 @@ public class GridConcurrentMultiPairQueue<K, V> {
         return true;
     }
 
+    /**
+     * Retrieves and removes up to {@code dst.length} values of the same key from the head of this queue.
+     * Values are retrieved in the order they were passed to the queue.
+     *
+     * @param res Result holder, gets the key and the first retrieved value.
+     * @param dst Array to copy retrieved values into.
+     * @return Count of retrieved values or {@code 0} if this queue is empty.
+     */
+    public int next(Result<K, V> res, V[] dst) {
+        while (true) {
+            int absPos = pos.get();
+
+            if (absPos >= maxPos) {
+                res.set(null, null, 0);
+
+                return 0;
+            }
+
+            int segment = res.getSegment();
+
+            if (absPos > lenSeq[segment]) {
+                segment = Arrays.binarySearch(lenSeq, segment, lenSeq.length - 1, absPos);
+
+                segment = segment < 0 ? -segment - 1 : segment;
+            }
+
+            int cnt = Math.min(dst.length, lenSeq[segment] - absPos + 1);
+
+            if (!pos.compareAndSet(absPos, absPos + cnt))
+                continue;
+
+            int relPos = segment == 0 ? absPos : (absPos - lenSeq[segment - 1] - 1);
+
+            System.arraycopy(vals[segment], relPos, dst, 0, cnt);
+
+            res.set(keysArr[segment], dst[0], segment);
+
+            return cnt;
+        }
+    }
+
     /**
      * Rewind the queue to start iterating from the beginning.
      */
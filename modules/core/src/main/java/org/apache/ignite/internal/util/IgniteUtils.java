@@ -187,6 +187,7 @@ import org.apache.ignite.internal.processors.cache.CacheObjectContext;
 import org.apache.ignite.internal.processors.cache.GridCacheSharedContext;
 import org.apache.ignite.internal.processors.cache.IgnitePeerToPeerClassLoadingException;
 import org.apache.ignite.internal.processors.metric.MetricRegistryImpl;
+import org.apache.ignite.internal.processors.metric.impl.LongAdderMetric;
 import org.apache.ignite.internal.transactions.IgniteTxHeuristicCheckedException;
 import org.apache.ignite.internal.transactions.IgniteTxOptimisticCheckedException;
 import org.apache.ignite.internal.transactions.IgniteTxRollbackCheckedException;
@@ -7717,19 +7718,31 @@ public abstract class IgniteUtils extends CommonUtils {
     }
 
     /**
-     * Sets the received/sent bytes and per-session queue-size metric consumers on the given NIO server builder,
-     * creating the underlying metrics in the provided registry.
+     * Sets the received/sent bytes, socket writes and per-session queue-size metric consumers on the given NIO server
+     * builder, creating the underlying metrics in the provided registry along with the average bytes per write.
      *
      * @param builder NIO server builder.
      * @param mreg Metric registry.
      * @return The given builder for chaining.
      */
     public static <T> GridNioServer.Builder<T> setNioServerMetrics(GridNioServer.Builder<T> builder, MetricRegistryImpl mreg) {
+        LongAdderMetric sentBytes = mreg.longAdderMetric(
+            GridNioServer.SENT_BYTES_METRIC_NAME, GridNioServer.SENT_BYTES_METRIC_DESC);
+
+        LongAdderMetric sockWrites = mreg.longAdderMetric(
+            GridNioServer.SOCKET_WRITES_METRIC_NAME, GridNioServer.SOCKET_WRITES_METRIC_DESC);
+
+        mreg.register(GridNioServer.AVG_BYTES_PER_WRITE_METRIC_NAME, () -> {
+            long writes = sockWrites.value();
+
+            return writes == 0 ? 0 : sentBytes.value() / writes;
+        }, GridNioServer.AVG_BYTES_PER_WRITE_METRIC_DESC);
+
         return builder
             .receivedBytesMetric(mreg.longAdderMetric(
                 GridNioServer.RECEIVED_BYTES_METRIC_NAME, GridNioServer.RECEIVED_BYTES_METRIC_DESC)::add)
-            .sentBytesMetric(mreg.longAdderMetric(
-                GridNioServer.SENT_BYTES_METRIC_NAME, GridNioServer.SENT_BYTES_METRIC_DESC)::add)
+            .sentBytesMetric(sentBytes::add)
+            .socketWritesMetric(sockWrites::add)
             .outboundMessagesQueueSizeMetric(mreg.longAdderMetric(
                 GridNioServer.OUTBOUND_MESSAGES_QUEUE_SIZE_METRIC_NAME,
                 GridNioServer.OUTBOUND_MESSAGES_QUEUE_SIZE_METRIC_DESC)::add)
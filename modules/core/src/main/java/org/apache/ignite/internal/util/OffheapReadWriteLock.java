@@ -17,12 +17,15 @@
 
 package org.apache.ignite.internal.util;
 
+import java.lang.invoke.VarHandle;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReentrantLock;
 import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.SystemProperty;
 import org.apache.ignite.internal.util.typedef.internal.U;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Lock state structure is as follows:
@@ -33,6 +36,18 @@ import org.apache.ignite.internal.util.typedef.internal.U;
  *     |     2 bytes    |     2 bytes   | 2 bytes |  2 bytes |
  *     +----------------+---------------+---------+----------+
  * </pre>
+ * <p>
+ * Besides the regular read and write locks, optimistic reads are supported: {@link #tryOptimisticRead(long, int)}
+ * returns a stamp without modifying the lock state and {@link #validate(long, int, long)} checks that no write lock
+ * was held or released since the stamp was taken. Since the lock state has no room for a version counter, versions
+ * are kept in a table of {@link #OPTIMISTIC_READ_VERSIONS} slots, and a lock is mapped to a slot by the hash of its
+ * address. A write to another lock of the same slot invalidates the stamp. This gives false negatives only, and the
+ * caller must fall back to the regular read lock then. The table is much larger than the count of the waiting
+ * monitors, so that concurrent writes rarely hit the slot of a lock being read optimistically.
+ * <p>
+ * Versions are maintained only after optimistic reads are enabled, either on construction or later by
+ * {@link #enableOptimisticReads()}. Before that {@link #tryOptimisticRead(long, int)} always returns
+ * {@link #INVALID_STAMP}.
  */
 public class OffheapReadWriteLock {
     /** @see #IGNITE_OFFHEAP_RWLOCK_SPIN_COUNT */
@@ -66,6 +81,15 @@ public class OffheapReadWriteLock {
     /** Maximum number of waiting threads, read or write. */
     public static final int MAX_WAITERS = 0xFFFF;
 
+    /** Stamp returned when optimistic read can not be started. */
+    public static final long INVALID_STAMP = 0L;
+
+    /** Count of version slots used for optimistic reads, a power of two. */
+    public static final int OPTIMISTIC_READ_VERSIONS = 1 << 16;
+
+    /** Shift of a lock address hash that gives a version slot. */
+    private static final int VERSION_SHIFT = Long.SIZE - Integer.numberOfTrailingZeros(OPTIMISTIC_READ_VERSIONS);
+
     /** */
     private final ReentrantLock[] locks;
 
@@ -78,6 +102,12 @@ public class OffheapReadWriteLock {
     /** */
     private final AtomicInteger[] balancers;
 
+    /**
+     * Write versions of the locks hashed to slots, incremented on every write unlock, or {@code null} if optimistic
+     * reads are disabled.
+     */
+    @Nullable private volatile AtomicLongArray versions;
+
     /** */
     private int monitorsMask;
 
@@ -85,6 +115,14 @@ public class OffheapReadWriteLock {
      * @param concLvl Concurrency level, must be a power of two.
      */
     public OffheapReadWriteLock(int concLvl) {
+        this(concLvl, false);
+    }
+
+    /**
+     * @param concLvl Concurrency level, must be a power of two.
+     * @param optimisticReads Whether to maintain write versions for {@link #tryOptimisticRead(long, int)}.
+     */
+    public OffheapReadWriteLock(int concLvl, boolean optimisticReads) {
         if ((concLvl & concLvl - 1) != 0)
             throw new IllegalArgumentException("Concurrency level must be a power of 2: " + concLvl);
 
@@ -95,6 +133,9 @@ public class OffheapReadWriteLock {
         writeConditions = new Condition[concLvl];
         balancers = new AtomicInteger[concLvl];
 
+        if (optimisticReads)
+            enableOptimisticReads();
+
         for (int i = 0; i < locks.length; i++) {
             ReentrantLock lock = new ReentrantLock();
 
@@ -105,6 +146,29 @@ public class OffheapReadWriteLock {
         }
     }
 
+    /**
+     * Starts maintaining write versions for {@link #tryOptimisticRead(long, int)}. May be called while the locks are
+     * in use: a write unlock reads the versions table while the write lock is still held, so a stamp taken after the
+     * table is published is invalidated by every write which is not finished by then.
+     */
+    public void enableOptimisticReads() {
+        if (versions == null) {
+            synchronized (this) {
+                if (versions == null)
+                    versions = new AtomicLongArray(OPTIMISTIC_READ_VERSIONS);
+            }
+        }
+    }
+
+    /**
+     * @param lock Lock address.
+     * @return Slot of the lock write version.
+     */
+    private static int versionIndex(long lock) {
+        // Fibonacci hashing spreads the locks of neighbouring pages over distant slots.
+        return (int)((lock * 0x9E3779B97F4A7C15L) >>> VERSION_SHIFT);
+    }
+
     /**
      * @param lock Lock pointer to initialize.
      */
@@ -199,6 +263,57 @@ public class OffheapReadWriteLock {
         }
     }
 
+    /**
+     * Starts an optimistic read. The lock state is not modified, so the protected resource may be changed
+     * concurrently and everything read under the stamp must be discarded unless {@link #validate(long, int, long)}
+     * succeeds afterwards.
+     *
+     * @param lock Lock address.
+     * @param tag Validation tag.
+     * @return Stamp to validate or {@link #INVALID_STAMP} if the write lock is held, tag validation failed or
+     *      optimistic reads are disabled.
+     */
+    public long tryOptimisticRead(long lock, int tag) {
+        AtomicLongArray versions = this.versions;
+
+        if (versions == null)
+            return INVALID_STAMP;
+
+        long ver = versions.get(versionIndex(lock));
+
+        long state = GridUnsafe.getLongVolatile(null, lock);
+
+        assert state != 0;
+
+        if (!checkTag(state, tag) || !canReadLock(state))
+            return INVALID_STAMP;
+
+        // Versions start from 0, shift them to never clash with the invalid stamp.
+        return ver + 1;
+    }
+
+    /**
+     * Checks that the resource was not write locked since the given stamp was obtained.
+     *
+     * @param lock Lock address.
+     * @param tag Validation tag.
+     * @param stamp Stamp obtained by {@link #tryOptimisticRead(long, int)}.
+     * @return {@code True} if everything read since the stamp was obtained is consistent.
+     */
+    public boolean validate(long lock, int tag, long stamp) {
+        AtomicLongArray versions = this.versions;
+
+        if (stamp == INVALID_STAMP || versions == null)
+            return false;
+
+        // Order the preceding data reads before the lock state and version reads.
+        VarHandle.acquireFence();
+
+        long state = GridUnsafe.getLongVolatile(null, lock);
+
+        return checkTag(state, tag) && canReadLock(state) && versions.get(versionIndex(lock)) + 1 == stamp;
+    }
+
     /**
      * @param lock Lock address.
      */
@@ -272,6 +387,12 @@ public class OffheapReadWriteLock {
 
         assert tag != 0;
 
+        AtomicLongArray versions = this.versions;
+
+        // Invalidate optimistic reads before the lock is released, see validate().
+        if (versions != null)
+            versions.incrementAndGet(versionIndex(lock));
+
         while (true) {
             long state = GridUnsafe.getLongVolatile(null, lock);
 
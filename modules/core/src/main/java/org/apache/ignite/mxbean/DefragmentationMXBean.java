@@ -37,6 +37,17 @@ public interface DefragmentationMXBean {
         @MXBeanParameter(name = "cacheNames", description = "Names of caches to run defragmentation on.") String cacheNames
     );
 
+    /**
+     * Start online defragmentation of given caches on the running node.
+     *
+     * @param cacheNames Names of caches to run defragmentation on, comma separated. All persistent caches if empty.
+     * @return {@code true} if defragmentation is started, {@code false} otherwise.
+     */
+    @MXBeanDescription("Start online defragmentation.")
+    public boolean startOnline(
+        @MXBeanParameter(name = "cacheNames", description = "Names of caches to run defragmentation on.") String cacheNames
+    );
+
     /**
      * Cancel defragmentation.
      *
@@ -76,4 +87,12 @@ public interface DefragmentationMXBean {
      */
     @MXBeanDescription("Start time.")
     public long startTime();
+
+    /**
+     * Get count of rows relocated by online defragmentation.
+     *
+     * @return Count of relocated rows.
+     */
+    @MXBeanDescription("Rows relocated by online defragmentation.")
+    public long relocatedRows();
 }
@@ -26,6 +26,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import org.apache.ignite.Ignite;
 import org.apache.ignite.cluster.ClusterNode;
+import org.apache.ignite.internal.managers.communication.CompressionListener;
 import org.apache.ignite.internal.managers.communication.GridIoMessage;
 import org.apache.ignite.internal.managers.communication.IgniteMessageFactoryImpl;
 import org.apache.ignite.internal.processors.metric.MetricRegistryImpl;
@@ -51,6 +52,16 @@ import static org.apache.ignite.internal.util.nio.GridNioServer.RECEIVED_BYTES_M
 import static org.apache.ignite.internal.util.nio.GridNioServer.SENT_BYTES_METRIC_DESC;
 import static org.apache.ignite.internal.util.nio.GridNioServer.SENT_BYTES_METRIC_NAME;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.COMMUNICATION_METRICS_GROUP_NAME;
+import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.COMPRESSION_COMPRESSED_BYTES_BY_TYPE_METRIC_DESC;
+import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.COMPRESSION_COMPRESSED_BYTES_BY_TYPE_METRIC_NAME;
+import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.COMPRESSION_RAW_BYTES_BY_TYPE_METRIC_DESC;
+import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.COMPRESSION_RAW_BYTES_BY_TYPE_METRIC_NAME;
+import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.COMPRESSION_TIME_BY_TYPE_METRIC_DESC;
+import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.COMPRESSION_TIME_BY_TYPE_METRIC_NAME;
+import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.DECOMPRESSION_RAW_BYTES_METRIC_DESC;
+import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.DECOMPRESSION_RAW_BYTES_METRIC_NAME;
+import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.DECOMPRESSION_TIME_METRIC_DESC;
+import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.DECOMPRESSION_TIME_METRIC_NAME;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.RECEIVED_MESSAGES_BY_NODE_CONSISTENT_ID_METRIC_DESC;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.RECEIVED_MESSAGES_BY_NODE_CONSISTENT_ID_METRIC_NAME;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.RECEIVED_MESSAGES_BY_TYPE_METRIC_DESC;
@@ -67,7 +78,7 @@ import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.SENT_M
 /**
  * Statistics for {@link org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi}.
  */
-public class TcpCommunicationMetricsListener {
+public class TcpCommunicationMetricsListener implements CompressionListener {
     /** SPI context. */
     private final IgniteSpiContext spiCtx;
 
@@ -113,6 +124,18 @@ public class TcpCommunicationMetricsListener {
     /** Counters of sent and received messages by direct type. */
     private final IntMap<IgniteBiTuple<LongAdderMetric, LongAdderMetric>> msgCntrsByType;
 
+    /** Compression metrics by direct type of the message owning compressed fields: raw bytes, compressed bytes, time. */
+    private final Map<Short, LongAdderMetric[]> cmprMetricsByType = new ConcurrentHashMap<>();
+
+    /** Function to be used in {@link Map#computeIfAbsent(Object, Function)} of {@code #cmprMetricsByType}. */
+    private final Function<Short, LongAdderMetric[]> cmprMetricsFactory;
+
+    /** Decompressed bytes metric. */
+    private final LongAdderMetric decmprBytesMetric;
+
+    /** Decompression time metric. */
+    private final LongAdderMetric decmprTimeMetric;
+
     /** Method to synchronize access to message type map. */
     private final Object msgTypeMapMux = new Object();
 
@@ -156,6 +179,18 @@ public class TcpCommunicationMetricsListener {
             OUTBOUND_MESSAGES_QUEUE_SIZE_METRIC_DESC
         );
 
+        cmprMetricsFactory = type -> new LongAdderMetric[] {
+            mreg.longAdderMetric(metricName(COMPRESSION_RAW_BYTES_BY_TYPE_METRIC_NAME, type.toString()),
+                COMPRESSION_RAW_BYTES_BY_TYPE_METRIC_DESC),
+            mreg.longAdderMetric(metricName(COMPRESSION_COMPRESSED_BYTES_BY_TYPE_METRIC_NAME, type.toString()),
+                COMPRESSION_COMPRESSED_BYTES_BY_TYPE_METRIC_DESC),
+            mreg.longAdderMetric(metricName(COMPRESSION_TIME_BY_TYPE_METRIC_NAME, type.toString()),
+                COMPRESSION_TIME_BY_TYPE_METRIC_DESC)
+        };
+
+        decmprBytesMetric = mreg.longAdderMetric(DECOMPRESSION_RAW_BYTES_METRIC_NAME, DECOMPRESSION_RAW_BYTES_METRIC_DESC);
+        decmprTimeMetric = mreg.longAdderMetric(DECOMPRESSION_TIME_METRIC_NAME, DECOMPRESSION_TIME_METRIC_DESC);
+
         spiCtx.addMetricRegistryCreationListener(mreg -> {
             // Metrics for the specific nodes or other communication metrics.
             if (!TcpCommunicationSpi.isCommunicationMetrics(mreg.name()))
@@ -246,6 +281,21 @@ public class TcpCommunicationMetricsListener {
         }
     }
 
+    /** {@inheritDoc} */
+    @Override public void onCompressed(short msgType, int rawSize, int compressedSize, long nanos) {
+        LongAdderMetric[] metrics = cmprMetricsByType.computeIfAbsent(msgType, cmprMetricsFactory);
+
+        metrics[0].add(rawSize);
+        metrics[1].add(compressedSize);
+        metrics[2].add(nanos);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onDecompressed(int rawSize, int compressedSize, long nanos) {
+        decmprBytesMetric.add(rawSize);
+        decmprTimeMetric.add(nanos);
+    }
+
     /**
      * Gets sent messages count.
      *
@@ -391,11 +441,18 @@ public class TcpCommunicationMetricsListener {
         sentBytesMetric.reset();
         rcvdBytesMetric.reset();
 
+        decmprBytesMetric.reset();
+        decmprTimeMetric.reset();
+
         for (Metric metric : mreg) {
             if (metric.name().startsWith(SENT_MESSAGES_BY_TYPE_METRIC_NAME))
                 metric.reset();
             else if (metric.name().startsWith(RECEIVED_MESSAGES_BY_TYPE_METRIC_NAME))
                 metric.reset();
+            else if (metric.name().startsWith(COMPRESSION_RAW_BYTES_BY_TYPE_METRIC_NAME) ||
+                metric.name().startsWith(COMPRESSION_COMPRESSED_BYTES_BY_TYPE_METRIC_NAME) ||
+                metric.name().startsWith(COMPRESSION_TIME_BY_TYPE_METRIC_NAME))
+                metric.reset();
         }
 
         for (ReadOnlyMetricRegistry mreg : spiCtx.metricRegistries()) {
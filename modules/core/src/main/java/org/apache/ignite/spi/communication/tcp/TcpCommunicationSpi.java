@@ -140,6 +140,12 @@ import static org.apache.ignite.spi.communication.tcp.internal.TcpConnectionInde
  * <li>Direct or heap buffer allocation for sending (see {@link #setDirectSendBuffer(boolean)})</li>
  * <li>Count of selectors and selector threads for NIO server (see {@link #setSelectorsCount(int)})</li>
  * <li>Selector thread busy-loop iterations (see {@link #setSelectorSpins(long)}</li>
+ * <li>Selector thread busy-polling (see {@link #setSelectorBusyPoll(boolean)}</li>
+ * <li>Write coalescing window (see {@link #setWriteCoalescingWindow(long)})</li>
+ * <li>Write coalescing threshold (see {@link #setWriteCoalescingThreshold(int)})</li>
+ * <li>Shared memory transport for nodes on the same host (see {@link #setSharedMemoryEnabled(boolean)})</li>
+ * <li>Shared memory ring size (see {@link #setSharedMemoryRingSize(int)})</li>
+ * <li>Shared memory directory (see {@link #setSharedMemoryPath(String)})</li>
  * <li>{@code TCP_NODELAY} socket option for sockets (see {@link #setTcpNoDelay(boolean)})</li>
  * <li>Filter reachable addresses (see {@link #setFilterReachableAddresses(boolean)} </li>
  * <li>Message queue limit (see {@link #setMessageQueueLimit(int)})</li>
@@ -263,6 +269,15 @@ public class TcpCommunicationSpi extends TcpCommunicationConfigInitializer {
     /** Default connections per node. */
     public static final int DFLT_CONN_PER_NODE = 1;
 
+    /** Default write coalescing window in microseconds, {@code 0} means that writes are not coalesced. */
+    public static final long DFLT_WRITE_COALESCING_WINDOW = 0;
+
+    /** Default buffered bytes count that is written without coalescing. */
+    public static final int DFLT_WRITE_COALESCING_THRESHOLD = 16 * 1024;
+
+    /** Default size of a shared memory ring in bytes. */
+    public static final int DFLT_SHMEM_RING_SIZE = 1024 * 1024;
+
     /** Communication metrics group name. */
     public static final String COMMUNICATION_METRICS_GROUP_NAME = MetricUtils.metricName("communication", "tcp");
 
@@ -306,6 +321,41 @@ public class TcpCommunicationSpi extends TcpCommunicationConfigInitializer {
     public static final String RECEIVED_MESSAGES_BY_NODE_CONSISTENT_ID_METRIC_DESC =
         "Total number of messages received by current node from the given node";
 
+    /** Raw size of compressed message fields by message type metric name. */
+    public static final String COMPRESSION_RAW_BYTES_BY_TYPE_METRIC_NAME = "compressionRawBytesByType";
+
+    /** Raw size of compressed message fields by message type metric description. */
+    public static final String COMPRESSION_RAW_BYTES_BY_TYPE_METRIC_DESC =
+        "Total size of fields of messages with given type before compression";
+
+    /** Compressed size of message fields by message type metric name. */
+    public static final String COMPRESSION_COMPRESSED_BYTES_BY_TYPE_METRIC_NAME = "compressionCompressedBytesByType";
+
+    /** Compressed size of message fields by message type metric description. */
+    public static final String COMPRESSION_COMPRESSED_BYTES_BY_TYPE_METRIC_DESC =
+        "Total size of fields of messages with given type after compression";
+
+    /** Compression time by message type metric name. */
+    public static final String COMPRESSION_TIME_BY_TYPE_METRIC_NAME = "compressionTimeByType";
+
+    /** Compression time by message type metric description. */
+    public static final String COMPRESSION_TIME_BY_TYPE_METRIC_DESC =
+        "Total time in nanoseconds spent on compression of fields of messages with given type";
+
+    /** Decompressed bytes metric name. */
+    public static final String DECOMPRESSION_RAW_BYTES_METRIC_NAME = "decompressionRawBytes";
+
+    /** Decompressed bytes metric description. */
+    public static final String DECOMPRESSION_RAW_BYTES_METRIC_DESC =
+        "Total size of received message fields after decompression";
+
+    /** Decompression time metric name. */
+    public static final String DECOMPRESSION_TIME_METRIC_NAME = "decompressionTime";
+
+    /** Decompression time metric description. */
+    public static final String DECOMPRESSION_TIME_METRIC_DESC =
+        "Total time in nanoseconds spent on decompression of received message fields";
+
     /** Client nodes might have port {@code 0} if they have no server socket opened. */
     public static final Integer DISABLED_CLIENT_PORT = 0;
 
@@ -344,6 +394,9 @@ public class TcpCommunicationSpi extends TcpCommunicationConfigInitializer {
      */
     public static final String ATTR_FORCE_CLIENT_SERVER_CONNECTIONS = "comm.force.client.srv.connections";
 
+    /** Node attribute that is mapped to ID of the host as seen through the shared memory directory. */
+    public static final String ATTR_SHMEM_HOST_ID = "comm.tcp.shmem.host.id";
+
     /** Logger. */
     @LoggerResource
     private IgniteLogger log;
@@ -574,7 +627,8 @@ public class TcpCommunicationSpi extends TcpCommunicationConfigInitializer {
             createSpiAttributeName(ATTR_HOST_NAMES),
             createSpiAttributeName(ATTR_EXT_ADDRS),
             createSpiAttributeName(ATTR_PORT),
-            createSpiAttributeName(ATTR_FORCE_CLIENT_SERVER_CONNECTIONS));
+            createSpiAttributeName(ATTR_FORCE_CLIENT_SERVER_CONNECTIONS),
+            createSpiAttributeName(ATTR_SHMEM_HOST_ID));
 
         boolean client = Boolean.TRUE.equals(ignite().configuration().isClientMode());
 
@@ -799,6 +853,7 @@ public class TcpCommunicationSpi extends TcpCommunicationConfigInitializer {
 
         srvLsnr.metricsListener(metricsLsnr);
         clientPool.metricsListener(metricsLsnr);
+        nioSrvWrapper.metricsListener(metricsLsnr);
         ((CommunicationDiscoveryEventListener)discoLsnr).metricsListener(metricsLsnr);
 
         ctxInitLatch.countDown();
@@ -216,6 +216,46 @@ public interface TcpCommunicationSpiMBean extends IgniteSpiManagementMBean {
     @MXBeanDescription("Selector thread busy-loop iterations.")
     public long getSelectorSpins();
 
+    /**
+     * Whether selector threads busy-poll their selectors and never block.
+     *
+     * @return {@code True} if selector threads busy-poll their selectors.
+     */
+    @MXBeanDescription("Whether selector threads busy-poll their selectors.")
+    public boolean isSelectorBusyPoll();
+
+    /**
+     * Gets maximum write coalescing window in microseconds.
+     *
+     * @return Maximum write coalescing window in microseconds, {@code 0} if writes are not coalesced.
+     */
+    @MXBeanDescription("Maximum write coalescing window in microseconds.")
+    public long getWriteCoalescingWindow();
+
+    /**
+     * Gets buffered bytes count that is written without coalescing.
+     *
+     * @return Buffered bytes count that is written without coalescing.
+     */
+    @MXBeanDescription("Buffered bytes count that is written without coalescing.")
+    public int getWriteCoalescingThreshold();
+
+    /**
+     * Gets whether connections to nodes on the same host switch to shared memory.
+     *
+     * @return Whether connections to nodes on the same host switch to shared memory.
+     */
+    @MXBeanDescription("Whether connections to nodes on the same host switch to shared memory.")
+    public boolean isSharedMemoryEnabled();
+
+    /**
+     * Gets size of a shared memory ring in bytes.
+     *
+     * @return Size of a shared memory ring in bytes.
+     */
+    @MXBeanDescription("Size of a shared memory ring in bytes.")
+    public int getSharedMemoryRingSize();
+
     /**
      * Gets value for {@code TCP_NODELAY} socket option.
      *
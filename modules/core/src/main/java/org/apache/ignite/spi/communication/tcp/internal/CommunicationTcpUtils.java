@@ -17,15 +17,27 @@
 
 package org.apache.ignite.spi.communication.tcp.internal;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.PosixFileAttributes;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.EnumSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.UUID;
 import java.util.function.Supplier;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteLogger;
@@ -38,6 +50,7 @@ import org.apache.ignite.lang.IgniteRunnable;
 import org.apache.ignite.spi.IgniteSpiContext;
 import org.apache.ignite.spi.IgniteSpiOperationTimeoutException;
 import org.apache.ignite.spi.communication.tcp.AttributeNames;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Common communication spi logic.
@@ -46,6 +59,25 @@ public class CommunicationTcpUtils {
     /** No-op runnable. */
     public static final IgniteRunnable NOOP = () -> {};
 
+    /** Default directory of shared memory ring files. */
+    private static final String SHMEM_DFLT_DIR = "/dev/shm";
+
+    /** Name of the host ID file in the directory of shared memory ring files. */
+    private static final String SHMEM_HOST_ID_FILE = "ignite-shmem-host-id";
+
+    /** Prefix of the per-user subdirectory of the configured directory that holds shared memory ring files. */
+    private static final String SHMEM_USER_DIR_PREFIX = "ignite-shmem-";
+
+    /** Permissions of the directory of shared memory ring files. */
+    private static final String SHMEM_DIR_PERMS = "rwx------";
+
+    /** Permissions of the shared memory ring and host ID files. */
+    private static final String SHMEM_FILE_PERMS = "rw-------";
+
+    /** Permissions of other users, must not be set on the directory of shared memory ring files. */
+    private static final Set<PosixFilePermission> SHMEM_FORBIDDEN_PERMS = EnumSet.complementOf(EnumSet.of(
+        PosixFilePermission.OWNER_READ, PosixFilePermission.OWNER_WRITE, PosixFilePermission.OWNER_EXECUTE));
+
     /** */
     private static final boolean THROUBLESHOOTING_LOG_ENABLED = IgniteSystemProperties
         .getBoolean(IgniteSystemProperties.IGNITE_TROUBLESHOOTING_LOGGER);
@@ -149,6 +181,132 @@ public class CommunicationTcpUtils {
         return addrs;
     }
 
+    /**
+     * The ring files are kept in a subdirectory of the configured one, private to the user the node runs as: the
+     * configured directory is usually shared by all the users of the host.
+     *
+     * @param path Configured directory of shared memory ring files, {@code null} if not configured.
+     * @return Directory of shared memory ring files.
+     */
+    public static File sharedMemoryDirectory(@Nullable String path) {
+        File dir;
+
+        if (path != null)
+            dir = new File(path);
+        else {
+            File shm = new File(SHMEM_DFLT_DIR);
+
+            dir = shm.isDirectory() ? shm : new File(System.getProperty("java.io.tmpdir"));
+        }
+
+        return new File(dir, SHMEM_USER_DIR_PREFIX + U.maskForFileName(System.getProperty("user.name")));
+    }
+
+    /**
+     * Gets ID of the host as seen through the directory of shared memory ring files, the ID is created by the first
+     * node that asks for it. Nodes reporting the same ID can map ring files of each other.
+     * <p>
+     * The directory is created if it does not exist. On file systems supporting POSIX permissions the directory
+     * and the files in it are accessible by the owner only, the directory must be owned by the user of the node.
+     *
+     * @param dir Directory of shared memory ring files.
+     * @return Host ID.
+     * @throws IOException If failed to read or create the ID, or the directory is accessible by other users.
+     */
+    public static String sharedMemoryHostId(File dir) throws IOException {
+        Path dir0 = dir.toPath();
+        Path id = dir0.resolve(SHMEM_HOST_ID_FILE);
+
+        createSharedMemoryDirectory(dir0);
+
+        Path tmp = Files.createTempFile(dir0, SHMEM_HOST_ID_FILE, null, ownerOnly(dir0));
+
+        try {
+            // The file just created tells the user of the node.
+            checkSharedMemoryDirectory(dir0, tmp);
+
+            if (!Files.exists(id)) {
+                Files.write(tmp, UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8));
+
+                // Link is atomic and fails if the ID has been created concurrently.
+                Files.createLink(id, tmp);
+            }
+        }
+        catch (FileAlreadyExistsException ignored) {
+            // No-op.
+        }
+        finally {
+            Files.delete(tmp);
+        }
+
+        return new String(Files.readAllBytes(id), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Creates the directory of shared memory ring files, accessible by the owner only, if it does not exist.
+     *
+     * @param dir Directory of shared memory ring files.
+     * @throws IOException If failed.
+     */
+    private static void createSharedMemoryDirectory(Path dir) throws IOException {
+        Files.createDirectories(dir.getParent());
+
+        try {
+            if (posix(dir)) {
+                Files.createDirectory(dir,
+                    PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString(SHMEM_DIR_PERMS)));
+            }
+            else
+                Files.createDirectory(dir);
+        }
+        catch (FileAlreadyExistsException ignored) {
+            // No-op.
+        }
+    }
+
+    /**
+     * Checks that the directory of shared memory ring files is not a link, is owned by the user of the node and
+     * is accessible by the owner only.
+     *
+     * @param dir Directory of shared memory ring files.
+     * @param file File just created by this node in the directory.
+     * @throws IOException If the directory is accessible by other users.
+     */
+    private static void checkSharedMemoryDirectory(Path dir, Path file) throws IOException {
+        if (!posix(dir))
+            return;
+
+        PosixFileAttributes attrs = Files.readAttributes(dir, PosixFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+
+        if (!attrs.isDirectory() || !attrs.owner().equals(Files.getOwner(file)) ||
+            attrs.permissions().stream().anyMatch(SHMEM_FORBIDDEN_PERMS::contains)) {
+            throw new IOException("Directory of shared memory ring files must be owned by the user of the node " +
+                "and must be accessible by the owner only [dir=" + dir + ", owner=" + attrs.owner() +
+                ", perms=" + PosixFilePermissions.toString(attrs.permissions()) + ']');
+        }
+    }
+
+    /**
+     * @param dir Directory of shared memory ring files.
+     * @return Attributes making a file created in the directory accessible by the owner only.
+     */
+    static FileAttribute<?>[] ownerOnly(Path dir) {
+        if (!posix(dir))
+            return new FileAttribute<?>[0];
+
+        return new FileAttribute<?>[] {
+            PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString(SHMEM_FILE_PERMS))
+        };
+    }
+
+    /**
+     * @param dir Directory.
+     * @return {@code True} if the file system of the directory supports POSIX permissions.
+     */
+    private static boolean posix(Path dir) {
+        return dir.getFileSystem().supportedFileAttributeViews().contains("posix");
+    }
+
     /**
      * Returns handshake exception with specific message.
      */
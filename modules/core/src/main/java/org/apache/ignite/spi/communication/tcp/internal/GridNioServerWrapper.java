@@ -17,6 +17,7 @@
 
 package org.apache.ignite.spi.communication.tcp.internal;
 
+import java.io.File;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
@@ -52,6 +53,7 @@ import org.apache.ignite.internal.CoreMessagesProvider;
 import org.apache.ignite.internal.IgniteInternalFuture;
 import org.apache.ignite.internal.IgniteTooManyOpenFilesException;
 import org.apache.ignite.internal.cluster.ClusterTopologyCheckedException;
+import org.apache.ignite.internal.direct.DirectMessageReader;
 import org.apache.ignite.internal.direct.DirectMessageWriter;
 import org.apache.ignite.internal.managers.communication.IgniteMessageFactory;
 import org.apache.ignite.internal.processors.cache.GridCacheMessage;
@@ -98,10 +100,12 @@ import org.apache.ignite.spi.IgniteSpiOperationTimeoutException;
 import org.apache.ignite.spi.TimeoutStrategy;
 import org.apache.ignite.spi.communication.CommunicationListener;
 import org.apache.ignite.spi.communication.tcp.AttributeNames;
+import org.apache.ignite.spi.communication.tcp.TcpCommunicationMetricsListener;
 import org.apache.ignite.spi.communication.tcp.messages.HandshakeMessage;
 import org.apache.ignite.spi.communication.tcp.messages.HandshakeWaitMessageSerializer;
 import org.apache.ignite.spi.communication.tcp.messages.NodeIdMessage;
 import org.apache.ignite.spi.communication.tcp.messages.RecoveryLastReceivedMessage;
+import org.apache.ignite.spi.communication.tcp.messages.SharedMemorySwitchMessage;
 import org.apache.ignite.spi.discovery.IgniteDiscoveryThread;
 import org.jetbrains.annotations.Nullable;
 
@@ -113,6 +117,7 @@ import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.CONSIS
 import static org.apache.ignite.spi.communication.tcp.internal.CommunicationTcpUtils.handshakeTimeoutException;
 import static org.apache.ignite.spi.communication.tcp.internal.CommunicationTcpUtils.isRecoverableException;
 import static org.apache.ignite.spi.communication.tcp.internal.CommunicationTcpUtils.nodeAddresses;
+import static org.apache.ignite.spi.communication.tcp.internal.CommunicationTcpUtils.sharedMemoryDirectory;
 import static org.apache.ignite.spi.communication.tcp.internal.CommunicationTcpUtils.usePairedConnections;
 import static org.apache.ignite.spi.communication.tcp.messages.RecoveryLastReceivedMessage.ALREADY_CONNECTED;
 import static org.apache.ignite.spi.communication.tcp.messages.RecoveryLastReceivedMessage.NEED_WAIT;
@@ -202,6 +207,9 @@ public class GridNioServerWrapper {
     /** Recovery and idle clients handler. */
     private volatile CommunicationConnectionStateHandler connStateHnd;
 
+    /** Metrics listener notified of compressed message fields. */
+    private volatile TcpCommunicationMetricsListener metricsLsnr;
+
     /** Socket channel factory. */
     private volatile ThrowableSupplier<SocketChannel, IOException> socketChannelFactory = SocketChannel::open;
 
@@ -528,6 +536,8 @@ public class GridNioServerWrapper {
                         meta.put(GridNioServer.RECOVERY_DESC_META_KEY, recoveryDesc);
 
                         ses = nioSrv.createSession(ch, meta, false, null).get();
+
+                        switchToSharedMemory(ses, node);
                     }
                     finally {
                         if (ses == null) {
@@ -866,7 +876,12 @@ public class GridNioServerWrapper {
 
                         assert formatter != null;
 
-                        return formatter.reader(msgFactory);
+                        MessageReader reader = formatter.reader(msgFactory);
+
+                        if (reader instanceof DirectMessageReader)
+                            ((DirectMessageReader)reader).compressionListener(metricsLsnr);
+
+                        return reader;
                     }
                 };
 
@@ -890,7 +905,12 @@ public class GridNioServerWrapper {
 
                         assert formatter != null;
 
-                        return formatter.writer(msgFactory);
+                        MessageWriter writer = formatter.writer(msgFactory);
+
+                        if (writer instanceof DirectMessageWriter)
+                            ((DirectMessageWriter)writer).compressionListener(metricsLsnr);
+
+                        return writer;
                     }
                 };
 
@@ -898,7 +918,8 @@ public class GridNioServerWrapper {
                     msgFactory,
                     readerFactory);
 
-                IgnitePredicate<Message> skipRecoveryPred = msg -> msg instanceof RecoveryLastReceivedMessage;
+                IgnitePredicate<Message> skipRecoveryPred = msg -> msg instanceof RecoveryLastReceivedMessage ||
+                    msg instanceof SharedMemorySwitchMessage;
 
                 boolean clientMode = Boolean.TRUE.equals(igniteCfg.isClientMode());
 
@@ -950,6 +971,9 @@ public class GridNioServerWrapper {
                     .directMode(true)
                     .writeTimeout(cfg.socketWriteTimeout())
                     .selectorSpins(cfg.selectorSpins())
+                    .busyPoll(cfg.selectorBusyPoll())
+                    .writeCoalescing(TimeUnit.MICROSECONDS.toNanos(cfg.writeCoalescingWindow()),
+                        cfg.writeCoalescingThreshold())
                     .filters(filtersArr)
                     .writerFactory(writerFactory)
                     .skipRecoveryPredicate(skipRecoveryPred)
@@ -977,6 +1001,8 @@ public class GridNioServerWrapper {
                         ", locHost=" + cfg.localHost() +
                         ", selectorsCnt=" + cfg.selectorsCount() +
                         ", selectorSpins=" + srvr.selectorSpins() +
+                        ", selectorBusyPoll=" + srvr.busyPoll() +
+                        ", writeCoalescingWindow=" + cfg.writeCoalescingWindow() +
                         ", pairedConn=" + cfg.usePairedConnections() + ']');
                 }
 
@@ -1165,6 +1191,100 @@ public class GridNioServerWrapper {
         }
     }
 
+    /**
+     * Switches writes of the established session to a shared memory ring if the remote node reports the same
+     * host ID. The session stays on TCP if the ring can't be created.
+     *
+     * @param ses Session.
+     * @param node Remote node.
+     */
+    public void switchToSharedMemory(GridNioSession ses, ClusterNode node) {
+        ConnectionKey connKey = ses.meta(CONN_IDX_META);
+
+        if (!cfg.sharedMemoryEnabled() || connKey == null || isChannelConnIdx(connKey.connectionIndex()))
+            return;
+
+        ClusterNode locNode = locNodeSupplier.get();
+
+        String hostId = locNode == null ? null : locNode.attribute(attrs.sharedMemoryHostId());
+
+        if (hostId == null || !hostId.equals(node.attribute(attrs.sharedMemoryHostId())))
+            return;
+
+        File file = new File(sharedMemoryDirectory(cfg.sharedMemoryPath()),
+            SharedMemoryRing.FILE_PREFIX + locNode.id() + '-' + node.id() + '-' + UUID.randomUUID());
+
+        SharedMemoryRing ring;
+
+        try {
+            ring = SharedMemoryRing.create(file, cfg.sharedMemoryRingSize());
+        }
+        catch (IOException e) {
+            U.warn(log, "Failed to create shared memory ring, connection stays on TCP [rmtNode=" + node.id() +
+                ", file=" + file + ", err=" + e + ']');
+
+            return;
+        }
+
+        try {
+            nioSrv.switchWritesToPipe(ses, new SharedMemorySwitchMessage(file.getName()), ring);
+
+            if (log.isDebugEnabled())
+                log.debug("Switching connection to shared memory [rmtNode=" + node.id() + ", ring=" + file + ']');
+        }
+        catch (IgniteCheckedException e) {
+            ring.close();
+
+            if (log.isDebugEnabled())
+                log.debug("Failed to switch connection to shared memory [rmtNode=" + node.id() + ", err=" + e + ']');
+        }
+    }
+
+    /**
+     * Switches reads of the session to the shared memory ring the remote node writes to. Called from the session
+     * thread on receipt of the message, all the bytes following the message are read from the ring.
+     *
+     * @param ses Session.
+     * @param msg Message.
+     */
+    public void onSharedMemorySwitch(GridNioSession ses, SharedMemorySwitchMessage msg) {
+        ClusterNode locNode = locNodeSupplier.get();
+
+        // Shared memory is disabled locally if the host ID is not published, e.g. when SSL is on.
+        if (!cfg.sharedMemoryEnabled() || locNode == null || locNode.attribute(attrs.sharedMemoryHostId()) == null) {
+            U.warn(log, "Shared memory switch requested by the remote node, but shared memory is disabled, " +
+                "closing connection [ses=" + ses + ']');
+
+            nioSrv.closeFromWorkerThread(ses);
+
+            return;
+        }
+
+        File file = SharedMemoryRing.file(sharedMemoryDirectory(cfg.sharedMemoryPath()), msg.fileName());
+
+        if (file == null) {
+            U.warn(log, "Invalid shared memory ring file name, closing connection [ses=" + ses +
+                ", ring=" + msg.fileName() + ']');
+
+            nioSrv.closeFromWorkerThread(ses);
+
+            return;
+        }
+
+        try {
+            nioSrv.switchReadsToPipe(ses, SharedMemoryRing.open(file));
+
+            if (log.isDebugEnabled())
+                log.debug("Connection switched to shared memory [ses=" + ses + ", ring=" + file + ']');
+        }
+        catch (IOException e) {
+            U.error(log, "Failed to map shared memory ring, closing connection [ses=" + ses +
+                ", ring=" + file + ']', e);
+
+            nioSrv.closeFromWorkerThread(ses);
+        }
+    }
+
     /**
      * @param connIdx Connection index to check.
      * @return {@code true} if connection index is related to the channel create request\response.
@@ -1315,6 +1435,13 @@ public class GridNioServerWrapper {
         /** Client pool for client futures. */
     }
 
+    /**
+     * @param metricsLsnr New statistics.
+     */
+    public void metricsListener(@Nullable TcpCommunicationMetricsListener metricsLsnr) {
+        this.metricsLsnr = metricsLsnr;
+    }
+
     /**
      * @param sockChFactory New socket channel factory.
      */
@@ -52,6 +52,7 @@ import org.apache.ignite.spi.communication.tcp.messages.HandshakeMessage;
 import org.apache.ignite.spi.communication.tcp.messages.HandshakeWaitMessage;
 import org.apache.ignite.spi.communication.tcp.messages.NodeIdMessage;
 import org.apache.ignite.spi.communication.tcp.messages.RecoveryLastReceivedMessage;
+import org.apache.ignite.spi.communication.tcp.messages.SharedMemorySwitchMessage;
 import org.apache.ignite.spi.discovery.DiscoverySpi;
 import org.apache.ignite.spi.discovery.tcp.TcpDiscoverySpi;
 import org.jetbrains.annotations.Nullable;
@@ -300,6 +301,12 @@ public class InboundConnectionHandler extends GridNioServerListenerAdapter<Messa
 
             assert consistentId != null;
 
+            if (msg instanceof SharedMemorySwitchMessage) {
+                nioSrvWrapper.onSharedMemorySwitch(ses, (SharedMemorySwitchMessage)msg);
+
+                return;
+            }
+
             if (msg instanceof RecoveryLastReceivedMessage) {
                 metricsLsnr.onMessageReceived(msg, consistentId);
 
@@ -689,8 +696,12 @@ public class InboundConnectionHandler extends GridNioServerListenerAdapter<Messa
         nioSrvWrapper.nio().resend(ses);
 
         try {
-            if (sndRes)
-                nioSrvWrapper.nio().sendSystem(ses, new RecoveryLastReceivedMessage(recovery.received()));
+            if (sndRes) {
+                nioSrvWrapper.nio().sendSystem(ses, new RecoveryLastReceivedMessage(recovery.received()),
+                    switchToSharedMemoryOnResponse(ses, node));
+            }
+            else
+                nioSrvWrapper.switchToSharedMemory(ses, node);
         }
         catch (IgniteCheckedException e) {
             U.error(log, "Failed to send message: " + e, e);
@@ -721,8 +732,12 @@ public class InboundConnectionHandler extends GridNioServerListenerAdapter<Messa
         try {
             ses.inRecoveryDescriptor(recovery);
 
-            if (sndRes)
-                nioSrvWrapper.nio().sendSystem(ses, new RecoveryLastReceivedMessage(recovery.received()));
+            if (sndRes) {
+                nioSrvWrapper.nio().sendSystem(ses, new RecoveryLastReceivedMessage(recovery.received()),
+                    switchToSharedMemoryOnResponse(ses, recovery.node()));
+            }
+            else
+                nioSrvWrapper.switchToSharedMemory(ses, recovery.node());
 
             recovery.onConnected();
         }
@@ -731,6 +746,27 @@ public class InboundConnectionHandler extends GridNioServerListenerAdapter<Messa
         }
     }
 
+    /**
+     * The handshake response is read off the socket by the remote node, so the session may switch to shared memory
+     * only once the response is written.
+     *
+     * @param ses Session.
+     * @param node Remote node.
+     * @return Listener of the handshake response, {@code null} if shared memory is disabled.
+     */
+    @Nullable private IgniteInClosure<IgniteInternalFuture<?>> switchToSharedMemoryOnResponse(
+        GridNioSession ses,
+        ClusterNode node
+    ) {
+        if (!cfg.sharedMemoryEnabled())
+            return null;
+
+        return fut -> {
+            if (fut.error() == null)
+                nioSrvWrapper.switchToSharedMemory(ses, node);
+        };
+    }
+
     /**
      *
      */
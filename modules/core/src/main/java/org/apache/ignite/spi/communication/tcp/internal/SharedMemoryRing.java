@@ -0,0 +1,369 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.spi.communication.tcp.internal;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.util.EnumSet;
+import java.util.regex.Pattern;
+import org.apache.ignite.internal.util.GridUnsafe;
+import org.apache.ignite.internal.util.nio.GridNioPipe;
+import org.apache.ignite.internal.util.tostring.GridToStringExclude;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.jetbrains.annotations.Nullable;
+
+import static java.nio.channels.FileChannel.MapMode.READ_WRITE;
+import static java.nio.file.LinkOption.NOFOLLOW_LINKS;
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Single producer single consumer byte ring in a memory mapped file, used to pass the bytes of a communication
+ * session between processes on the same host. The writer creates the file, the reader maps it and unlinks it,
+ * so that the memory is released once both ends are closed, whatever way the processes exit.
+ * <p>
+ * The file starts with a header, each counter on its own cache line:
+ * <ul>
+ *     <li>magic and capacity;</li>
+ *     <li>head, count of bytes read;</li>
+ *     <li>tail, count of bytes written;</li>
+ *     <li>reader parked flag, set by the reader before it blocks on its selector;</li>
+ *     <li>writer parked flag, set by the writer before it stops polling for write on a full ring.</li>
+ * </ul>
+ * Head, tail and parked flags are accessed with volatile semantics, so either the writer sees the reader parked or
+ * the reader sees the bytes written before it blocks, and either the reader sees the writer parked or the writer
+ * sees the space freed before it stops polling.
+ */
+public class SharedMemoryRing implements GridNioPipe {
+    /** */
+    private static final int MAGIC = 0x49474e52;
+
+    /** */
+    private static final int MAGIC_OFF = 0;
+
+    /** */
+    private static final int CAP_OFF = 4;
+
+    /** */
+    private static final int HEAD_OFF = 64;
+
+    /** */
+    private static final int TAIL_OFF = 128;
+
+    /** */
+    private static final int PARKED_OFF = 192;
+
+    /** */
+    private static final int WRITER_PARKED_OFF = 256;
+
+    /** */
+    private static final int DATA_OFF = 320;
+
+    /** Prefix of the ring file names. */
+    public static final String FILE_PREFIX = "ignite-shmem-ring-";
+
+    /** Ring file name, the names are sent to the peers and must not point out of the directory of ring files. */
+    private static final Pattern FILE_NAME = Pattern.compile(Pattern.quote(FILE_PREFIX) + "[a-zA-Z0-9-]+");
+
+    /** Minimum ring capacity. */
+    public static final int MIN_CAPACITY = 4096;
+
+    /** */
+    private static final VarHandle LONG = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    /** File, {@code null} for the reader end. */
+    private final File file;
+
+    /** Mapped file. */
+    @GridToStringExclude
+    private final MappedByteBuffer buf;
+
+    /** Data area of the mapped file. */
+    @GridToStringExclude
+    private final ByteBuffer data;
+
+    /** */
+    private final int mask;
+
+    /** Head for the reader end, tail for the writer end. */
+    private long pos;
+
+    /** */
+    private boolean closed;
+
+    /**
+     * @param file File, {@code null} for the reader end.
+     * @param buf Mapped file.
+     * @param cap Capacity.
+     */
+    private SharedMemoryRing(File file, MappedByteBuffer buf, int cap) {
+        this.file = file;
+        this.buf = buf;
+
+        data = buf.slice(DATA_OFF, cap);
+        mask = cap - 1;
+    }
+
+    /**
+     * Creates the file of the ring and opens its writer end.
+     *
+     * @param file File, must not exist. It is accessible by the owner only if the file system supports POSIX
+     *      permissions.
+     * @param cap Capacity, power of two.
+     * @return Writer end.
+     * @throws IOException If failed.
+     */
+    public static SharedMemoryRing create(File file, int cap) throws IOException {
+        assert cap >= MIN_CAPACITY && Integer.bitCount(cap) == 1 : cap;
+
+        try (FileChannel ch = FileChannel.open(file.toPath(), EnumSet.of(CREATE_NEW, READ, WRITE),
+            CommunicationTcpUtils.ownerOnly(file.toPath().getParent()))) {
+            MappedByteBuffer buf = ch.map(READ_WRITE, 0, DATA_OFF + cap);
+
+            buf.order(ByteOrder.nativeOrder());
+
+            buf.putInt(CAP_OFF, cap);
+            buf.putInt(MAGIC_OFF, MAGIC);
+
+            return new SharedMemoryRing(file, buf, cap);
+        }
+        catch (IOException | RuntimeException e) {
+            file.delete();
+
+            throw e;
+        }
+    }
+
+    /**
+     * Resolves the name of a ring file received from the writer.
+     *
+     * @param dir Directory of ring files.
+     * @param name File name.
+     * @return File, {@code null} if the name is not a ring file name.
+     */
+    @Nullable public static File file(File dir, @Nullable String name) {
+        return name != null && FILE_NAME.matcher(name).matches() ? new File(dir, name) : null;
+    }
+
+    /**
+     * Maps the file of the ring created by the writer, then unlinks the file. The file is left in place if it is not
+     * a ring file, the writer removes it once closed.
+     *
+     * @param file File.
+     * @return Reader end.
+     * @throws IOException If failed.
+     */
+    public static SharedMemoryRing open(File file) throws IOException {
+        MappedByteBuffer buf;
+        int cap;
+
+        try (FileChannel ch = FileChannel.open(file.toPath(), READ, WRITE, NOFOLLOW_LINKS)) {
+            long size = ch.size();
+
+            if (size < DATA_OFF + MIN_CAPACITY)
+                throw new IOException("Shared memory ring file is too small [file=" + file + ", size=" + size + ']');
+
+            buf = ch.map(READ_WRITE, 0, size);
+
+            buf.order(ByteOrder.nativeOrder());
+
+            cap = buf.getInt(CAP_OFF);
+
+            if (buf.getInt(MAGIC_OFF) != MAGIC || Integer.bitCount(cap) != 1 || DATA_OFF + cap != size) {
+                GridUnsafe.cleanDirectBuffer(buf);
+
+                throw new IOException("Invalid shared memory ring file: " + file);
+            }
+        }
+
+        file.delete();
+
+        return new SharedMemoryRing(null, buf, cap);
+    }
+
+    /**
+     * @return Capacity.
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /** {@inheritDoc} */
+    @Override public int write(ByteBuffer src) throws IOException {
+        assert file != null;
+
+        if (closed)
+            throw new ClosedChannelException();
+
+        long head = (long)LONG.getAcquire(buf, HEAD_OFF);
+
+        int cnt = (int)Math.min(src.remaining(), capacity() - (pos - head));
+
+        if (cnt == 0)
+            return 0;
+
+        int idx = (int)(pos & mask);
+        int first = Math.min(cnt, capacity() - idx);
+
+        data.put(idx, src, src.position(), first);
+
+        if (cnt > first)
+            data.put(0, src, src.position() + first, cnt - first);
+
+        src.position(src.position() + cnt);
+
+        pos += cnt;
+
+        LONG.setVolatile(buf, TAIL_OFF, pos);
+
+        return cnt;
+    }
+
+    /** {@inheritDoc} */
+    @Override public long write(ByteBuffer[] srcs, int off, int len) throws IOException {
+        long res = 0;
+
+        for (int i = off; i < off + len; i++) {
+            res += write(srcs[i]);
+
+            if (srcs[i].hasRemaining())
+                break;
+        }
+
+        return res;
+    }
+
+    /** {@inheritDoc} */
+    @Override public long write(ByteBuffer[] srcs) throws IOException {
+        return write(srcs, 0, srcs.length);
+    }
+
+    /** {@inheritDoc} */
+    @Override public int read(ByteBuffer dst) throws IOException {
+        assert file == null;
+
+        if (closed)
+            throw new ClosedChannelException();
+
+        long tail = (long)LONG.getAcquire(buf, TAIL_OFF);
+
+        int cnt = (int)Math.min(dst.remaining(), tail - pos);
+
+        if (cnt == 0)
+            return 0;
+
+        int idx = (int)(pos & mask);
+        int first = Math.min(cnt, capacity() - idx);
+
+        dst.put(dst.position(), data, idx, first);
+
+        if (cnt > first)
+            dst.put(dst.position() + first, data, 0, cnt - first);
+
+        dst.position(dst.position() + cnt);
+
+        pos += cnt;
+
+        LONG.setVolatile(buf, HEAD_OFF, pos);
+
+        return cnt;
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean readable() {
+        return !closed && (long)LONG.getVolatile(buf, TAIL_OFF) != pos;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void park() {
+        if (!closed)
+            LONG.setVolatile(buf, PARKED_OFF, 1L);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void unpark() {
+        if (!closed)
+            LONG.setRelease(buf, PARKED_OFF, 0L);
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean unparkReader() {
+        return !closed && LONG.compareAndSet(buf, PARKED_OFF, 1L, 0L);
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean parkWriter() {
+        if (closed || !full())
+            return false;
+
+        LONG.setVolatile(buf, WRITER_PARKED_OFF, 1L);
+
+        // The reader may have freed some space before it could see the flag.
+        if (full())
+            return true;
+
+        LONG.setRelease(buf, WRITER_PARKED_OFF, 0L);
+
+        return false;
+    }
+
+    /**
+     * @return {@code True} if there is no space to write to.
+     */
+    private boolean full() {
+        return pos - (long)LONG.getVolatile(buf, HEAD_OFF) == capacity();
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean unparkWriter() {
+        return !closed && (long)LONG.getVolatile(buf, WRITER_PARKED_OFF) != 0L &&
+            LONG.compareAndSet(buf, WRITER_PARKED_OFF, 1L, 0L);
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean isOpen() {
+        return !closed;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void close() {
+        if (closed)
+            return;
+
+        closed = true;
+
+        GridUnsafe.cleanDirectBuffer(buf);
+
+        // The reader unlinks the file once it is mapped, the writer removes it if the reader never came.
+        if (file != null)
+            file.delete();
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(SharedMemoryRing.class, this, "cap", capacity());
+    }
+}
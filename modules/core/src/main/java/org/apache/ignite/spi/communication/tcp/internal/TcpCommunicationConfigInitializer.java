@@ -17,6 +17,7 @@
 
 package org.apache.ignite.spi.communication.tcp.internal;
 
+import java.io.File;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
@@ -52,7 +53,10 @@ import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.ATTR_F
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.ATTR_HOST_NAMES;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.ATTR_PAIRED_CONN;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.ATTR_PORT;
+import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.ATTR_SHMEM_HOST_ID;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.DISABLED_CLIENT_PORT;
+import static org.apache.ignite.spi.communication.tcp.internal.CommunicationTcpUtils.sharedMemoryDirectory;
+import static org.apache.ignite.spi.communication.tcp.internal.CommunicationTcpUtils.sharedMemoryHostId;
 import static org.apache.ignite.spi.communication.tcp.internal.GridNioServerWrapper.MAX_CONN_PER_NODE;
 
 /**
@@ -543,6 +547,170 @@ public abstract class TcpCommunicationConfigInitializer extends IgniteSpiAdapter
         return (TcpCommunicationSpi)this;
     }
 
+    /**
+     * See {@link #setSelectorBusyPoll(boolean)}.
+     *
+     * @return Whether selector threads busy-poll their selectors.
+     */
+    public boolean isSelectorBusyPoll() {
+        return cfg.selectorBusyPoll();
+    }
+
+    /**
+     * Sets whether selector threads of NIO server busy-poll their selectors with {@code selector.selectNow()}
+     * and never block in {@code selector.select(long)}. Sending a message then never has to wake up a selector
+     * thread, which lowers latency at high message rates at the cost of one fully loaded core per selector
+     * thread (see {@link #setSelectorsCount(int)}). Takes precedence over {@link #setSelectorSpins(long)}.
+     * Default is {@code false}.
+     *
+     * @param selectorBusyPoll Whether selector threads busy-poll their selectors.
+     * @return {@code this} for chaining.
+     */
+    @IgniteSpiConfiguration(optional = true)
+    public TcpCommunicationSpi setSelectorBusyPoll(boolean selectorBusyPoll) {
+        cfg.selectorBusyPoll(selectorBusyPoll);
+
+        return (TcpCommunicationSpi)this;
+    }
+
+    /**
+     * See {@link #setWriteCoalescingWindow(long)}.
+     *
+     * @return Maximum write coalescing window in microseconds.
+     */
+    public long getWriteCoalescingWindow() {
+        return cfg.writeCoalescingWindow();
+    }
+
+    /**
+     * Sets maximum write coalescing window in microseconds. If a connection has written to the socket within
+     * the window, a write of less than {@link #setWriteCoalescingThreshold(int)} bytes is deferred for up to
+     * the window, so that messages sent in the meantime share a single socket write. This cuts the number of
+     * system calls when many small messages are sent, at the cost of up to the window of extra latency for them.
+     * The window adapts per connection: it shrinks when deferred writes do not pick up more messages.
+     * <p>
+     * If not provided, default value is {@link TcpCommunicationSpi#DFLT_WRITE_COALESCING_WINDOW}, which means
+     * that writes are not coalesced.
+     *
+     * @param writeCoalescingWindow Maximum write coalescing window in microseconds.
+     * @return {@code this} for chaining.
+     */
+    @IgniteSpiConfiguration(optional = true)
+    public TcpCommunicationSpi setWriteCoalescingWindow(long writeCoalescingWindow) {
+        cfg.writeCoalescingWindow(writeCoalescingWindow);
+
+        return (TcpCommunicationSpi)this;
+    }
+
+    /**
+     * See {@link #setWriteCoalescingThreshold(int)}.
+     *
+     * @return Buffered bytes count that is written without coalescing.
+     */
+    public int getWriteCoalescingThreshold() {
+        return cfg.writeCoalescingThreshold();
+    }
+
+    /**
+     * Sets buffered bytes count that is written to the socket without coalescing, see
+     * {@link #setWriteCoalescingWindow(long)}.
+     * <p>
+     * If not provided, default value is {@link TcpCommunicationSpi#DFLT_WRITE_COALESCING_THRESHOLD}.
+     *
+     * @param writeCoalescingThreshold Buffered bytes count that is written without coalescing.
+     * @return {@code this} for chaining.
+     */
+    @IgniteSpiConfiguration(optional = true)
+    public TcpCommunicationSpi setWriteCoalescingThreshold(int writeCoalescingThreshold) {
+        cfg.writeCoalescingThreshold(writeCoalescingThreshold);
+
+        return (TcpCommunicationSpi)this;
+    }
+
+    /**
+     * See {@link #setSharedMemoryEnabled(boolean)}.
+     *
+     * @return Whether connections to nodes on the same host switch to shared memory.
+     */
+    public boolean isSharedMemoryEnabled() {
+        return cfg.sharedMemoryEnabled();
+    }
+
+    /**
+     * Sets whether connections to nodes on the same host switch to shared memory. Once a connection is
+     * established, each side checks that the remote node reports the same host ID, which is kept in a file of
+     * the shared memory directory, see {@link #setSharedMemoryPath(String)}. If so, it writes the following
+     * messages to a ring buffer in a memory mapped file of that directory instead of the socket. The socket stays
+     * open to detect node failures and to wake up the reader when it is idle. Connections to other nodes stay on TCP.
+     * <p>
+     * Shared memory is not used if SSL is enabled.
+     * <p>
+     * If not provided, default value is {@code false}.
+     *
+     * @param shmemEnabled Whether connections to nodes on the same host switch to shared memory.
+     * @return {@code this} for chaining.
+     */
+    @IgniteSpiConfiguration(optional = true)
+    public TcpCommunicationSpi setSharedMemoryEnabled(boolean shmemEnabled) {
+        cfg.sharedMemoryEnabled(shmemEnabled);
+
+        return (TcpCommunicationSpi)this;
+    }
+
+    /**
+     * See {@link #setSharedMemoryRingSize(int)}.
+     *
+     * @return Size of a shared memory ring in bytes.
+     */
+    public int getSharedMemoryRingSize() {
+        return cfg.sharedMemoryRingSize();
+    }
+
+    /**
+     * Sets size of a shared memory ring in bytes, a ring is created for each direction of each connection
+     * switched to shared memory. Must be a power of two.
+     * <p>
+     * If not provided, default value is {@link TcpCommunicationSpi#DFLT_SHMEM_RING_SIZE}.
+     *
+     * @param shmemRingSize Size of a shared memory ring in bytes.
+     * @return {@code this} for chaining.
+     */
+    @IgniteSpiConfiguration(optional = true)
+    public TcpCommunicationSpi setSharedMemoryRingSize(int shmemRingSize) {
+        cfg.sharedMemoryRingSize(shmemRingSize);
+
+        return (TcpCommunicationSpi)this;
+    }
+
+    /**
+     * See {@link #setSharedMemoryPath(String)}.
+     *
+     * @return Directory of shared memory ring files.
+     */
+    public String getSharedMemoryPath() {
+        return cfg.sharedMemoryPath();
+    }
+
+    /**
+     * Sets directory of shared memory ring files. Only nodes that see the same directory, and so report the same
+     * host ID, switch their connections to shared memory.
+     * <p>
+     * If not provided, {@code /dev/shm} is used if it exists, otherwise the temporary directory.
+     * <p>
+     * The files are kept in a subdirectory private to the user the node runs as, so only nodes run by the same user
+     * share memory. Where POSIX permissions are supported, the subdirectory and the files are accessible by the owner
+     * only, and shared memory is disabled if the subdirectory exists with other owner or permissions.
+     *
+     * @param shmemPath Directory of shared memory ring files.
+     * @return {@code this} for chaining.
+     */
+    @IgniteSpiConfiguration(optional = true)
+    public TcpCommunicationSpi setSharedMemoryPath(String shmemPath) {
+        cfg.sharedMemoryPath(shmemPath);
+
+        return (TcpCommunicationSpi)this;
+    }
+
     /** */
     public void setConnectionRequestor(ConnectionRequestor connectionRequestor) {
         cfg.connectionRequestor(connectionRequestor);
@@ -791,6 +959,11 @@ public abstract class TcpCommunicationConfigInitializer extends IgniteSpiAdapter
         assertParameter(cfg.selectorsCount() > 0, "selectorsCnt > 0");
         assertParameter(cfg.connectionsPerNode() > 0, "connectionsPerNode > 0");
         assertParameter(cfg.connectionsPerNode() <= MAX_CONN_PER_NODE, "connectionsPerNode <= 1024");
+        assertParameter(cfg.writeCoalescingWindow() >= 0, "writeCoalescingWindow >= 0");
+        assertParameter(cfg.writeCoalescingThreshold() > 0, "writeCoalescingThreshold > 0");
+        assertParameter(cfg.sharedMemoryRingSize() >= SharedMemoryRing.MIN_CAPACITY,
+            "shmemRingSize >= " + SharedMemoryRing.MIN_CAPACITY);
+        assertParameter(Integer.bitCount(cfg.sharedMemoryRingSize()) == 1, "shmemRingSize is a power of two");
 
         if (!failureDetectionTimeoutEnabled()) {
             assertParameter(cfg.reconCount() > 0, "reconnectCnt > 0");
@@ -834,6 +1007,18 @@ public abstract class TcpCommunicationConfigInitializer extends IgniteSpiAdapter
             res.put(createSpiAttributeName(ATTR_PAIRED_CONN), cfg.usePairedConnections());
             res.put(createSpiAttributeName(ATTR_FORCE_CLIENT_SERVER_CONNECTIONS), cfg.forceClientToSrvConnections());
 
+            if (cfg.sharedMemoryEnabled() && ignite.configuration().getSslContextFactory() == null) {
+                File shmemDir = sharedMemoryDirectory(cfg.sharedMemoryPath());
+
+                try {
+                    res.put(createSpiAttributeName(ATTR_SHMEM_HOST_ID), sharedMemoryHostId(shmemDir));
+                }
+                catch (IOException e) {
+                    U.warn(log, "Shared memory is disabled, failed to prepare the directory of ring files [dir=" +
+                        shmemDir + ", err=" + e.getMessage() + ']');
+                }
+            }
+
             return res;
         }
         catch (IOException | IgniteCheckedException e) {
@@ -38,9 +38,12 @@ import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.DFLT_P
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.DFLT_PORT_RANGE;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.DFLT_RECONNECT_CNT;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.DFLT_SELECTORS_CNT;
+import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.DFLT_SHMEM_RING_SIZE;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.DFLT_SOCK_BUF_SIZE;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.DFLT_SOCK_WRITE_TIMEOUT;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.DFLT_TCP_NODELAY;
+import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.DFLT_WRITE_COALESCING_THRESHOLD;
+import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.DFLT_WRITE_COALESCING_WINDOW;
 
 /**
  * Class of configuration for {@link TcpCommunicationSpi} segregation.
@@ -145,6 +148,24 @@ public class TcpCommunicationConfiguration implements Serializable {
      */
     private long selectorSpins = IgniteSystemProperties.getLong(IGNITE_SELECTOR_SPINS, DFLT_SELECTOR_SPINS);
 
+    /** Whether selector threads of NIO server busy-poll their selectors instead of blocking on them. */
+    private boolean selectorBusyPoll;
+
+    /** Maximum write coalescing window in microseconds. */
+    private long writeCoalescingWindow = DFLT_WRITE_COALESCING_WINDOW;
+
+    /** Buffered bytes count that is written without coalescing. */
+    private int writeCoalescingThreshold = DFLT_WRITE_COALESCING_THRESHOLD;
+
+    /** Whether connections to nodes on the same host switch to shared memory. */
+    private boolean shmemEnabled;
+
+    /** Size of a shared memory ring in bytes. */
+    private int shmemRingSize = DFLT_SHMEM_RING_SIZE;
+
+    /** Directory of shared memory ring files. */
+    private String shmemPath;
+
     /**
      *
      */
@@ -489,6 +510,90 @@ public class TcpCommunicationConfiguration implements Serializable {
         this.selectorSpins = selectorSpins;
     }
 
+    /**
+     * @return Whether selector threads of NIO server busy-poll their selectors.
+     */
+    public boolean selectorBusyPoll() {
+        return selectorBusyPoll;
+    }
+
+    /**
+     * @param selectorBusyPoll Whether selector threads of NIO server busy-poll their selectors.
+     */
+    public void selectorBusyPoll(boolean selectorBusyPoll) {
+        this.selectorBusyPoll = selectorBusyPoll;
+    }
+
+    /**
+     * @return Maximum write coalescing window in microseconds.
+     */
+    public long writeCoalescingWindow() {
+        return writeCoalescingWindow;
+    }
+
+    /**
+     * @param writeCoalescingWindow Maximum write coalescing window in microseconds.
+     */
+    public void writeCoalescingWindow(long writeCoalescingWindow) {
+        this.writeCoalescingWindow = writeCoalescingWindow;
+    }
+
+    /**
+     * @return Buffered bytes count that is written without coalescing.
+     */
+    public int writeCoalescingThreshold() {
+        return writeCoalescingThreshold;
+    }
+
+    /**
+     * @param writeCoalescingThreshold Buffered bytes count that is written without coalescing.
+     */
+    public void writeCoalescingThreshold(int writeCoalescingThreshold) {
+        this.writeCoalescingThreshold = writeCoalescingThreshold;
+    }
+
+    /**
+     * @return Whether connections to nodes on the same host switch to shared memory.
+     */
+    public boolean sharedMemoryEnabled() {
+        return shmemEnabled;
+    }
+
+    /**
+     * @param shmemEnabled Whether connections to nodes on the same host switch to shared memory.
+     */
+    public void sharedMemoryEnabled(boolean shmemEnabled) {
+        this.shmemEnabled = shmemEnabled;
+    }
+
+    /**
+     * @return Size of a shared memory ring in bytes.
+     */
+    public int sharedMemoryRingSize() {
+        return shmemRingSize;
+    }
+
+    /**
+     * @param shmemRingSize Size of a shared memory ring in bytes.
+     */
+    public void sharedMemoryRingSize(int shmemRingSize) {
+        this.shmemRingSize = shmemRingSize;
+    }
+
+    /**
+     * @return Directory of shared memory ring files.
+     */
+    public String sharedMemoryPath() {
+        return shmemPath;
+    }
+
+    /**
+     * @param shmemPath Directory of shared memory ring files.
+     */
+    public void sharedMemoryPath(String shmemPath) {
+        this.shmemPath = shmemPath;
+    }
+
     /**
      * @return Slow client queue limit.
      */
@@ -135,6 +135,31 @@ public class TcpCommunicationSpiMBeanImpl extends IgniteSpiMBeanAdapter implemen
         return cfg.selectorSpins();
     }
 
+    /** {@inheritDoc} */
+    @Override public boolean isSelectorBusyPoll() {
+        return cfg.selectorBusyPoll();
+    }
+
+    /** {@inheritDoc} */
+    @Override public long getWriteCoalescingWindow() {
+        return cfg.writeCoalescingWindow();
+    }
+
+    /** {@inheritDoc} */
+    @Override public int getWriteCoalescingThreshold() {
+        return cfg.writeCoalescingThreshold();
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean isSharedMemoryEnabled() {
+        return cfg.sharedMemoryEnabled();
+    }
+
+    /** {@inheritDoc} */
+    @Override public int getSharedMemoryRingSize() {
+        return cfg.sharedMemoryRingSize();
+    }
+
     /** {@inheritDoc} */
     @Override public boolean isTcpNoDelay() {
         return cfg.tcpNoDelay();
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.spi.communication.tcp.messages;
+
+import org.apache.ignite.internal.Order;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.apache.ignite.plugin.extensions.communication.Message;
+
+/**
+ * Message telling the peer that the bytes following it are written to the shared memory ring in the given file
+ * instead of the socket. Only the file name is sent, the peer looks for it in its own directory of ring files.
+ */
+public class SharedMemorySwitchMessage implements Message {
+    /** */
+    @Order(0)
+    String fileName;
+
+    /**
+     * Default constructor.
+     */
+    public SharedMemorySwitchMessage() {
+        // No-op.
+    }
+
+    /**
+     * @param fileName Name of the ring file.
+     */
+    public SharedMemorySwitchMessage(String fileName) {
+        this.fileName = fileName;
+    }
+
+    /**
+     * @return Name of the ring file.
+     */
+    public String fileName() {
+        return fileName;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(SharedMemorySwitchMessage.class, this);
+    }
+}
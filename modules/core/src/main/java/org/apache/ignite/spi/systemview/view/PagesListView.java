@@ -90,4 +90,20 @@ public class PagesListView {
     public int pageFreeSpace() {
         return pagesList.getPageFreeSpace(bucket);
     }
+
+    /**
+     * @return Average fill factor of pages in this bucket.
+     */
+    @Order(8)
+    public float pageFillFactor() {
+        return pagesList.pageFillFactor(bucket);
+    }
+
+    /**
+     * @return Count of pages taken from this bucket to be reused.
+     */
+    @Order(9)
+    public long takenPagesCount() {
+        return pagesList.takenPagesCount(bucket);
+    }
 }
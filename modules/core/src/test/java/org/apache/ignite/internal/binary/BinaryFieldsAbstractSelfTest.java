@@ -393,6 +393,36 @@ public abstract class BinaryFieldsAbstractSelfTest extends GridCommonAbstractTes
         checkNested(dfltMarsh, fieldName, false);
     }
 
+    /**
+     * Test batch read of a field.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testValues() throws Exception {
+        BinaryObject[] objs = new BinaryObject[4];
+
+        for (int i = 0; i < objs.length; i++) {
+            TestObject obj = createObject();
+
+            obj.fInt = i;
+
+            objs[i] = toBinary(dfltMarsh, obj);
+        }
+
+        Object[] vals = new Object[objs.length];
+
+        ((BinaryFieldEx)objs[0].type().field("fInt")).values(objs, objs.length, vals);
+
+        assertTrue(Arrays.toString(vals), Arrays.equals(new Object[] {0, 1, 2, 3}, vals));
+
+        Arrays.fill(vals, -1);
+
+        ((BinaryFieldEx)objs[0].type().field("fMissing")).values(objs, 2, vals);
+
+        assertTrue(Arrays.toString(vals), Arrays.equals(new Object[] {null, null, -1, -1}, vals));
+    }
+
     /**
      * Check field resolution in both normal and nested modes.
      *
@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.managers;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.Collection;
@@ -214,6 +215,11 @@ public abstract class AbstractMessageSerializationTest {
             return writeField(byte[].class);
         }
 
+        /** {@inheritDoc} */
+        @Override public boolean writeByteBuffer(ByteBuffer val) {
+            return writeField(ByteBuffer.class);
+        }
+
         /** {@inheritDoc} */
         @Override public boolean writeShortArray(short[] val) {
             return writeField(short[].class);
@@ -452,6 +458,13 @@ public abstract class AbstractMessageSerializationTest {
             return null;
         }
 
+        /** {@inheritDoc} */
+        @Override public ByteBuffer readByteBuffer() {
+            readField(ByteBuffer.class);
+
+            return null;
+        }
+
         /** {@inheritDoc} */
         @Override public short[] readShortArray() {
             readField(short[].class);
@@ -18,6 +18,7 @@
 package org.apache.ignite.internal.managers.communication;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -35,6 +36,8 @@ import org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion;
 import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.GridDhtPartitionsFullMessage;
 import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.GroupPartitionIdPair;
 import org.apache.ignite.internal.util.nio.MessageSerialization;
+import org.apache.ignite.internal.util.typedef.T2;
+import org.apache.ignite.internal.util.typedef.T3;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.plugin.extensions.communication.Message;
 import org.apache.ignite.plugin.extensions.communication.MessageFactory;
@@ -43,7 +46,9 @@ import org.apache.ignite.testframework.GridTestUtils;
 import org.junit.Test;
 
 import static org.apache.ignite.marshaller.Marshallers.jdk;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 /** Test for {@link CompressedMessage}. */
@@ -112,6 +117,87 @@ public class CompressedMessageTest {
         assertEqualsFullMsg(fullMsg, (GridDhtPartitionsFullMessage)readMsg);
     }
 
+    /** Compression listener must be notified with the type of the message that owns the compressed fields. */
+    @Test
+    public void testCompressionListener() {
+        List<T3<Short, Integer, Integer>> compressed = new ArrayList<>();
+        List<T2<Integer, Integer>> decompressed = new ArrayList<>();
+
+        CompressionListener lsnr = new CompressionListener() {
+            @Override public void onCompressed(short msgType, int rawSize, int compressedSize, long nanos) {
+                compressed.add(new T3<>(msgType, rawSize, compressedSize));
+            }
+
+            @Override public void onDecompressed(int rawSize, int compressedSize, long nanos) {
+                decompressed.add(new T2<>(rawSize, compressedSize));
+            }
+        };
+
+        DirectMessageWriter writer = new DirectMessageWriter(MSG_FACTORY);
+
+        writer.compressionListener(lsnr);
+
+        ByteBuffer buf = ByteBuffer.allocate(256 * 1024);
+
+        writer.setBuffer(buf);
+
+        GridDhtPartitionsFullMessage fullMsg = fullMessage();
+
+        assertTrue(writer.writeMessage(fullMsg, false));
+
+        assertFalse(compressed.isEmpty());
+
+        for (T3<Short, Integer, Integer> e : compressed) {
+            assertEquals(fullMsg.directType(), (short)e.get1());
+            assertTrue(e.get3() > 0);
+        }
+
+        buf.flip();
+
+        DirectMessageReader reader = new DirectMessageReader(MSG_FACTORY, null);
+
+        reader.compressionListener(lsnr);
+
+        reader.setBuffer(buf);
+
+        Message readMsg = reader.readMessage(false);
+
+        assertEqualsFullMsg(fullMsg, (GridDhtPartitionsFullMessage)readMsg);
+
+        assertEquals(compressed.size(), decompressed.size());
+
+        for (int i = 0; i < compressed.size(); i++) {
+            assertEquals(compressed.get(i).get2(), decompressed.get(i).get1());
+            assertEquals(compressed.get(i).get3(), decompressed.get(i).get2());
+        }
+    }
+
+    /** Pooled per-thread codec state must not leak between messages compressed with different levels. */
+    @Test
+    public void testPooledCodecRoundTrip() {
+        Random rnd = new Random(42);
+
+        for (int i = 0; i < 20; i++) {
+            byte[] data = new byte[rnd.nextInt(CompressedMessage.CHUNK_SIZE * 3) + 1];
+
+            // Half-random data compresses, but not to nothing.
+            for (int j = 0; j < data.length; j += 2)
+                data[j] = (byte)rnd.nextInt();
+
+            int lvl = i % 2 == 0 ? Deflater.BEST_SPEED : Deflater.BEST_COMPRESSION;
+
+            CompressedMessage sent = new CompressedMessage(ByteBuffer.wrap(data), lvl);
+
+            CompressedMessage rcvd = new CompressedMessage();
+
+            rcvd.dataSize = data.length;
+            rcvd.chunks = sent.chunks;
+            rcvd.finalChunk = true;
+
+            assertArrayEquals(data, rcvd.uncompressed());
+        }
+    }
+
     /** Read must fail with an exception on a null chunk from the wire instead of looping forever. */
     @Test
     public void testReadFailsOnNullChunk() {
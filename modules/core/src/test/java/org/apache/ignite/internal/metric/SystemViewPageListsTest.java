@@ -105,6 +105,13 @@ public class SystemViewPageListsTest extends SystemViewAbstractTest {
                 }
                 else
                     assertEquals(bucketPagesSize[bucket], pagesListView.pageFreeSpace());
+
+                float fillFactor = pagesListView.pageFillFactor();
+
+                assertTrue(fillFactor >= 0 && fillFactor < 1);
+
+                if (pagesListView.bucketSize() == 0)
+                    assertEquals(0f, fillFactor);
             }
 
             int prev = 0;
@@ -121,18 +128,21 @@ public class SystemViewPageListsTest extends SystemViewAbstractTest {
             long dr1flPages = 0;
             int dr1flStripes = 0;
             int dr1flCached = 0;
+            long dr1flTaken = 0;
 
             for (CachePagesListView pagesListView : cacheGrpPageLists) {
                 if (pagesListView.cacheGroupId() == cacheId("cache1")) {
                     dr1flPages += pagesListView.bucketSize();
                     dr1flStripes += pagesListView.stripesCount();
                     dr1flCached += pagesListView.cachedPagesCount();
+                    dr1flTaken += pagesListView.takenPagesCount();
                 }
             }
 
             assertTrue(dr1flPages > 0);
             assertTrue(dr1flStripes > 0);
             assertTrue(dr1flCached > 0);
+            assertTrue(dr1flTaken > 0);
 
             // Test filtering.
             assertTrue(cacheGrpPageLists instanceof FiltrableSystemView);
@@ -41,18 +41,23 @@ import org.apache.ignite.internal.processors.cache.persistence.tree.BPlusTree;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.PageIO;
 import org.apache.ignite.internal.processors.cache.persistence.tree.util.PageHandler;
 import org.apache.ignite.internal.processors.cache.tree.PendingEntriesTree;
+import org.apache.ignite.internal.processors.metric.MetricRegistryImpl;
 import org.apache.ignite.internal.util.typedef.CAX;
 import org.apache.ignite.internal.util.typedef.F;
 import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.spi.metric.LongMetric;
 import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
 import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_TTL_CLEANUP_THREADS;
 import static org.apache.ignite.cache.CacheMode.PARTITIONED;
 import static org.apache.ignite.cache.CacheMode.REPLICATED;
+import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.cacheMetricsRegistryName;
 
 /**
  * TTL manager self test.
@@ -242,4 +247,53 @@ public class GridCacheTtlManagerSelfTest extends GridCommonAbstractTest {
             cleanPersistenceDir();
         }
     }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    @WithSystemProperty(key = IGNITE_TTL_CLEANUP_THREADS, value = "4")
+    public void testStripedCleanup() throws Exception {
+        cacheMode = PARTITIONED;
+
+        try (IgniteEx g = startGrid(0)) {
+            g.cluster().state(ClusterState.ACTIVE);
+
+            for (int i = 0; i < 4; i++) {
+                String name = i == 0 ? "ttl-cleanup-worker" : "ttl-cleanup-worker-" + i;
+
+                assertTrue(name, Thread.getAllStackTraces().keySet().stream().anyMatch(t -> t.getName().contains(name)));
+            }
+
+            final int records = 5_000;
+
+            IgniteCache<Object, Object> cache = g.cache(DEFAULT_CACHE_NAME).withExpiryPolicy(
+                new CreatedExpiryPolicy(new Duration(MILLISECONDS, 500)));
+
+            IntStream.range(0, records).forEach(x -> cache.put(x, x));
+
+            GridCacheTtlManager ttl = g.context().cache().cache(DEFAULT_CACHE_NAME).context().ttl();
+
+            assertTrue(GridTestUtils.waitForCondition(
+                () -> {
+                    try {
+                        return ttl.pendingSize() == 0;
+                    }
+                    catch (Exception e) {
+                        throw new IgniteException(e);
+                    }
+                }, 10_000L)
+            );
+
+            MetricRegistryImpl mreg = g.context().metric().registry(cacheMetricsRegistryName(DEFAULT_CACHE_NAME, false));
+
+            assertEquals(records, mreg.<LongMetric>findMetric("TtlExpiredEntries").value());
+            assertTrue(mreg.<LongMetric>findMetric("TtlExpirationLag").value() >= 0);
+
+            IntStream.range(0, records).forEach(x -> assertNull(cache.get(x)));
+        }
+        finally {
+            cleanPersistenceDir();
+        }
+    }
 }
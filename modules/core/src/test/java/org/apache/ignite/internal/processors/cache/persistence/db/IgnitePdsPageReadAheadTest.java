@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.db;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.cache.Cache;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
+import org.apache.ignite.cache.query.ScanQuery;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.IgniteInternalFuture;
+import org.apache.ignite.internal.util.GridIntList;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_PAGE_READ_AHEAD_WINDOW;
+
+/**
+ * Tests asynchronous read-ahead of pages by sequential B+Tree cursors.
+ */
+@WithSystemProperty(key = IGNITE_PAGE_READ_AHEAD_WINDOW, value = "8")
+public class IgnitePdsPageReadAheadTest extends GridCommonAbstractTest {
+    /** Entries count. */
+    private static final int ENTRIES_CNT = 20_000;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setDataStorageConfiguration(new DataStorageConfiguration()
+                .setDefaultDataRegionConfiguration(new DataRegionConfiguration()
+                    .setPersistenceEnabled(true)))
+            .setCacheConfiguration(new CacheConfiguration<>(DEFAULT_CACHE_NAME)
+                .setAffinity(new RendezvousAffinityFunction(false, 4)));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testColdScan() throws Exception {
+        IgniteEx ignite = startColdGrid();
+
+        IgniteCache<Integer, byte[]> cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        long readAheadTasks = ignite.context().pools().getPageReadAheadExecutorService().getTaskCount();
+
+        boolean[] found = new boolean[ENTRIES_CNT];
+
+        for (Cache.Entry<Integer, byte[]> e : cache.query(new ScanQuery<Integer, byte[]>())) {
+            assertEquals((byte)(int)e.getKey(), e.getValue()[0]);
+            assertFalse(found[e.getKey()]);
+
+            found[e.getKey()] = true;
+        }
+
+        for (int i = 0; i < ENTRIES_CNT; i++)
+            assertTrue("Entry not found: " + i, found[i]);
+
+        assertTrue(ignite.context().pools().getPageReadAheadExecutorService().getTaskCount() > readAheadTasks);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testScanWithConcurrentUpdates() throws Exception {
+        IgniteEx ignite = startColdGrid();
+
+        IgniteCache<Integer, byte[]> cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        AtomicBoolean stop = new AtomicBoolean();
+
+        // Only the upper half of keys is updated, so tree pages are split and merged under the cursors.
+        IgniteInternalFuture<?> updFut = GridTestUtils.runAsync(() -> {
+            ThreadLocalRandom rnd = ThreadLocalRandom.current();
+
+            while (!stop.get()) {
+                int key = ENTRIES_CNT / 2 + rnd.nextInt(ENTRIES_CNT / 2);
+
+                if (rnd.nextBoolean())
+                    cache.remove(key);
+                else
+                    cache.put(key, value(key));
+            }
+        });
+
+        try {
+            for (int iter = 0; iter < 5; iter++) {
+                GridIntList keys = new GridIntList();
+
+                List<Cache.Entry<Integer, byte[]>> entries = cache.query(new ScanQuery<Integer, byte[]>()).getAll();
+
+                for (Cache.Entry<Integer, byte[]> e : entries) {
+                    assertEquals((byte)(int)e.getKey(), e.getValue()[0]);
+
+                    if (e.getKey() < ENTRIES_CNT / 2)
+                        keys.add(e.getKey());
+                }
+
+                assertEquals(ENTRIES_CNT / 2, keys.size());
+            }
+        }
+        finally {
+            stop.set(true);
+        }
+
+        updFut.get();
+    }
+
+    /**
+     * Starts grid, fills the cache and restarts the grid, so cache pages are not loaded into memory.
+     *
+     * @return Started grid.
+     * @throws Exception If failed.
+     */
+    private IgniteEx startColdGrid() throws Exception {
+        IgniteEx ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        IgniteCache<Integer, byte[]> cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < ENTRIES_CNT; i++)
+            cache.put(i, value(i));
+
+        stopGrid(0);
+
+        ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        return ignite;
+    }
+
+    /**
+     * @param i Entry index.
+     * @return Value of entry.
+     */
+    private static byte[] value(int i) {
+        byte[] val = new byte[256];
+
+        val[0] = (byte)i;
+
+        return val;
+    }
+}
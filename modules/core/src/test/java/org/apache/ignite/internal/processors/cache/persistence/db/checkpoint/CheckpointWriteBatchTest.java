@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.db.checkpoint;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.OpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.processors.cache.persistence.file.AsyncFileIOFactory;
+import org.apache.ignite.internal.processors.cache.persistence.file.FileIO;
+import org.apache.ignite.internal.processors.cache.persistence.file.FileIODecorator;
+import org.apache.ignite.internal.processors.cache.persistence.file.FileIOFactory;
+import org.apache.ignite.internal.processors.cache.persistence.file.RandomAccessFileIOFactory;
+import org.apache.ignite.internal.processors.cache.persistence.filename.NodeFileTree;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_CHECKPOINT_WRITE_BATCH_SIZE;
+
+/**
+ * Checks that checkpoint coalesces pages with sequential indexes into vectored writes.
+ */
+public class CheckpointWriteBatchTest extends GridCommonAbstractTest {
+    /** Count of entries, data doesn't fit into the data region, so pages are replaced during checkpoints. */
+    private static final int ENTRIES = 30_000;
+
+    /** Value size. */
+    private static final int VAL_SIZE = 1024;
+
+    /** File IO factory to test. */
+    private FileIOFactory ioFactory;
+
+    /** File IO factory which counts vectored writes. */
+    private CountingFileIOFactory cntFactory;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        cntFactory = new CountingFileIOFactory(ioFactory);
+
+        return super.getConfiguration(igniteInstanceName)
+            .setDataStorageConfiguration(new DataStorageConfiguration()
+                .setCheckpointThreads(2)
+                .setFileIOFactory(cntFactory)
+                .setDefaultDataRegionConfiguration(new DataRegionConfiguration()
+                    .setMaxSize(256L * 1024 * 1024)
+                    .setPersistenceEnabled(true)))
+            .setCacheConfiguration(new CacheConfiguration<>(DEFAULT_CACHE_NAME));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testRandomAccessFileIO() throws Exception {
+        ioFactory = new RandomAccessFileIOFactory();
+
+        checkWriteAndRestart(true);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testAsyncFileIO() throws Exception {
+        ioFactory = new AsyncFileIOFactory();
+
+        checkWriteAndRestart(true);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    @WithSystemProperty(key = IGNITE_CHECKPOINT_WRITE_BATCH_SIZE, value = "1")
+    public void testBatchDisabled() throws Exception {
+        ioFactory = new RandomAccessFileIOFactory();
+
+        checkWriteAndRestart(false);
+    }
+
+    /**
+     * @param batched {@code True} if pages are expected to be written by vectored writes.
+     * @throws Exception If failed.
+     */
+    private void checkWriteAndRestart(boolean batched) throws Exception {
+        IgniteEx ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        IgniteCache<Integer, byte[]> cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < ENTRIES; i++)
+            cache.put(i, value(i));
+
+        forceCheckpoint();
+
+        // Update a part of entries to have sequential dirty pages interleaved with clean ones.
+        for (int i = 0; i < ENTRIES; i += 3)
+            cache.put(i, value(i + 1));
+
+        forceCheckpoint();
+
+        if (batched)
+            assertTrue("Vectored writes: " + cntFactory.writes.get(), cntFactory.writes.get() > 0);
+        else
+            assertEquals(0, cntFactory.writes.get());
+
+        checkData(cache);
+
+        stopGrid(0);
+
+        ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        checkData(ignite.cache(DEFAULT_CACHE_NAME));
+    }
+
+    /**
+     * @param cache Cache.
+     */
+    private void checkData(IgniteCache<Integer, byte[]> cache) {
+        for (int i = 0; i < ENTRIES; i++)
+            assertEqualsArraysAware(value(i % 3 == 0 ? i + 1 : i), cache.get(i));
+    }
+
+    /**
+     * @param i Index.
+     * @return Value.
+     */
+    private static byte[] value(int i) {
+        byte[] val = new byte[VAL_SIZE];
+
+        for (int j = 0; j < val.length; j++)
+            val[j] = (byte)(i + j);
+
+        return val;
+    }
+
+    /** File IO factory which counts vectored writes of more than one buffer to partition files. */
+    private static class CountingFileIOFactory implements FileIOFactory {
+        /** */
+        private static final long serialVersionUID = 0L;
+
+        /** Delegate factory. */
+        private final FileIOFactory delegate;
+
+        /** Count of vectored writes. */
+        private final AtomicLong writes = new AtomicLong();
+
+        /**
+         * @param delegate Delegate factory.
+         */
+        private CountingFileIOFactory(FileIOFactory delegate) {
+            this.delegate = delegate;
+        }
+
+        /** {@inheritDoc} */
+        @Override public FileIO create(File file, OpenOption... modes) throws IOException {
+            FileIO fileIO = delegate.create(file, modes);
+
+            if (!NodeFileTree.partitionFile(file))
+                return fileIO;
+
+            return new FileIODecorator(fileIO) {
+                @Override public long writeFully(ByteBuffer[] srcBufs, int off, int len, long position)
+                    throws IOException {
+                    if (len > 1)
+                        writes.incrementAndGet();
+
+                    return fileIO.writeFully(srcBufs, off, len, position);
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.db.wal;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.configuration.WALMode;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.pagemem.wal.WALIterator;
+import org.apache.ignite.internal.pagemem.wal.record.WALRecord;
+import org.apache.ignite.internal.processors.cache.persistence.filename.NodeFileTree;
+import org.apache.ignite.internal.processors.cache.persistence.wal.reader.IgniteWalIteratorFactory;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_WAL_PAGE_DIFF_RECORDS;
+import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.PAGE_DIFF_RECORD;
+
+/**
+ * Checks binary recovery of pages which first modification after checkpoint is logged as page diff.
+ */
+@WithSystemProperty(key = IGNITE_WAL_PAGE_DIFF_RECORDS, value = "true")
+public class WalPageDiffRecordsTest extends GridCommonAbstractTest {
+    /** Entries count. */
+    private static final int ENTRIES = 2_000;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setConsistentId(igniteInstanceName)
+            .setDataStorageConfiguration(new DataStorageConfiguration()
+                .setWalMode(WALMode.LOG_ONLY)
+                .setCheckpointFrequency(10 * 60 * 1000)
+                .setDefaultDataRegionConfiguration(new DataRegionConfiguration()
+                    .setMaxSize(256 * U.MB)
+                    .setPersistenceEnabled(true)))
+            .setCacheConfiguration(new CacheConfiguration<>(DEFAULT_CACHE_NAME));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        super.afterTest();
+    }
+
+    /**
+     * Pages are stored as of the unfinished checkpoint, so page diffs and following deltas must be skipped.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testRecoveryFromUnfinishedCheckpointImages() throws Exception {
+        checkRecovery(false, false);
+    }
+
+    /**
+     * Pages are stored as of the last finished checkpoint, so page diffs must be applied to them.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testRecoveryFromFinishedCheckpointImages() throws Exception {
+        checkRecovery(true, false);
+    }
+
+    /**
+     * Pages are stored as of the unfinished checkpoint and modified after it has begun. Diffs logged before the
+     * checkpoint must be skipped, while the rows modified and inserted after it must be recovered.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testRecoveryOfPagesModifiedAfterUnfinishedCheckpoint() throws Exception {
+        checkRecovery(false, true);
+    }
+
+    /**
+     * @param restoreFinishedImages Whether to restore cache files stored by the last finished checkpoint.
+     * @param modifyAfterCheckpoint Whether to modify pages after the checkpoint which is made unfinished.
+     * @throws Exception If failed.
+     */
+    private void checkRecovery(boolean restoreFinishedImages, boolean modifyAfterCheckpoint) throws Exception {
+        IgniteEx ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        IgniteCache<Integer, byte[]> cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < ENTRIES; i++)
+            cache.put(i, value(i, 0));
+
+        forceCheckpoint();
+
+        NodeFileTree ft = ignite.context().pdsFolderResolver().fileTree();
+
+        File cacheDir = ft.defaultCacheStorage(ignite.cachex(DEFAULT_CACHE_NAME).configuration());
+
+        File backupDir = new File(ft.nodeStorage().getParentFile(), "page-diff-backup");
+
+        copyFiles(cacheDir, backupDir);
+
+        Set<String> finishedMarkers = new HashSet<>(Arrays.asList(ft.checkpoint().list()));
+
+        // First modifications of the checkpointed pages are logged as diffs.
+        for (int i = 0; i < ENTRIES; i += 2)
+            cache.put(i, value(i, 1));
+
+        forceCheckpoint();
+
+        int lastVer = modifyAfterCheckpoint ? 3 : 1;
+        int entries = modifyAfterCheckpoint ? 2 * ENTRIES : ENTRIES;
+
+        // The first modifications are logged as diffs against the checkpointed pages, the next ones as deltas.
+        for (int ver = 2; ver <= lastVer; ver++) {
+            for (int i = 0; i < ENTRIES; i += 2)
+                cache.put(i, value(i, ver));
+        }
+
+        // New rows split the tree pages and fill the data pages modified after the checkpoint.
+        for (int i = ENTRIES; i < entries; i++)
+            cache.put(i, value(i, 0));
+
+        stopGrid(0, true);
+
+        assertTrue(diffRecords(ft) > 0);
+
+        // Make checkpoints taken after the first one unfinished, so pages are restored from WAL.
+        for (File marker : ft.checkpoint().listFiles()) {
+            if (marker.getName().endsWith("-END.bin") && !finishedMarkers.contains(marker.getName()))
+                assertTrue(marker.delete());
+        }
+
+        if (restoreFinishedImages)
+            copyFiles(backupDir, cacheDir);
+
+        U.delete(backupDir);
+
+        ignite = startGrid(0);
+
+        cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < entries; i++)
+            assertTrue("key=" + i, Arrays.equals(value(i, i < ENTRIES && i % 2 == 0 ? lastVer : 0), cache.get(i)));
+
+        assertEquals(entries, cache.size());
+    }
+
+    /**
+     * @param ft Node file tree.
+     * @return Count of page diff records in WAL.
+     * @throws Exception If failed.
+     */
+    private int diffRecords(NodeFileTree ft) throws Exception {
+        int cnt = 0;
+
+        try (WALIterator it = new IgniteWalIteratorFactory(log).iterator(ft.wal(), ft.walArchive())) {
+            while (it.hasNext()) {
+                WALRecord rec = it.next().getValue();
+
+                if (rec.type() == PAGE_DIFF_RECORD)
+                    cnt++;
+            }
+        }
+
+        return cnt;
+    }
+
+    /**
+     * @param src Source directory.
+     * @param dst Destination directory.
+     * @throws Exception If failed.
+     */
+    private static void copyFiles(File src, File dst) throws Exception {
+        U.mkdirs(dst);
+
+        for (File file : src.listFiles()) {
+            if (file.isFile())
+                Files.copy(file.toPath(), new File(dst, file.getName()).toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * @param key Key.
+     * @param ver Value version.
+     * @return Value.
+     */
+    private static byte[] value(int key, int ver) {
+        byte[] val = new byte[64];
+
+        Arrays.fill(val, (byte)(key + ver));
+
+        val[0] = (byte)ver;
+
+        return val;
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.db.wal;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.OpenOption;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.configuration.WALMode;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.pagemem.wal.WALIterator;
+import org.apache.ignite.internal.pagemem.wal.record.DataRecord;
+import org.apache.ignite.internal.pagemem.wal.record.WALRecord;
+import org.apache.ignite.internal.processors.cache.persistence.file.FileIO;
+import org.apache.ignite.internal.processors.cache.persistence.file.FileIODecorator;
+import org.apache.ignite.internal.processors.cache.persistence.file.FileIOFactory;
+import org.apache.ignite.internal.processors.cache.persistence.file.RandomAccessFileIOFactory;
+import org.apache.ignite.internal.processors.cache.persistence.filename.NodeFileTree;
+import org.apache.ignite.internal.processors.cache.persistence.wal.FileWriteAheadLogManager;
+import org.apache.ignite.internal.processors.cache.persistence.wal.reader.IgniteWalIteratorFactory;
+import org.apache.ignite.internal.thread.pool.IgniteThreadPoolExecutor;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_WAL_MMAP;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_WAL_PARALLEL_WRITE_THREADS;
+
+/**
+ * Checks that WAL segments written by several threads in parallel are readable and restorable.
+ */
+@WithSystemProperty(key = IGNITE_WAL_MMAP, value = "false")
+@WithSystemProperty(key = IGNITE_WAL_PARALLEL_WRITE_THREADS, value = "4")
+public class WalParallelSegmentWriteTest extends GridCommonAbstractTest {
+    /** Entries count. */
+    private static final int ENTRIES = 5_000;
+
+    /** Count of writes performed by the parallel write pool. */
+    private static final AtomicInteger parallelWrites = new AtomicInteger();
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setConsistentId(igniteInstanceName)
+            .setDataStorageConfiguration(new DataStorageConfiguration()
+                .setWalMode(WALMode.LOG_ONLY)
+                .setWalSegmentSize(8 * (int)U.MB)
+                .setWalBufferSize(2 * (int)U.MB)
+                .setCheckpointFrequency(10 * 60 * 1000)
+                .setDefaultDataRegionConfiguration(new DataRegionConfiguration()
+                    .setMaxSize(256 * U.MB)
+                    .setPersistenceEnabled(true)))
+            .setCacheConfiguration(new CacheConfiguration<>(DEFAULT_CACHE_NAME));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        parallelWrites.set(0);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testWriteAndRestore() throws Exception {
+        checkWriteAndRestore(false);
+    }
+
+    /**
+     * Checks that chunks rejected by the stopped parallel write pool are written by the WAL writer.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testWriteAndRestoreWithRejectedChunks() throws Exception {
+        checkWriteAndRestore(true);
+    }
+
+    /**
+     * @param rejectChunks Whether to stop the parallel write pool, so it rejects all the chunks.
+     * @throws Exception If failed.
+     */
+    private void checkWriteAndRestore(boolean rejectChunks) throws Exception {
+        IgniteEx ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        forceCheckpoint();
+
+        FileWriteAheadLogManager wal = (FileWriteAheadLogManager)ignite.context().cache().context().wal();
+
+        // Segments opened after this point are written through the counting factory.
+        wal.setFileIOFactory(new ParallelWritesCountingFileIOFactory(new RandomAccessFileIOFactory()));
+
+        if (rejectChunks) {
+            IgniteThreadPoolExecutor pool = GridTestUtils.getFieldValue(wal, "fileHandleManager", "walParallelWritePool");
+
+            pool.shutdown();
+        }
+
+        IgniteCache<Integer, byte[]> cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        // Large batches fill the WAL buffer between flushes, so it is written by big portions.
+        Map<Integer, byte[]> batch = new TreeMap<>();
+
+        for (int i = 0; i < ENTRIES; i++) {
+            batch.put(i, value(i));
+
+            if (batch.size() == 500 || i == ENTRIES - 1) {
+                cache.putAll(batch);
+
+                batch.clear();
+            }
+        }
+
+        ignite.context().cache().context().wal().flush(null, true);
+
+        if (rejectChunks)
+            assertEquals(0, parallelWrites.get());
+        else
+            assertTrue(parallelWrites.get() > 0);
+
+        NodeFileTree ft = ignite.context().pdsFolderResolver().fileTree();
+
+        // Stop without checkpoint, so data is restored from WAL on start.
+        stopGrid(0, true);
+
+        int dataEntries = 0;
+
+        try (WALIterator it = new IgniteWalIteratorFactory(log).iterator(ft.wal(), ft.walArchive())) {
+            while (it.hasNext()) {
+                WALRecord rec = it.next().getValue();
+
+                if (rec instanceof DataRecord)
+                    dataEntries += ((DataRecord)rec).entryCount();
+            }
+        }
+
+        assertTrue("dataEntries=" + dataEntries, dataEntries >= ENTRIES);
+
+        ignite = startGrid(0);
+
+        cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < ENTRIES; i++)
+            assertTrue(Arrays.equals(value(i), cache.get(i)));
+    }
+
+    /**
+     * @param i Entry index.
+     * @return Value.
+     */
+    private static byte[] value(int i) {
+        byte[] val = new byte[4096];
+
+        Arrays.fill(val, (byte)i);
+
+        return val;
+    }
+
+    /** Factory counting writes to WAL segments performed by the parallel write pool. */
+    private static class ParallelWritesCountingFileIOFactory implements FileIOFactory {
+        /** */
+        private static final long serialVersionUID = 0L;
+
+        /** Delegate factory. */
+        private final FileIOFactory delegate;
+
+        /**
+         * @param delegate Delegate factory.
+         */
+        private ParallelWritesCountingFileIOFactory(FileIOFactory delegate) {
+            this.delegate = delegate;
+        }
+
+        /** {@inheritDoc} */
+        @Override public FileIO create(File file, OpenOption... modes) throws IOException {
+            FileIO fileIO = delegate.create(file, modes);
+
+            if (!NodeFileTree.walSegment(file))
+                return fileIO;
+
+            return new FileIODecorator(fileIO) {
+                @Override public int write(ByteBuffer srcBuf, long position) throws IOException {
+                    if (Thread.currentThread().getName().contains("wal-parallel-write"))
+                        parallelWrites.incrementAndGet();
+
+                    return super.write(srcBuf, position);
+                }
+            };
+        }
+    }
+}
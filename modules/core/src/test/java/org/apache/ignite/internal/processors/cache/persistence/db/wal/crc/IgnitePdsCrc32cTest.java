@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.db.wal.crc;
+
+import java.io.File;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.configuration.WALMode;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.pagemem.store.PageStore;
+import org.apache.ignite.internal.processors.cache.persistence.file.FilePageStoreManager;
+import org.apache.ignite.internal.processors.cache.persistence.file.FilePageStoreV2;
+import org.apache.ignite.internal.processors.cache.persistence.file.FilePageStoreV3;
+import org.apache.ignite.internal.processors.cache.persistence.file.RandomAccessFileIOFactory;
+import org.apache.ignite.internal.processors.cache.persistence.wal.io.SegmentIO;
+import org.apache.ignite.internal.processors.cache.persistence.wal.io.SimpleSegmentFileInputFactory;
+import org.apache.ignite.internal.processors.cache.persistence.wal.serializer.SegmentHeader;
+import org.apache.ignite.internal.util.typedef.internal.CU;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_PDS_CRC32C;
+import static org.apache.ignite.internal.pagemem.PageIdAllocator.INDEX_PARTITION;
+import static org.apache.ignite.internal.processors.cache.persistence.wal.serializer.RecordV1Serializer.readSegmentHeader;
+
+/**
+ * Checks that WAL records and pages with CRC32C checksums are written and read back, and that
+ * a node can switch between CRC32 and CRC32C over existing files.
+ */
+public class IgnitePdsCrc32cTest extends GridCommonAbstractTest {
+    /** Cache name. */
+    private static final String CACHE_NAME = "cache";
+
+    /** Entries count. */
+    private static final int ENTRIES = 1000;
+
+    /** WAL mode. */
+    private WALMode walMode = WALMode.LOG_ONLY;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setDataStorageConfiguration(new DataStorageConfiguration()
+                .setWalMode(walMode)
+                .setWalSegmentSize(1024 * 1024)
+                .setDefaultDataRegionConfiguration(new DataRegionConfiguration()
+                    .setPersistenceEnabled(true)
+                    .setMaxSize(100L * 1024 * 1024)))
+            .setCacheConfiguration(new CacheConfiguration<>(CACHE_NAME));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        super.afterTest();
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    @WithSystemProperty(key = IGNITE_PDS_CRC32C, value = "true")
+    public void testCrc32cLogOnly() throws Exception {
+        checkCrc32c();
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    @WithSystemProperty(key = IGNITE_PDS_CRC32C, value = "true")
+    public void testCrc32cFsync() throws Exception {
+        walMode = WALMode.FSYNC;
+
+        checkCrc32c();
+    }
+
+    /** @throws Exception If failed. */
+    @Test
+    public void testSwitchChecksumAlgorithm() throws Exception {
+        IgniteEx ig = startGrid(0);
+
+        ig.cluster().state(ClusterState.ACTIVE);
+
+        fill(ig, 0);
+
+        forceCheckpoint();
+
+        stopAllGrids();
+
+        System.setProperty(IGNITE_PDS_CRC32C, "true");
+
+        try {
+            ig = startGrid(0);
+
+            check(ig, 0);
+
+            // Page store files created before switching keep their checksum algorithm.
+            assertEquals(FilePageStoreV2.VERSION, indexStore(ig).version());
+
+            fill(ig, 1);
+
+            forceCheckpoint();
+
+            stopAllGrids();
+        }
+        finally {
+            System.clearProperty(IGNITE_PDS_CRC32C);
+        }
+
+        ig = startGrid(0);
+
+        check(ig, 1);
+    }
+
+    /** @throws Exception If failed. */
+    private void checkCrc32c() throws Exception {
+        IgniteEx ig = startGrid(0);
+
+        ig.cluster().state(ClusterState.ACTIVE);
+
+        fill(ig, 0);
+
+        forceCheckpoint();
+
+        assertEquals(FilePageStoreV3.VERSION, indexStore(ig).version());
+
+        File seg = ig.context().pdsFolderResolver().fileTree().walSegment(0);
+
+        stopAllGrids();
+
+        try (SegmentIO io = new SegmentIO(0, new RandomAccessFileIOFactory().create(seg))) {
+            SegmentHeader hdr = readSegmentHeader(io, new SimpleSegmentFileInputFactory());
+
+            assertTrue(hdr.toString(), hdr.crc32c());
+        }
+
+        ig = startGrid(0);
+
+        check(ig, 0);
+
+        // Records written after the last checkpoint are replayed from WAL with CRC32C checksums.
+        fill(ig, 1);
+
+        stopAllGrids(false);
+
+        ig = startGrid(0);
+
+        check(ig, 1);
+    }
+
+    /**
+     * @param ig Ignite.
+     * @param gen Generation of values.
+     */
+    private void fill(IgniteEx ig, int gen) {
+        IgniteCache<Integer, Integer> cache = ig.cache(CACHE_NAME);
+
+        for (int i = 0; i < ENTRIES; i++)
+            cache.put(i, i + gen);
+    }
+
+    /**
+     * @param ig Ignite.
+     * @param gen Expected generation of values.
+     */
+    private void check(IgniteEx ig, int gen) {
+        IgniteCache<Integer, Integer> cache = ig.cache(CACHE_NAME);
+
+        for (int i = 0; i < ENTRIES; i++)
+            assertEquals(Integer.valueOf(i + gen), cache.get(i));
+    }
+
+    /**
+     * @param ig Ignite.
+     * @return Page store of the cache index partition.
+     */
+    private PageStore indexStore(IgniteEx ig) throws Exception {
+        FilePageStoreManager pageStoreMgr = (FilePageStoreManager)ig.context().cache().context().pageStore();
+
+        return pageStoreMgr.getStore(CU.cacheId(CACHE_NAME), INDEX_PARTITION);
+    }
+}
@@ -17,12 +17,20 @@
 
 package org.apache.ignite.internal.processors.cache.persistence.defragmentation;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.UnaryOperator;
 import org.apache.ignite.Ignite;
 import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
 import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.CacheConfiguration;
 import org.apache.ignite.configuration.DataRegionConfiguration;
 import org.apache.ignite.configuration.DataStorageConfiguration;
 import org.apache.ignite.configuration.IgniteConfiguration;
@@ -36,9 +44,11 @@ import org.apache.ignite.internal.processors.cache.persistence.file.FileIOFactor
 import org.apache.ignite.maintenance.MaintenanceTask;
 import org.apache.ignite.mxbean.DefragmentationMXBean;
 import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
 import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
 import org.junit.Test;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_ONLINE_DEFRAGMENTATION_BATCH_SIZE;
 import static org.apache.ignite.cluster.ClusterState.ACTIVE;
 
 /**
@@ -304,6 +314,118 @@ public class DefragmentationMXBeanTest extends GridCommonAbstractTest {
         assertEquals(totalPartitions, mxBean.processedPartitions());
     }
 
+    /**
+     * Test that online defragmentation relocates rows from sparse pages without losing data under load.
+     * Description:
+     * 1. Start one node.
+     * 2. Put a load of data on it and remove most of the keys, so data pages become sparse.
+     * 3. Start online defragmentation via JMX bean while concurrent puts, gets and removes run, mostly on the rows
+     * being relocated, and wait for it to end.
+     * 4. Check that rows were relocated and data matches the updates and survives restart.
+     * @throws Exception If failed.
+     */
+    @Test
+    @WithSystemProperty(key = IGNITE_ONLINE_DEFRAGMENTATION_BATCH_SIZE, value = "8")
+    public void testOnlineDefragmentation() throws Exception {
+        IgniteEx ig = startGrid(0);
+
+        ig.cluster().state(ClusterState.ACTIVE);
+
+        IgniteCache<Integer, byte[]> cache = ig.getOrCreateCache(new CacheConfiguration<Integer, byte[]>(DEFAULT_CACHE_NAME)
+            .setAffinity(new RendezvousAffinityFunction(false, 32)));
+
+        int keys = 4096;
+
+        for (int i = 0; i < keys; i++)
+            cache.put(i, new byte[500]);
+
+        // Expected values, each loader updates its own keys only.
+        Map<Integer, byte[]> expected = new ConcurrentHashMap<>();
+
+        for (int i = 0; i < keys; i++) {
+            if (i % 5 != 0)
+                cache.remove(i);
+            else
+                expected.put(i, new byte[500]);
+        }
+
+        DefragmentationMXBean mxBean = defragmentationMXBean(ig.name());
+
+        assertFalse(mxBean.startOnline("unknown-cache"));
+
+        int loaders = 4;
+
+        AtomicBoolean stop = new AtomicBoolean();
+        AtomicInteger ldrIdx = new AtomicInteger();
+
+        IgniteInternalFuture<?> loadFut = GridTestUtils.runMultiThreadedAsync(() -> {
+            int idx = ldrIdx.getAndIncrement();
+
+            ThreadLocalRandom rnd = ThreadLocalRandom.current();
+
+            while (!stop.get()) {
+                // Key blocks are owned by loaders, the first key of a block is one of the rows being relocated.
+                int blk = rnd.nextInt(keys / 5 / loaders) * loaders + idx;
+                int key = blk * 5 + (rnd.nextInt(4) == 0 ? 1 + rnd.nextInt(4) : 0);
+
+                int op = rnd.nextInt(10);
+
+                if (op < 5)
+                    assertTrue("key=" + key, Arrays.equals(expected.get(key), cache.get(key)));
+                else if (op < 8) {
+                    byte[] val = new byte[100 + rnd.nextInt(500)];
+
+                    Arrays.fill(val, (byte)rnd.nextInt());
+
+                    cache.put(key, val);
+
+                    expected.put(key, val);
+                }
+                else {
+                    cache.remove(key);
+
+                    expected.remove(key);
+                }
+            }
+        }, loaders, "defragmentation-load");
+
+        try {
+            assertTrue(mxBean.startOnline(DEFAULT_CACHE_NAME));
+
+            assertTrue(GridTestUtils.waitForCondition(() -> !mxBean.inProgress(), getTestTimeout()));
+        }
+        finally {
+            stop.set(true);
+        }
+
+        loadFut.get(getTestTimeout());
+
+        assertTrue(mxBean.relocatedRows() > 0);
+        assertEquals(mxBean.totalPartitions(), mxBean.processedPartitions());
+
+        checkData(cache, keys, expected);
+
+        forceCheckpoint(ig);
+
+        stopGrid(0);
+
+        ig = startGrid(0);
+
+        checkData(ig.cache(DEFAULT_CACHE_NAME), keys, expected);
+    }
+
+    /**
+     * @param cache Cache.
+     * @param keys Count of keys.
+     * @param expected Expected values.
+     */
+    private void checkData(IgniteCache<Integer, byte[]> cache, int keys, Map<Integer, byte[]> expected) {
+        assertEquals(expected.size(), cache.size());
+
+        for (int i = 0; i < keys; i++)
+            assertTrue("key=" + i, Arrays.equals(expected.get(i), cache.get(i)));
+    }
+
     /**
      * Get defragmentation JMX bean.
      * @param name Ignite instance name.
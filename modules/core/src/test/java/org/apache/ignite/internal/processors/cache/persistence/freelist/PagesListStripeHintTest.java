@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.freelist;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.internal.managers.communication.GridIoPolicy;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.apache.ignite.thread.IgniteThread;
+import org.junit.Test;
+
+/**
+ * Checks that threads keep to their own stripes of the pages list buckets.
+ */
+public class PagesListStripeHintTest extends GridCommonAbstractTest {
+    /** Threads count. */
+    private static final int THREADS = 8;
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testThreadKeepsStripe() throws Exception {
+        Set<Integer> hints = Collections.synchronizedSet(new HashSet<>());
+
+        GridTestUtils.runMultiThreaded(() -> {
+            int hint = PagesList.stripeHint();
+
+            assertTrue(hint >= 0);
+
+            for (int i = 0; i < 100; i++)
+                assertEquals(hint, PagesList.stripeHint());
+
+            hints.add(hint);
+        }, THREADS, "stripe-hint");
+
+        assertEquals(THREADS, hints.size());
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testStripedPoolThreadKeepsPoolStripe() throws Exception {
+        AtomicInteger hint = new AtomicInteger(-1);
+
+        IgniteThread thread = new IgniteThread(getTestIgniteInstanceName(), "stripe-hint",
+            () -> hint.set(PagesList.stripeHint()), 0, 5, GridIoPolicy.SYSTEM_POOL);
+
+        thread.start();
+        thread.join();
+
+        assertEquals(5, hint.get());
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.pagemem;
+
+import org.apache.ignite.internal.mem.DirectMemoryProvider;
+import org.apache.ignite.internal.mem.DirectMemoryRegion;
+import org.apache.ignite.internal.mem.unsafe.UnsafeMemoryProvider;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests {@link SequentialAccessRing} and {@link SequentialPageAccess}.
+ */
+public class SequentialAccessRingTest extends GridCommonAbstractTest {
+    /** Max pages count. */
+    private static final int MAX_PAGES_CNT = 1000;
+
+    /** Ring capacity. */
+    private static final int CAPACITY = 8;
+
+    /** Memory provider. */
+    private static DirectMemoryProvider provider;
+
+    /** Memory region. */
+    private static DirectMemoryRegion region;
+
+    /** */
+    @BeforeClass
+    public static void setUp() {
+        provider = new UnsafeMemoryProvider(log);
+        provider.initialize(new long[] {SequentialAccessRing.requiredMemory(MAX_PAGES_CNT)});
+
+        region = provider.nextRegion();
+    }
+
+    /** */
+    @AfterClass
+    public static void tearDown() {
+        provider.shutdown(true);
+    }
+
+    /**
+     * Test pages are polled in order of loading.
+     */
+    @Test
+    public void testPoll() {
+        SequentialAccessRing ring = createRing();
+
+        assertEquals(-1, ring.poll());
+
+        for (int i = 0; i < CAPACITY; i++)
+            ring.onLoad(i * 10, true);
+
+        // Pages loaded outside of the hint scope are not added to the ring.
+        ring.onLoad(5, false);
+
+        for (int i = 0; i < CAPACITY; i++)
+            assertEquals(i * 10, ring.poll());
+
+        assertEquals(-1, ring.poll());
+    }
+
+    /**
+     * Test the oldest pages are overwritten when the ring is full.
+     */
+    @Test
+    public void testOverflow() {
+        SequentialAccessRing ring = createRing();
+
+        for (int i = 0; i < CAPACITY * 2 + 3; i++)
+            ring.onLoad(i, true);
+
+        for (int i = CAPACITY + 3; i < CAPACITY * 2 + 3; i++)
+            assertEquals(i, ring.poll());
+
+        assertEquals(-1, ring.poll());
+    }
+
+    /**
+     * Test pages accessed or reloaded outside of the hint scope are skipped.
+     */
+    @Test
+    public void testSkipHotPages() {
+        SequentialAccessRing ring = createRing();
+
+        for (int i = 0; i < CAPACITY; i++)
+            ring.onLoad(i, true);
+
+        ring.onHit(1);
+        ring.onHit(2);
+        ring.onLoad(4, false);
+
+        assertEquals(0, ring.poll());
+        assertEquals(3, ring.poll());
+
+        for (int i = 5; i < CAPACITY; i++)
+            assertEquals(i, ring.poll());
+
+        assertEquals(-1, ring.poll());
+    }
+
+    /**
+     * Test nested hint scopes.
+     */
+    @Test
+    public void testNestedScopes() {
+        assertFalse(SequentialPageAccess.isActive());
+
+        boolean nested = SequentialPageAccess.enter();
+
+        assertFalse(nested);
+        assertTrue(SequentialPageAccess.isActive());
+
+        boolean nested0 = SequentialPageAccess.enter();
+
+        assertTrue(nested0);
+
+        SequentialPageAccess.exit(nested0);
+
+        assertTrue(SequentialPageAccess.isActive());
+
+        SequentialPageAccess.exit(nested);
+
+        assertFalse(SequentialPageAccess.isActive());
+    }
+
+    /** */
+    private SequentialAccessRing createRing() {
+        return new SequentialAccessRing(CAPACITY, MAX_PAGES_CNT, region.address());
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.pagemem;
+
+import org.apache.ignite.internal.mem.DirectMemoryProvider;
+import org.apache.ignite.internal.mem.DirectMemoryRegion;
+import org.apache.ignite.internal.mem.unsafe.UnsafeMemoryProvider;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests {@link TinyLfuFrequencySketch}.
+ */
+public class TinyLfuFrequencySketchTest extends GridCommonAbstractTest {
+    /** Max pages count. */
+    private static final int MAX_PAGES_CNT = 1000;
+
+    /** Memory provider. */
+    private static DirectMemoryProvider provider;
+
+    /** Memory region. */
+    private static DirectMemoryRegion region;
+
+    /** */
+    @BeforeClass
+    public static void setUp() {
+        provider = new UnsafeMemoryProvider(log);
+        provider.initialize(new long[] {TinyLfuFrequencySketch.requiredMemory(MAX_PAGES_CNT)});
+
+        region = provider.nextRegion();
+    }
+
+    /** */
+    @AfterClass
+    public static void tearDown() {
+        provider.shutdown(true);
+    }
+
+    /**
+     * Test increment() and frequency() methods.
+     */
+    @Test
+    public void testIncrement() {
+        TinyLfuFrequencySketch sketch = new TinyLfuFrequencySketch(MAX_PAGES_CNT, region.address());
+
+        for (int i = 0; i < 100; i++) {
+            int hash = U.hash(i);
+
+            for (int j = 0; j < i % 10; j++)
+                sketch.increment(hash);
+        }
+
+        // Count-min sketch never underestimates frequency.
+        for (int i = 0; i < 100; i++)
+            assertTrue("Unexpected frequency of " + i, sketch.frequency(U.hash(i)) >= i % 10);
+
+        assertEquals(0, sketch.frequency(U.hash(100_000)));
+    }
+
+    /**
+     * Test counters saturation.
+     */
+    @Test
+    public void testSaturation() {
+        TinyLfuFrequencySketch sketch = new TinyLfuFrequencySketch(MAX_PAGES_CNT, region.address());
+
+        int hash = U.hash(42);
+
+        for (int i = 0; i < 100; i++)
+            sketch.increment(hash);
+
+        assertEquals(15, sketch.frequency(hash));
+    }
+
+    /**
+     * Test reset() method.
+     */
+    @Test
+    public void testReset() {
+        TinyLfuFrequencySketch sketch = new TinyLfuFrequencySketch(MAX_PAGES_CNT, region.address());
+
+        int hot = U.hash(1);
+
+        for (int i = 0; i < 12; i++)
+            sketch.increment(hot);
+
+        assertFalse(sketch.resetRequired());
+
+        for (int i = 0; !sketch.resetRequired(); i++)
+            sketch.increment(U.hash(i + 1000));
+
+        int hotFreq = sketch.frequency(hot);
+
+        assertTrue(hotFreq >= 12);
+
+        sketch.reset();
+
+        assertFalse(sketch.resetRequired());
+        assertEquals(hotFreq / 2, sketch.frequency(hot));
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.pagemem;
+
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.configuration.PageReplacementMode;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.spi.metric.DoubleMetric;
+import org.apache.ignite.spi.metric.LongMetric;
+import org.apache.ignite.spi.metric.ReadOnlyMetricRegistry;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.internal.processors.cache.persistence.DataRegionMetricsImpl.DATAREGION_METRICS_PREFIX;
+import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.cacheGroupMetricsRegistryName;
+import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.metricName;
+
+/**
+ * Tests {@link PageReplacementMode#TINY_LFU} page replacement and page hit metrics.
+ */
+public class TinyLfuPageReplacementTest extends GridCommonAbstractTest {
+    /** Region name. */
+    private static final String REGION_NAME = "tinyLfuRegion";
+
+    /** Region size. */
+    private static final long REGION_SIZE = 20 * 1024 * 1024;
+
+    /** Entries count (about twice as many as fit into the region). */
+    private static final int ENTRIES_CNT = 40_000;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setDataStorageConfiguration(new DataStorageConfiguration()
+                .setDefaultDataRegionConfiguration(new DataRegionConfiguration()
+                    .setPersistenceEnabled(true))
+                .setDataRegionConfigurations(new DataRegionConfiguration()
+                    .setName(REGION_NAME)
+                    .setPersistenceEnabled(true)
+                    .setMaxSize(REGION_SIZE)
+                    .setMetricsEnabled(true)
+                    .setPageReplacementMode(PageReplacementMode.TINY_LFU))
+                .setCheckpointFrequency(1000));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testPageReplacement() throws Exception {
+        IgniteEx ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        IgniteCache<Integer, byte[]> cache = ignite.getOrCreateCache(new CacheConfiguration<Integer, byte[]>(DEFAULT_CACHE_NAME)
+            .setDataRegionName(REGION_NAME)
+            .setAffinity(new RendezvousAffinityFunction(false, 16)));
+
+        for (int i = 0; i < ENTRIES_CNT; i++)
+            cache.put(i, value(i));
+
+        // Hot set accessed between full scans.
+        for (int iter = 0; iter < 3; iter++) {
+            for (int i = 0; i < ENTRIES_CNT; i++)
+                assertEquals((byte)i, cache.get(i)[0]);
+
+            for (int j = 0; j < 10; j++) {
+                for (int i = 0; i < 1000; i++)
+                    assertEquals((byte)i, cache.get(i)[0]);
+            }
+        }
+
+        ReadOnlyMetricRegistry mreg = ignite.context().metric().registry(metricName(DATAREGION_METRICS_PREFIX,
+            REGION_NAME));
+
+        assertTrue(mreg.<LongMetric>findMetric("PagesReplaced").value() > 0);
+
+        long hits = mreg.<LongMetric>findMetric("PageHits").value();
+        long misses = mreg.<LongMetric>findMetric("PageMisses").value();
+        double hitRatio = mreg.<DoubleMetric>findMetric("PageHitRatio").value();
+
+        assertTrue(hits > 0);
+        assertTrue(misses > 0);
+        assertEquals((double)hits / (hits + misses), hitRatio, 0.01);
+
+        ReadOnlyMetricRegistry grpMreg = ignite.context().metric().registry(
+            cacheGroupMetricsRegistryName(DEFAULT_CACHE_NAME));
+
+        assertTrue(grpMreg.<LongMetric>findMetric("PageHits").value() > 0);
+        assertTrue(grpMreg.<LongMetric>findMetric("PageMisses").value() > 0);
+    }
+
+    /**
+     * @param i Entry index.
+     * @return Value of entry.
+     */
+    private static byte[] value(int i) {
+        byte[] val = new byte[1024];
+
+        val[0] = (byte)i;
+
+        return val;
+    }
+}
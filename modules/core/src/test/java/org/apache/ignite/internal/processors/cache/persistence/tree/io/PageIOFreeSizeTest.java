@@ -71,6 +71,12 @@ public class PageIOFreeSizeTest extends GridCommonAbstractTest {
         /** */
         final LongAdderMetric idxPages = new LongAdderMetric("b", null);
 
+        /** */
+        final LongAdderMetric pageHits = new LongAdderMetric("c", null);
+
+        /** */
+        final LongAdderMetric pageMisses = new LongAdderMetric("d", null);
+
         @Override public LongAdderMetric totalPages() {
             return totalPages;
         }
@@ -79,6 +85,14 @@ public class PageIOFreeSizeTest extends GridCommonAbstractTest {
             return idxPages;
         }
 
+        @Override public LongAdderMetric pageHits() {
+            return pageHits;
+        }
+
+        @Override public LongAdderMetric pageMisses() {
+            return pageMisses;
+        }
+
         @Override public void reset() {
             // No-op.
         }
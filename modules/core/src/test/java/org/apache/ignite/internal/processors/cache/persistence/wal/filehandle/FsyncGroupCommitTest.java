@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.wal.filehandle;
+
+import java.util.Arrays;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.CacheAtomicityMode;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.configuration.WALMode;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.processors.metric.MetricRegistryImpl;
+import org.apache.ignite.spi.metric.HistogramMetric;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.apache.ignite.transactions.Transaction;
+import org.junit.Test;
+
+import static org.apache.ignite.internal.processors.cache.persistence.DataStorageMetricsImpl.DATASTORAGE_METRIC_PREFIX;
+
+/**
+ * Tests group commit of WAL fsyncs in {@link WALMode#FSYNC} mode.
+ */
+public class FsyncGroupCommitTest extends GridCommonAbstractTest {
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setDataStorageConfiguration(new DataStorageConfiguration()
+                .setWalMode(WALMode.FSYNC)
+                .setMetricsEnabled(true)
+                .setDefaultDataRegionConfiguration(new DataRegionConfiguration()
+                    .setMaxSize(100L * 1024 * 1024)
+                    .setPersistenceEnabled(true)))
+            .setCacheConfiguration(new CacheConfiguration<>(DEFAULT_CACHE_NAME)
+                .setAtomicityMode(CacheAtomicityMode.TRANSACTIONAL));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        super.afterTest();
+    }
+
+    /** */
+    @Test
+    public void testWindowAdaptation() {
+        FsyncGroupCommit grpCommit = new FsyncGroupCommit(1_000, 300_000);
+
+        assertEquals(1_000, grpCommit.window());
+
+        for (int i = 0; i < 4; i++)
+            grpCommit.onWaitStart();
+
+        long prev = grpCommit.window();
+
+        for (int i = 0; i < 20; i++) {
+            assertEquals(4, grpCommit.onFsync(500_000));
+
+            assertTrue(grpCommit.window() >= prev);
+
+            prev = grpCommit.window();
+        }
+
+        // Window is bounded by the configured maximum.
+        assertEquals(300_000, grpCommit.window());
+
+        for (int i = 0; i < 3; i++)
+            grpCommit.onWaitEnd();
+
+        for (int i = 0; i < 20; i++) {
+            assertEquals(1, grpCommit.onFsync(500_000));
+
+            assertTrue(grpCommit.window() <= prev);
+
+            prev = grpCommit.window();
+        }
+
+        // Single committer is not delayed longer than the configured fsync delay.
+        assertEquals(1_000, grpCommit.window());
+    }
+
+    /** */
+    @Test
+    public void testWindowBoundedByFsyncDuration() {
+        FsyncGroupCommit grpCommit = new FsyncGroupCommit(0, 1_000_000);
+
+        grpCommit.onWaitStart();
+        grpCommit.onWaitStart();
+
+        for (int i = 0; i < 20; i++)
+            grpCommit.onFsync(50_000);
+
+        assertEquals(50_000, grpCommit.window());
+    }
+
+    /** */
+    @Test
+    public void testAdaptationDisabled() {
+        FsyncGroupCommit grpCommit = new FsyncGroupCommit(1_000, 0);
+
+        grpCommit.onWaitStart();
+        grpCommit.onWaitStart();
+
+        for (int i = 0; i < 10; i++)
+            assertEquals(2, grpCommit.onFsync(500_000));
+
+        assertEquals(1_000, grpCommit.window());
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testConcurrentCommits() throws Exception {
+        IgniteEx ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        IgniteCache<Integer, Integer> cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        int threads = 8;
+        int txs = 200;
+
+        GridTestUtils.runMultiThreaded(idx -> {
+            for (int i = 0; i < txs; i++) {
+                try (Transaction tx = ignite.transactions().txStart()) {
+                    cache.put(idx * txs + i, i);
+
+                    tx.commit();
+                }
+            }
+        }, threads, "tx-committer");
+
+        MetricRegistryImpl mreg = ignite.context().metric().registry(DATASTORAGE_METRIC_PREFIX);
+
+        HistogramMetric fsyncHist = mreg.findMetric("WalFsyncHistogram");
+        HistogramMetric grpCommitHist = mreg.findMetric("WalGroupCommitBatchSizeHistogram");
+
+        long fsyncs = Arrays.stream(fsyncHist.value()).sum();
+
+        assertTrue(fsyncs > 0);
+        assertEquals(fsyncs, Arrays.stream(grpCommitHist.value()).sum());
+
+        stopGrid(0, true);
+
+        IgniteEx restarted = startGrid(0);
+
+        restarted.cluster().state(ClusterState.ACTIVE);
+
+        assertEquals(threads * txs, restarted.cache(DEFAULT_CACHE_NAME).size());
+    }
+}
@@ -72,6 +72,7 @@ import org.apache.ignite.internal.processors.failure.FailureProcessor;
 import org.apache.ignite.internal.util.GridConcurrentHashSet;
 import org.apache.ignite.internal.util.GridRandom;
 import org.apache.ignite.internal.util.GridStripedLock;
+import org.apache.ignite.internal.util.GridUnsafe;
 import org.apache.ignite.internal.util.IgniteTree;
 import org.apache.ignite.internal.util.future.GridCompoundFuture;
 import org.apache.ignite.internal.util.lang.GridCursor;
@@ -1362,6 +1363,214 @@ public class BPlusTreeSelfTest extends GridCommonAbstractTest {
         assertNoLocks();
     }
 
+    /**
+     * Checks that lookups with optimistic reads of inner pages see all the rows which are not modified while inner
+     * pages are concurrently split and merged.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testOptimisticReadsConcurrentPutRemove() throws Exception {
+        MAX_PER_PAGE = 2;
+
+        final int keys = 1000;
+
+        final TestTree tree = createTestTree(true);
+
+        // The page memory is already started, it has to maintain page write versions from now on.
+        tree.optimisticReads(true);
+
+        long metaPageId = tree.getMetaPageId();
+        long metaPage = pageMem.acquirePage(CACHE_ID, metaPageId);
+        long buf = GridUnsafe.allocateMemory(pageMem.pageSize());
+
+        try {
+            assertTrue(pageMem.optimisticCopy(CACHE_ID, metaPageId, metaPage, buf) != 0L);
+        }
+        finally {
+            GridUnsafe.freeMemory(buf);
+
+            pageMem.releasePage(CACHE_ID, metaPageId, metaPage);
+        }
+
+        doTestFindConcurrentPutRemove(tree, keys, () -> {
+            Random rnd = new GridRandom();
+
+            for (int i = 0; i < 50_000; i++) {
+                long key = rnd.nextInt(keys / 2) * 2;
+
+                assertEquals(Long.valueOf(key), tree.findOne(key));
+            }
+
+            return null;
+        }, "find");
+    }
+
+    /**
+     * Fills the tree with even keys and runs lookups while odd keys are concurrently put and removed.
+     *
+     * @param tree Tree.
+     * @param keys Number of keys.
+     * @param find Lookup closure, executed concurrently.
+     * @param threadName Name of the lookup threads.
+     * @throws Exception If failed.
+     */
+    private void doTestFindConcurrentPutRemove(
+        TestTree tree,
+        int keys,
+        Callable<?> find,
+        String threadName
+    ) throws Exception {
+        // Even keys are never removed.
+        for (long i = 0; i < keys; i += 2)
+            tree.put(i);
+
+        final AtomicBoolean stop = new AtomicBoolean();
+
+        final GridStripedLock lock = new GridStripedLock(256);
+
+        IgniteInternalFuture<?> fut = GridTestUtils.runMultiThreadedAsync(() -> {
+            Random rnd = new GridRandom();
+
+            while (!stop.get()) {
+                long key = rnd.nextInt(keys / 2) * 2 + 1;
+
+                Lock l = lock.getLock(key);
+
+                l.lock();
+
+                try {
+                    if (rnd.nextBoolean())
+                        tree.put(key);
+                    else
+                        tree.remove(key);
+                }
+                finally {
+                    l.unlock();
+                }
+            }
+
+            return null;
+        }, 4, "put-remove");
+
+        try {
+            GridTestUtils.runMultiThreaded(find, 8, threadName);
+        }
+        finally {
+            stop.set(true);
+        }
+
+        fut.get();
+
+        tree.validateTree();
+
+        assertNoLocks();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testFindAll() throws Exception {
+        MAX_PER_PAGE = 3;
+
+        TestTree tree = createTestTree(true);
+
+        assertEquals(Arrays.asList(null, null), tree.findAll(Arrays.asList(1L, 2L), null, null));
+
+        final long keys = 2000;
+
+        // Only even keys are present.
+        for (long i = 0; i < keys; i += 2)
+            tree.put(i);
+
+        List<Long> rows = new ArrayList<>();
+
+        for (long i = -10; i < keys + 10; i++)
+            rows.add(i);
+
+        checkFindAll(tree, rows);
+
+        // Rows with duplicates in random order.
+        Random rnd = new GridRandom();
+
+        for (int i = 0; i < 100; i++)
+            rows.add(rows.get(rnd.nextInt(rows.size())));
+
+        Collections.shuffle(rows, rnd);
+
+        checkFindAll(tree, rows);
+
+        // Small sorted batches.
+        for (int i = 0; i < 100; i++) {
+            List<Long> batch = new ArrayList<>();
+
+            for (int j = 0; j < 20; j++)
+                batch.add((long)rnd.nextInt((int)keys + 10));
+
+            Collections.sort(batch);
+
+            checkFindAll(tree, batch);
+        }
+
+        assertNoLocks();
+    }
+
+    /**
+     * @param tree Tree.
+     * @param rows Rows to look up.
+     * @throws IgniteCheckedException If failed.
+     */
+    private void checkFindAll(TestTree tree, List<Long> rows) throws IgniteCheckedException {
+        List<Long> res = tree.findAll(rows, null, null);
+
+        assertEquals(rows.size(), res.size());
+
+        for (int i = 0; i < rows.size(); i++)
+            assertEquals(String.valueOf(rows.get(i)), tree.findOne(rows.get(i)), res.get(i));
+    }
+
+    /**
+     * Checks that batched lookups see all the rows which are not modified while leaf pages are concurrently split
+     * and merged.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testFindAllConcurrentPutRemove() throws Exception {
+        MAX_PER_PAGE = 2;
+
+        final int keys = 1000;
+
+        final TestTree tree = createTestTree(true);
+
+        doTestFindConcurrentPutRemove(tree, keys, () -> {
+            Random rnd = new GridRandom();
+
+            for (int i = 0; i < 5_000; i++) {
+                List<Long> batch = new ArrayList<>();
+
+                for (int j = 0; j < 20; j++)
+                    batch.add((long)rnd.nextInt(keys));
+
+                Collections.sort(batch);
+
+                List<Long> res = tree.findAll(batch, null, null);
+
+                for (int j = 0; j < batch.size(); j++) {
+                    long key = batch.get(j);
+
+                    if (key % 2 == 0)
+                        assertEquals(Long.valueOf(key), res.get(j));
+                    else
+                        assertTrue(res.get(j) == null || res.get(j) == key);
+                }
+            }
+
+            return null;
+        }, "find-all");
+    }
+
     /** */
     @Test
     public void testBasicBatchRemove() throws IgniteCheckedException {
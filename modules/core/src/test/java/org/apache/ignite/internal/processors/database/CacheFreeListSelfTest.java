@@ -49,6 +49,7 @@ import org.apache.ignite.internal.processors.cache.persistence.diagnostic.pagelo
 import org.apache.ignite.internal.processors.cache.persistence.evict.NoOpPageEvictionTracker;
 import org.apache.ignite.internal.processors.cache.persistence.freelist.CacheFreeList;
 import org.apache.ignite.internal.processors.cache.persistence.freelist.FreeList;
+import org.apache.ignite.internal.processors.cache.persistence.freelist.PagesList;
 import org.apache.ignite.internal.processors.cache.persistence.tree.io.CacheVersionIO;
 import org.apache.ignite.internal.processors.cache.version.GridCacheVersion;
 import org.apache.ignite.internal.processors.metric.GridMetricManager;
@@ -372,6 +373,8 @@ public class CacheFreeListSelfTest extends GridCommonAbstractTest {
                 return null;
             }
         }, 8, "runner");
+
+        checkBucketsFreeSpace((PagesList)list);
     }
 
     /**
@@ -479,6 +482,37 @@ public class CacheFreeListSelfTest extends GridCommonAbstractTest {
                 }
             }
         }
+
+        checkBucketsFreeSpace((PagesList)list);
+    }
+
+    /**
+     * Checks that summed free space of pages in every data bucket is within the bucket range.
+     *
+     * @param list Free list.
+     */
+    private void checkBucketsFreeSpace(PagesList list) {
+        int dataPages = 0;
+
+        // The last bucket is the reuse one.
+        for (int b = 0; b < list.bucketsCount() - 1; b++) {
+            long pages = list.bucketSize(b);
+            long freeSpace = list.bucketFreeSpace(b);
+
+            assertTrue("bucket=" + b + ", pages=" + pages + ", freeSpace=" + freeSpace,
+                pages * list.getPageFreeSpace(b) <= freeSpace && freeSpace <= pages * list.maxPageFreeSpace(b));
+
+            if (pages > 0) {
+                float fillFactor = list.pageFillFactor(b);
+
+                assertEquals(1 - (float)freeSpace / pages / pageMem.pageSize(), fillFactor,
+                    1f / pageMem.pageSize());
+
+                dataPages += pages;
+            }
+        }
+
+        assertTrue(dataPages > 0);
     }
 
     /**
@@ -50,11 +50,13 @@ import org.apache.ignite.spi.metric.LongMetric;
 import org.apache.ignite.spi.metric.ReadOnlyMetricRegistry;
 import org.apache.ignite.spi.systemview.view.SystemView;
 import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
 import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
 import org.junit.Test;
 
 import static java.util.Arrays.stream;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_PAGE_READ_AHEAD_WINDOW;
 import static org.apache.ignite.internal.IgnitionEx.gridx;
 import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.metricName;
 import static org.apache.ignite.internal.processors.pool.PoolProcessor.STREAM_POOL_QUEUE_VIEW;
@@ -65,6 +67,7 @@ import static org.apache.ignite.testframework.GridTestUtils.runAsync;
 /**
  * Tests that thread pool metrics are available before the start of all Ignite components happened.
  */
+@WithSystemProperty(key = IGNITE_PAGE_READ_AHEAD_WINDOW, value = "8")
 public class ThreadPoolMetricsTest extends GridCommonAbstractTest {
     /** Custom executor name. */
     private static final String CUSTOM_EXEC_NAME = "user-pool";
@@ -100,6 +103,7 @@ public class ThreadPoolMetricsTest extends GridCommonAbstractTest {
         THREAD_POOL_METRICS.put(metricName(THREAD_POOLS, "GridRestExecutor"), PoolProcessor::getRestExecutorService);
         THREAD_POOL_METRICS.put(metricName(THREAD_POOLS, "GridSnapshotExecutor"), PoolProcessor::getSnapshotExecutorService);
         THREAD_POOL_METRICS.put(metricName(THREAD_POOLS, "GridReencryptionExecutor"), PoolProcessor::getReencryptionExecutorService);
+        THREAD_POOL_METRICS.put(metricName(THREAD_POOLS, "GridPageReadAheadExecutor"), PoolProcessor::getPageReadAheadExecutorService);
         THREAD_POOL_METRICS.put(metricName(THREAD_POOLS, CUSTOM_EXEC_NAME), proc -> (ExecutorService)proc.customExecutor(CUSTOM_EXEC_NAME));
     }
 
@@ -23,6 +23,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadLocalRandom;
@@ -151,4 +152,44 @@ public class GridConcurrentMultiPairQueueTest extends GridCommonAbstractTest {
 
         assertTrue(queue2.initialSize() == arr1.length + arr2.length + arr3.length + arr4.length);
     }
+
+    /** */
+    @Test
+    public void testBatchCorrectness() throws Exception {
+        Map<Integer, Integer[]> arrs = new HashMap<>();
+
+        arrs.put(10, arr2);
+        arrs.put(20, arr1);
+        arrs.put(50, arr3);
+
+        GridTestUtils.runMultiThreaded(() -> {
+            GridConcurrentMultiPairQueue.Result<Integer, Integer> res =
+                new GridConcurrentMultiPairQueue.Result<>();
+
+            Integer[] batch = new Integer[3];
+
+            int cnt;
+
+            while ((cnt = queue.next(res, batch)) > 0) {
+                assertTrue(cnt <= batch.length);
+
+                assertEquals(batch[0], res.getValue());
+
+                // Batch contains a sequence of values of the same key in the original order.
+                Integer[] arr = arrs.get(res.getKey());
+
+                List<Integer> seq = Arrays.asList(batch).subList(0, cnt);
+
+                assertTrue(Collections.indexOfSubList(Arrays.asList(arr), seq) >= 0);
+
+                for (int i = 0; i < cnt; i++)
+                    assertTrue(mapForCheck.get(res.getKey()).remove(batch[i]));
+            }
+        }, ThreadLocalRandom.current().nextInt(1, 20), "GridConcurrentMultiPairQueue batch test");
+
+        for (Collection<Integer> coll : mapForCheck.values())
+            assertTrue(coll.isEmpty());
+
+        assertTrue(queue.isEmpty());
+    }
 }
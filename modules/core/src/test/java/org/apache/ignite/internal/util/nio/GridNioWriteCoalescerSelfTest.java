@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.util.nio;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link GridNioWriteCoalescer}.
+ */
+public class GridNioWriteCoalescerSelfTest {
+    /** Window. */
+    private static final long WINDOW = 16_000;
+
+    /** Threshold. */
+    private static final int THRESHOLD = 1024;
+
+    /**
+     * Tests that a session which has not written recently is not delayed.
+     */
+    @Test
+    public void testColdSessionWritesImmediately() {
+        GridNioWriteCoalescer coalescer = new GridNioWriteCoalescer(WINDOW, THRESHOLD);
+
+        long now = System.nanoTime();
+
+        assertFalse(coalescer.defer(100, now));
+
+        coalescer.onWrite(now);
+
+        assertFalse(coalescer.defer(100, now + WINDOW));
+    }
+
+    /**
+     * Tests that a small write of a hot session is deferred until the window elapses or the threshold is reached.
+     */
+    @Test
+    public void testHotSessionDefersSmallWrites() {
+        GridNioWriteCoalescer coalescer = new GridNioWriteCoalescer(WINDOW, THRESHOLD);
+
+        long now = System.nanoTime();
+
+        coalescer.onWrite(now);
+
+        assertTrue(coalescer.defer(100, now + 1));
+        assertTrue(coalescer.defer(100, now + WINDOW));
+        assertFalse(coalescer.defer(100, now + 1 + WINDOW));
+
+        coalescer.onWrite(now + 1 + WINDOW);
+
+        assertTrue(coalescer.defer(100, now + 2 + WINDOW));
+        assertFalse(coalescer.defer(THRESHOLD, now + 3 + WINDOW));
+    }
+
+    /**
+     * Tests that the window shrinks when deferrals pick up no messages and grows back when they do.
+     */
+    @Test
+    public void testWindowAdapts() {
+        GridNioWriteCoalescer coalescer = new GridNioWriteCoalescer(WINDOW, THRESHOLD);
+
+        long now = System.nanoTime();
+
+        coalescer.onWrite(now);
+
+        // Nothing is sent while the writes are deferred.
+        for (int i = 0; i < 10; i++) {
+            now++;
+
+            assertTrue(coalescer.defer(100, now));
+
+            now += coalescer.window();
+
+            assertFalse(coalescer.defer(100, now));
+
+            coalescer.onWrite(now);
+        }
+
+        assertEquals(WINDOW / 16, coalescer.window());
+
+        // Messages keep arriving while the writes are deferred.
+        for (int i = 0; i < 4; i++) {
+            now++;
+
+            assertTrue(coalescer.defer(100, now));
+
+            coalescer.onMessageBuffered();
+
+            coalescer.onWrite(now);
+        }
+
+        assertEquals(WINDOW, coalescer.window());
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.util.nio;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.cluster.ClusterNode;
+import org.apache.ignite.internal.direct.DirectMessageReader;
+import org.apache.ignite.internal.direct.DirectMessageWriter;
+import org.apache.ignite.lang.IgniteRunnable;
+import org.apache.ignite.plugin.extensions.communication.Message;
+import org.apache.ignite.plugin.extensions.communication.MessageFactoryProvider;
+import org.apache.ignite.spi.communication.CommunicationListener;
+import org.apache.ignite.spi.communication.CommunicationSpi;
+import org.apache.ignite.spi.communication.GridAbstractCommunicationSelfTest;
+import org.apache.ignite.spi.communication.TestByteBufferPayloadMessage;
+import org.apache.ignite.spi.communication.TestByteBufferPayloadMessageSerializer;
+import org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.junit.Test;
+
+import static org.apache.ignite.internal.direct.DirectMessageWriter.ZERO_COPY_THRESHOLD;
+import static org.apache.ignite.testframework.GridTestUtils.waitForCondition;
+
+/**
+ * Tests transmission of large direct buffers that are handed off by the message writer and written to the socket
+ * with gathering writes instead of being copied to the session write buffer.
+ */
+public class TcpCommunicationSpiZeroCopyTest extends GridAbstractCommunicationSelfTest<CommunicationSpi<Message>> {
+    /** */
+    private static final AtomicInteger msgCreatedCntr = new AtomicInteger();
+
+    /** */
+    private static final AtomicInteger msgReceivedCntr = new AtomicInteger();
+
+    /** */
+    private static final Map<Integer, ByteBuffer> payloads = new ConcurrentHashMap<>();
+
+    /** {@inheritDoc} */
+    @Override protected CommunicationSpi<Message> getSpi(int idx) {
+        return new TcpCommunicationSpi().setLocalPort(GridTestUtils.getNextCommPort(getClass()))
+            .setIdleConnectionTimeout(60_000)
+            .setTcpNoDelay(true);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected CommunicationListener<Message> createMessageListener(UUID nodeId) {
+        return new TestCommunicationListener();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected MessageFactoryProvider customMessageFactory() {
+        return f -> f.register(TestByteBufferPayloadMessage.DIRECT_TYPE, new TestByteBufferPayloadMessageSerializer());
+    }
+
+    /** */
+    @Test
+    public void testWriterHandsOffDirectBuffer() {
+        TestByteBufferPayloadMessageSerializer ser = new TestByteBufferPayloadMessageSerializer();
+
+        ByteBuffer payload = randomDirectBuffer(ZERO_COPY_THRESHOLD * 2);
+
+        TestByteBufferPayloadMessage msg = new TestByteBufferPayloadMessage(1, payload);
+
+        DirectMessageWriter writer = new DirectMessageWriter(null);
+
+        writer.zeroCopy(true);
+
+        ByteBuffer buf = ByteBuffer.allocate(1024);
+        ByteBuffer wire = ByteBuffer.allocate(payload.remaining() + 1024);
+
+        writer.setBuffer(buf);
+
+        assertFalse(ser.writeTo(msg, writer));
+
+        ByteBuffer region = writer.pollZeroCopyRegion();
+
+        assertNotNull(region);
+        assertEquals(payload.remaining(), region.remaining());
+        assertNull(writer.pollZeroCopyRegion());
+
+        // Transmit the buffered bytes followed by the region, as the NIO worker does.
+        buf.flip();
+        wire.put(buf);
+        wire.put(region);
+        buf.clear();
+
+        assertTrue(ser.writeTo(msg, writer));
+        assertNull(writer.pollZeroCopyRegion());
+
+        buf.flip();
+        wire.put(buf);
+        wire.flip();
+
+        assertEquals(TestByteBufferPayloadMessage.DIRECT_TYPE, wire.order(ByteOrder.LITTLE_ENDIAN).getShort());
+
+        DirectMessageReader reader = new DirectMessageReader(null, null);
+
+        reader.setBuffer(wire);
+
+        TestByteBufferPayloadMessage read = new TestByteBufferPayloadMessage();
+
+        assertTrue(ser.readFrom(read, reader));
+
+        assertEquals(1, read.index());
+        assertEquals(payload, read.payload());
+        assertEquals(ZERO_COPY_THRESHOLD * 2, payload.remaining());
+    }
+
+    /** */
+    @Test
+    public void testSendDirectBuffers() throws Exception {
+        ClusterNode from = nodes.get(0);
+        ClusterNode to = nodes.get(1);
+
+        CommunicationSpi<Message> spi = spis.get(from.id());
+
+        for (int i = 0; i < 50; i++) {
+            int size = i % 5 == 0
+                ? ThreadLocalRandom.current().nextInt(1, ZERO_COPY_THRESHOLD)
+                : ThreadLocalRandom.current().nextInt(ZERO_COPY_THRESHOLD, 4 * 1024 * 1024);
+
+            spi.sendMessage(to, createMessage(randomDirectBuffer(size)));
+        }
+
+        assertTrue(waitForCondition(() -> msgCreatedCntr.get() == msgReceivedCntr.get(), getTestTimeout()));
+    }
+
+    /** */
+    @Test
+    public void testSendMappedFileRegion() throws Exception {
+        ClusterNode from = nodes.get(0);
+        ClusterNode to = nodes.get(1);
+
+        File file = File.createTempFile("zero-copy", ".bin");
+
+        try {
+            ByteBuffer data = randomDirectBuffer(8 * 1024 * 1024);
+
+            try (FileChannel ch = FileChannel.open(file.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                while (data.hasRemaining())
+                    ch.write(data);
+
+                // Send a region from the middle of the file.
+                ByteBuffer region = ch.map(FileChannel.MapMode.READ_ONLY, 1024, 4 * 1024 * 1024);
+
+                spis.get(from.id()).sendMessage(to, createMessage(region));
+
+                assertTrue(waitForCondition(() -> msgCreatedCntr.get() == msgReceivedCntr.get(), getTestTimeout()));
+            }
+        }
+        finally {
+            file.delete();
+        }
+    }
+
+    /** */
+    private Message createMessage(ByteBuffer payload) {
+        TestByteBufferPayloadMessage msg = new TestByteBufferPayloadMessage(msgCreatedCntr.getAndIncrement(), payload);
+
+        payloads.put(msg.index(), payload);
+
+        return msg;
+    }
+
+    /** */
+    private static ByteBuffer randomDirectBuffer(int size) {
+        byte[] arr = new byte[size];
+
+        ThreadLocalRandom.current().nextBytes(arr);
+
+        ByteBuffer buf = ByteBuffer.allocateDirect(size);
+
+        buf.put(arr);
+        buf.flip();
+
+        return buf;
+    }
+
+    /** */
+    private static class TestCommunicationListener implements CommunicationListener<Message> {
+        /** {@inheritDoc} */
+        @Override public void onMessage(UUID nodeId, Message msg, IgniteRunnable msgC) {
+            msgC.run();
+
+            if (msg instanceof TestByteBufferPayloadMessage) {
+                TestByteBufferPayloadMessage testMsg = (TestByteBufferPayloadMessage)msg;
+
+                ByteBuffer exp = payloads.remove(testMsg.index());
+
+                assertNotNull(exp);
+
+                assertEquals(exp, testMsg.payload());
+
+                msgReceivedCntr.incrementAndGet();
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override public void onDisconnected(UUID nodeId) {
+            // No-op.
+        }
+    }
+}
@@ -312,6 +312,212 @@ public class IgniteOffheapReadWriteLockSelfTest extends GridCommonAbstractTest {
         validate(data);
     }
 
+    /**
+     * @throws Exception if failed.
+     */
+    @Test
+    public void testOptimisticReadValidation() throws Exception {
+        OffheapReadWriteLock lock = new OffheapReadWriteLock(16, true);
+
+        long ptr = GridUnsafe.allocateMemory(OffheapReadWriteLock.LOCK_SIZE);
+
+        try {
+            lock.init(ptr, TAG_0);
+
+            long stamp = lock.tryOptimisticRead(ptr, TAG_0);
+
+            assertTrue(stamp != OffheapReadWriteLock.INVALID_STAMP);
+            assertTrue(lock.validate(ptr, TAG_0, stamp));
+            assertEquals(OffheapReadWriteLock.INVALID_STAMP, lock.tryOptimisticRead(ptr, TAG_0 + 1));
+
+            // Read locks do not invalidate optimistic reads.
+            assertTrue(lock.readLock(ptr, TAG_0));
+            assertTrue(lock.validate(ptr, TAG_0, stamp));
+
+            lock.readUnlock(ptr);
+
+            assertTrue(lock.writeLock(ptr, TAG_0));
+            assertEquals(OffheapReadWriteLock.INVALID_STAMP, lock.tryOptimisticRead(ptr, TAG_0));
+            assertFalse(lock.validate(ptr, TAG_0, stamp));
+
+            lock.writeUnlock(ptr, TAG_0);
+
+            assertFalse(lock.validate(ptr, TAG_0, stamp));
+
+            stamp = lock.tryOptimisticRead(ptr, TAG_0);
+
+            assertTrue(lock.validate(ptr, TAG_0, stamp));
+
+            // Tag change on unlock invalidates the stamp as well.
+            assertTrue(lock.writeLock(ptr, TAG_0));
+
+            lock.writeUnlock(ptr, TAG_0 + 1);
+
+            assertFalse(lock.validate(ptr, TAG_0, stamp));
+            assertFalse(lock.validate(ptr, TAG_0 + 1, stamp));
+        }
+        finally {
+            GridUnsafe.freeMemory(ptr);
+        }
+    }
+
+    /**
+     * @throws Exception if failed.
+     */
+    @Test
+    public void testOptimisticReadDisabled() throws Exception {
+        OffheapReadWriteLock lock = new OffheapReadWriteLock(16);
+
+        long ptr = GridUnsafe.allocateMemory(OffheapReadWriteLock.LOCK_SIZE);
+
+        try {
+            lock.init(ptr, TAG_0);
+
+            assertEquals(OffheapReadWriteLock.INVALID_STAMP, lock.tryOptimisticRead(ptr, TAG_0));
+
+            assertTrue(lock.writeLock(ptr, TAG_0));
+
+            lock.writeUnlock(ptr, TAG_0);
+
+            assertEquals(OffheapReadWriteLock.INVALID_STAMP, lock.tryOptimisticRead(ptr, TAG_0));
+            assertFalse(lock.validate(ptr, TAG_0, 1L));
+
+            // Optimistic reads may be enabled while the lock is in use.
+            lock.enableOptimisticReads();
+
+            long stamp = lock.tryOptimisticRead(ptr, TAG_0);
+
+            assertTrue(stamp != OffheapReadWriteLock.INVALID_STAMP);
+            assertTrue(lock.validate(ptr, TAG_0, stamp));
+
+            assertTrue(lock.writeLock(ptr, TAG_0));
+
+            lock.writeUnlock(ptr, TAG_0);
+
+            assertFalse(lock.validate(ptr, TAG_0, stamp));
+        }
+        finally {
+            GridUnsafe.freeMemory(ptr);
+        }
+    }
+
+    /**
+     * Checks that writes to other locks, like the locks of neighbouring pages, do not invalidate an optimistic read.
+     *
+     * @throws Exception if failed.
+     */
+    @Test
+    public void testOptimisticReadNotInvalidatedByOtherLocks() throws Exception {
+        int locksCnt = 1024;
+
+        OffheapReadWriteLock lock = new OffheapReadWriteLock(16, true);
+
+        long ptr = GridUnsafe.allocateMemory((long)locksCnt * OffheapReadWriteLock.LOCK_SIZE);
+
+        try {
+            for (int i = 0; i < locksCnt; i++)
+                lock.init(ptr + (long)i * OffheapReadWriteLock.LOCK_SIZE, TAG_0);
+
+            long stamp = lock.tryOptimisticRead(ptr, TAG_0);
+
+            assertTrue(stamp != OffheapReadWriteLock.INVALID_STAMP);
+
+            for (int i = 1; i < locksCnt; i++) {
+                long lockPtr = ptr + (long)i * OffheapReadWriteLock.LOCK_SIZE;
+
+                assertTrue(lock.writeLock(lockPtr, TAG_0));
+
+                lock.writeUnlock(lockPtr, TAG_0);
+            }
+
+            assertTrue(lock.validate(ptr, TAG_0, stamp));
+        }
+        finally {
+            GridUnsafe.freeMemory(ptr);
+        }
+    }
+
+    /**
+     * @throws Exception if failed.
+     */
+    @Test
+    public void testConcurrentOptimisticReads() throws Exception {
+        final int numPairs = 100;
+        final Pair[] data = new Pair[numPairs];
+
+        for (int i = 0; i < numPairs; i++)
+            data[i] = new Pair();
+
+        final OffheapReadWriteLock lock = new OffheapReadWriteLock(16, true);
+
+        final long ptr = GridUnsafe.allocateMemory(OffheapReadWriteLock.LOCK_SIZE);
+
+        lock.init(ptr, TAG_0);
+
+        final AtomicInteger reads = new AtomicInteger();
+        final AtomicInteger failedReads = new AtomicInteger();
+        final AtomicInteger writes = new AtomicInteger();
+        final AtomicBoolean done = new AtomicBoolean(false);
+
+        IgniteInternalFuture<Long> fut = GridTestUtils.runMultiThreadedAsync(new Callable<Object>() {
+            /** {@inheritDoc} */
+            @Override public Object call() {
+                ThreadLocalRandom rnd = ThreadLocalRandom.current();
+
+                while (!done.get()) {
+                    int idx = rnd.nextInt(numPairs);
+
+                    if (rnd.nextInt(10) < 2) {
+                        boolean locked = lock.writeLock(ptr, TAG_0);
+
+                        try {
+                            assert locked;
+
+                            int delta = rnd.nextInt(100_000);
+
+                            data[idx].a += delta;
+                            data[idx].b -= delta;
+                        }
+                        finally {
+                            lock.writeUnlock(ptr, TAG_0);
+                        }
+
+                        writes.incrementAndGet();
+                    }
+                    else {
+                        long stamp = lock.tryOptimisticRead(ptr, TAG_0);
+
+                        int a = data[idx].a;
+                        int b = data[idx].b;
+
+                        if (lock.validate(ptr, TAG_0, stamp)) {
+                            assertEquals("Failed check for index: " + idx, a, -b);
+
+                            reads.incrementAndGet();
+                        }
+                        else
+                            failedReads.incrementAndGet();
+                    }
+                }
+
+                return null;
+            }
+        }, 32, "tester");
+
+        for (int i = 0; i < ROUNDS_PER_TEST; i++) {
+            Thread.sleep(1_000);
+
+            info("Reads: " + reads.getAndSet(0) + ", failedReads=" + failedReads.getAndSet(0) +
+                ", writes=" + writes.getAndSet(0));
+        }
+
+        done.set(true);
+
+        fut.get();
+
+        validate(data);
+    }
+
     /**
      * @throws Exception if failed.
      */
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.spi.communication;
+
+import java.nio.ByteBuffer;
+import org.apache.ignite.internal.Order;
+import org.apache.ignite.plugin.extensions.communication.Message;
+
+/** */
+public class TestByteBufferPayloadMessage implements Message {
+    /** */
+    public static final short DIRECT_TYPE = 211;
+
+    /** */
+    @Order(0)
+    int idx;
+
+    /** */
+    @Order(1)
+    ByteBuffer payload;
+
+    /** */
+    public TestByteBufferPayloadMessage() {
+        // No-op.
+    }
+
+    /** */
+    public TestByteBufferPayloadMessage(int idx, ByteBuffer payload) {
+        this.idx = idx;
+        this.payload = payload;
+    }
+
+    /** */
+    public int index() {
+        return idx;
+    }
+
+    /** @return Network payload. */
+    public ByteBuffer payload() {
+        return payload;
+    }
+
+    /** {@inheritDoc} */
+    @Override public short directType() {
+        return DIRECT_TYPE;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.spi.communication.tcp;
+
+import org.apache.ignite.Ignite;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.Ignition;
+import org.apache.ignite.client.ClientCache;
+import org.apache.ignite.client.IgniteClient;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.ClientConfiguration;
+import org.apache.ignite.configuration.ClientConnectorConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.util.nio.GridNioServer;
+import org.apache.ignite.internal.util.typedef.G;
+import org.apache.ignite.spi.communication.tcp.internal.GridNioServerWrapper;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.testframework.GridTestUtils.getFieldValue;
+
+/**
+ * Tests {@link TcpCommunicationSpi} and client connector with busy-polling selector threads.
+ */
+public class GridTcpCommunicationSpiBusyPollSelfTest extends GridCommonAbstractTest {
+    /** Keys count. */
+    private static final int KEYS_CNT = 1000;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        // Each busy-polling selector occupies a core, so keep them few.
+        return super.getConfiguration(igniteInstanceName)
+            .setCommunicationSpi(new TcpCommunicationSpi()
+                .setSelectorsCount(1)
+                .setSelectorBusyPoll(true))
+            .setClientConnectorConfiguration(new ClientConnectorConfiguration()
+                .setSelectorCount(1)
+                .setSelectorBusyPoll(true));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testCacheOperations() throws Exception {
+        Ignite ignite = startGrids(3);
+
+        for (Ignite node : G.allGrids()) {
+            GridNioServerWrapper wrapper = getFieldValue(node.configuration().getCommunicationSpi(), "nioSrvWrapper");
+
+            assertTrue(wrapper.nio().busyPoll());
+
+            GridNioServer<?> cliSrv = getFieldValue(((IgniteEx)node).context().clientListener(), "srv");
+
+            assertTrue(cliSrv.busyPoll());
+        }
+
+        IgniteCache<Integer, Integer> cache = ignite.createCache(
+            new CacheConfiguration<Integer, Integer>(DEFAULT_CACHE_NAME).setBackups(1));
+
+        for (int i = 0; i < KEYS_CNT; i++)
+            cache.put(i, i);
+
+        for (Ignite node : G.allGrids()) {
+            IgniteCache<Integer, Integer> cache0 = node.cache(DEFAULT_CACHE_NAME);
+
+            for (int i = 0; i < KEYS_CNT; i++)
+                assertEquals(i, (int)cache0.get(i));
+        }
+
+        try (IgniteClient cli = Ignition.startClient(new ClientConfiguration().setAddresses("127.0.0.1:10800"))) {
+            ClientCache<Integer, Integer> cliCache = cli.cache(DEFAULT_CACHE_NAME);
+
+            for (int i = 0; i < KEYS_CNT; i++)
+                assertEquals(i, (int)cliCache.get(i));
+
+            for (int i = 0; i < KEYS_CNT; i++)
+                cliCache.put(i, -i);
+        }
+
+        for (int i = 0; i < KEYS_CNT; i++)
+            assertEquals(-i, (int)grid(2).<Integer, Integer>cache(DEFAULT_CACHE_NAME).get(i));
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.spi.communication.tcp;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.util.nio.GridNioSession;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.lang.IgniteFuture;
+import org.apache.ignite.spi.communication.tcp.internal.GridNioServerWrapper;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.internal.util.nio.GridNioSessionMetaKey.READ_PIPE;
+import static org.apache.ignite.internal.util.nio.GridNioSessionMetaKey.WRITE_PIPE;
+import static org.apache.ignite.spi.communication.tcp.internal.CommunicationTcpUtils.sharedMemoryDirectory;
+import static org.apache.ignite.testframework.GridTestUtils.getFieldValue;
+import static org.apache.ignite.testframework.GridTestUtils.waitForCondition;
+
+/**
+ * Tests {@link TcpCommunicationSpi} with shared memory enabled.
+ */
+public class TcpCommunicationSharedMemoryTest extends GridCommonAbstractTest {
+    /** Keys count. */
+    private static final int KEYS_CNT = 5_000;
+
+    /** Ring size, smaller than the large values to exercise partial writes. */
+    private static final int RING_SIZE = 64 * 1024;
+
+    /** Directory of the ring files. */
+    private File dir;
+
+    /** Directory of the ring files of the second node, {@code null} to use {@link #dir}. */
+    private File otherDir;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        File dir0 = otherDir != null && getTestIgniteInstanceIndex(igniteInstanceName) == 1 ? otherDir : dir;
+
+        return super.getConfiguration(igniteInstanceName)
+            .setCommunicationSpi(new TcpCommunicationSpi()
+                .setSharedMemoryEnabled(true)
+                .setSharedMemoryRingSize(RING_SIZE)
+                .setSharedMemoryPath(dir0.getAbsolutePath()));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        dir = U.resolveWorkDirectory(U.defaultWorkDirectory(), "shmem", true);
+        otherDir = null;
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        U.delete(dir);
+
+        if (otherDir != null)
+            U.delete(otherDir);
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testSameHost() throws Exception {
+        startGrids(2);
+
+        checkCacheOperations();
+
+        for (Ignite node : Arrays.asList(grid(0), grid(1))) {
+            Collection<? extends GridNioSession> sessions = sessions(node);
+
+            assertFalse(sessions.isEmpty());
+
+            assertTrue("Connections are expected to switch to shared memory: " + sessions,
+                waitForCondition(() -> sessions.stream().allMatch(ses ->
+                    ses.meta(READ_PIPE.ordinal()) != null && ses.meta(WRITE_PIPE.ordinal()) != null), getTestTimeout()));
+        }
+
+        File ringDir = sharedMemoryDirectory(dir.getAbsolutePath());
+
+        assertEquals("rwx------", PosixFilePermissions.toString(Files.getPosixFilePermissions(ringDir.toPath())));
+
+        stopGrid(1);
+
+        // Rings are unlinked once mapped by the readers, only the host ID remains.
+        assertTrue(waitForCondition(() -> ringDir.list().length == 1, getTestTimeout()));
+
+        assertEquals("rw-------", PosixFilePermissions.toString(
+            Files.getPosixFilePermissions(ringDir.listFiles()[0].toPath())));
+
+        assertEquals(1, grid(0).cluster().nodes().size());
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testDifferentHosts() throws Exception {
+        otherDir = U.resolveWorkDirectory(U.defaultWorkDirectory(), "shmem-other", true);
+
+        startGrids(2);
+
+        checkCacheOperations();
+
+        for (Ignite node : Arrays.asList(grid(0), grid(1))) {
+            for (GridNioSession ses : sessions(node)) {
+                assertNull(ses.meta(READ_PIPE.ordinal()));
+                assertNull(ses.meta(WRITE_PIPE.ordinal()));
+            }
+        }
+    }
+
+    /**
+     * Puts small and large values and checks them on the other node.
+     */
+    private void checkCacheOperations() {
+        IgniteCache<Integer, byte[]> cache = grid(0).createCache(
+            new CacheConfiguration<Integer, byte[]>(DEFAULT_CACHE_NAME).setBackups(1));
+
+        List<IgniteFuture<Void>> futs = new ArrayList<>(KEYS_CNT);
+
+        for (int i = 0; i < KEYS_CNT; i++)
+            futs.add(cache.putAsync(i, value(i)));
+
+        for (IgniteFuture<Void> fut : futs)
+            fut.get(getTestTimeout());
+
+        IgniteCache<Integer, byte[]> cache1 = grid(1).cache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < KEYS_CNT; i++)
+            assertTrue(Arrays.equals(value(i), cache1.get(i)));
+    }
+
+    /**
+     * @param i Key.
+     * @return Value, every hundredth is larger than the ring.
+     */
+    private static byte[] value(int i) {
+        byte[] val = new byte[i % 100 == 0 ? RING_SIZE * 3 + i : 1 + i % 64];
+
+        Arrays.fill(val, (byte)i);
+
+        return val;
+    }
+
+    /**
+     * @param node Node.
+     * @return Communication sessions.
+     */
+    private static Collection<? extends GridNioSession> sessions(Ignite node) {
+        GridNioServerWrapper wrapper = getFieldValue(node.configuration().getCommunicationSpi(), "nioSrvWrapper");
+
+        return wrapper.nio().sessions();
+    }
+}
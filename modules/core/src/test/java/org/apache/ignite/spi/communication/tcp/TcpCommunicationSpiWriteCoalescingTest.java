@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.spi.communication.tcp;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.util.nio.GridNioServer;
+import org.apache.ignite.lang.IgniteFuture;
+import org.apache.ignite.spi.metric.LongMetric;
+import org.apache.ignite.spi.metric.ReadOnlyMetricRegistry;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.COMMUNICATION_METRICS_GROUP_NAME;
+
+/**
+ * Tests {@link TcpCommunicationSpi} with write coalescing enabled.
+ */
+public class TcpCommunicationSpiWriteCoalescingTest extends GridCommonAbstractTest {
+    /** Keys count. */
+    private static final int KEYS_CNT = 10_000;
+
+    /** Write coalescing window in microseconds. */
+    private long coalescingWindow = 500;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setCommunicationSpi(new TcpCommunicationSpi()
+                .setWriteCoalescingWindow(coalescingWindow)
+                .setWriteCoalescingThreshold(8 * 1024));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testSmallMessages() throws Exception {
+        startGrids(2);
+
+        IgniteCache<Integer, Integer> cache = grid(0).createCache(DEFAULT_CACHE_NAME);
+
+        awaitPartitionMapExchange();
+
+        // Sparse traffic.
+        for (int i = 0; i < 100; i++)
+            cache.put(i, i);
+
+        // Stream of small messages.
+        List<IgniteFuture<Void>> futs = new ArrayList<>(KEYS_CNT);
+
+        for (int i = 0; i < KEYS_CNT; i++)
+            futs.add(cache.putAsync(i, -i));
+
+        for (IgniteFuture<Void> fut : futs)
+            fut.get(getTestTimeout());
+
+        IgniteCache<Integer, Integer> cache1 = grid(1).cache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < KEYS_CNT; i++)
+            assertEquals(-i, (int)cache1.get(i));
+
+        ReadOnlyMetricRegistry mreg = grid(0).context().metric().registry(COMMUNICATION_METRICS_GROUP_NAME);
+
+        long sentBytes = mreg.<LongMetric>findMetric(GridNioServer.SENT_BYTES_METRIC_NAME).value();
+        long writes = mreg.<LongMetric>findMetric(GridNioServer.SOCKET_WRITES_METRIC_NAME).value();
+        long sentMsgs = mreg.<LongMetric>findMetric(TcpCommunicationSpi.SENT_MESSAGES_METRIC_NAME).value();
+
+        assertTrue(writes > 0);
+        assertTrue("Messages are expected to be written in batches [msgs=" + sentMsgs + ", writes=" + writes + ']',
+            writes < sentMsgs);
+
+        long avg = mreg.<LongMetric>findMetric(GridNioServer.AVG_BYTES_PER_WRITE_METRIC_NAME).value();
+
+        assertTrue(avg > 0);
+        assertTrue(avg <= sentBytes);
+    }
+
+    /**
+     * Checks that NIO workers do not spin while writes are deferred: request-response traffic defers almost every
+     * write for the whole window, so spinning would take a NIO worker thread's CPU time close to the wall time.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testNoSpinWhileWriteDeferred() throws Exception {
+        coalescingWindow = 160_000;
+
+        startGrids(2);
+
+        IgniteCache<Integer, Integer> cache = grid(0).createCache(DEFAULT_CACHE_NAME);
+
+        awaitPartitionMapExchange();
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+        long cpuStart = nioWorkersCpuTime(threads);
+        long start = System.nanoTime();
+
+        // Each put waits for the response, so nothing arrives while a write is deferred.
+        for (int i = 0; i < 100; i++)
+            cache.put(i, i);
+
+        long wall = System.nanoTime() - start;
+        long cpu = nioWorkersCpuTime(threads) - cpuStart;
+
+        assertTrue("NIO workers are expected to wait for the deferred writes [cpu=" + cpu + ", wall=" + wall + ']',
+            cpu < wall / 4);
+    }
+
+    /**
+     * @param threads Thread MX bean.
+     * @return Total CPU time of the communication NIO workers in nanoseconds.
+     */
+    private static long nioWorkersCpuTime(ThreadMXBean threads) {
+        long res = 0;
+
+        for (ThreadInfo info : threads.getThreadInfo(threads.getAllThreadIds())) {
+            if (info != null && info.getThreadName().startsWith("grid-nio-worker-tcp-comm"))
+                res += Math.max(0, threads.getThreadCpuTime(info.getThreadId()));
+        }
+
+        return res;
+    }
+}
@@ -28,6 +28,7 @@ import org.apache.ignite.configuration.IgniteConfiguration;
 import org.apache.ignite.internal.GridTopic;
 import org.apache.ignite.internal.managers.communication.GridIoMessage;
 import org.apache.ignite.internal.managers.communication.GridIoPolicy;
+import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.GridDhtPartitionsFullMessage;
 import org.apache.ignite.internal.processors.metric.impl.LongAdderMetric;
 import org.apache.ignite.internal.processors.metric.impl.MetricUtils;
 import org.apache.ignite.lang.IgniteCallable;
@@ -41,11 +42,15 @@ import org.apache.ignite.plugin.extensions.communication.Message;
 import org.apache.ignite.plugin.extensions.communication.MessageFactoryProvider;
 import org.apache.ignite.spi.IgniteSpiException;
 import org.apache.ignite.spi.communication.GridTestMessage;
+import org.apache.ignite.testframework.GridTestUtils;
 import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
 import org.junit.Test;
 
 import static org.apache.ignite.spi.communication.GridTestMessage.GRID_TEST_MESSAGE_FACTORY;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.COMMUNICATION_METRICS_GROUP_NAME;
+import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.COMPRESSION_COMPRESSED_BYTES_BY_TYPE_METRIC_NAME;
+import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.COMPRESSION_RAW_BYTES_BY_TYPE_METRIC_NAME;
+import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.DECOMPRESSION_RAW_BYTES_METRIC_NAME;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.RECEIVED_MESSAGES_BY_NODE_CONSISTENT_ID_METRIC_NAME;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.SENT_MESSAGES_BY_NODE_CONSISTENT_ID_METRIC_NAME;
 
@@ -213,6 +218,42 @@ public class TcpCommunicationStatisticsTest extends GridCommonAbstractTest {
         }
     }
 
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testCompressionMetrics() throws Exception {
+        startGrids(2);
+
+        try {
+            grid(0).createCache(DEFAULT_CACHE_NAME);
+
+            awaitPartitionMapExchange();
+
+            short fullMsgType = new GridDhtPartitionsFullMessage().directType();
+
+            MetricRegistry mreg0 = grid(0).context().metric().registry(COMMUNICATION_METRICS_GROUP_NAME);
+            MetricRegistry mreg1 = grid(1).context().metric().registry(COMMUNICATION_METRICS_GROUP_NAME);
+
+            String rawName = MetricUtils.metricName(COMPRESSION_RAW_BYTES_BY_TYPE_METRIC_NAME, String.valueOf(fullMsgType));
+            String cmprName =
+                MetricUtils.metricName(COMPRESSION_COMPRESSED_BYTES_BY_TYPE_METRIC_NAME, String.valueOf(fullMsgType));
+
+            // Full map is sent by the coordinator, compressed fields are decompressed by the other node.
+            assertTrue(GridTestUtils.waitForCondition(() -> {
+                LongAdderMetric raw = mreg0.findMetric(rawName);
+                LongAdderMetric cmpr = mreg0.findMetric(cmprName);
+
+                return raw != null && raw.value() > 0 && cmpr != null && cmpr.value() > 0;
+            }, getTestTimeout()));
+
+            assertTrue(((LongAdderMetric)mreg1.findMetric(DECOMPRESSION_RAW_BYTES_METRIC_NAME)).value() > 0);
+        }
+        finally {
+            stopAllGrids();
+        }
+    }
+
     /** */
     public static class TestPluginProvider extends AbstractTestPluginProvider {
         /** {@inheritDoc} */
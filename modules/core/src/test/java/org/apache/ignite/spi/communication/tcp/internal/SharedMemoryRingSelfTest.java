@@ -0,0 +1,282 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.spi.communication.tcp.internal;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.concurrent.ThreadLocalRandom;
+import org.apache.ignite.internal.IgniteInternalFuture;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link SharedMemoryRing}.
+ */
+public class SharedMemoryRingSelfTest {
+    /** Capacity. */
+    private static final int CAP = SharedMemoryRing.MIN_CAPACITY;
+
+    /** Directory. */
+    private File dir;
+
+    /** */
+    @Before
+    public void before() throws Exception {
+        dir = Files.createTempDirectory("ignite-shmem-test").toFile();
+    }
+
+    /** */
+    @After
+    public void after() {
+        U.delete(dir);
+    }
+
+    /**
+     * Tests that bytes written are read in order across the ring boundary and that a full ring takes no bytes.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testWriteRead() throws Exception {
+        File file = new File(dir, "ring");
+
+        try (SharedMemoryRing writer = SharedMemoryRing.create(file, CAP);
+             SharedMemoryRing reader = SharedMemoryRing.open(file)) {
+            assertFalse("Reader is expected to unlink the file", file.exists());
+            assertFalse(reader.readable());
+
+            ByteBuffer src = ByteBuffer.allocate(2 * CAP);
+            ByteBuffer dst = ByteBuffer.allocate(CAP);
+
+            for (int i = 0; i < src.capacity(); i++)
+                src.put(i, (byte)i);
+
+            src.limit(CAP - 10);
+
+            assertEquals(CAP - 10, writer.write(src));
+            assertTrue(reader.readable());
+
+            dst.limit(CAP - 20);
+
+            assertEquals(CAP - 20, reader.read(dst));
+
+            // Ring holds 10 bytes, the next write wraps around and fills it up.
+            src.limit(src.capacity());
+
+            assertEquals(CAP - 10, writer.write(src));
+            assertEquals(0, writer.write(src));
+            assertEquals(20, src.remaining());
+
+            dst.clear();
+
+            assertEquals(CAP, reader.read(dst));
+            assertFalse(reader.readable());
+
+            for (int i = 0; i < CAP; i++)
+                assertEquals((byte)(CAP - 20 + i), dst.get(i));
+        }
+    }
+
+    /**
+     * Tests the reader wakeup protocol.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testPark() throws Exception {
+        File file = new File(dir, "ring");
+
+        try (SharedMemoryRing writer = SharedMemoryRing.create(file, CAP);
+             SharedMemoryRing reader = SharedMemoryRing.open(file)) {
+            assertFalse(writer.unparkReader());
+
+            reader.park();
+
+            assertTrue(writer.unparkReader());
+            assertFalse("Reader is expected to be woken up once", writer.unparkReader());
+
+            reader.park();
+            reader.unpark();
+
+            assertFalse(writer.unparkReader());
+        }
+    }
+
+    /**
+     * Tests the writer wakeup protocol.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testParkWriter() throws Exception {
+        File file = new File(dir, "ring");
+
+        try (SharedMemoryRing writer = SharedMemoryRing.create(file, CAP);
+             SharedMemoryRing reader = SharedMemoryRing.open(file)) {
+            ByteBuffer src = ByteBuffer.allocate(CAP + 1);
+            ByteBuffer dst = ByteBuffer.allocate(1);
+
+            assertEquals(CAP - 1, writer.write(src.limit(CAP - 1)));
+
+            assertFalse("Writer is not expected to park while there is free space", writer.parkWriter());
+            assertFalse(reader.unparkWriter());
+
+            assertEquals(1, writer.write(src.limit(CAP + 1)));
+
+            assertTrue(writer.parkWriter());
+
+            assertEquals(1, reader.read(dst));
+
+            assertTrue(reader.unparkWriter());
+            assertFalse("Writer is expected to be woken up once", reader.unparkWriter());
+
+            assertEquals(1, writer.write(src));
+            assertTrue(writer.parkWriter());
+        }
+    }
+
+    /**
+     * Tests that ring files are created accessible by the owner only and that only ring file names are resolved.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testFile() throws Exception {
+        File file = SharedMemoryRing.file(dir, SharedMemoryRing.FILE_PREFIX + "0a-1b");
+
+        assertEquals(new File(dir, SharedMemoryRing.FILE_PREFIX + "0a-1b"), file);
+
+        try (SharedMemoryRing ignored = SharedMemoryRing.create(file, CAP)) {
+            assertEquals("rw-------", PosixFilePermissions.toString(Files.getPosixFilePermissions(file.toPath())));
+        }
+
+        assertNull(SharedMemoryRing.file(dir, null));
+        assertNull(SharedMemoryRing.file(dir, "ring"));
+        assertNull(SharedMemoryRing.file(dir, SharedMemoryRing.FILE_PREFIX));
+        assertNull(SharedMemoryRing.file(dir, SharedMemoryRing.FILE_PREFIX + "a/../../b"));
+        assertNull(SharedMemoryRing.file(dir, "/etc/" + SharedMemoryRing.FILE_PREFIX + "a"));
+    }
+
+    /**
+     * Tests that the reader leaves a file that is not a ring in place.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testOpenInvalidFile() throws Exception {
+        File file = new File(dir, "ring");
+
+        Files.write(file.toPath(), new byte[2 * CAP]);
+
+        GridTestUtils.assertThrows(null, () -> SharedMemoryRing.open(file), IOException.class, "Invalid");
+
+        assertTrue(file.exists());
+
+        Files.write(file.toPath(), new byte[10]);
+
+        GridTestUtils.assertThrows(null, () -> SharedMemoryRing.open(file), IOException.class, "too small");
+
+        assertTrue(file.exists());
+    }
+
+    /**
+     * Tests that the writer removes the file if no reader has mapped it.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testWriterRemovesFile() throws Exception {
+        File file = new File(dir, "ring");
+
+        SharedMemoryRing writer = SharedMemoryRing.create(file, CAP);
+
+        assertTrue(file.exists());
+
+        writer.close();
+
+        assertFalse(file.exists());
+        assertFalse(writer.isOpen());
+    }
+
+    /**
+     * Tests concurrent writer and reader.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testConcurrentWriteRead() throws Exception {
+        File file = new File(dir, "ring");
+
+        long total = 1 << 22;
+
+        try (SharedMemoryRing writer = SharedMemoryRing.create(file, CAP);
+             SharedMemoryRing reader = SharedMemoryRing.open(file)) {
+            IgniteInternalFuture<?> fut = GridTestUtils.runAsync(() -> {
+                ByteBuffer src = ByteBuffer.allocate(CAP / 3);
+
+                long pos = 0;
+
+                while (pos < total) {
+                    src.clear();
+
+                    src.limit((int)Math.min(ThreadLocalRandom.current().nextInt(1, src.capacity()), total - pos));
+
+                    for (int i = 0; i < src.limit(); i++)
+                        src.put(i, (byte)(pos + i));
+
+                    while (src.hasRemaining())
+                        writer.write(src);
+
+                    pos += src.limit();
+                }
+
+                return null;
+            });
+
+            ByteBuffer dst = ByteBuffer.allocate(CAP / 2);
+
+            long pos = 0;
+
+            while (pos < total) {
+                dst.clear();
+
+                int cnt = reader.read(dst);
+
+                for (int i = 0; i < cnt; i++)
+                    assertEquals((byte)(pos + i), dst.get(i));
+
+                pos += cnt;
+            }
+
+            fut.get();
+
+            assertFalse(reader.readable());
+        }
+    }
+}
@@ -68,6 +68,7 @@ import org.apache.ignite.internal.pagemem.wal.record.delta.MetaPageUpdatePartiti
 import org.apache.ignite.internal.pagemem.wal.record.delta.MetaPageUpdatePartitionDataRecordV2;
 import org.apache.ignite.internal.pagemem.wal.record.delta.MetaPageUpdatePartitionDataRecordV3;
 import org.apache.ignite.internal.pagemem.wal.record.delta.NewRootInitRecord;
+import org.apache.ignite.internal.pagemem.wal.record.delta.PageDiffRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.PageListMetaResetCountRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.PagesListAddPageRecord;
 import org.apache.ignite.internal.pagemem.wal.record.delta.PagesListInitNewPageRecord;
@@ -156,6 +157,7 @@ import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType
 import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.PAGES_LIST_REMOVE_PAGE;
 import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.PAGES_LIST_SET_NEXT;
 import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.PAGES_LIST_SET_PREVIOUS;
+import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.PAGE_DIFF_RECORD;
 import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.PAGE_LIST_META_RESET_COUNT_RECORD;
 import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.PAGE_RECORD;
 import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.PARTITION_CLEARING_START_RECORD;
@@ -276,6 +278,7 @@ public class RecordUtils {
             buildUnsupportedWalRecord(MVCC_DATA_PAGE_NEW_TX_STATE_HINT_UPDATED_RECORD));
 
         put(RESERVED_IDX2, buildUnsupportedWalRecord(RESERVED_IDX2));
+        put(PAGE_DIFF_RECORD, RecordUtils::buildPageDiffRecord);
     }
 
     /** */
@@ -464,6 +467,11 @@ public class RecordUtils {
         return new MemoryRecoveryRecord(1);
     }
 
+    /** **/
+    public static PageDiffRecord buildPageDiffRecord() {
+        return new PageDiffRecord(1, 1, 1, new byte[] {0, 8, 0, 2, 1, 1});
+    }
+
     /** **/
     public static TrackingPageDeltaRecord buildTrackingPageDeltaRecord() {
         return new TrackingPageDeltaRecord(1, 1, 1, 1, 1);
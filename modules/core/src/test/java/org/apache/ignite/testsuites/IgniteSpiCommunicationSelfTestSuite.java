@@ -18,11 +18,13 @@
 package org.apache.ignite.testsuites;
 
 import org.apache.ignite.internal.util.nio.TcpCommunicationSpiSslVolatilePayloadTest;
+import org.apache.ignite.internal.util.nio.TcpCommunicationSpiZeroCopyTest;
 import org.apache.ignite.spi.communication.tcp.ClientExceptionsUtilsTest;
 import org.apache.ignite.spi.communication.tcp.CommunicationConnectionPoolMetricsTest;
 import org.apache.ignite.spi.communication.tcp.GridCacheDhtLockBackupSelfTest;
 import org.apache.ignite.spi.communication.tcp.GridSandboxedClientWithoutNetworkTest;
 import org.apache.ignite.spi.communication.tcp.GridTcpCommunicationInverseConnectionEstablishingTest;
+import org.apache.ignite.spi.communication.tcp.GridTcpCommunicationSpiBusyPollSelfTest;
 import org.apache.ignite.spi.communication.tcp.GridTcpCommunicationSpiConcurrentConnectSelfTest;
 import org.apache.ignite.spi.communication.tcp.GridTcpCommunicationSpiConcurrentConnectSslSelfTest;
 import org.apache.ignite.spi.communication.tcp.GridTcpCommunicationSpiConfigSelfTest;
@@ -45,6 +47,7 @@ import org.apache.ignite.spi.communication.tcp.IgniteTcpCommunicationHandshakeWa
 import org.apache.ignite.spi.communication.tcp.IgniteTcpCommunicationHandshakeWaitTest;
 import org.apache.ignite.spi.communication.tcp.IgniteTcpCommunicationRecoveryAckClosureSelfTest;
 import org.apache.ignite.spi.communication.tcp.TcpCommunicationHandshakeTimeoutTest;
+import org.apache.ignite.spi.communication.tcp.TcpCommunicationSharedMemoryTest;
 import org.apache.ignite.spi.communication.tcp.TcpCommunicationSpiDropNodesTest;
 import org.apache.ignite.spi.communication.tcp.TcpCommunicationSpiFaultyClientSslTest;
 import org.apache.ignite.spi.communication.tcp.TcpCommunicationSpiFaultyClientTest;
@@ -53,8 +56,10 @@ import org.apache.ignite.spi.communication.tcp.TcpCommunicationSpiInverseConnect
 import org.apache.ignite.spi.communication.tcp.TcpCommunicationSpiMultiJvmTest;
 import org.apache.ignite.spi.communication.tcp.TcpCommunicationSpiNodeLeftLoggingTest;
 import org.apache.ignite.spi.communication.tcp.TcpCommunicationSpiSkipMessageSendTest;
+import org.apache.ignite.spi.communication.tcp.TcpCommunicationSpiWriteCoalescingTest;
 import org.apache.ignite.spi.communication.tcp.TcpCommunicationStatisticsTest;
 import org.apache.ignite.spi.communication.tcp.TooManyOpenFilesTcpCommunicationSpiTest;
+import org.apache.ignite.spi.communication.tcp.internal.SharedMemoryRingSelfTest;
 import org.apache.ignite.spi.communication.tcp.internal.TcpCommunicationSpiHalfOpenedConnectionTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
@@ -78,6 +83,7 @@ import org.junit.runners.Suite;
 
     GridTcpCommunicationSpiTcpSelfTest.class,
     GridTcpCommunicationSpiTcpNoDelayOffSelfTest.class,
+    GridTcpCommunicationSpiBusyPollSelfTest.class,
 
     GridTcpCommunicationSpiStartStopSelfTest.class,
 
@@ -100,6 +106,9 @@ import org.junit.runners.Suite;
     GridTcpCommunicationSpiSkipWaitHandshakeOnClientTest.class,
 
     TcpCommunicationStatisticsTest.class,
+    TcpCommunicationSpiWriteCoalescingTest.class,
+    TcpCommunicationSharedMemoryTest.class,
+    SharedMemoryRingSelfTest.class,
 
     CommunicationConnectionPoolMetricsTest.class,
 
@@ -122,6 +131,7 @@ import org.junit.runners.Suite;
     ClientExceptionsUtilsTest.class,
 
     TcpCommunicationSpiSslVolatilePayloadTest.class,
+    TcpCommunicationSpiZeroCopyTest.class,
 })
 public class IgniteSpiCommunicationSelfTestSuite {
 }
@@ -36,11 +36,13 @@ import org.apache.ignite.internal.util.IgniteUtilsUnitTest;
 import org.apache.ignite.internal.util.distributed.DistributedProcessClientAwaitTest;
 import org.apache.ignite.internal.util.distributed.DistributedProcessCoordinatorLeftTest;
 import org.apache.ignite.internal.util.distributed.DistributedProcessErrorHandlingTest;
+import org.apache.ignite.internal.util.nio.GridNioBusyPollSelfTest;
 import org.apache.ignite.internal.util.nio.GridNioDelimitedBufferSelfTest;
 import org.apache.ignite.internal.util.nio.GridNioSelfTest;
 import org.apache.ignite.internal.util.nio.GridNioServerTest;
 import org.apache.ignite.internal.util.nio.GridNioSessionMetaKeySelfTest;
 import org.apache.ignite.internal.util.nio.GridNioSslSelfTest;
+import org.apache.ignite.internal.util.nio.GridNioWriteCoalescerSelfTest;
 import org.apache.ignite.internal.util.nio.impl.GridNioFilterChainSelfTest;
 import org.apache.ignite.internal.util.offheap.unsafe.GridUnsafeMapSelfTest;
 import org.apache.ignite.internal.util.offheap.unsafe.GridUnsafeMemorySelfTest;
@@ -135,6 +137,8 @@ import org.junit.runners.Suite;
     GridNioServerTest.class,
     GridNioFilterChainSelfTest.class,
     GridNioSslSelfTest.class,
+    GridNioBusyPollSelfTest.class,
+    GridNioWriteCoalescerSelfTest.class,
     GridNioDelimitedBufferSelfTest.class,
 
     GridPartitionMapSelfTest.class,
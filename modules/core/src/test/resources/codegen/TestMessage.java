@@ -18,6 +18,7 @@
 package org.apache.ignite.internal;
 
 import java.lang.String;
+import java.nio.ByteBuffer;
 import java.util.UUID;
 import java.util.BitSet;
 import org.apache.ignite.internal.processors.cache.CacheObject;
@@ -79,6 +80,9 @@ public class TestMessage implements Message {
     @Order(14)
     GridLongList gridLongList;
 
+    @Order(16)
+    ByteBuffer byteBuf;
+
     public String overridenFieldMethod() {
         return field;
     }
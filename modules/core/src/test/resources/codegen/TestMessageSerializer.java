@@ -144,6 +144,12 @@ public final class TestMessageSerializer implements MessageSerializer<TestMessag
                     return false;
 
                 writer.incrementState();
+
+            case 16:
+                if (!writer.writeByteBuffer(msg.byteBuf))
+                    return false;
+
+                writer.incrementState();
         }
 
         return true;
@@ -275,6 +281,14 @@ public final class TestMessageSerializer implements MessageSerializer<TestMessag
             case 15:
                 msg.nioMsg = reader.readMessage();
 
+                if (!reader.isLastRead())
+                    return false;
+
+                reader.incrementState();
+
+            case 16:
+                msg.byteBuf = reader.readByteBuffer();
+
                 if (!reader.isLastRead())
                     return false;
 
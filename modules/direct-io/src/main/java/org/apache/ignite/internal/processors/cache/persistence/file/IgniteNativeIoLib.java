@@ -91,6 +91,27 @@ public class IgniteNativeIoLib {
     /** Seek option: change file position to offset */
     public static final int SEEK_CUR = 1;
 
+    /** Interrupted system call. */
+    public static final int E_INTR = 4;
+
+    /** Resource temporarily unavailable. */
+    public static final int E_AGAIN = 11;
+
+    /** Device or resource busy. */
+    public static final int E_BUSY = 16;
+
+    /** Pages may be read. */
+    public static final int PROT_READ = 0x1;
+
+    /** Pages may be written. */
+    public static final int PROT_WRITE = 0x2;
+
+    /** Share this mapping. */
+    public static final int MAP_SHARED = 0x01;
+
+    /** Populate (prefault) page tables for a mapping. */
+    public static final int MAP_POPULATE = 0x08000;
+
     /** JNA library available and initialized. Always {@code false} for non linux systems. */
     private static boolean jnaAvailable;
 
@@ -412,4 +433,42 @@ public class IgniteNativeIoLib {
      * @return  On error, the value -1 is returned and errno is set to indicate the error.
      */
     public static native long lseek(int fd, long off, int whence);
+
+    /**
+     * Creates a new mapping in the virtual address space of the calling process. See "man 2 mmap".
+     *
+     * @param addr Starting address hint for the new mapping or {@code null}.
+     * @param len Length of the mapping.
+     * @param prot Memory protection of the mapping.
+     * @param flags Mapping flags.
+     * @param fd File descriptor.
+     * @param off Offset in the file.
+     * @return Address of the mapping. On error, {@code MAP_FAILED} ({@code (void *) -1}) is returned, and errno is set
+     * appropriately.
+     */
+    public static native Pointer mmap(Pointer addr, NativeLong len, int prot, int flags, int fd, NativeLong off);
+
+    /**
+     * Deletes the mappings for the specified address range. See "man 2 munmap".
+     *
+     * @param addr Address of the mapping.
+     * @param len Length of the mapping.
+     * @return On success, zero is returned. On error, -1 is returned, and errno is set appropriately.
+     */
+    public static native int munmap(Pointer addr, NativeLong len);
+
+    /**
+     * Invokes the system call with the specified number and arguments. Used for system calls which don't have
+     * a wrapper in C library, for example io_uring ones. Unused arguments are ignored. See "man 2 syscall".
+     *
+     * @param num System call number.
+     * @param arg1 First argument.
+     * @param arg2 Second argument.
+     * @param arg3 Third argument.
+     * @param arg4 Fourth argument.
+     * @param arg5 Fifth argument.
+     * @param arg6 Sixth argument.
+     * @return Value returned by the system call. On error, -1 is returned, and errno is set appropriately.
+     */
+    public static native long syscall(long num, long arg1, long arg2, long arg3, long arg4, long arg5, long arg6);
 }
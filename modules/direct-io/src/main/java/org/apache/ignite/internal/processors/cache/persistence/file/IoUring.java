@@ -0,0 +1,340 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.file;
+
+import java.io.IOException;
+import com.sun.jna.Native;
+import com.sun.jna.NativeLong;
+import com.sun.jna.Pointer;
+import org.apache.ignite.internal.util.GridUnsafe;
+
+/**
+ * Linux io_uring instance: a pair of submission and completion queues shared with the kernel. Uses raw system calls
+ * through {@link IgniteNativeIoLib}, so it doesn't require liburing. Requires Linux kernel 5.6 or newer.
+ * <p>
+ * Operations are submitted in batches by {@link #submitAndWait(byte, int, long[], int[], long[], int[], int)}: a whole
+ * batch of reads or writes is passed to the kernel and completed by a single {@code io_uring_enter} call.
+ * <p>
+ * Note: The instance is not thread safe, it should be used by one thread at a time.
+ */
+class IoUring implements AutoCloseable {
+    /** System call number of {@code io_uring_setup}, it's the same for all architectures. */
+    private static final long SYS_IO_URING_SETUP = 425;
+
+    /** System call number of {@code io_uring_enter}, it's the same for all architectures. */
+    private static final long SYS_IO_URING_ENTER = 426;
+
+    /** Read operation code. */
+    static final byte IORING_OP_READ = 22;
+
+    /** Write operation code. */
+    static final byte IORING_OP_WRITE = 23;
+
+    /** Wait for completion events flag of {@code io_uring_enter}. */
+    private static final int IORING_ENTER_GETEVENTS = 1;
+
+    /** Feature flag of kernels which support {@link #IORING_OP_READ} and {@link #IORING_OP_WRITE} operations. */
+    private static final int IORING_FEAT_RW_CUR_POS = 1 << 3;
+
+    /** Offset of the submission queue ring for {@code mmap}. */
+    private static final long IORING_OFF_SQ_RING = 0L;
+
+    /** Offset of the completion queue ring for {@code mmap}. */
+    private static final long IORING_OFF_CQ_RING = 0x8000000L;
+
+    /** Offset of the submission queue entries array for {@code mmap}. */
+    private static final long IORING_OFF_SQES = 0x10000000L;
+
+    /** Size of {@code struct io_uring_params}. */
+    private static final int PARAMS_SIZE = 120;
+
+    /** Offset of {@code struct io_sqring_offsets} in {@code struct io_uring_params}. */
+    private static final int PARAMS_SQ_OFF = 40;
+
+    /** Offset of {@code struct io_cqring_offsets} in {@code struct io_uring_params}. */
+    private static final int PARAMS_CQ_OFF = 80;
+
+    /** Size of {@code struct io_uring_sqe}. */
+    private static final int SQE_SIZE = 64;
+
+    /** Size of {@code struct io_uring_cqe}. */
+    private static final int CQE_SIZE = 16;
+
+    /** Ring file descriptor. */
+    private final int ringFd;
+
+    /** Count of submission queue entries. */
+    private final int sqEntries;
+
+    /** Submission queue ring mapping. */
+    private final Pointer sqRing;
+
+    /** Submission queue ring mapping size. */
+    private final long sqRingSize;
+
+    /** Completion queue ring mapping. */
+    private final Pointer cqRing;
+
+    /** Completion queue ring mapping size. */
+    private final long cqRingSize;
+
+    /** Submission queue entries mapping. */
+    private final Pointer sqes;
+
+    /** Address of submission queue entries. */
+    private final long sqesAddr;
+
+    /** Address of submission queue tail. */
+    private final long sqTailAddr;
+
+    /** Address of submission queue index array. */
+    private final long sqArrayAddr;
+
+    /** Submission queue ring mask. */
+    private final int sqMask;
+
+    /** Address of completion queue head. */
+    private final long cqHeadAddr;
+
+    /** Address of completion queue tail. */
+    private final long cqTailAddr;
+
+    /** Address of completion queue entries. */
+    private final long cqesAddr;
+
+    /** Completion queue ring mask. */
+    private final int cqMask;
+
+    /** Submission queue tail, it's modified by this instance only. */
+    private int sqTail;
+
+    /** Completion queue head, it's modified by this instance only. */
+    private int cqHead;
+
+    /**
+     * @param entries Count of submission queue entries, a power of two.
+     * @throws IOException If io_uring is not supported or failed to setup.
+     */
+    IoUring(int entries) throws IOException {
+        assert entries > 0 && (entries & (entries - 1)) == 0 : entries;
+
+        long params = GridUnsafe.allocateMemory(PARAMS_SIZE);
+
+        try {
+            GridUnsafe.zeroMemory(params, PARAMS_SIZE);
+
+            int fd = (int)IgniteNativeIoLib.syscall(SYS_IO_URING_SETUP, entries, params, 0, 0, 0, 0);
+
+            if (fd < 0)
+                throw new IOException("Failed to setup io_uring: " + lastError());
+
+            ringFd = fd;
+
+            try {
+                if ((GridUnsafe.getInt(params + 20) & IORING_FEAT_RW_CUR_POS) == 0)
+                    throw new IOException("Failed to setup io_uring: read and write operations are not supported");
+
+                sqEntries = GridUnsafe.getInt(params);
+
+                int cqEntries = GridUnsafe.getInt(params + 4);
+
+                long sqOff = params + PARAMS_SQ_OFF;
+                long cqOff = params + PARAMS_CQ_OFF;
+
+                sqRingSize = GridUnsafe.getInt(sqOff + 24) + sqEntries * 4L;
+                cqRingSize = GridUnsafe.getInt(cqOff + 20) + cqEntries * (long)CQE_SIZE;
+
+                sqRing = map(sqRingSize, IORING_OFF_SQ_RING);
+                cqRing = map(cqRingSize, IORING_OFF_CQ_RING);
+                sqes = map(sqEntries * (long)SQE_SIZE, IORING_OFF_SQES);
+
+                long sqAddr = Pointer.nativeValue(sqRing);
+                long cqAddr = Pointer.nativeValue(cqRing);
+
+                sqTailAddr = sqAddr + GridUnsafe.getInt(sqOff + 4);
+                sqMask = GridUnsafe.getInt(sqAddr + GridUnsafe.getInt(sqOff + 8));
+                sqArrayAddr = sqAddr + GridUnsafe.getInt(sqOff + 24);
+                sqesAddr = Pointer.nativeValue(sqes);
+
+                cqHeadAddr = cqAddr + GridUnsafe.getInt(cqOff);
+                cqTailAddr = cqAddr + GridUnsafe.getInt(cqOff + 4);
+                cqMask = GridUnsafe.getInt(cqAddr + GridUnsafe.getInt(cqOff + 8));
+                cqesAddr = cqAddr + GridUnsafe.getInt(cqOff + 20);
+
+                sqTail = GridUnsafe.getInt(sqTailAddr);
+                cqHead = GridUnsafe.getInt(cqHeadAddr);
+            }
+            catch (IOException | RuntimeException e) {
+                IgniteNativeIoLib.close(fd);
+
+                throw e;
+            }
+        }
+        finally {
+            GridUnsafe.freeMemory(params);
+        }
+    }
+
+    /**
+     * @param size Mapping size.
+     * @param off Mapping offset.
+     * @return Mapping.
+     * @throws IOException If failed.
+     */
+    private Pointer map(long size, long off) throws IOException {
+        Pointer ptr = IgniteNativeIoLib.mmap(null, new NativeLong(size),
+            IgniteNativeIoLib.PROT_READ | IgniteNativeIoLib.PROT_WRITE,
+            IgniteNativeIoLib.MAP_SHARED | IgniteNativeIoLib.MAP_POPULATE,
+            ringFd, new NativeLong(off));
+
+        if (Pointer.nativeValue(ptr) == -1L) {
+            String err = lastError();
+
+            unmap();
+
+            throw new IOException("Failed to map io_uring queue: " + err);
+        }
+
+        return ptr;
+    }
+
+    /**
+     * Submits operations of the same type on the same file and waits for their completion.
+     *
+     * @param opcode Operation code: {@link #IORING_OP_READ} or {@link #IORING_OP_WRITE}.
+     * @param fd File descriptor.
+     * @param addrs Addresses of buffers.
+     * @param lens Lengths of buffers.
+     * @param offs File offsets.
+     * @param res Results of operations: count of bytes transferred or negated error number.
+     * @param cnt Count of operations.
+     * @throws IOException If failed to submit operations.
+     */
+    void submitAndWait(byte opcode, int fd, long[] addrs, int[] lens, long[] offs, int[] res, int cnt)
+        throws IOException {
+        for (int done = 0; done < cnt; ) {
+            int batch = Math.min(cnt - done, sqEntries);
+
+            for (int i = 0; i < batch; i++) {
+                int idx = (sqTail + i) & sqMask;
+
+                long sqe = sqesAddr + (long)idx * SQE_SIZE;
+
+                GridUnsafe.zeroMemory(sqe, SQE_SIZE);
+
+                GridUnsafe.putByte(sqe, opcode);
+                GridUnsafe.putInt(sqe + 4, fd);
+                GridUnsafe.putLong(sqe + 8, offs[done + i]);
+                GridUnsafe.putLong(sqe + 16, addrs[done + i]);
+                GridUnsafe.putInt(sqe + 24, lens[done + i]);
+                GridUnsafe.putLong(sqe + 32, done + i); // User data.
+
+                GridUnsafe.putInt(sqArrayAddr + idx * 4L, idx);
+            }
+
+            sqTail += batch;
+
+            // Publish entries to the kernel.
+            GridUnsafe.putIntVolatile(null, sqTailAddr, sqTail);
+
+            int submitted = 0;
+            int completed = 0;
+
+            while (completed < batch) {
+                // Kernel doesn't wait for completions if not all entries were submitted.
+                submitted += enter(batch - submitted, batch - completed);
+
+                completed += reap(res);
+            }
+
+            done += batch;
+        }
+    }
+
+    /**
+     * @param toSubmit Count of entries to submit.
+     * @param minComplete Count of completions to wait for.
+     * @return Count of submitted entries.
+     * @throws IOException If failed.
+     */
+    private int enter(int toSubmit, int minComplete) throws IOException {
+        for (;;) {
+            long res = IgniteNativeIoLib.syscall(SYS_IO_URING_ENTER, ringFd, toSubmit, minComplete,
+                IORING_ENTER_GETEVENTS, 0, 0);
+
+            if (res >= 0)
+                return (int)res;
+
+            int err = Native.getLastError();
+
+            // Completion queue is full or kernel is out of resources, completions will be reaped by the caller.
+            if (err == IgniteNativeIoLib.E_AGAIN || err == IgniteNativeIoLib.E_BUSY)
+                return 0;
+
+            if (err != IgniteNativeIoLib.E_INTR)
+                throw new IOException("Failed to submit io_uring operations: " + IgniteNativeIoLib.strerror(err));
+        }
+    }
+
+    /**
+     * @param res Results of operations indexed by user data of completion entries.
+     * @return Count of reaped completion entries.
+     */
+    private int reap(int[] res) {
+        int tail = GridUnsafe.getIntVolatile(null, cqTailAddr);
+
+        int cnt = tail - cqHead;
+
+        for (; cqHead != tail; cqHead++) {
+            long cqe = cqesAddr + (long)(cqHead & cqMask) * CQE_SIZE;
+
+            res[(int)GridUnsafe.getLong(cqe)] = GridUnsafe.getInt(cqe + 8);
+        }
+
+        // Release completion entries to the kernel.
+        GridUnsafe.putIntVolatile(null, cqHeadAddr, cqHead);
+
+        return cnt;
+    }
+
+    /** Unmaps queues. */
+    private void unmap() {
+        if (sqes != null)
+            IgniteNativeIoLib.munmap(sqes, new NativeLong(sqEntries * (long)SQE_SIZE));
+
+        if (cqRing != null)
+            IgniteNativeIoLib.munmap(cqRing, new NativeLong(cqRingSize));
+
+        if (sqRing != null)
+            IgniteNativeIoLib.munmap(sqRing, new NativeLong(sqRingSize));
+    }
+
+    /** {@inheritDoc} */
+    @Override public void close() {
+        unmap();
+
+        IgniteNativeIoLib.close(ringFd);
+    }
+
+    /**
+     * @return Last error set by the OS.
+     */
+    private static String lastError() {
+        return IgniteNativeIoLib.strerror(Native.getLastError());
+    }
+}
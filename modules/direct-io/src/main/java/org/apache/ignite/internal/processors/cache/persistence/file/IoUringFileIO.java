@@ -0,0 +1,234 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.file;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.OpenOption;
+import org.apache.ignite.internal.util.GridUnsafe;
+
+import static org.apache.ignite.internal.processors.cache.persistence.file.IoUring.IORING_OP_READ;
+import static org.apache.ignite.internal.processors.cache.persistence.file.IoUring.IORING_OP_WRITE;
+
+/**
+ * File IO which performs positional reads and writes of direct buffers through Linux io_uring. Gathering writes (see
+ * {@link #writeFully(ByteBuffer[], int, int, long)}), which are used by checkpoint writes of sequential page runs, are
+ * submitted to the kernel by a single system call. Other operations and operations on heap buffers are delegated to
+ * {@link RandomAccessFileIO}.
+ * <p>
+ * Works only for Linux.
+ */
+public class IoUringFileIO extends FileIODecorator {
+    /** File. */
+    private final File file;
+
+    /** Native file descriptor. */
+    private final int fd;
+
+    /** Factory which owns io_uring instances. */
+    private final IoUringFileIOFactory factory;
+
+    /**
+     * @param file File to open.
+     * @param modes Open options.
+     * @param factory Factory which owns io_uring instances.
+     * @throws IOException If failed to open file.
+     */
+    IoUringFileIO(File file, OpenOption[] modes, IoUringFileIOFactory factory) throws IOException {
+        this(file, new RandomAccessFileIO(file, modes), factory);
+    }
+
+    /**
+     * @param file File.
+     * @param delegate File IO performing operations which are not submitted to io_uring.
+     * @param factory Factory which owns io_uring instances.
+     */
+    private IoUringFileIO(File file, RandomAccessFileIO delegate, IoUringFileIOFactory factory) {
+        super(delegate);
+
+        this.file = file;
+        this.factory = factory;
+
+        fd = delegate.nativeFileDescriptor();
+    }
+
+    /** {@inheritDoc} */
+    @Override public int read(ByteBuffer destBuf, long position) throws IOException {
+        if (!destBuf.isDirect() || !destBuf.hasRemaining())
+            return delegate.read(destBuf, position);
+
+        int res = submit(IORING_OP_READ, destBuf, position);
+
+        if (res > 0)
+            destBuf.position(destBuf.position() + res);
+
+        return res;
+    }
+
+    /** {@inheritDoc} */
+    @Override public int write(ByteBuffer srcBuf, long position) throws IOException {
+        if (!srcBuf.isDirect() || !srcBuf.hasRemaining())
+            return delegate.write(srcBuf, position);
+
+        int res = submit(IORING_OP_WRITE, srcBuf, position);
+
+        srcBuf.position(srcBuf.position() + res);
+
+        return res;
+    }
+
+    /** {@inheritDoc} */
+    @Override public long writeFully(ByteBuffer[] srcBufs, int off, int len, long position) throws IOException {
+        if (len == 1)
+            return writeFully(srcBufs[off], position);
+
+        ByteBuffer[] bufs = new ByteBuffer[len];
+        long[] positions = new long[len];
+
+        long written = 0;
+
+        for (int i = 0; i < len; i++) {
+            bufs[i] = srcBufs[off + i];
+            positions[i] = position + written;
+
+            written += bufs[i].remaining();
+        }
+
+        writeBatch(bufs, positions);
+
+        return written;
+    }
+
+    /**
+     * Writes buffers to the file starting at given positions. Writes of direct buffers are submitted to the kernel
+     * by a single batch.
+     *
+     * @param bufs Buffers.
+     * @param positions File positions.
+     * @throws IOException If failed.
+     */
+    private void writeBatch(ByteBuffer[] bufs, long[] positions) throws IOException {
+        assert bufs.length == positions.length : "bufs=" + bufs.length + ", positions=" + positions.length;
+
+        int cnt = bufs.length;
+
+        int[] lens = new int[cnt];
+
+        for (int i = 0; i < cnt; i++)
+            lens[i] = bufs[i].remaining();
+
+        int[] idxs = new int[cnt];
+        long[] addrs = new long[cnt];
+        int[] batchLens = new int[cnt];
+        long[] offs = new long[cnt];
+
+        int batchCnt = 0;
+
+        for (int i = 0; i < cnt; i++) {
+            ByteBuffer buf = bufs[i];
+
+            if (buf.isDirect() && lens[i] > 0) {
+                idxs[batchCnt] = i;
+                addrs[batchCnt] = GridUnsafe.bufferAddress(buf) + buf.position();
+                batchLens[batchCnt] = lens[i];
+                offs[batchCnt] = positions[i];
+
+                batchCnt++;
+            }
+        }
+
+        IoUring ring = batchCnt > 0 ? factory.acquireRing() : null;
+
+        if (ring != null) {
+            int[] res = new int[batchCnt];
+
+            try {
+                ring.submitAndWait(IORING_OP_WRITE, fd, addrs, batchLens, offs, res, batchCnt);
+            }
+            finally {
+                factory.releaseRing(ring);
+            }
+
+            for (int i = 0; i < batchCnt; i++) {
+                if (res[i] < 0)
+                    throw ioException(IORING_OP_WRITE, offs[i], res[i]);
+
+                ByteBuffer buf = bufs[idxs[i]];
+
+                buf.position(buf.position() + res[i]);
+            }
+        }
+
+        // Complete short and not submitted writes one by one.
+        for (int i = 0; i < cnt; i++) {
+            ByteBuffer buf = bufs[i];
+
+            if (buf.hasRemaining())
+                writeFully(buf, positions[i] + lens[i] - buf.remaining());
+        }
+    }
+
+    /**
+     * Transfers remaining bytes of the buffer, its position is not changed.
+     *
+     * @param opcode Operation code.
+     * @param buf Direct buffer with remaining bytes.
+     * @param position File position.
+     * @return Count of bytes transferred, or {@code -1} if the read position is at or past the end of file, like
+     *      {@link FileIO#read(ByteBuffer, long)} does.
+     * @throws IOException If failed.
+     */
+    private int submit(byte opcode, ByteBuffer buf, long position) throws IOException {
+        IoUring ring = factory.acquireRing();
+
+        if (ring == null) {
+            return opcode == IORING_OP_READ ? delegate.read(buf.duplicate(), position) :
+                delegate.write(buf.duplicate(), position);
+        }
+
+        long[] addrs = {GridUnsafe.bufferAddress(buf) + buf.position()};
+        int[] lens = {buf.remaining()};
+        long[] offs = {position};
+        int[] res = new int[1];
+
+        try {
+            ring.submitAndWait(opcode, fd, addrs, lens, offs, res, 1);
+        }
+        finally {
+            factory.releaseRing(ring);
+        }
+
+        if (res[0] < 0)
+            throw ioException(opcode, position, res[0]);
+
+        // The ring reports the end of file as zero bytes read of a non-empty buffer.
+        return opcode == IORING_OP_READ && res[0] == 0 ? -1 : res[0];
+    }
+
+    /**
+     * @param opcode Operation code.
+     * @param position File position.
+     * @param res Negated error number.
+     * @return Exception.
+     */
+    private IOException ioException(byte opcode, long position, int res) {
+        return new IOException(String.format("Error during %s file [%s] at position [%d]: %s",
+            opcode == IORING_OP_READ ? "reading" : "writing", file, position, IgniteNativeIoLib.strerror(-res)));
+    }
+}
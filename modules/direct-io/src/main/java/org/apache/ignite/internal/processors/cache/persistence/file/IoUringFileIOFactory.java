@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.file;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.OpenOption;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.internal.util.typedef.internal.LT;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Factory of {@link IoUringFileIO}. Owns io_uring instances which are shared by all files created by the factory:
+ * each operation or batch of operations borrows an instance and returns it after completion, so count of instances
+ * is bounded by count of threads performing IO concurrently.
+ * <p>
+ * If io_uring is not supported by OS, files are created by the backup factory.
+ */
+public class IoUringFileIOFactory implements FileIOFactory {
+    /** */
+    private static final long serialVersionUID = 0L;
+
+    /** Count of submission queue entries of io_uring instances. */
+    public static final int RING_ENTRIES = 64;
+
+    /** Backup factory for files in case io_uring is not available. */
+    private final FileIOFactory backupFactory;
+
+    /** Logger, {@code null} if the factory is deserialized. */
+    @Nullable private final transient IgniteLogger log;
+
+    /** Idle io_uring instances. */
+    private final transient ConcurrentLinkedQueue<IoUring> rings = new ConcurrentLinkedQueue<>();
+
+    /** {@code True} if io_uring is available. */
+    private final transient boolean available;
+
+    /** {@code True} if the factory is closed. */
+    private transient volatile boolean closed;
+
+    /**
+     * @param log Logger.
+     * @param backupFactory Backup factory for files in case io_uring is not available.
+     */
+    public IoUringFileIOFactory(@Nullable IgniteLogger log, FileIOFactory backupFactory) {
+        this.log = log;
+        this.backupFactory = backupFactory;
+
+        available = IgniteNativeIoLib.isJnaAvailable() && checkAvailable();
+
+        if (log != null && log.isInfoEnabled()) {
+            log.info(available ? "io_uring based file IO is enabled." :
+                "io_uring is not supported by current operating system [" + System.getProperty("os.version") +
+                    "]. io_uring based file IO is not enabled.");
+        }
+    }
+
+    /**
+     * @return {@code True} if io_uring instance is created successfully.
+     */
+    private boolean checkAvailable() {
+        try {
+            rings.add(new IoUring(RING_ENTRIES));
+
+            return true;
+        }
+        catch (IOException | LinkageError e) {
+            if (log != null && log.isDebugEnabled())
+                log.debug("Failed to setup io_uring: " + e.getMessage());
+
+            return false;
+        }
+    }
+
+    /**
+     * Creates the factory anew on deserialization: io_uring instances are not serialized, and io_uring may be
+     * unavailable on the deserializing node.
+     *
+     * @return Factory to use instead of the deserialized one.
+     */
+    private Object readResolve() {
+        return new IoUringFileIOFactory(null, backupFactory);
+    }
+
+    /** {@inheritDoc} */
+    @Override public FileIO create(File file, OpenOption... modes) throws IOException {
+        if (!available)
+            return backupFactory.create(file, modes);
+
+        return new IoUringFileIO(file, modes, this);
+    }
+
+    /**
+     * @return {@code True} if io_uring can be used on current OS.
+     */
+    boolean isIoUringAvailable() {
+        return available;
+    }
+
+    /**
+     * Borrows io_uring instance.
+     *
+     * @return io_uring instance or {@code null} if failed to create a new one, operations should be performed
+     * synchronously in this case.
+     */
+    @Nullable IoUring acquireRing() {
+        IoUring ring = rings.poll();
+
+        if (ring != null || closed)
+            return ring;
+
+        try {
+            return new IoUring(RING_ENTRIES);
+        }
+        catch (IOException e) {
+            // Usually caused by the locked memory limit (RLIMIT_MEMLOCK) on kernels older than 5.12.
+            LT.warn(log, "Failed to setup io_uring, file IO will be performed synchronously: " + e.getMessage());
+
+            return null;
+        }
+    }
+
+    /**
+     * Returns borrowed io_uring instance.
+     *
+     * @param ring io_uring instance.
+     */
+    void releaseRing(IoUring ring) {
+        rings.add(ring);
+
+        if (closed)
+            closeRings();
+    }
+
+    /**
+     * Closes idle io_uring instances. Instances borrowed at the moment are closed on return.
+     */
+    public void close() {
+        closed = true;
+
+        closeRings();
+    }
+
+    /** */
+    private void closeRings() {
+        IoUring ring;
+
+        while ((ring = rings.poll()) != null)
+            ring.close();
+    }
+}
@@ -26,6 +26,7 @@ import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import org.apache.ignite.Ignite;
 import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.cluster.ClusterNode;
 import org.apache.ignite.internal.IgniteEx;
 import org.apache.ignite.internal.pagemem.store.IgnitePageStoreManager;
@@ -51,6 +52,9 @@ public class LinuxNativeIoPluginProvider implements PluginProvider {
     /** Managed buffers map from address to thread requested buffer. */
     @Nullable private ConcurrentHashMap<Long, Thread> managedBuffers;
 
+    /** io_uring based file IO factory or {@code null} if io_uring is not used. */
+    @Nullable private IoUringFileIOFactory ioUringFactory;
+
     /** Logger. */
     private IgniteLogger log;
 
@@ -90,6 +94,12 @@ public class LinuxNativeIoPluginProvider implements PluginProvider {
     /** {@inheritDoc} */
     @Override public void stop(boolean cancel) {
         freeDirectBuffers();
+
+        if (ioUringFactory != null) {
+            ioUringFactory.close();
+
+            ioUringFactory = null;
+        }
     }
 
     /**
@@ -173,6 +183,21 @@ public class LinuxNativeIoPluginProvider implements PluginProvider {
         final FilePageStoreManager pageStore = (FilePageStoreManager)ignitePageStoreMgr;
         FileIOFactory backupIoFactory = pageStore.getPageStoreFileIoFactory();
 
+        if (IgniteSystemProperties.getBoolean(IgniteSystemProperties.IGNITE_IO_URING_ENABLED)) {
+            IoUringFileIOFactory ioUringFactory = new IoUringFileIOFactory(ignite.log(), backupIoFactory);
+
+            if (ioUringFactory.isIoUringAvailable()) {
+                this.ioUringFactory = ioUringFactory;
+
+                pageStore.setPageStoreFileIOFactories(ioUringFactory, backupIoFactory);
+
+                if (cacheCtx.wal() instanceof FileWriteAheadLogManager)
+                    ((FileWriteAheadLogManager)cacheCtx.wal()).setFileIOFactory(ioUringFactory);
+
+                return null;
+            }
+        }
+
         final AlignedBuffersDirectFileIOFactory factory = new AlignedBuffersDirectFileIOFactory(
             ignite.log(),
             ignite.context().pdsFolderResolver().fileTree().nodeStorage(),
@@ -0,0 +1,225 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.persistence.file;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ThreadLocalRandom;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.configuration.WALMode;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_IO_URING_ENABLED;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Tests io_uring based file IO.
+ */
+public class IoUringFileIOTest extends GridCommonAbstractTest {
+    /** Page size. */
+    private static final int PAGE_SIZE = 4096;
+
+    /** Count of pages in batch, exceeds the count of io_uring submission queue entries. */
+    private static final int PAGES = IoUringFileIOFactory.RING_ENTRIES * 3 + 7;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setDataStorageConfiguration(new DataStorageConfiguration()
+                .setWalMode(WALMode.FSYNC)
+                .setDefaultDataRegionConfiguration(new DataRegionConfiguration().setPersistenceEnabled(true)));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        super.afterTest();
+    }
+
+    /**
+     * Checks gathering writes and reads of pages.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testGatheringWriteRead() throws Exception {
+        IoUringFileIOFactory factory = new IoUringFileIOFactory(log, new RandomAccessFileIOFactory());
+
+        assumeTrue("io_uring is not supported", factory.isIoUringAvailable());
+
+        File file = File.createTempFile("io-uring", ".bin");
+
+        try (FileIO io = factory.create(file, CREATE, READ, WRITE)) {
+            assertTrue(io instanceof IoUringFileIO);
+
+            ByteBuffer[] bufs = new ByteBuffer[PAGES];
+
+            for (int i = 0; i < PAGES; i++) {
+                // Mix direct and heap buffers to check both paths.
+                bufs[i] = i % 10 == 0 ? ByteBuffer.allocate(PAGE_SIZE) : ByteBuffer.allocateDirect(PAGE_SIZE);
+
+                byte[] data = new byte[PAGE_SIZE];
+
+                ThreadLocalRandom.current().nextBytes(data);
+
+                bufs[i].put(data).flip();
+            }
+
+            // Write the first page separately to check a gathering write at non-zero position.
+            assertEquals(PAGE_SIZE, io.writeFully(bufs, 0, 1, 0));
+            assertEquals((long)(PAGES - 1) * PAGE_SIZE, io.writeFully(bufs, 1, PAGES - 1, PAGE_SIZE));
+
+            assertEquals((long)PAGES * PAGE_SIZE, io.size());
+
+            for (int i = PAGES - 1; i >= 0; i--) {
+                ByteBuffer readBuf = ByteBuffer.allocateDirect(PAGE_SIZE);
+
+                io.readFully(readBuf, (long)i * PAGE_SIZE);
+
+                bufs[i].rewind();
+                readBuf.flip();
+
+                assertEquals("Page " + i, bufs[i], readBuf);
+            }
+
+            ByteBuffer buf = ByteBuffer.allocateDirect(PAGE_SIZE);
+
+            assertEquals(PAGE_SIZE, io.read(buf, 0));
+
+            buf.clear();
+
+            assertEquals(-1, io.read(buf, (long)PAGES * PAGE_SIZE));
+
+            // A closed factory has no rings, operations are delegated and have to report the end of file the same way.
+            factory.close();
+
+            assertEquals(-1, io.read(buf, (long)PAGES * PAGE_SIZE));
+            assertEquals(PAGE_SIZE, io.read(buf, 0));
+        }
+        finally {
+            factory.close();
+
+            file.delete();
+        }
+    }
+
+    /**
+     * Checks that a deserialized factory creates io_uring based files.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testDeserializedFactory() throws Exception {
+        IoUringFileIOFactory factory = new IoUringFileIOFactory(log, new RandomAccessFileIOFactory());
+
+        factory.close();
+
+        assumeTrue("io_uring is not supported", factory.isIoUringAvailable());
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(factory);
+        }
+
+        IoUringFileIOFactory copy;
+
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (IoUringFileIOFactory)in.readObject();
+        }
+
+        assertTrue(copy.isIoUringAvailable());
+
+        File file = File.createTempFile("io-uring", ".bin");
+
+        try (FileIO io = copy.create(file, CREATE, READ, WRITE)) {
+            assertTrue(io instanceof IoUringFileIO);
+
+            ByteBuffer buf = ByteBuffer.allocateDirect(PAGE_SIZE);
+
+            assertEquals(PAGE_SIZE, io.writeFully(buf, 0));
+
+            buf.clear();
+
+            assertEquals(PAGE_SIZE, io.readFully(buf, 0));
+        }
+        finally {
+            copy.close();
+
+            file.delete();
+        }
+    }
+
+    /**
+     * Checks that data written through io_uring page stores and WAL is recovered after restart.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    @WithSystemProperty(key = IGNITE_IO_URING_ENABLED, value = "true")
+    public void testRestart() throws Exception {
+        IgniteEx ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        IgniteCache<Integer, Integer> cache = ignite.getOrCreateCache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < 10_000; i++)
+            cache.put(i, i);
+
+        forceCheckpoint();
+
+        for (int i = 10_000; i < 12_000; i++)
+            cache.put(i, i);
+
+        stopGrid(0, true);
+
+        ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < 12_000; i++)
+            assertEquals((Integer)i, cache.get(i));
+    }
+}
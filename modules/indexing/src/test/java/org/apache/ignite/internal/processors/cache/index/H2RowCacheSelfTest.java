@@ -43,12 +43,20 @@ import org.apache.ignite.internal.IgniteEx;
 import org.apache.ignite.internal.cache.query.index.sorted.IndexRowCache;
 import org.apache.ignite.internal.cache.query.index.sorted.IndexRowImpl;
 import org.apache.ignite.internal.processors.cache.KeyCacheObject;
+import org.apache.ignite.metric.MetricRegistry;
+import org.apache.ignite.spi.metric.IntMetric;
+import org.apache.ignite.spi.metric.LongMetric;
 import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
 import org.jsr166.ConcurrentLinkedHashMap;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_SQL_ONHEAP_CACHE_ADMISSION;
+import static org.apache.ignite.internal.processors.cache.CacheGroupMetricsImpl.CACHE_GROUP_METRICS_PREFIX;
+import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.metricName;
+
 /**
  * Tests H2RowCacheRegistry.
  */
@@ -387,6 +395,69 @@ public class H2RowCacheSelfTest extends AbstractIndexingCommonTest {
         assertEquals(key + 1, (int)res.get(0).getValue().lVal);
     }
 
+    /**
+     * Checks row cache metrics of the cache group.
+     */
+    @Test
+    public void testMetrics() {
+        final String cacheName = "cache";
+
+        grid().getOrCreateCache(cacheConfiguration(cacheName, true));
+
+        int grpId = grid().cachex(cacheName).context().groupId();
+
+        fillCache(cacheName);
+
+        MetricRegistry mreg = grid().context().metric().registry(metricName(CACHE_GROUP_METRICS_PREFIX, "group"));
+
+        LongMetric hits = mreg.findMetric(IndexRowCache.SQL_ROW_CACHE_HITS);
+        LongMetric misses = mreg.findMetric(IndexRowCache.SQL_ROW_CACHE_MISSES);
+
+        fillRowCache(cacheName);
+
+        long missesAfterFill = misses.value();
+
+        assertTrue(missesAfterFill >= ENTRIES);
+
+        fillRowCache(cacheName);
+
+        assertTrue(hits.value() >= ENTRIES);
+        assertEquals(missesAfterFill, misses.value());
+
+        assertEquals(rowCache(grid(), grpId).size(),
+            mreg.<IntMetric>findMetric(IndexRowCache.SQL_ROW_CACHE_SIZE).value());
+        assertEquals(0, mreg.<LongMetric>findMetric(IndexRowCache.SQL_ROW_CACHE_EVICTIONS).value());
+
+        grid().destroyCache(cacheName);
+
+        assertNull(mreg.findMetric(IndexRowCache.SQL_ROW_CACHE_HITS));
+    }
+
+    /**
+     * Checks that rows are admitted to the row cache on repeated access only.
+     */
+    @Test
+    @WithSystemProperty(key = IGNITE_SQL_ONHEAP_CACHE_ADMISSION, value = "true")
+    public void testAdmission() {
+        final String cacheName = "cache";
+
+        grid().getOrCreateCache(cacheConfiguration(cacheName, true));
+
+        int grpId = grid().cachex(cacheName).context().groupId();
+
+        fillCache(cacheName);
+
+        IndexRowCache rowCache = rowCache(grid(), grpId);
+
+        grid().cache(cacheName).query(new SqlQuery(Value.class, "_key = 1")).getAll();
+
+        assertEquals(0, rowCache.size());
+
+        grid().cache(cacheName).query(new SqlQuery(Value.class, "_key = 1")).getAll();
+
+        assertEquals(1, rowCache.size());
+    }
+
     /**
      * @param cacheName Cache name.
      * @param rowCache Row cache.
@@ -57,6 +57,8 @@ import org.apache.ignite.internal.processors.query.schema.management.SchemaManag
 import org.apache.ignite.internal.util.typedef.internal.CU;
 import org.apache.ignite.maintenance.MaintenanceRegistry;
 import org.apache.ignite.maintenance.MaintenanceTask;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
 import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
 import org.jetbrains.annotations.Nullable;
 import org.junit.Test;
@@ -65,6 +67,7 @@ import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_INDEX_BULK_LOAD_RUN_SIZE;
 import static org.apache.ignite.internal.cache.query.index.sorted.maintenance.MaintenanceRebuildIndexUtils.INDEX_REBUILD_MNTC_TASK_NAME;
 import static org.apache.ignite.internal.cache.query.index.sorted.maintenance.MaintenanceRebuildIndexUtils.parseMaintenanceTaskParameters;
 import static org.apache.ignite.testframework.GridTestUtils.getFieldValue;
@@ -234,6 +237,70 @@ public class IndexCorruptionRebuildTest extends GridCommonAbstractTest {
         validateIndexes(srv);
     }
 
+    /** */
+    @Test
+    @WithSystemProperty(key = IGNITE_INDEX_BULK_LOAD_RUN_SIZE, value = "1000")
+    public void testRebuildFromSortedRuns() throws Exception {
+        IgniteEx srv = startGrid(0);
+
+        srv.cluster().state(ClusterState.ACTIVE);
+
+        IgniteCache<Integer, Integer> cache = srv.getOrCreateCache(DEFAULT_CACHE_NAME);
+
+        cache.query(new SqlFieldsQuery("create table " + TABLE_NAME_1 + " (col1 int primary key, col2 varchar, " +
+            "col3 int)"));
+
+        cache.query(new SqlFieldsQuery("create index " + FAIL_IDX_1 + " on test1(col2, col3) INLINE_SIZE 0"));
+
+        int cnt = 5_000;
+
+        for (int i = 0; i < cnt; i++) {
+            cache.query(new SqlFieldsQuery("insert into test1(col1, col2, col3) values (?1, ?2, ?3)")
+                .setArgs(i, "test" + (i % 100), cnt - i));
+        }
+
+        SchemaManager schemaMgr = srv.context().query().schemaManager();
+
+        corruptIndex(srv, schemaMgr, CACHE_NAME_1, FAIL_IDX_1);
+
+        GridTestUtils.assertThrowsWithCause(
+            () -> cache.query(new SqlFieldsQuery("select * from test1 where col2 = ?1").setArgs("test0")).getAll(),
+            CacheException.class
+        );
+
+        assertNotNull(srv.context().maintenanceRegistry().requestedTask(INDEX_REBUILD_MNTC_TASK_NAME));
+
+        stopGrid(0);
+
+        // Index is rebuilt in the maintenance mode.
+        srv = startGrid(0);
+
+        assertTrue(srv.context().maintenanceRegistry().isMaintenanceMode());
+
+        stopGrid(0);
+
+        srv = startGrid(0);
+
+        srv.cluster().state(ClusterState.ACTIVE);
+
+        assertFalse(srv.context().maintenanceRegistry().isMaintenanceMode());
+
+        IgniteCache<Integer, Integer> cache0 = srv.cache(DEFAULT_CACHE_NAME);
+
+        List<List<?>> rows = cache0.query(new SqlFieldsQuery("select col1, col3 from test1 use index(" + FAIL_IDX_1 +
+            ") where col2 = ?1 order by col3").setArgs("test42")).getAll();
+
+        assertEquals(cnt / 100, rows.size());
+
+        for (int i = 0; i < rows.size(); i++)
+            assertEquals(cnt - 42 - (rows.size() - 1 - i) * 100, rows.get(i).get(1));
+
+        assertEquals((long)cnt, cache0.query(new SqlFieldsQuery("select count(*) from test1 use index(" + FAIL_IDX_1 +
+            ") where col2 >= ?1").setArgs("test")).getAll().get(0).get(0));
+
+        validateIndexes(srv);
+    }
+
     /**
      * Checks that caches have certain corrupted indexes.
      *
@@ -20,40 +20,60 @@ package org.apache.ignite.internal.processors.cache.index;
 import java.nio.file.Path;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BooleanSupplier;
 import java.util.function.LongSupplier;
 import org.apache.ignite.IgniteCache;
 import org.apache.ignite.cache.CacheMetrics;
 import org.apache.ignite.cache.QueryEntity;
 import org.apache.ignite.cache.QueryIndex;
+import org.apache.ignite.cache.query.SqlFieldsQuery;
 import org.apache.ignite.cluster.ClusterState;
 import org.apache.ignite.configuration.CacheConfiguration;
 import org.apache.ignite.configuration.DataRegionConfiguration;
 import org.apache.ignite.configuration.DataStorageConfiguration;
 import org.apache.ignite.configuration.IgniteConfiguration;
 import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.cache.query.index.IndexName;
 import org.apache.ignite.internal.cache.query.index.IndexProcessor;
+import org.apache.ignite.internal.cache.query.index.sorted.IndexRowImpl;
+import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndexImpl;
+import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineRecommender;
 import org.apache.ignite.internal.processors.metric.impl.LongAdderMetric;
 import org.apache.ignite.internal.util.typedef.internal.CU;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.metric.MetricRegistry;
 import org.apache.ignite.spi.metric.BooleanMetric;
+import org.apache.ignite.spi.metric.IntMetric;
+import org.apache.ignite.spi.metric.LongMetric;
 import org.apache.ignite.spi.metric.Metric;
+import org.apache.ignite.testframework.ListeningTestLogger;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
 import org.junit.Test;
 
 import static java.util.Objects.requireNonNull;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_THROTTLE_INLINE_SIZE_CALCULATION;
+import static org.apache.ignite.configuration.DataStorageConfiguration.DFLT_PAGE_SIZE;
+import static org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndexImpl.INDEX_METRIC_PREFIX;
 import static org.apache.ignite.internal.processors.cache.index.AbstractSchemaSelfTest.KeyClass;
 import static org.apache.ignite.internal.processors.cache.index.AbstractSchemaSelfTest.ValueClass;
 import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.cacheMetricsRegistryName;
+import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.metricName;
 
 /**
  * Tests index metrics.
  */
 public class IndexMetricsTest extends AbstractIndexingCommonTest {
+    /** Test logger. */
+    private ListeningTestLogger testLog;
+
     /** {@inheritDoc} */
     @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
         IgniteConfiguration cfg = super.getConfiguration(igniteInstanceName);
 
+        if (testLog != null)
+            cfg.setGridLogger(testLog);
+
         cfg.setDataStorageConfiguration(new DataStorageConfiguration()
             .setDefaultDataRegionConfiguration(
                 new DataRegionConfiguration().setPersistenceEnabled(true).setMaxSize(10 * 1024 * 1024)
@@ -75,6 +95,8 @@ public class IndexMetricsTest extends AbstractIndexingCommonTest {
         cleanPersistenceDir();
 
         IndexProcessor.idxRebuildCls = null;
+
+        testLog = null;
     }
 
     /**
@@ -233,6 +255,92 @@ public class IndexMetricsTest extends AbstractIndexingCommonTest {
         return mreg.findMetric(name);
     }
 
+    /**
+     * Checks inline hits, misses and recommended inline size metrics of an index with too small inline size.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    @WithSystemProperty(key = IGNITE_THROTTLE_INLINE_SIZE_CALCULATION, value = "1")
+    public void testInlineMetrics() throws Exception {
+        IgniteEx ig0 = startGrid(0);
+
+        ig0.cluster().state(ClusterState.ACTIVE);
+
+        sql(ig0, "CREATE TABLE TEST (ID INT PRIMARY KEY, VAL VARCHAR)");
+        sql(ig0, "CREATE INDEX TEST_VAL_IDX ON TEST (VAL) INLINE_SIZE 5");
+
+        for (int i = 0; i < 100; i++)
+            sql(ig0, "INSERT INTO TEST VALUES (?, ?)", i, i % 2 == 0 ? "long_common_prefix_" + i : i + "_val");
+
+        MetricRegistry mreg = ig0.context().metric().registry(metricName(INDEX_METRIC_PREFIX, "PUBLIC.TEST.TEST_VAL_IDX"));
+
+        LongMetric hits = mreg.findMetric(InlineRecommender.INLINE_HITS);
+        LongMetric misses = mreg.findMetric(InlineRecommender.INLINE_MISSES);
+        IntMetric recommended = mreg.findMetric(InlineRecommender.RECOMMENDED_INLINE_SIZE);
+
+        assertTrue(hits.value() > 0);
+        assertTrue(misses.value() > 0);
+        assertTrue(recommended.value() > 5);
+
+        // Primary key is fully inlined.
+        MetricRegistry pkReg = ig0.context().metric().registry(metricName(INDEX_METRIC_PREFIX, "PUBLIC.TEST._key_PK"));
+
+        assertEquals(0, pkReg.<LongMetric>findMetric(InlineRecommender.INLINE_MISSES).value());
+        assertTrue(pkReg.<LongMetric>findMetric(InlineRecommender.INLINE_HITS).value() > 0);
+        assertEquals(0, pkReg.<IntMetric>findMetric(InlineRecommender.RECOMMENDED_INLINE_SIZE).value());
+    }
+
+    /**
+     * Checks that the inline size is calculated on each throttle threshold invocation of the recommender, starting
+     * from the threshold one.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    @WithSystemProperty(key = IGNITE_THROTTLE_INLINE_SIZE_CALCULATION, value = "3")
+    public void testInlineSizeCalculationThrottling() throws Exception {
+        AtomicInteger warns = new AtomicInteger();
+
+        testLog = new ListeningTestLogger(log);
+
+        testLog.registerListener(msg -> {
+            if (msg.contains("Inline size is too big"))
+                warns.incrementAndGet();
+        });
+
+        IgniteEx ig0 = startGrid(0);
+
+        ig0.cluster().state(ClusterState.ACTIVE);
+
+        sql(ig0, "CREATE TABLE TEST (ID INT PRIMARY KEY, VAL VARCHAR)");
+        sql(ig0, "CREATE INDEX TEST_VAL_IDX ON TEST (VAL)");
+
+        InlineIndexImpl idx = (InlineIndexImpl)ig0.context().indexProcessor()
+            .index(new IndexName("SQL_PUBLIC_TEST", "PUBLIC", "TEST", "TEST_VAL_IDX"));
+
+        InlineRecommender recommender = new InlineRecommender(ig0.cachex("SQL_PUBLIC_TEST").context(),
+            idx.indexDefinition());
+
+        IndexRowImpl row = new IndexRowImpl(idx.segment(0).rowHandler(), null);
+
+        // Inline size of the page size is always too big, so each calculation logs a warning.
+        for (int i = 1; i <= 9; i++) {
+            recommender.recommend(row, DFLT_PAGE_SIZE, DFLT_PAGE_SIZE);
+
+            assertEquals("invocation=" + i, i / 3, warns.get());
+        }
+    }
+
+    /**
+     * @param ig Ignite node.
+     * @param qry Query.
+     * @param args Query arguments.
+     */
+    private void sql(IgniteEx ig, String qry, Object... args) {
+        ig.context().query().querySqlFields(new SqlFieldsQuery(qry).setArgs(args), false).getAll();
+    }
+
     /**
      * Get cache metrics.
      *
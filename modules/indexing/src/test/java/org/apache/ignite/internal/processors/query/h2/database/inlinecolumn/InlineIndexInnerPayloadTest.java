@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.h2.database.inlinecolumn;
+
+import java.util.List;
+import org.apache.ignite.cache.query.SqlFieldsQuery;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.IgniteInternalFuture;
+import org.apache.ignite.internal.cache.query.index.IndexName;
+import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndexImpl;
+import org.apache.ignite.internal.cache.query.index.sorted.inline.InlineRecommender;
+import org.apache.ignite.internal.processors.cache.index.AbstractIndexingCommonTest;
+import org.apache.ignite.internal.util.typedef.internal.CU;
+import org.apache.ignite.spi.metric.LongMetric;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_MAX_INDEX_INNER_PAYLOAD_SIZE;
+import static org.apache.ignite.internal.cache.query.index.sorted.inline.InlineIndexImpl.INDEX_METRIC_PREFIX;
+import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.metricName;
+
+/** Tests inline indexes with truncated separator keys in inner pages. */
+public class InlineIndexInnerPayloadTest extends AbstractIndexingCommonTest {
+    /** */
+    private static final int ROWS = 5_000;
+
+    /** Common prefix that doesn't fit into the inner payload. */
+    private static final String PREFIX = "common-prefix-of-all-names-";
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setDataStorageConfiguration(new DataStorageConfiguration()
+                .setDefaultDataRegionConfiguration(new DataRegionConfiguration().setPersistenceEnabled(true)));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        System.clearProperty(IGNITE_MAX_INDEX_INNER_PAYLOAD_SIZE);
+
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        super.afterTest();
+    }
+
+    /** */
+    @Test
+    public void testTruncatedInnerPayload() throws Exception {
+        System.setProperty(IGNITE_MAX_INDEX_INNER_PAYLOAD_SIZE, "12");
+
+        IgniteEx ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        query(ignite, "CREATE TABLE T (ID INT PRIMARY KEY, NAME VARCHAR, VAL INT)");
+        query(ignite, "CREATE INDEX NAME_IDX ON T(NAME, VAL) INLINE_SIZE 64");
+
+        for (int i = 0; i < ROWS; i++)
+            query(ignite, "INSERT INTO T (ID, NAME, VAL) VALUES (?, ?, ?)", i, name(i), i);
+
+        InlineIndexImpl idx = index(ignite);
+
+        assertEquals(64, idx.inlineSize());
+        assertEquals(12, idx.segment(0).innerInlineSize());
+        assertEquals(12, idx.segment(0).metaInfo().innerInlineSize());
+
+        checkQueries(ignite);
+
+        stopGrid(0);
+
+        System.clearProperty(IGNITE_MAX_INDEX_INNER_PAYLOAD_SIZE);
+
+        ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        IgniteInternalFuture<?> rebuildFut = ignite.context().query().indexRebuildFuture(CU.cacheId("SQL_PUBLIC_T"));
+
+        if (rebuildFut != null)
+            rebuildFut.get(getTestTimeout());
+
+        // Inner payload of an existing tree is restored from its meta page.
+        assertEquals(12, index(ignite).segment(0).innerInlineSize());
+
+        checkQueries(ignite);
+
+        for (int i = ROWS; i < ROWS * 2; i++)
+            query(ignite, "INSERT INTO T (ID, NAME, VAL) VALUES (?, ?, ?)", i, name(i), i);
+
+        assertEquals(ROWS * 2L, query(ignite, "SELECT COUNT(*) FROM T WHERE NAME >= ?", PREFIX).get(0).get(0));
+
+        checkQueries(ignite);
+    }
+
+    /** */
+    @Test
+    public void testDefaultInnerPayload() throws Exception {
+        IgniteEx ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        query(ignite, "CREATE TABLE T (ID INT PRIMARY KEY, NAME VARCHAR, VAL INT)");
+        query(ignite, "CREATE INDEX NAME_IDX ON T(NAME, VAL) INLINE_SIZE 64");
+
+        InlineIndexImpl idx = index(ignite);
+
+        assertEquals(idx.inlineSize(), idx.segment(0).innerInlineSize());
+    }
+
+    /** */
+    private void checkQueries(IgniteEx ignite) {
+        LongMetric misses = ignite.context().metric()
+            .registry(metricName(INDEX_METRIC_PREFIX, index(ignite).indexDefinition().idxName().fullName()))
+            .findMetric(InlineRecommender.INLINE_MISSES);
+
+        long missesBefore = misses.value();
+
+        for (int i = 0; i < ROWS; i += 97) {
+            List<List<?>> res = query(ignite, "SELECT ID FROM T WHERE NAME = ? AND VAL = ?", name(i), i);
+
+            assertEquals(1, res.size());
+            assertEquals(i, res.get(0).get(0));
+        }
+
+        List<List<?>> res = query(ignite, "SELECT COUNT(*) FROM T WHERE NAME > ? AND NAME < ?", name(100), name(200));
+
+        assertEquals(99L, res.get(0).get(0));
+
+        // Keys fit into the leaf payload, so truncated separator keys are resolved without reading rows.
+        assertEquals(missesBefore, misses.value());
+    }
+
+    /** */
+    private static String name(int i) {
+        return PREFIX + String.format("%08d", i);
+    }
+
+    /** */
+    private static InlineIndexImpl index(IgniteEx ignite) {
+        return (InlineIndexImpl)ignite.context().indexProcessor()
+            .index(new IndexName("SQL_PUBLIC_T", "PUBLIC", "T", "NAME_IDX"));
+    }
+
+    /** */
+    private static List<List<?>> query(IgniteEx ignite, String qry, Object... args) {
+        return ignite.context().query().querySqlFields(new SqlFieldsQuery(qry).setArgs(args), false).getAll();
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.util.nio;
+
+import java.nio.channels.ByteChannel;
+import java.nio.channels.GatheringByteChannel;
+
+/**
+ * One-directional byte pipe a session may use in place of its socket once both peers agreed on it, e.g. a ring
+ * buffer in memory shared by processes on the same host. The socket stays open next to the pipe: it is used to
+ * detect that the peer went away, to wake up a reader blocked on its selector (see {@link #park()}) and to wake up
+ * a writer waiting for free space (see {@link #parkWriter()}).
+ * <p>
+ * Reads and writes never block, each end of the pipe is accessed by a single NIO worker thread.
+ */
+public interface GridNioPipe extends ByteChannel, GatheringByteChannel {
+    /**
+     * @return {@code True} if there are bytes to read.
+     */
+    public boolean readable();
+
+    /**
+     * Called by the reader before it blocks on its selector. Once the reader is parked, the writer asks for a
+     * wakeup byte to be sent over the socket, see {@link #unparkReader()}.
+     */
+    public void park();
+
+    /**
+     * Called by the reader once it is not blocked anymore.
+     */
+    public void unpark();
+
+    /**
+     * Called by the writer after it has written to the pipe.
+     *
+     * @return {@code True} if the reader is parked and a wakeup byte should be sent to it over the socket.
+     */
+    public boolean unparkReader();
+
+    /**
+     * Called by the writer after it has written to the pipe, before it stops polling for write if the pipe is full.
+     * Once the writer is parked, the reader asks for a wakeup byte to be sent over the socket, see
+     * {@link #unparkWriter()}.
+     *
+     * @return {@code True} if the writer is parked, {@code false} if there is free space to write to.
+     */
+    public boolean parkWriter();
+
+    /**
+     * Called by the reader after it has read from the pipe.
+     *
+     * @return {@code True} if the writer is parked and a wakeup byte should be sent to it over the socket.
+     */
+    public boolean unparkWriter();
+}
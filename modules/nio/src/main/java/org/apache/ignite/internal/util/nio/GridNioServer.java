@@ -28,6 +28,7 @@ import java.nio.ByteOrder;
 import java.nio.channels.ClosedByInterruptException;
 import java.nio.channels.ClosedChannelException;
 import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.GatheringByteChannel;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.Selector;
@@ -39,6 +40,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Deque;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -85,6 +87,11 @@ import static org.apache.ignite.failure.FailureType.CRITICAL_ERROR;
 import static org.apache.ignite.failure.FailureType.SYSTEM_WORKER_TERMINATION;
 import static org.apache.ignite.internal.util.nio.GridNioSessionMetaKey.MSG_WRITER;
 import static org.apache.ignite.internal.util.nio.GridNioSessionMetaKey.NIO_OPERATION;
+import static org.apache.ignite.internal.util.nio.GridNioSessionMetaKey.PIPE_SWITCH;
+import static org.apache.ignite.internal.util.nio.GridNioSessionMetaKey.READ_PIPE;
+import static org.apache.ignite.internal.util.nio.GridNioSessionMetaKey.WRITE_COALESCER;
+import static org.apache.ignite.internal.util.nio.GridNioSessionMetaKey.WRITE_PIPE;
+import static org.apache.ignite.internal.util.nio.GridNioSessionMetaKey.ZERO_COPY_REGION;
 
 /**
  * TCP NIO server. Due to asynchronous nature of connections processing
@@ -160,15 +167,42 @@ public class GridNioServer<T> {
     /** */
     public static final String SENT_BYTES_METRIC_DESC = "Total number of bytes sent by current node";
 
+    /** */
+    public static final String SOCKET_WRITES_METRIC_NAME = "socketWrites";
+
+    /** */
+    public static final String SOCKET_WRITES_METRIC_DESC = "Total number of socket writes made by current node";
+
+    /** */
+    public static final String AVG_BYTES_PER_WRITE_METRIC_NAME = "avgBytesPerWrite";
+
+    /** */
+    public static final String AVG_BYTES_PER_WRITE_METRIC_DESC = "Average number of bytes sent by a single socket write";
+
     /** The name of the metric that indicates whether SSL is enabled for the connector. */
     public static final String SSL_ENABLED_METRIC_NAME = "SslEnabled";
 
     /** The name of the metric that provides the active TCP sessions count. */
     public static final String SESSIONS_CNT_METRIC_NAME = "ActiveSessionsCount";
 
+    /** Busy-polling selector thread yields after every this number plus one consecutive empty polls. */
+    private static final long BUSY_POLL_YIELD_MASK = 0x3FF;
+
     /** Defines how many times selector should do {@code selectNow()} before doing {@code select(long)}. */
     private final long selectorSpins;
 
+    /** Maximum write coalescing window in nanoseconds, {@code 0} if writes are not coalesced. */
+    private final long writeCoalescingWindow;
+
+    /** Buffered bytes count that is written without coalescing. */
+    private final int writeCoalescingThreshold;
+
+    /**
+     * If {@code true}, client workers poll their selectors with {@code selectNow()} and never block in
+     * {@code select(long)}, so session change requests never need a selector wake-up.
+     */
+    private final boolean busyPoll;
+
     /** Accept worker. */
     @GridToStringExclude
     private final GridNioAcceptWorker acceptWorker;
@@ -242,6 +276,9 @@ public class GridNioServer<T> {
     /** Sent bytes count metric. */
     @Nullable private final LongConsumer sentBytesCntMetric;
 
+    /** Socket writes count metric. */
+    @Nullable private final LongConsumer sockWritesCntMetric;
+
     /** Outbound messages queue size. */
     @Nullable private final LongConsumer outboundMessagesQueueSizeMetric;
 
@@ -293,6 +330,9 @@ public class GridNioServer<T> {
      * @param selectorSpins Defines how many non-blocking {@code selector.selectNow()} should be made before
      *      falling into {@code selector.select(long)} in NIO server. Long value. Default is {@code 0}.
      *      Can be set to {@code Long.MAX_VALUE} so selector threads will never block.
+     * @param busyPoll Whether client workers busy-poll their selectors instead of blocking on them.
+     * @param writeCoalescingWindow Maximum write coalescing window in nanoseconds, {@code 0} to disable coalescing.
+     * @param writeCoalescingThreshold Buffered bytes count that is written without coalescing.
      * @param tcpNoDelay If TCP_NODELAY option should be set to accepted sockets.
      * @param directBuf Direct buffer flag.
      * @param order Byte order.
@@ -309,6 +349,7 @@ public class GridNioServer<T> {
      * @param workerLsnr Worker lifecycle listener.
      * @param rcvdBytesCntMetric Received bytes count metric, or {@code null} if metrics disabled.
      * @param sentBytesCntMetric Sent bytes count metric, or {@code null} if metrics disabled.
+     * @param sockWritesCntMetric Socket writes count metric, or {@code null} if metrics disabled.
      * @param outboundMessagesQueueSizeMetric Per-session outbound messages queue size metric, or {@code null} if metrics disabled.
      * @param maxMessagesQueueSizeMetric Per-session maximum outbound messages queue size metric, or {@code null} if metrics disabled.
      * @param filters Filters for this server.
@@ -322,6 +363,9 @@ public class GridNioServer<T> {
         @Nullable String igniteInstanceName,
         @Nullable String srvName,
         long selectorSpins,
+        boolean busyPoll,
+        long writeCoalescingWindow,
+        int writeCoalescingThreshold,
         boolean tcpNoDelay,
         boolean directBuf,
         ByteOrder order,
@@ -338,6 +382,7 @@ public class GridNioServer<T> {
         @Nullable GridWorkerListener workerLsnr,
         @Nullable LongConsumer rcvdBytesCntMetric,
         @Nullable LongConsumer sentBytesCntMetric,
+        @Nullable LongConsumer sockWritesCntMetric,
         @Nullable LongConsumer outboundMessagesQueueSizeMetric,
         @Nullable LongConsumer maxMessagesQueueSizeMetric,
         MessageFactory msgFactory,
@@ -355,6 +400,7 @@ public class GridNioServer<T> {
         A.ensure(sockRcvBuf >= 0, "sockRcvBuf");
         A.ensure(sockSndBuf >= 0, "sockSndBuf");
         A.ensure(sndQueueLimit >= 0, "sndQueueLimit");
+        A.ensure(writeCoalescingWindow >= 0, "writeCoalescingWindow");
 
         this.log = log;
         this.directBuf = directBuf;
@@ -365,10 +411,14 @@ public class GridNioServer<T> {
         this.sndQueueLimit = sndQueueLimit;
         this.msgQueueLsnr = msgQueueLsnr;
         this.selectorSpins = selectorSpins;
+        this.busyPoll = busyPoll;
+        this.writeCoalescingWindow = writeCoalescingWindow;
+        this.writeCoalescingThreshold = writeCoalescingThreshold;
         this.readWriteSelectorsAssign = readWriteSelectorsAssign;
         this.lsnr = lsnr;
         this.rcvdBytesCntMetric = rcvdBytesCntMetric;
         this.sentBytesCntMetric = sentBytesCntMetric;
+        this.sockWritesCntMetric = sockWritesCntMetric;
         this.outboundMessagesQueueSizeMetric = outboundMessagesQueueSizeMetric;
         this.maxMessagesQueueSizeMetric = maxMessagesQueueSizeMetric;
         this.msgFactory = msgFactory;
@@ -547,6 +597,20 @@ public class GridNioServer<T> {
         return selectorSpins;
     }
 
+    /**
+     * @return Whether client workers busy-poll their selectors.
+     */
+    public boolean busyPoll() {
+        return busyPoll;
+    }
+
+    /**
+     * @return Maximum write coalescing window in nanoseconds, {@code 0} if writes are not coalesced.
+     */
+    public long writeCoalescingWindow() {
+        return writeCoalescingWindow;
+    }
+
     /**
      * @param ses Session to close.
      * @return Future for operation.
@@ -724,6 +788,49 @@ public class GridNioServer<T> {
         }
     }
 
+    /**
+     * Sends the system message after which the session writes go to the pipe instead of the socket. The peer is
+     * expected to switch its reads to the pipe once it receives the message, see {@link #switchReadsToPipe}.
+     * The pipe is closed together with the session.
+     *
+     * @param ses Session.
+     * @param msg Message telling the peer about the pipe.
+     * @param pipe Pipe.
+     * @throws IgniteCheckedException If session was closed, the pipe is not closed in this case.
+     */
+    public void switchWritesToPipe(GridNioSession ses, Message msg, GridNioPipe pipe) throws IgniteCheckedException {
+        assert directMode && sslFilter == null;
+
+        sendSystem(ses, msg, fut -> {
+            if (fut.error() == null)
+                ses.addMeta(PIPE_SWITCH.ordinal(), pipe);
+            else
+                CommonUtils.closeQuiet(pipe);
+        });
+    }
+
+    /**
+     * Makes the session read from the pipe instead of the socket. Must be called from the session thread while the
+     * message sent by the peer with {@link #switchWritesToPipe} is processed, all the bytes following the message
+     * are read from the pipe. The pipe is closed together with the session.
+     *
+     * @param ses Session.
+     * @param pipe Pipe.
+     */
+    public void switchReadsToPipe(GridNioSession ses, GridNioPipe pipe) {
+        assert directMode && sslFilter == null;
+
+        GridSelectorNioSessionImpl impl = (GridSelectorNioSessionImpl)ses;
+
+        AbstractNioClientWorker worker = (AbstractNioClientWorker)impl.worker();
+
+        assert worker.runner() == Thread.currentThread() : ses;
+
+        impl.addMeta(READ_PIPE.ordinal(), pipe);
+
+        worker.pipeSessions.add(impl);
+    }
+
     /**
      * @param ses Session.
      */
@@ -1133,6 +1240,19 @@ public class GridNioServer<T> {
         clientWorkers.get(balanceIdx).offer(req);
     }
 
+    /**
+     * Updates metrics of a single socket write.
+     *
+     * @param cnt Bytes written.
+     */
+    private void onSocketWrite(int cnt) {
+        if (sentBytesCntMetric != null)
+            sentBytesCntMetric.accept(cnt);
+
+        if (sockWritesCntMetric != null)
+            sockWritesCntMetric.accept(1);
+    }
+
     /**
      * Stop polling for write availability if write queue is empty.
      */
@@ -1287,8 +1407,7 @@ public class GridNioServer<T> {
                     if (log.isTraceEnabled())
                         log.trace("Bytes sent [sockCh=" + sockCh + ", cnt=" + cnt + ']');
 
-                    if (sentBytesCntMetric != null)
-                        sentBytesCntMetric.accept(cnt);
+                    onSocketWrite(cnt);
 
                     ses.bytesSent(cnt);
                 }
@@ -1328,6 +1447,12 @@ public class GridNioServer<T> {
      * Client worker for direct mode.
      */
     private class DirectNioClientWorker extends AbstractNioClientWorker {
+        /** Reusable array for gathering writes of handed off regions. */
+        private final ByteBuffer[] gatherBufs = new ByteBuffer[2];
+
+        /** Buffer for the wakeup bytes sent to parked pipe readers and writers. */
+        private final ByteBuffer wakeupBuf = ByteBuffer.allocate(64);
+
         /**
          * @param idx Index of this worker in server's array.
          * @param igniteInstanceName Ignite instance name.
@@ -1368,6 +1493,14 @@ public class GridNioServer<T> {
 
             final GridSelectorNioSessionImpl ses = (GridSelectorNioSessionImpl)key.attachment();
 
+            GridNioPipe pipe = ses.meta(READ_PIPE.ordinal());
+
+            if (pipe != null) {
+                processPipeSocketRead(sockCh, ses, pipe);
+
+                return;
+            }
+
             ByteBuffer readBuf = ses.readBuffer();
 
             // Attempt to read off the channel.
@@ -1388,6 +1521,139 @@ public class GridNioServer<T> {
             if (cnt == 0)
                 return;
 
+            processReadBytes(ses, readBuf, cnt);
+        }
+
+        /**
+         * Only wakeup bytes come over the socket once the session reads from the pipe: they are discarded and
+         * the pipe is read instead.
+         *
+         * @param sockCh Channel.
+         * @param ses Session.
+         * @param pipe Pipe.
+         * @throws IOException If read failed.
+         */
+        private void processPipeSocketRead(
+            ReadableByteChannel sockCh,
+            GridSelectorNioSessionImpl ses,
+            GridNioPipe pipe
+        ) throws IOException {
+            int cnt;
+
+            do {
+                wakeupBuf.clear();
+
+                cnt = sockCh.read(wakeupBuf);
+            }
+            while (cnt > 0);
+
+            // The peer writes to the pipe before it closes the socket, so the pipe is drained first.
+            while (pipe.readable() && !ses.closed())
+                processPipeRead(ses, pipe);
+
+            // The wakeup bytes may also come from the peer that has read from the pipe this session writes to.
+            if (ses.meta(WRITE_PIPE.ordinal()) != null && ses.procWrite.get())
+                registerWrite(ses);
+
+            if (cnt == -1) {
+                if (log.isDebugEnabled())
+                    log.debug("Remote client closed connection: " + ses);
+
+                close(ses, null);
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override protected boolean pollPipes() throws IOException {
+            boolean res = false;
+
+            // Backwards, as a session closed on read leaves the list.
+            for (int i = pipeSessions.size() - 1; i >= 0; i--) {
+                if (i >= pipeSessions.size())
+                    continue;
+
+                GridSelectorNioSessionImpl ses = pipeSessions.get(i);
+
+                GridNioPipe pipe = ses.meta(READ_PIPE.ordinal());
+
+                if (pipe.readable()) {
+                    processPipeRead(ses, pipe);
+
+                    res = true;
+                }
+            }
+
+            return res;
+        }
+
+        /** {@inheritDoc} */
+        @Override protected boolean parkPipes() {
+            for (GridSelectorNioSessionImpl ses : pipeSessions) {
+                GridNioPipe pipe = ses.meta(READ_PIPE.ordinal());
+
+                pipe.park();
+
+                if (pipe.readable())
+                    return false;
+            }
+
+            return true;
+        }
+
+        /** {@inheritDoc} */
+        @Override protected void unparkPipes() {
+            for (GridSelectorNioSessionImpl ses : pipeSessions) {
+                GridNioPipe pipe = ses.meta(READ_PIPE.ordinal());
+
+                pipe.unpark();
+            }
+        }
+
+        /**
+         * Processes bytes available in the pipe the session reads from.
+         *
+         * @param ses Session.
+         * @param pipe Pipe.
+         * @throws IOException If read failed.
+         */
+        private void processPipeRead(GridSelectorNioSessionImpl ses, GridNioPipe pipe) throws IOException {
+            ByteBuffer readBuf = ses.readBuffer();
+
+            int cnt = pipe.read(readBuf);
+
+            if (cnt > 0) {
+                wakeupPipeWriter(ses, pipe);
+
+                processReadBytes(ses, readBuf, cnt);
+            }
+        }
+
+        /**
+         * Sends a wakeup byte over the socket if the pipe writer waits for free space, see {@link #onPipeWrite}.
+         *
+         * @param ses Session.
+         * @param pipe Pipe the session reads from.
+         * @throws IOException If write failed.
+         */
+        private void wakeupPipeWriter(GridSelectorNioSessionImpl ses, GridNioPipe pipe) throws IOException {
+            if (pipe.unparkWriter()) {
+                // The writer parks only once it reads from a pipe, so the bytes this session sends go to a pipe too.
+                assert ses.meta(WRITE_PIPE.ordinal()) != null : ses;
+
+                wakeupBuf.clear().limit(1);
+
+                ((WritableByteChannel)ses.key().channel()).write(wakeupBuf);
+            }
+        }
+
+        /**
+         * Passes the bytes read to the filter chain.
+         *
+         * @param ses Session.
+         * @param readBuf Read buffer.
+         * @param cnt Number of bytes read.
+         */
+        private void processReadBytes(GridSelectorNioSessionImpl ses, ByteBuffer readBuf, int cnt) {
             if (rcvdBytesCntMetric != null)
                 rcvdBytesCntMetric.accept(cnt);
 
@@ -1461,8 +1727,7 @@ public class GridNioServer<T> {
                 if (sslNetBuf != null) {
                     int cnt = sockCh.write(sslNetBuf);
 
-                    if (sentBytesCntMetric != null)
-                        sentBytesCntMetric.accept(cnt);
+                    onSocketWrite(cnt);
 
                     ses.bytesSent(cnt);
 
@@ -1548,8 +1813,7 @@ public class GridNioServer<T> {
                         if (log.isTraceEnabled())
                             log.trace("Bytes sent [sockCh=" + sockCh + ", cnt=" + cnt + ']');
 
-                        if (sentBytesCntMetric != null)
-                            sentBytesCntMetric.accept(cnt);
+                        onSocketWrite(cnt);
 
                         ses.bytesSent(cnt);
                     }
@@ -1645,8 +1909,7 @@ public class GridNioServer<T> {
             while ((buf = queue.peek()) != null) {
                 int cnt = sockCh.write(buf);
 
-                if (sentBytesCntMetric != null)
-                    sentBytesCntMetric.accept(cnt);
+                onSocketWrite(cnt);
 
                 ses.bytesSent(cnt);
 
@@ -1688,10 +1951,32 @@ public class GridNioServer<T> {
 
             GridSelectorNioSessionImpl ses = (GridSelectorNioSessionImpl)key.attachment();
             ByteBuffer buf = ses.writeBuffer();
+
+            if (ses.meta(PIPE_SWITCH.ordinal()) != null && !switchToPipe(sockCh, ses, buf))
+                return;
+
+            GridNioPipe pipe = ses.meta(WRITE_PIPE.ordinal());
+
+            WritableByteChannel ch = pipe != null ? pipe : sockCh;
+
+            ByteBuffer region = ses.meta(ZERO_COPY_REGION.ordinal());
+
+            // Serialization of the current message resumes only when the handed off region is fully written.
+            if (region != null) {
+                writeZeroCopyRegion((GatheringByteChannel)ch, ses, buf, region);
+
+                if (pipe != null)
+                    onPipeWrite(key, ses, pipe);
+
+                return;
+            }
+
             SessionWriteRequest req = ses.removeMeta(NIO_OPERATION.ordinal());
 
             MessageWriter writer = messageWriter(ses);
 
+            GridNioWriteCoalescer coalescer = writeCoalescer(ses);
+
             if (req == null) {
                 req = systemMessage(ses);
 
@@ -1715,6 +2000,16 @@ public class GridNioServer<T> {
             while (finished) {
                 req.onMessageWritten();
 
+                if (coalescer != null)
+                    coalescer.onMessageBuffered();
+
+                // Bytes following the message that switched the session to a pipe must not go to the socket.
+                if (ses.meta(PIPE_SWITCH.ordinal()) != null) {
+                    req = null;
+
+                    break;
+                }
+
                 req = systemMessage(ses);
 
                 if (req == null)
@@ -1726,21 +2021,49 @@ public class GridNioServer<T> {
                 finished = writeToBuffer(ses, buf, req, writer);
             }
 
+            if (!finished && writer != null) {
+                region = writer.pollZeroCopyRegion();
+
+                if (region != null) {
+                    ses.addMeta(NIO_OPERATION.ordinal(), req);
+                    ses.addMeta(ZERO_COPY_REGION.ordinal(), region);
+
+                    writeZeroCopyRegion((GatheringByteChannel)ch, ses, buf, region);
+
+                    if (pipe != null)
+                        onPipeWrite(key, ses, pipe);
+
+                    return;
+                }
+            }
+
+            // The queue is drained but the buffer is small: let more messages come until the deferral deadline.
+            if (req == null && coalescer != null && coalescer.defer(buf.position(), System.nanoTime())) {
+                deferWrite(key, ses);
+
+                return;
+            }
+
             buf.flip();
 
             assert buf.hasRemaining();
 
             if (!skipWrite) {
-                int cnt = sockCh.write(buf);
+                int cnt = ch.write(buf);
 
                 if (log.isTraceEnabled())
-                    log.trace("Bytes sent [sockCh=" + sockCh + ", cnt=" + cnt + ']');
+                    log.trace("Bytes sent [sockCh=" + ch + ", cnt=" + cnt + ']');
 
-                if (sentBytesCntMetric != null)
-                    sentBytesCntMetric.accept(cnt);
+                onSocketWrite(cnt);
 
                 ses.bytesSent(cnt);
                 onWrite(cnt);
+
+                if (coalescer != null)
+                    coalescer.onWrite(System.nanoTime());
+
+                if (pipe != null)
+                    onPipeWrite(key, ses, pipe);
             }
             else {
                 // For test purposes only (skipWrite is set to true in tests only).
@@ -1759,6 +2082,147 @@ public class GridNioServer<T> {
             }
             else
                 buf.clear();
+
+            // Switch right away once the message is flushed, the peer may need a wakeup byte before this session
+            // has anything else to write, see wakeupPipeWriter().
+            if (buf.position() == 0 && ses.meta(PIPE_SWITCH.ordinal()) != null)
+                ses.addMeta(WRITE_PIPE.ordinal(), ses.removeMeta(PIPE_SWITCH.ordinal()));
+        }
+
+        /**
+         * Flushes the bytes written before the pipe switch message to the socket, then switches the session writes
+         * to the pipe.
+         *
+         * @param sockCh Channel.
+         * @param ses Session.
+         * @param buf Write buffer.
+         * @return {@code False} if the buffered bytes are not fully written yet.
+         * @throws IOException If write failed.
+         */
+        private boolean switchToPipe(
+            WritableByteChannel sockCh,
+            GridSelectorNioSessionImpl ses,
+            ByteBuffer buf
+        ) throws IOException {
+            if (buf.position() > 0) {
+                buf.flip();
+
+                int cnt = sockCh.write(buf);
+
+                onSocketWrite(cnt);
+
+                ses.bytesSent(cnt);
+                onWrite(cnt);
+
+                buf.compact();
+
+                if (buf.position() > 0)
+                    return false;
+            }
+
+            ses.addMeta(WRITE_PIPE.ordinal(), ses.removeMeta(PIPE_SWITCH.ordinal()));
+
+            return true;
+        }
+
+        /**
+         * Sends a wakeup byte over the socket if the pipe reader is parked on its selector, then stops polling for
+         * write if the pipe is full. The reader sends a wakeup byte back once it has read from the pipe, see
+         * {@link #wakeupPipeWriter}, upon which polling for write is resumed.
+         *
+         * @param key Key.
+         * @param ses Session.
+         * @param pipe Pipe the session writes to.
+         * @throws IOException If write failed.
+         */
+        private void onPipeWrite(SelectionKey key, GridSelectorNioSessionImpl ses, GridNioPipe pipe) throws IOException {
+            if (pipe.unparkReader()) {
+                // Socket buffer is full if nothing is written, the reader is woken up by the bytes already there.
+                wakeupBuf.clear().limit(1);
+
+                ((WritableByteChannel)key.channel()).write(wakeupBuf);
+            }
+
+            // Only a peer writing to a pipe itself can send a wakeup byte, until then polling for write goes on.
+            if (ses.meta(READ_PIPE.ordinal()) != null && pipe.parkWriter())
+                key.interestOps(key.interestOps() & (~SelectionKey.OP_WRITE));
+        }
+
+        /**
+         * Writes the buffered bytes followed by the region handed off by the message writer with a single gathering
+         * write. The region is removed from the session once it is fully written.
+         *
+         * @param sockCh Channel.
+         * @param ses Session.
+         * @param buf Write buffer with the bytes preceding the region.
+         * @param region Region.
+         * @throws IOException If write failed.
+         */
+        private void writeZeroCopyRegion(
+            GatheringByteChannel sockCh,
+            GridSelectorNioSessionImpl ses,
+            ByteBuffer buf,
+            ByteBuffer region
+        ) throws IOException {
+            if (skipWrite) {
+                // For test purposes only (skipWrite is set to true in tests only).
+                try {
+                    CommonUtils.sleep(50);
+                }
+                catch (IgniteInterruptedCheckedException e) {
+                    throw new IOException("Thread has been interrupted.", e);
+                }
+
+                return;
+            }
+
+            buf.flip();
+
+            gatherBufs[0] = buf;
+            gatherBufs[1] = region;
+
+            int cnt;
+
+            try {
+                cnt = (int)sockCh.write(gatherBufs);
+            }
+            finally {
+                gatherBufs[0] = null;
+                gatherBufs[1] = null;
+            }
+
+            if (log.isTraceEnabled())
+                log.trace("Bytes sent [sockCh=" + sockCh + ", cnt=" + cnt + ']');
+
+            onSocketWrite(cnt);
+
+            ses.bytesSent(cnt);
+            onWrite(cnt);
+
+            if (buf.hasRemaining())
+                buf.compact();
+            else
+                buf.clear();
+
+            if (!region.hasRemaining())
+                ses.removeMeta(ZERO_COPY_REGION.ordinal());
+        }
+
+        /**
+         * @param ses Session.
+         * @return Write coalescing state of the session, or {@code null} if writes are not coalesced.
+         */
+        @Nullable private GridNioWriteCoalescer writeCoalescer(GridSelectorNioSessionImpl ses) {
+            if (writeCoalescingWindow == 0)
+                return null;
+
+            GridNioWriteCoalescer coalescer = ses.meta(WRITE_COALESCER.ordinal());
+
+            if (coalescer == null)
+                ses.addMeta(WRITE_COALESCER.ordinal(), coalescer = new GridNioWriteCoalescer(
+                    writeCoalescingWindow, writeCoalescingThreshold));
+
+            return coalescer;
         }
 
         /** */
@@ -1771,6 +2235,9 @@ public class GridNioServer<T> {
             if (writer == null) {
                 try {
                     ses.addMeta(MSG_WRITER.ordinal(), writer = writerFactory.writer(ses));
+
+                    // Handed off regions are written to the channel directly, which is impossible with encryption.
+                    writer.zeroCopy(sslFilter == null);
                 }
                 catch (IgniteCheckedException e) {
                     throw new IOException("Failed to create message writer.", e);
@@ -1883,6 +2350,14 @@ public class GridNioServer<T> {
         private final GridConcurrentHashSet<GridSelectorNioSessionImpl> workerSessions =
             new GridConcurrentHashSet<>();
 
+        /** Sessions assigned to this worker that read from a pipe. Accessed by the worker thread only. */
+        @GridToStringExclude
+        protected final List<GridSelectorNioSessionImpl> pipeSessions = new ArrayList<>();
+
+        /** Sessions with deferred writes, see {@link GridNioWriteCoalescer}. Accessed by the worker thread only. */
+        @GridToStringExclude
+        private final Set<GridSelectorNioSessionImpl> deferredWrites = new HashSet<>();
+
         /** {@code True} if worker has called or is about to call {@code Selector.select()}. */
         private volatile boolean select;
 
@@ -2031,7 +2506,8 @@ public class GridNioServer<T> {
             for (SessionChangeRequest req : reqs)
                 changeReqs.offer(req);
 
-            selector.wakeup();
+            if (select)
+                selector.wakeup();
         }
 
         /** {@inheritDoc} */
@@ -2074,13 +2550,22 @@ public class GridNioServer<T> {
                         processSessionChangedRequest(req);
                     }
 
-                    for (long i = 0; i < selectorSpins && selector.selectedKeys().isEmpty(); i++) {
+                    pollPipes();
+
+                    long spins = busyPoll ? Long.MAX_VALUE : selectorSpins;
+                    long emptyPolls = 0;
+
+                    for (long i = 0; i < spins && selector.selectedKeys().isEmpty(); i++) {
                         // We ignore selectNow() returned value and look at selectedKeys() size because we might
                         // call a selectNow() during session migration (to make sure the selector is deregistered
                         // before trying to re-register it again), and in such a case our selectNow() could return 0,
                         // even though the selection set is not empty.
                         selector.selectNow();
 
+                        boolean pipesRead = pollPipes();
+
+                        resumeDeferredWrites();
+
                         if (!selector.selectedKeys().isEmpty()) {
                             // Walk through the ready keys collection and process network events.
                             updateHeartbeat();
@@ -2089,6 +2574,16 @@ public class GridNioServer<T> {
                                 processSelectedKeys(selector.selectedKeys());
                             else
                                 processSelectedKeysOptimized(selectedKeys.flip());
+
+                            emptyPolls = 0;
+                        }
+                        else if (busyPoll && !pipesRead) {
+                            // Give the core away now and then, so that other threads are not starved
+                            // when there are fewer cores than busy-polling selectors.
+                            if ((++emptyPolls & BUSY_POLL_YIELD_MASK) == 0)
+                                Thread.yield();
+                            else
+                                Thread.onSpinWait();
                         }
 
                         if (!changeReqs.isEmpty())
@@ -2107,22 +2602,32 @@ public class GridNioServer<T> {
                             break;
                     }
 
+                    // Busy-polling workers never block, so they go straight back to the change requests.
+                    if (busyPoll)
+                        continue;
+
                     // Falling to blocking select.
                     select = true;
 
                     try {
-                        if (!changeReqs.isEmpty() || isCancelled())
+                        if (!changeReqs.isEmpty() || isCancelled() || !parkPipes())
                             continue;
 
-                        blockingSectionBegin();
+                        // Wake up every 2 seconds to check if closed, or at the nearest deferred write deadline.
+                        long timeout = 2000;
 
-                        // Wake up every 2 seconds to check if closed.
+                        long deferred = resumeDeferredWrites();
+
+                        if (deferred >= 0)
+                            timeout = Math.max(1, Math.min(timeout, CommonUtils.nanosToMillis(deferred + 999_999)));
+
+                        blockingSectionBegin();
 
                         // We ignore select() returned value and look at selectedKeys() size because we might
                         // call a selectNow() during session migration (to make sure the selector is deregistered
                         // before trying to re-register it again), and in such a case our select() could return 0,
                         // even though the selection set is not empty.
-                        selector.select(2000);
+                        selector.select(timeout);
 
                         blockingSectionEnd();
 
@@ -2142,6 +2647,8 @@ public class GridNioServer<T> {
                     }
                     finally {
                         select = false;
+
+                        unparkPipes();
                     }
 
                     long now = CommonUtils.currentTimeMillis();
@@ -2240,6 +2747,9 @@ public class GridNioServer<T> {
 
                         ses.finishMoveSession(this);
 
+                        if (ses.meta(READ_PIPE.ordinal()) != null)
+                            pipeSessions.add(ses);
+
                         if (idx % 2 == 0)
                             readerMoveCnt.incrementAndGet();
                         else
@@ -2259,6 +2769,8 @@ public class GridNioServer<T> {
                         assert f.movedSocketChannel() == null : f;
 
                         if (workerSessions.remove(ses)) {
+                            pipeSessions.remove(ses);
+
                             ses.startMoveSession(this);
 
                             SelectionKey key = ses.key();
@@ -2369,6 +2881,58 @@ public class GridNioServer<T> {
             selector.selectNow();
         }
 
+        /**
+         * Stops polling the session for write until its write deferral deadline. The socket stays writable meanwhile,
+         * so polling it would spin the selector. A message sent in the meantime requests the write as usual.
+         *
+         * @param key Key.
+         * @param ses Session.
+         */
+        protected void deferWrite(SelectionKey key, GridSelectorNioSessionImpl ses) {
+            stopPollingForWrite(key, ses);
+
+            deferredWrites.add(ses);
+        }
+
+        /**
+         * Resumes polling for write of the sessions whose write deferral deadline has come.
+         *
+         * @return Nanoseconds till the nearest deadline of the remaining deferred writes, or {@code -1} if none.
+         */
+        private long resumeDeferredWrites() {
+            if (deferredWrites.isEmpty())
+                return -1;
+
+            long now = System.nanoTime();
+            long nearest = -1;
+
+            for (Iterator<GridSelectorNioSessionImpl> it = deferredWrites.iterator(); it.hasNext(); ) {
+                GridSelectorNioSessionImpl ses = it.next();
+
+                GridNioWriteCoalescer coalescer = ses.meta(WRITE_COALESCER.ordinal());
+
+                if (coalescer == null || !coalescer.deferred()) {
+                    it.remove();
+
+                    continue;
+                }
+
+                long left = coalescer.deadline() - now;
+
+                if (left <= 0) {
+                    it.remove();
+
+                    // A message sent in the meantime has already requested the write.
+                    if (ses.procWrite.compareAndSet(false, true))
+                        registerWrite(ses);
+                }
+                else if (nearest < 0 || left < nearest)
+                    nearest = left;
+            }
+
+            return nearest;
+        }
+
         /**
          * @param ses Session.
          */
@@ -2865,10 +3429,15 @@ public class GridNioServer<T> {
 
             sessions.remove(ses);
             workerSessions.remove(ses);
+            pipeSessions.remove(ses);
 
             if (ses.setClosed()) {
                 ses.onClosed();
 
+                CommonUtils.closeQuiet(ses.<GridNioPipe>removeMeta(PIPE_SWITCH.ordinal()));
+                CommonUtils.closeQuiet(ses.<GridNioPipe>removeMeta(WRITE_PIPE.ordinal()));
+                CommonUtils.closeQuiet(ses.<GridNioPipe>removeMeta(READ_PIPE.ordinal()));
+
                 if (directBuf) {
                     if (ses.writeBuffer() != null)
                         GridUnsafe.cleanDirectBuffer(ses.writeBuffer());
@@ -2972,6 +3541,30 @@ public class GridNioServer<T> {
          */
         protected abstract void processWrite(SelectionKey key) throws IOException;
 
+        /**
+         * Reads the pipes that have bytes available, pipes are supported by the direct mode worker only.
+         *
+         * @return {@code True} if any pipe had bytes to read.
+         * @throws IOException If read failed.
+         */
+        protected boolean pollPipes() throws IOException {
+            return false;
+        }
+
+        /**
+         * Asks the pipe writers to wake this worker up over the socket, as it is about to block on its selector.
+         *
+         * @return {@code False} if some pipe has bytes to read, so the worker must not block.
+         */
+        protected boolean parkPipes() {
+            return true;
+        }
+
+        /** */
+        protected void unparkPipes() {
+            // No-op.
+        }
+
         /**
          * @param cnt
          */
@@ -3846,6 +4439,15 @@ public class GridNioServer<T> {
         /** */
         private long selectorSpins;
 
+        /** */
+        private boolean busyPoll;
+
+        /** */
+        private long writeCoalescingWindow;
+
+        /** */
+        private int writeCoalescingThreshold;
+
         /** */
         private boolean readWriteSelectorsAssign;
 
@@ -3858,6 +4460,9 @@ public class GridNioServer<T> {
         /** Sent bytes count metric. */
         private LongConsumer sentBytesCntMetric;
 
+        /** Socket writes count metric. */
+        private LongConsumer sockWritesCntMetric;
+
         /** Per-session outbound messages queue size metric. */
         private LongConsumer outboundMessagesQueueSizeMetric;
 
@@ -3882,6 +4487,9 @@ public class GridNioServer<T> {
                 igniteInstanceName,
                 srvName,
                 selectorSpins,
+                busyPoll,
+                writeCoalescingWindow,
+                writeCoalescingThreshold,
                 tcpNoDelay,
                 directBuf,
                 byteOrder,
@@ -3898,6 +4506,7 @@ public class GridNioServer<T> {
                 workerLsnr,
                 rcvdBytesCntMetric,
                 sentBytesCntMetric,
+                sockWritesCntMetric,
                 outboundMessagesQueueSizeMetric,
                 maxMessagesQueueSizeMetric,
                 msgFactory,
@@ -3996,6 +4605,36 @@ public class GridNioServer<T> {
             return this;
         }
 
+        /**
+         * @param busyPoll If {@code true}, client workers poll their selectors with {@code selectNow()} in a tight
+         *      loop and never block in {@code select(long)}. This trades one busy core per selector for lower
+         *      latency and no selector wake-ups on send. Default is {@code false}.
+         * @return This for chaining.
+         */
+        public Builder<T> busyPoll(boolean busyPoll) {
+            this.busyPoll = busyPoll;
+
+            return this;
+        }
+
+        /**
+         * Enables Nagle-like coalescing of small writes in direct mode. A write of less than {@code threshold} bytes
+         * by a session that has written within the coalescing window is deferred, so that messages sent in the
+         * meantime are written with the same socket write. The window adapts per session between {@code window / 16}
+         * and {@code window} depending on whether deferrals pick up more messages.
+         *
+         * @param window Maximum coalescing window in nanoseconds, {@code 0} to disable coalescing. Default is
+         *      {@code 0}.
+         * @param threshold Buffered bytes count that is written without coalescing.
+         * @return This for chaining.
+         */
+        public Builder<T> writeCoalescing(long window, int threshold) {
+            writeCoalescingWindow = window;
+            writeCoalescingThreshold = threshold;
+
+            return this;
+        }
+
         /**
          * @param tcpNoDelay If TCP_NODELAY option should be set to accepted sockets.
          * @return This for chaining.
@@ -4176,6 +4815,16 @@ public class GridNioServer<T> {
             return this;
         }
 
+        /**
+         * @param sockWritesCntMetric Socket writes count metric.
+         * @return This for chaining.
+         */
+        public Builder<T> socketWritesMetric(LongConsumer sockWritesCntMetric) {
+            this.sockWritesCntMetric = sockWritesCntMetric;
+
+            return this;
+        }
+
         /**
          * @param outboundMessagesQueueSizeMetric Per-session outbound messages queue size metric.
          * @return This for chaining.
@@ -42,7 +42,22 @@ public enum GridNioSessionMetaKey {
     MARSHALLER_ID,
 
     /** Message writer. */
-    MSG_WRITER;
+    MSG_WRITER,
+
+    /** Region handed off by the message writer and not yet fully written to the channel. */
+    ZERO_COPY_REGION,
+
+    /** Write coalescing state. */
+    WRITE_COALESCER,
+
+    /** Pipe the session switches its writes to once the buffered bytes are flushed to the socket. */
+    PIPE_SWITCH,
+
+    /** Pipe the session writes to instead of the socket. */
+    WRITE_PIPE,
+
+    /** Pipe the session reads from instead of the socket. */
+    READ_PIPE;
 
     /** Maximum count of NIO session keys in system. */
     public static final int MAX_KEYS_CNT = 64;
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.util.nio;
+
+import org.apache.ignite.internal.util.typedef.internal.S;
+
+/**
+ * Nagle-like write coalescing state of a session, used by the NIO worker that owns the session.
+ * <p>
+ * A write of less than {@code threshold} bytes is deferred if the session has already written within the current
+ * coalescing window, so that messages offered in the meantime go to the socket with the same write. Deferral ends
+ * when the buffered bytes reach the threshold or when the window elapses. The window adapts to the observed queue
+ * depth: it is halved after a deferral that did not pick up any message and doubled, up to the configured maximum,
+ * after a deferral that did. So a request-response session where nothing arrives while a write is held back quickly
+ * stops paying for coalescing, while a session streaming small messages keeps batching them.
+ */
+final class GridNioWriteCoalescer {
+    /** The window is never shrunk below the maximum window divided by this value. */
+    private static final int MIN_WINDOW_DIVISOR = 16;
+
+    /** Maximum coalescing window in nanoseconds. */
+    private final long maxWindow;
+
+    /** Minimum coalescing window in nanoseconds. */
+    private final long minWindow;
+
+    /** Buffered bytes count that is written without deferral. */
+    private final int threshold;
+
+    /** Current coalescing window in nanoseconds. */
+    private long window;
+
+    /** Time of the last write. */
+    private long lastWrite;
+
+    /** Whether the write is currently deferred. */
+    private boolean deferred;
+
+    /** Start of the current deferral. */
+    private long deferStart;
+
+    /** Messages buffered since the current deferral started. */
+    private int deferredMsgs;
+
+    /**
+     * @param maxWindow Maximum coalescing window in nanoseconds.
+     * @param threshold Buffered bytes count that is written without deferral.
+     */
+    GridNioWriteCoalescer(long maxWindow, int threshold) {
+        assert maxWindow > 0 : maxWindow;
+
+        this.maxWindow = maxWindow;
+        this.threshold = threshold;
+
+        minWindow = Math.max(1, maxWindow / MIN_WINDOW_DIVISOR);
+        window = maxWindow;
+        lastWrite = System.nanoTime() - maxWindow;
+    }
+
+    /**
+     * Decides whether the write of the buffered bytes should be deferred.
+     *
+     * @param buffered Buffered bytes count.
+     * @param now Current time in nanoseconds.
+     * @return {@code True} if the write should be deferred.
+     */
+    boolean defer(int buffered, long now) {
+        if (buffered >= threshold)
+            return false;
+
+        if (!deferred) {
+            // The session has not written recently, so there is no stream of messages to wait for.
+            if (now - lastWrite >= window)
+                return false;
+
+            deferred = true;
+            deferStart = now;
+            deferredMsgs = 0;
+
+            return true;
+        }
+
+        return now - deferStart < window;
+    }
+
+    /**
+     * Called when a message is serialized to the write buffer.
+     */
+    void onMessageBuffered() {
+        if (deferred)
+            deferredMsgs++;
+    }
+
+    /**
+     * Called when the buffered bytes are written to the socket.
+     *
+     * @param now Current time in nanoseconds.
+     */
+    void onWrite(long now) {
+        if (deferred) {
+            window = deferredMsgs == 0 ? Math.max(minWindow, window / 2) : Math.min(maxWindow, window * 2);
+
+            deferred = false;
+        }
+
+        lastWrite = now;
+    }
+
+    /**
+     * @return Whether the write is currently deferred.
+     */
+    boolean deferred() {
+        return deferred;
+    }
+
+    /**
+     * @return Time in nanoseconds when the current deferral ends.
+     */
+    long deadline() {
+        return deferStart + window;
+    }
+
+    /**
+     * @return Current coalescing window in nanoseconds.
+     */
+    long window() {
+        return window;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(GridNioWriteCoalescer.class, this);
+    }
+}
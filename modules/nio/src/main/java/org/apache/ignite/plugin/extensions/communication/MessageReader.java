@@ -109,6 +109,14 @@ public interface MessageReader {
      */
     public byte[] readByteArray();
 
+    /**
+     * Reads {@code byte} array written by {@link MessageWriter#writeByteBuffer(ByteBuffer)} or
+     * {@link MessageWriter#writeByteArray(byte[])}.
+     *
+     * @return Heap buffer wrapping the array.
+     */
+    public ByteBuffer readByteBuffer();
+
     /**
      * Reads {@code short} array.
      *
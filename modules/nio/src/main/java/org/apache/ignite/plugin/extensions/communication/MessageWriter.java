@@ -137,6 +137,22 @@ public interface MessageWriter {
      */
     public boolean writeByteArray(byte[] val, long off, int len);
 
+    /**
+     * Writes buffer contents between its position and limit. Uses the wire format of {@link #writeByteArray(byte[])}.
+     * <p>
+     * The writer reads the buffer through a duplicate and never changes it. The message still owns the buffer until
+     * the message is sent and, on connections with recovery, acknowledged by the recipient. A message that is not
+     * acknowledged is written again after reconnect, and the resend reads the buffer again. Until then the buffer
+     * contents, position and limit must not change, and a direct buffer must not be released or reused. With
+     * {@link #zeroCopy(boolean) zero copy} the buffer is also read after this call returns, by the thread
+     * transmitting the message.
+     *
+     * @param val Buffer.
+     * @return Whether buffer was fully written.
+     * @see #zeroCopy(boolean)
+     */
+    public boolean writeByteBuffer(@Nullable ByteBuffer val);
+
     /**
      * Writes {@code short} array.
      *
@@ -346,6 +362,26 @@ public interface MessageWriter {
      */
     public boolean writeGridCacheVersion(GridCacheVersion ver);
 
+    /**
+     * Enables zero copy of large direct buffers written with {@link #writeByteBuffer(ByteBuffer)}. Instead of being
+     * copied to the target buffer, such a buffer is returned by {@link #pollZeroCopyRegion()}, and the write call
+     * returns {@code false}. The caller must transmit the region right after the bytes already written to the target
+     * buffer and then continue writing the message.
+     *
+     * @param enabled Whether zero copy is enabled.
+     */
+    public default void zeroCopy(boolean enabled) {
+        // No-op.
+    }
+
+    /**
+     * @return Region handed off by the last write call, or {@code null} if the call returned {@code false} because
+     *      the target buffer is full. Each region is returned only once.
+     */
+    @Nullable public default ByteBuffer pollZeroCopyRegion() {
+        return null;
+    }
+
     /**
      * @return Whether header of current message is already written.
      */